@@ -2,6 +2,7 @@ plugins {
     java
     id("org.springframework.boot") version "3.5.8"
     id("io.spring.dependency-management") version "1.1.7"
+    id("me.champeau.jmh") version "0.7.2"
 }
 
 group = "io.hlab"
@@ -25,6 +26,7 @@ repositories {
 }
 
 extra["springAiVersion"] = "1.1.0"
+extra["resilience4jVersion"] = "2.2.0"
 
 dependencies {
     // Web: MVC(서블릿/Tomcat) + 리액티브(WebFlux)
@@ -34,6 +36,19 @@ dependencies {
     // Persistence: JPA(Hibernate) 및 데이터/트랜잭션 지원
     implementation("org.springframework.boot:spring-boot-starter-data-jpa")
 
+    // Cache & Metrics: IAM 조회 결과 로컬 캐시(Caffeine) 및 Micrometer 메트릭
+    implementation("com.github.ben-manes.caffeine:caffeine")
+    implementation("io.micrometer:micrometer-core")
+
+    // Observability: actuator 엔드포인트 및 Prometheus scrape (/actuator/prometheus)
+    implementation("org.springframework.boot:spring-boot-starter-actuator")
+    runtimeOnly("io.micrometer:micrometer-registry-prometheus")
+
+    // Resilience: Zitadel 호출 타임아웃/재시도/circuit breaker/bulkhead (resilience4j.* 설정)
+    implementation("io.github.resilience4j:resilience4j-spring-boot3:${property("resilience4jVersion")}")
+    implementation("io.github.resilience4j:resilience4j-reactor:${property("resilience4jVersion")}")
+    implementation("io.github.resilience4j:resilience4j-micrometer:${property("resilience4jVersion")}")
+
     // Security & Validation
     implementation("org.springframework.boot:spring-boot-starter-security")
     implementation("org.springframework.boot:spring-boot-starter-validation")
@@ -69,6 +84,9 @@ dependencies {
     // implementation("org.springdoc:springdoc-openapi-starter-hateoas")
 	// Swagger-UI
 	implementation("org.springdoc:springdoc-openapi-starter-webmvc-ui:2.8.6")
+
+    // JMH 벤치마크 (src/jmh/java): test 프로필로 애플리케이션을 띄우므로 H2 필요
+    jmh("com.h2database:h2")
 }
 
 dependencyManagement {
@@ -80,3 +98,11 @@ dependencyManagement {
 tasks.withType<Test> {
     useJUnitPlatform()
 }
+
+// JMH 벤치마크
+// 실행: ./gradlew jmh -PjmhIncludes=VirtualThreadEndpointBenchmark
+jmh {
+    jmhVersion = "1.37"
+    (project.findProperty("jmhIncludes") as String?)?.let { includes = listOf(it) }
+    resultFormat = "JSON"
+}
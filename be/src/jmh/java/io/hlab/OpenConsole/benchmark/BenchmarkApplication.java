@@ -0,0 +1,63 @@
+package io.hlab.OpenConsole.benchmark;
+
+import io.hlab.OpenConsole.OpenConsoleApplication;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.boot.web.context.WebServerApplicationContext;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.context.support.GenericApplicationContext;
+import org.springframework.security.oauth2.jwt.Jwt;
+import org.springframework.security.oauth2.jwt.JwtDecoder;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 벤치마크용 애플리케이션 부트스트랩
+ * test 프로필(H2)로 실제 애플리케이션을 랜덤 포트에 띄우고, JWT 검증은 고정 클레임을 돌려주는 스텁으로 대체
+ */
+final class BenchmarkApplication {
+
+    static final String EMAIL = "bench@example.com";
+
+    private BenchmarkApplication() {
+    }
+
+    static ConfigurableApplicationContext start(String zitadelBaseUrl, String... extraProperties) {
+        List<String> properties = new ArrayList<>(List.of(
+                "server.port=0",
+                "zitadel.domain=" + zitadelBaseUrl,
+                "spring.ai.openai.api-key=benchmark",
+                "logging.level.io.hlab.OpenConsole=WARN",
+                "logging.level.org.springframework.web=WARN",
+                "logging.level.org.springframework.security=WARN"
+        ));
+        properties.addAll(List.of(extraProperties));
+
+        return new SpringApplicationBuilder(OpenConsoleApplication.class)
+                .profiles("test")
+                .properties(properties.toArray(String[]::new))
+                .initializers(context -> ((GenericApplicationContext) context).registerBean(
+                        "benchmarkJwtDecoder", JwtDecoder.class, BenchmarkApplication::jwtDecoder,
+                        definition -> definition.setPrimary(true)))
+                .run();
+    }
+
+    static int port(ConfigurableApplicationContext context) {
+        return ((WebServerApplicationContext) context).getWebServer().getPort();
+    }
+
+    /**
+     * 어떤 토큰이든 ADMIN role을 가진 고정 사용자로 디코딩
+     */
+    private static JwtDecoder jwtDecoder() {
+        return token -> Jwt.withTokenValue(token)
+                .header("alg", "none")
+                .subject(SlowZitadelStub.SUBJECT)
+                .claim("email", EMAIL)
+                .claim("roles", List.of("admin"))
+                .issuedAt(Instant.now())
+                .expiresAt(Instant.now().plusSeconds(3600))
+                .build();
+    }
+}
@@ -0,0 +1,140 @@
+package io.hlab.OpenConsole.benchmark;
+
+import io.hlab.OpenConsole.infrastructure.iam.IamRole;
+import io.hlab.OpenConsole.infrastructure.iam.JwtRoleExtractor;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.ArrayList;
+import java.util.EnumSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * JWT role 추출 비교 벤치마크
+ *
+ * <ul>
+ *   <li>{@code legacy}: 기존 SecurityConfig/JwtUtils 방식. 모든 claim 키를 {@code contains("roles")}로 훑고,
+ *       role마다 {@code values()} 선형 탐색, {@code List.contains}로 중복 제거 (로그 호출은 제외하여 알고리즘만 비교)</li>
+ *   <li>{@code extractor}: {@link JwtRoleExtractor}. 설정된 경로만 조회, 해시 조회, EnumSet</li>
+ * </ul>
+ * claims는 Zitadel access token과 같은 구성 (표준 클레임 + project roles 객체)입니다.
+ *
+ * <p>실행: {@code ./gradlew jmh -PjmhIncludes=JwtRoleExtractionBenchmark}
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Fork(1)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+public class JwtRoleExtractionBenchmark {
+
+    private Map<String, Object> claims;
+    private JwtRoleExtractor extractor;
+
+    @Setup
+    public void setUp() {
+        claims = new LinkedHashMap<>();
+        claims.put("iss", "https://idp.example.com");
+        claims.put("sub", "351864415584321539");
+        claims.put("aud", List.of("351864415584321540", "351864415584321541"));
+        claims.put("exp", 1767225600L);
+        claims.put("iat", 1767182400L);
+        claims.put("nbf", 1767182400L);
+        claims.put("client_id", "351864415584321540");
+        claims.put("jti", "V2_351864415584321542-at_351864415584321543");
+        claims.put("email", "user@example.com");
+        claims.put("email_verified", true);
+        claims.put("name", "Example User");
+        claims.put("preferred_username", "user@example.com");
+        claims.put("urn:zitadel:iam:user:resourceowner:id", "351864415584321500");
+        claims.put("urn:zitadel:iam:org:project:roles", Map.of(
+                "user", Map.of("351864415584321500", "idp.example.com"),
+                "userA", Map.of("351864415584321500", "idp.example.com")));
+        claims.put("urn:zitadel:iam:org:project:351864415584321544:roles", Map.of(
+                "user", Map.of("351864415584321500", "idp.example.com"),
+                "userA", Map.of("351864415584321500", "idp.example.com")));
+
+        extractor = new JwtRoleExtractor(List.of(
+                "roles",
+                "urn:zitadel:iam:org:project:roles",
+                "urn:zitadel:iam:org:project:351864415584321544:roles"));
+    }
+
+    @Benchmark
+    public List<IamRole> legacy() {
+        return legacyExtractRoles(claims);
+    }
+
+    @Benchmark
+    public EnumSet<IamRole> extractor() {
+        return extractor.extract(claims);
+    }
+
+    /**
+     * 기존 extractRoles와 같은 알고리즘 (로그 제외)
+     */
+    @SuppressWarnings("unchecked")
+    private static List<IamRole> legacyExtractRoles(Map<String, Object> claims) {
+        List<IamRole> roles = new ArrayList<>();
+        Object rolesClaim = claims.get("roles");
+        if (rolesClaim instanceof List) {
+            ((List<?>) rolesClaim).forEach(role -> {
+                if (role instanceof String) {
+                    IamRole iamRole = legacyFromString((String) role);
+                    if (iamRole != null) {
+                        roles.add(iamRole);
+                    }
+                }
+            });
+        }
+        claims.forEach((key, value) -> {
+            if (key.contains("roles") && !key.equals("roles")) {
+                if (value instanceof List) {
+                    ((List<?>) value).forEach(role -> {
+                        if (role instanceof String) {
+                            IamRole iamRole = legacyFromString((String) role);
+                            if (iamRole != null && !roles.contains(iamRole)) {
+                                roles.add(iamRole);
+                            }
+                        }
+                    });
+                } else if (value instanceof Map) {
+                    ((Map<String, Object>) value).forEach((roleName, roleValue) -> {
+                        IamRole iamRole = legacyFromString(roleName);
+                        if (iamRole != null && !roles.contains(iamRole)) {
+                            roles.add(iamRole);
+                        }
+                    });
+                }
+            }
+        });
+        return roles;
+    }
+
+    /**
+     * 기존 IamRole.fromString (values() 복사 + 선형 equalsIgnoreCase)
+     */
+    private static IamRole legacyFromString(String roleString) {
+        if (roleString == null || roleString.isBlank()) {
+            return null;
+        }
+        for (IamRole role : IamRole.values()) {
+            if (role.getValue().equalsIgnoreCase(roleString)) {
+                return role;
+            }
+        }
+        return null;
+    }
+}
@@ -0,0 +1,117 @@
+package io.hlab.OpenConsole.benchmark;
+
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.hlab.OpenConsole.infrastructure.iam.zitadel.client.ZitadelUserProjections;
+import io.hlab.OpenConsole.infrastructure.iam.zitadel.dto.ZitadelUserDto;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * ListUsers 응답 디코딩 비교 벤치마크
+ *
+ * <ul>
+ *   <li>{@code fullTree*}: 기존 경로. {@code bodyToMono(ListUsersResponse.class)}와 같이 전체 DTO 트리로 역직렬화한 뒤 필요한 필드를 꺼냄</li>
+ *   <li>{@code projection*}: {@link ZitadelUserProjections}로 필요한 필드만 스트리밍 파싱</li>
+ * </ul>
+ * 할당량 비교는 {@code -prof gc}를 붙여 {@code gc.alloc.rate.norm}을 확인합니다.
+ *
+ * <p>실행: {@code ./gradlew jmh -PjmhIncludes=ListUsersDecodeBenchmark}
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Fork(1)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+public class ListUsersDecodeBenchmark {
+
+    /**
+     * 응답에 담긴 사용자 수 (1: 단건 email 검색, 100: 일괄 검색/디렉터리 페이지)
+     */
+    @Param({"1", "100"})
+    public int users;
+
+    private ObjectMapper objectMapper;
+    private byte[] body;
+
+    @Setup
+    public void setUp() {
+        // WebClient의 Jackson2JsonDecoder와 같은 기본 설정
+        objectMapper = new ObjectMapper().findAndRegisterModules()
+                .configure(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES, false);
+        body = listUsersResponse(users).getBytes(StandardCharsets.UTF_8);
+    }
+
+    @Benchmark
+    public String fullTreeFirstUser() throws IOException {
+        ZitadelUserDto.ListUsersResponse response = objectMapper.readValue(body, ZitadelUserDto.ListUsersResponse.class);
+        ZitadelUserDto.ListUsersResponse.User user = response.result().get(0);
+        return user.id() != null ? user.id() : user.userId();
+    }
+
+    @Benchmark
+    public String projectionFirstUser() {
+        return ZitadelUserProjections.firstUser(body).subject();
+    }
+
+    @Benchmark
+    public int fullTreeAllUsers() throws IOException {
+        ZitadelUserDto.ListUsersResponse response = objectMapper.readValue(body, ZitadelUserDto.ListUsersResponse.class);
+        int found = 0;
+        for (ZitadelUserDto.ListUsersResponse.User user : response.result()) {
+            if (user.human() != null && user.human().email() != null && user.human().email().email() != null) {
+                found++;
+            }
+        }
+        return found;
+    }
+
+    @Benchmark
+    public int projectionAllUsers() {
+        List<ZitadelUserProjections.UserRef> refs = ZitadelUserProjections.users(body);
+        int found = 0;
+        for (ZitadelUserProjections.UserRef ref : refs) {
+            if (ref.email() != null) {
+                found++;
+            }
+        }
+        return found;
+    }
+
+    /**
+     * Zitadel v2 ListUsers와 같은 모양의 응답 (Human 사용자, profile/email/phone/details 포함)
+     */
+    private static String listUsersResponse(int count) {
+        StringBuilder json = new StringBuilder("{\"details\":{\"totalResult\":\"").append(count)
+                .append("\",\"timestamp\":\"2026-01-01T00:00:00Z\"},\"result\":[");
+        for (int i = 0; i < count; i++) {
+            if (i > 0) {
+                json.append(',');
+            }
+            json.append("""
+                    {"userId":"user-%1$d","username":"user%1$d","state":"USER_STATE_ACTIVE",
+                     "details":{"sequence":"%1$d","creationDate":"2026-01-01T00:00:00Z","changeDate":"2026-01-02T00:00:00Z","resourceOwner":"bench-org"},
+                     "loginNames":["user%1$d@example.com"],"preferredLoginName":"user%1$d@example.com",
+                     "human":{"profile":{"givenName":"User","familyName":"%1$d","displayName":"User %1$d","preferredLanguage":"ko","gender":"GENDER_UNSPECIFIED"},
+                              "email":{"email":"user%1$d@example.com","isVerified":true},
+                              "phone":{"phone":"+8210%1$08d","isVerified":false}}}
+                    """.formatted(i));
+        }
+        return json.append("]}").toString();
+    }
+}
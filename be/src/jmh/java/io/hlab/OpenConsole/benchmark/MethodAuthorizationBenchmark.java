@@ -0,0 +1,100 @@
+package io.hlab.OpenConsole.benchmark;
+
+import io.hlab.OpenConsole.infrastructure.iam.IamRole;
+import io.hlab.OpenConsole.infrastructure.iam.IamUserInfo;
+import io.hlab.OpenConsole.infrastructure.security.IamAuthenticationToken;
+import io.hlab.OpenConsole.infrastructure.security.IamMethodSecurityExpressionHandler;
+import org.aopalliance.intercept.MethodInvocation;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.expression.Expression;
+import org.springframework.security.access.expression.ExpressionUtils;
+import org.springframework.security.access.expression.method.DefaultMethodSecurityExpressionHandler;
+import org.springframework.security.access.expression.method.MethodSecurityExpressionHandler;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.security.oauth2.jwt.Jwt;
+import org.springframework.security.util.SimpleMethodInvocation;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 요청당 @PreAuthorize 평가 비용 비교 벤치마크
+ *
+ * <ul>
+ *   <li>{@code defaultHandler}: 기본 DefaultMethodSecurityExpressionHandler. authority 문자열 Set을 만든 뒤 {@code ROLE_} 문자열로 조회</li>
+ *   <li>{@code bitmaskHandler}: {@link IamMethodSecurityExpressionHandler}. 인증 시 계산한 role bitmask와 bit 연산</li>
+ * </ul>
+ * 요청마다 새 평가 컨텍스트를 만드는 것까지 포함하며, 표현식 파싱은 Spring과 같이 미리 해 둡니다.
+ * 인증은 Zitadel access token과 같은 구성 (scope 여러 개 + role 2개)입니다.
+ * 할당량 비교는 {@code -prof gc}를 붙여 {@code gc.alloc.rate.norm}을 확인합니다.
+ *
+ * <p>실행: {@code ./gradlew jmh -PjmhIncludes=MethodAuthorizationBenchmark}
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Fork(1)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+public class MethodAuthorizationBenchmark {
+
+    /**
+     * RoleController/UserControllerExample에서 쓰는 표현식
+     */
+    @Param({"hasRole('ADMIN')", "hasAnyRole('ADMIN', 'USER_A')"})
+    public String expression;
+
+    private MethodSecurityExpressionHandler defaultHandler;
+    private MethodSecurityExpressionHandler bitmaskHandler;
+    private Expression defaultExpression;
+    private Expression bitmaskExpression;
+    private MethodInvocation invocation;
+    private IamAuthenticationToken authentication;
+
+    @Setup
+    public void setUp() throws NoSuchMethodException {
+        defaultHandler = new DefaultMethodSecurityExpressionHandler();
+        bitmaskHandler = new IamMethodSecurityExpressionHandler();
+        defaultExpression = defaultHandler.getExpressionParser().parseExpression(expression);
+        bitmaskExpression = bitmaskHandler.getExpressionParser().parseExpression(expression);
+        invocation = new SimpleMethodInvocation(new Object(), Object.class.getMethod("toString"));
+
+        Jwt jwt = Jwt.withTokenValue("token")
+                .header("alg", "RS256")
+                .subject("351864415584321539")
+                .claim("scope", "openid profile email urn:zitadel:iam:org:project:id:zitadel:aud")
+                .build();
+        List<IamRole> roles = List.of(IamRole.USER, IamRole.USER_A);
+        List<GrantedAuthority> authorities = new ArrayList<>();
+        for (String scope : List.of("openid", "profile", "email", "urn:zitadel:iam:org:project:id:zitadel:aud")) {
+            authorities.add(new SimpleGrantedAuthority("SCOPE_" + scope));
+        }
+        roles.forEach(role -> authorities.add(new SimpleGrantedAuthority("ROLE_" + role.name())));
+        authentication = new IamAuthenticationToken(jwt, authorities,
+                IamUserInfo.of("351864415584321539", "user@example.com", "Example User", roles));
+    }
+
+    @Benchmark
+    public boolean defaultHandler() {
+        return ExpressionUtils.evaluateAsBoolean(defaultExpression,
+                defaultHandler.createEvaluationContext(() -> authentication, invocation));
+    }
+
+    @Benchmark
+    public boolean bitmaskHandler() {
+        return ExpressionUtils.evaluateAsBoolean(bitmaskExpression,
+                bitmaskHandler.createEvaluationContext(() -> authentication, invocation));
+    }
+}
@@ -0,0 +1,75 @@
+package io.hlab.OpenConsole.benchmark;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * 벤치마크용 느린 Zitadel 스텁 서버
+ * 모든 응답을 지정한 지연 시간 후에 반환하여 원격 IAM의 네트워크 대기를 흉내냄
+ *
+ * <p>스텁 자체가 병목이 되지 않도록 요청마다 가상 스레드를 사용합니다.
+ */
+final class SlowZitadelStub implements AutoCloseable {
+
+    static final String SUBJECT = "bench-subject";
+
+    private static final String LIST_USERS_RESPONSE =
+            "{\"details\":{\"totalResult\":1},\"result\":[{\"id\":\"" + SUBJECT + "\",\"state\":\"USER_STATE_ACTIVE\"}]}";
+
+    private static final String LIST_AUTHORIZATIONS_RESPONSE =
+            "{\"authorizations\":[{\"id\":\"bench-grant\",\"userId\":\"" + SUBJECT + "\",\"roleKeys\":[\"admin\",\"userA\"]}]}";
+
+    private final HttpServer server;
+    private final ExecutorService executor;
+    private final Duration latency;
+
+    private SlowZitadelStub(Duration latency) throws IOException {
+        this.latency = latency;
+        this.executor = Executors.newVirtualThreadPerTaskExecutor();
+        this.server = HttpServer.create(new InetSocketAddress("localhost", 0), 0);
+        this.server.setExecutor(executor);
+        this.server.createContext("/v2/users", exchange -> respond(exchange, LIST_USERS_RESPONSE));
+        this.server.createContext("/zitadel.authorization.v2.AuthorizationService/ListAuthorizations",
+                exchange -> respond(exchange, LIST_AUTHORIZATIONS_RESPONSE));
+        this.server.createContext("/", exchange -> respond(exchange, "{}"));
+    }
+
+    static SlowZitadelStub start(Duration latency) throws IOException {
+        SlowZitadelStub stub = new SlowZitadelStub(latency);
+        stub.server.start();
+        return stub;
+    }
+
+    String baseUrl() {
+        return "http://localhost:" + server.getAddress().getPort();
+    }
+
+    private void respond(HttpExchange exchange, String body) throws IOException {
+        try (exchange) {
+            exchange.getRequestBody().readAllBytes();
+            Thread.sleep(latency);
+            byte[] bytes = body.getBytes(StandardCharsets.UTF_8);
+            exchange.getResponseHeaders().add("Content-Type", "application/json");
+            exchange.sendResponseHeaders(200, bytes.length);
+            try (OutputStream out = exchange.getResponseBody()) {
+                out.write(bytes);
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    @Override
+    public void close() {
+        server.stop(0);
+        executor.close();
+    }
+}
@@ -0,0 +1,113 @@
+package io.hlab.OpenConsole.benchmark;
+
+import com.nimbusds.jose.JOSEException;
+import com.nimbusds.jose.JWSAlgorithm;
+import com.nimbusds.jose.JWSHeader;
+import com.nimbusds.jose.crypto.RSASSASigner;
+import com.nimbusds.jwt.JWTClaimsSet;
+import com.nimbusds.jwt.SignedJWT;
+import io.hlab.OpenConsole.infrastructure.iam.IamRole;
+import io.hlab.OpenConsole.infrastructure.iam.IamUserInfo;
+import io.hlab.OpenConsole.infrastructure.security.IamAuthenticationToken;
+import io.hlab.OpenConsole.infrastructure.security.VerifiedJwtCache;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.beans.factory.support.StaticListableBeanFactory;
+import org.springframework.core.convert.converter.Converter;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.security.oauth2.jwt.Jwt;
+import org.springframework.security.oauth2.jwt.JwtDecoder;
+import org.springframework.security.oauth2.jwt.NimbusJwtDecoder;
+
+import java.security.KeyPair;
+import java.security.KeyPairGenerator;
+import java.security.NoSuchAlgorithmException;
+import java.security.interfaces.RSAPublicKey;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Date;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 요청당 JWT 인증 비용 비교 벤치마크 (디코딩 + 인증 변환)
+ *
+ * <ul>
+ *   <li>{@code verifyEveryRequest}: 기존 경로. 요청마다 RS256 서명 검증, 파싱, claim 검증, 사용자 정보 해석</li>
+ *   <li>{@code cachedToken}: {@link VerifiedJwtCache}. 같은 토큰이면 SHA-256 + 해시 조회 후 결과 재사용</li>
+ * </ul>
+ * 프론트엔드가 토큰 수명 동안 같은 access token을 반복해서 보내는 상황을 가정합니다.
+ * 높은 RPS에서의 경합을 보려면 {@code -t}로 스레드 수를 늘리세요 (기본 4).
+ *
+ * <p>실행: {@code ./gradlew jmh -PjmhIncludes=VerifiedJwtCacheBenchmark}
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Fork(1)
+@Threads(4)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+public class VerifiedJwtCacheBenchmark {
+
+    private String token;
+    private JwtDecoder verifyingDecoder;
+    private JwtDecoder cachingDecoder;
+    private Converter<Jwt, VerifiedJwtCache.Conversion> conversion;
+    private Converter<Jwt, IamAuthenticationToken> cachingConverter;
+
+    @Setup
+    public void setUp() throws NoSuchAlgorithmException, JOSEException {
+        KeyPairGenerator generator = KeyPairGenerator.getInstance("RSA");
+        generator.initialize(2048);
+        KeyPair keyPair = generator.generateKeyPair();
+
+        Instant now = Instant.now();
+        SignedJWT jwt = new SignedJWT(
+                new JWSHeader.Builder(JWSAlgorithm.RS256).keyID("bench-key").build(),
+                new JWTClaimsSet.Builder()
+                        .issuer("https://idp.example.com")
+                        .subject("351864415584321539")
+                        .audience(List.of("351864415584321540", "351864415584321541"))
+                        .issueTime(Date.from(now))
+                        .expirationTime(Date.from(now.plus(Duration.ofHours(12))))
+                        .claim("email", "user@example.com")
+                        .claim("urn:zitadel:iam:org:project:roles", Map.of(
+                                "user", Map.of("351864415584321500", "idp.example.com")))
+                        .build());
+        jwt.sign(new RSASSASigner(keyPair.getPrivate()));
+        token = jwt.serialize();
+
+        verifyingDecoder = NimbusJwtDecoder.withPublicKey((RSAPublicKey) keyPair.getPublic()).build();
+        VerifiedJwtCache cache = new VerifiedJwtCache(true, 10_000, Duration.ofMinutes(5),
+                new StaticListableBeanFactory().getBeanProvider(MeterRegistry.class));
+        cachingDecoder = cache.decoder(verifyingDecoder);
+        conversion = decoded -> new VerifiedJwtCache.Conversion(
+                IamUserInfo.of(decoded.getSubject(), decoded.getClaimAsString("email"), null, List.of(IamRole.USER)),
+                List.of(new SimpleGrantedAuthority("ROLE_USER")));
+        cachingConverter = cache.converter(conversion);
+    }
+
+    @Benchmark
+    public Object verifyEveryRequest() {
+        Jwt decoded = verifyingDecoder.decode(token);
+        VerifiedJwtCache.Conversion converted = conversion.convert(decoded);
+        return new IamAuthenticationToken(decoded, converted.authorities(), converted.userInfo());
+    }
+
+    @Benchmark
+    public Object cachedToken() {
+        return cachingConverter.convert(cachingDecoder.decode(token));
+    }
+}
@@ -0,0 +1,137 @@
+package io.hlab.OpenConsole.benchmark;
+
+import io.hlab.OpenConsole.application.user.UserService;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 플랫폼 스레드 vs 가상 스레드 요청 처리 비교 벤치마크
+ *
+ * <p>느린 Zitadel 스텁({@link SlowZitadelStub})을 붙인 실제 애플리케이션에 동시 요청 묶음(burst)을 보내고,
+ * 묶음 전체가 끝날 때까지의 시간을 측정합니다.
+ * <ul>
+ *   <li>{@code /roles?email=...}: Zitadel ListUsers + ListAuthorizations를 호출하는 IAM 경로</li>
+ *   <li>{@code /users/{id}}: JDBC(UserJpaRepository)만 사용하는 경로</li>
+ * </ul>
+ *
+ * <p>플랫폼 스레드 모드에서는 {@code server.tomcat.threads.max}가 동시 처리량의 상한이 되며,
+ * 가상 스레드 모드에서는 이 설정이 무시됩니다.
+ *
+ * <p>실행: {@code ./gradlew jmh -PjmhIncludes=VirtualThreadEndpointBenchmark}
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Fork(1)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 10)
+public class VirtualThreadEndpointBenchmark {
+
+    @Param({"false", "true"})
+    public boolean virtualThreads;
+
+    @Param({"/roles?email=" + BenchmarkApplication.EMAIL, "/users/{id}"})
+    public String endpoint;
+
+    /**
+     * 스텁 IAM 응답 지연 (ms)
+     */
+    @Param({"100"})
+    public int iamLatencyMillis;
+
+    /**
+     * 한 번에 보내는 동시 요청 수
+     */
+    @Param({"400"})
+    public int concurrency;
+
+    /**
+     * 플랫폼 스레드 모드의 Tomcat 최대 워커 수
+     */
+    @Param({"50"})
+    public int tomcatMaxThreads;
+
+    private SlowZitadelStub zitadelStub;
+    private ConfigurableApplicationContext context;
+    private ExecutorService clientExecutor;
+    private HttpClient httpClient;
+    private HttpRequest request;
+
+    @Setup(Level.Trial)
+    public void setUp() throws Exception {
+        zitadelStub = SlowZitadelStub.start(Duration.ofMillis(iamLatencyMillis));
+        context = BenchmarkApplication.start(zitadelStub.baseUrl(),
+                "spring.threads.virtual.enabled=" + virtualThreads,
+                "server.tomcat.threads.max=" + tomcatMaxThreads,
+                "server.tomcat.accept-count=" + concurrency);
+
+        Long userId = context.getBean(UserService.class).createUser(BenchmarkApplication.EMAIL, "Benchmark");
+        String path = endpoint.replace("{id}", String.valueOf(userId));
+
+        clientExecutor = Executors.newVirtualThreadPerTaskExecutor();
+        httpClient = HttpClient.newBuilder()
+                .executor(clientExecutor)
+                .version(HttpClient.Version.HTTP_1_1)
+                .build();
+        request = HttpRequest.newBuilder(URI.create("http://localhost:" + BenchmarkApplication.port(context) + path))
+                .header("Authorization", "Bearer benchmark")
+                .GET()
+                .build();
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        if (context != null) {
+            context.close();
+        }
+        if (zitadelStub != null) {
+            zitadelStub.close();
+        }
+        if (clientExecutor != null) {
+            clientExecutor.close();
+        }
+    }
+
+    @Benchmark
+    public int burst() {
+        List<CompletableFuture<HttpResponse<Void>>> responses = new ArrayList<>(concurrency);
+        for (int i = 0; i < concurrency; i++) {
+            responses.add(httpClient.sendAsync(request, HttpResponse.BodyHandlers.discarding()));
+        }
+
+        int succeeded = 0;
+        for (CompletableFuture<HttpResponse<Void>> response : responses) {
+            if (response.join().statusCode() == 200) {
+                succeeded++;
+            }
+        }
+        if (succeeded != concurrency) {
+            throw new IllegalStateException("실패한 요청이 있습니다: succeeded=" + succeeded + ", total=" + concurrency);
+        }
+        return succeeded;
+    }
+}
@@ -0,0 +1,63 @@
+package io.hlab.OpenConsole.api.iam;
+
+import io.hlab.OpenConsole.api.iam.dto.IamEventResponse;
+import io.hlab.OpenConsole.application.iam.IamEventService;
+import io.hlab.OpenConsole.common.dto.ApiResponse;
+import io.hlab.OpenConsole.common.exception.ErrorCode;
+import io.hlab.OpenConsole.infrastructure.iam.IamChangeEvent;
+import io.hlab.OpenConsole.infrastructure.iam.zitadel.ZitadelWebhookVerifier;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+/**
+ * IAM 변경 알림 수신 (Zitadel Actions v2 webhook Target)
+ * JWT 대신 요청 본문의 HMAC 서명으로 인증하므로 SecurityConfig에서 인증 없이 허용합니다.
+ *
+ * <p>서명이 맞으면 처리 결과와 관계없이 200으로 응답하여 Zitadel이 재전송하지 않도록 합니다.
+ * (재전송된 이벤트는 inbox에서 걸러져 DUPLICATE로 응답)
+ */
+@Slf4j
+@RestController
+@RequestMapping("/iam/events")
+public class IamEventController {
+
+    private final ZitadelWebhookVerifier webhookVerifier;
+    private final IamEventService iamEventService;
+    private final boolean enabled;
+
+    public IamEventController(
+            ZitadelWebhookVerifier webhookVerifier,
+            IamEventService iamEventService,
+            @Value("${zitadel.webhook.enabled:false}") boolean enabled) {
+        this.webhookVerifier = webhookVerifier;
+        this.iamEventService = iamEventService;
+        this.enabled = enabled;
+    }
+
+    @PostMapping
+    public ApiResponse<IamEventResponse> receive(
+            @RequestHeader(value = ZitadelWebhookVerifier.SIGNATURE_HEADER, required = false) String signature,
+            @RequestBody byte[] body) {
+        if (!enabled) {
+            throw ErrorCode.IAM_EVENT_DISABLED.toException();
+        }
+        if (!webhookVerifier.verify(signature, body)) {
+            throw ErrorCode.IAM_EVENT_SIGNATURE_INVALID.toException();
+        }
+
+        IamChangeEvent event;
+        try {
+            event = webhookVerifier.parse(body);
+        } catch (IllegalArgumentException e) {
+            log.warn("IAM event rejected: {}", e.getMessage());
+            throw ErrorCode.INVALID_INPUT.toException();
+        }
+        IamEventService.Result result = iamEventService.handle(event);
+        return ApiResponse.success(IamEventResponse.of(event.eventId(), result));
+    }
+}
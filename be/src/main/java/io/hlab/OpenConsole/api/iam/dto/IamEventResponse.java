@@ -0,0 +1,19 @@
+package io.hlab.OpenConsole.api.iam.dto;
+
+import io.hlab.OpenConsole.application.iam.IamEventService;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * IAM 변경 알림 수신 결과 응답 DTO
+ */
+@Getter
+@RequiredArgsConstructor
+public class IamEventResponse {
+    private final String eventId;
+    private final String result;
+
+    public static IamEventResponse of(String eventId, IamEventService.Result result) {
+        return new IamEventResponse(eventId, result.name());
+    }
+}
@@ -1,9 +1,14 @@
 package io.hlab.OpenConsole.api.role;
 
+import io.hlab.OpenConsole.api.role.dto.BulkRoleAssignRequest;
+import io.hlab.OpenConsole.api.role.dto.BulkRoleAssignResponse;
 import io.hlab.OpenConsole.api.role.dto.RoleAssignRequest;
+import io.hlab.OpenConsole.api.role.dto.RoleOperationResponse;
 import io.hlab.OpenConsole.api.role.dto.RoleResponse;
+import io.hlab.OpenConsole.application.role.BulkRoleAssignment;
 import io.hlab.OpenConsole.application.role.RoleService;
 import io.hlab.OpenConsole.common.dto.ApiResponse;
+import io.hlab.OpenConsole.domain.iam.IamOutboxMessage;
 import io.hlab.OpenConsole.infrastructure.iam.IamRole;
 import io.hlab.OpenConsole.infrastructure.security.JwtUtils;
 import jakarta.servlet.http.HttpServletRequest;
@@ -11,14 +16,24 @@ import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.*;
+import reactor.core.publisher.Mono;
 
+import java.net.URI;
+import java.util.Enumeration;
 import java.util.List;
 
 /**
  * Role 관리 API Controller
  * 관리자가 사용자의 role을 부여/제거/조회할 수 있는 API
+ *
+ * <p>IAM 호출이 필요한 API는 {@link Mono}를 반환하여 Servlet 비동기 처리로 응답하므로,
+ * IAM 응답을 기다리는 동안 Tomcat 워커 스레드를 점유하지 않습니다.
+ *
+ * <p>부여/제거 요청에 {@code Prefer: respond-async} 헤더를 붙이면 IAM 변경을 기다리지 않고
+ * outbox에 기록한 뒤 202 Accepted와 진행 상황 조회 링크(Location: /roles/operations/{id})를 반환합니다.
  */
 @Slf4j
 @RestController
@@ -26,34 +41,79 @@ import java.util.List;
 @RequiredArgsConstructor
 public class RoleController {
 
+    private static final String PREFER = "Prefer";
+    private static final String RESPOND_ASYNC = "respond-async";
+
     private final RoleService roleService;
     private final JwtUtils jwtUtils;
 
     /**
      * 사용자에게 role 부여
      * ADMIN 권한 필요
+     *
+     * <p>{@code Prefer: respond-async}이면 outbox에 기록하고 202로, 아니면 IAM 변경 후 201로 응답합니다.
      */
     @PostMapping
-    @ResponseStatus(HttpStatus.CREATED)
     @PreAuthorize("hasRole('ADMIN')")
-    public ApiResponse<Void> assignRole(
+    public Mono<ResponseEntity<ApiResponse<?>>> assignRole(
             @RequestBody @Valid RoleAssignRequest request,
             HttpServletRequest httpRequest) {
-        roleService.assignRoles(request.getEmail(), request.getRoles());
-        return ApiResponse.success("Role이 부여되었습니다.", null);
+        if (prefersRespondAsync(httpRequest)) {
+            return roleService.assignRolesQueued(request.getEmail(), request.getRoles())
+                    .map(message -> accepted(message, "Role 부여 요청이 접수되었습니다.", httpRequest));
+        }
+        return roleService.assignRolesAsync(request.getEmail(), request.getRoles())
+                .then(Mono.fromSupplier(() -> completed(HttpStatus.CREATED, "Role이 부여되었습니다.")));
+    }
+
+    /**
+     * 여러 사용자에게 role 일괄 부여
+     * ADMIN 권한 필요
+     *
+     * <p>일부 항목이 실패해도 200으로 응답하며, 항목별 결과는 응답의 results에 요청 순서대로 담깁니다.
+     */
+    @PostMapping("/bulk")
+    @PreAuthorize("hasRole('ADMIN')")
+    public Mono<ApiResponse<BulkRoleAssignResponse>> assignRolesBulk(
+            @RequestBody @Valid BulkRoleAssignRequest request) {
+        List<BulkRoleAssignment> assignments = request.getItems().stream()
+                .map(item -> new BulkRoleAssignment(item.getEmail(), item.getRoles()))
+                .toList();
+
+        return roleService.assignRolesBulk(assignments)
+                .map(result -> ApiResponse.success(
+                        String.format("Role 일괄 부여가 완료되었습니다. (성공 %d건, 실패 %d건)", result.succeeded(), result.failed()),
+                        BulkRoleAssignResponse.from(result)));
     }
 
     /**
      * 사용자로부터 role 제거
      * ADMIN 권한 필요
+     *
+     * <p>{@code Prefer: respond-async}이면 outbox에 기록하고 202로, 아니면 IAM 변경 후 200으로 응답합니다.
      */
     @DeleteMapping
     @PreAuthorize("hasRole('ADMIN')")
-    public ApiResponse<Void> removeRole(
+    public Mono<ResponseEntity<ApiResponse<?>>> removeRole(
             @RequestParam @jakarta.validation.constraints.Email String email,
-            @RequestParam IamRole role) {
-        roleService.removeRole(email, role);
-        return ApiResponse.success("Role이 제거되었습니다.", null);
+            @RequestParam IamRole role,
+            HttpServletRequest httpRequest) {
+        if (prefersRespondAsync(httpRequest)) {
+            return roleService.removeRoleQueued(email, role)
+                    .map(message -> accepted(message, "Role 제거 요청이 접수되었습니다.", httpRequest));
+        }
+        return roleService.removeRoleAsync(email, role)
+                .then(Mono.fromSupplier(() -> completed(HttpStatus.OK, "Role이 제거되었습니다.")));
+    }
+
+    /**
+     * 비동기 role 변경 요청의 진행 상황 조회
+     * ADMIN 권한 필요
+     */
+    @GetMapping("/operations/{id}")
+    @PreAuthorize("hasRole('ADMIN')")
+    public ApiResponse<RoleOperationResponse> getOperation(@PathVariable Long id, HttpServletRequest httpRequest) {
+        return ApiResponse.success(RoleOperationResponse.from(roleService.getOperation(id), operationUrl(id, httpRequest)));
     }
 
     /**
@@ -62,12 +122,11 @@ public class RoleController {
      */
     @GetMapping
     @PreAuthorize("hasRole('ADMIN')")
-    public ApiResponse<RoleResponse> getUserRoles(
+    public Mono<ApiResponse<RoleResponse>> getUserRoles(
             @RequestParam @jakarta.validation.constraints.Email String email,
             HttpServletRequest httpRequest) {
-        List<IamRole> roles = roleService.getUserRoles(email);
-        RoleResponse response = RoleResponse.of(email, roles);
-        return ApiResponse.success(response);
+        return roleService.getUserRolesAsync(email)
+                .map(roles -> ApiResponse.success(RoleResponse.of(email, roles)));
     }
 
     /**
@@ -86,5 +145,40 @@ public class RoleController {
         RoleResponse response = RoleResponse.of(email, roles);
         return ApiResponse.success(response);
     }
+
+    /**
+     * Prefer 헤더(RFC 7240)에 respond-async가 있는지 확인
+     * 헤더가 여러 개이거나 다른 선호와 함께 온 경우({@code respond-async, wait=10})도 처리합니다.
+     */
+    private static boolean prefersRespondAsync(HttpServletRequest httpRequest) {
+        Enumeration<String> values = httpRequest.getHeaders(PREFER);
+        while (values != null && values.hasMoreElements()) {
+            for (String preference : values.nextElement().split(",")) {
+                // 선호 이름만 비교 (";" 뒤 파라미터와 "=" 뒤 값은 무시)
+                String name = preference.split("[;=]", 2)[0].trim();
+                if (RESPOND_ASYNC.equalsIgnoreCase(name)) {
+                    return true;
+                }
+            }
+        }
+        return false;
+    }
+
+    private static ResponseEntity<ApiResponse<?>> completed(HttpStatus status, String text) {
+        return ResponseEntity.status(status).body(ApiResponse.<Void>success(text, null));
+    }
+
+    private static ResponseEntity<ApiResponse<?>> accepted(
+            IamOutboxMessage message, String text, HttpServletRequest httpRequest) {
+        String statusUrl = operationUrl(message.getId(), httpRequest);
+        return ResponseEntity.accepted()
+                .location(URI.create(statusUrl))
+                .header("Preference-Applied", RESPOND_ASYNC)
+                .body(ApiResponse.success(text, RoleOperationResponse.from(message, statusUrl)));
+    }
+
+    private static String operationUrl(Long id, HttpServletRequest httpRequest) {
+        return httpRequest.getContextPath() + "/roles/operations/" + id;
+    }
 }
 
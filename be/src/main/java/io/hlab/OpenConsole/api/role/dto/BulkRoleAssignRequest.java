@@ -0,0 +1,23 @@
+package io.hlab.OpenConsole.api.role.dto;
+
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.Size;
+import lombok.Getter;
+
+import java.util.List;
+
+/**
+ * Role 일괄 부여 요청 DTO
+ */
+@Getter
+public class BulkRoleAssignRequest {
+    @NotEmpty(message = "요청 항목은 필수입니다.")
+    @Size(max = 1000, message = "한 번에 최대 1000건까지 요청할 수 있습니다.")
+    private List<@Valid RoleAssignRequest> items;
+
+    // 테스트 및 JSON 역직렬화를 위한 setter
+    public void setItems(List<RoleAssignRequest> items) {
+        this.items = items;
+    }
+}
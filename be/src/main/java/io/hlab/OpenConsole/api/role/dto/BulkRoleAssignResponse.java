@@ -0,0 +1,59 @@
+package io.hlab.OpenConsole.api.role.dto;
+
+import io.hlab.OpenConsole.application.role.BulkRoleAssignmentResult;
+import io.hlab.OpenConsole.infrastructure.iam.IamRole;
+import lombok.Getter;
+
+import java.util.List;
+
+/**
+ * Role 일괄 부여 응답 DTO
+ * 전체/성공/실패 건수와 항목별 결과 (요청 순서)
+ */
+@Getter
+public class BulkRoleAssignResponse {
+    private int total;
+    private long succeeded;
+    private long failed;
+    private List<ItemResult> results;
+
+    private BulkRoleAssignResponse(int total, long succeeded, long failed, List<ItemResult> results) {
+        this.total = total;
+        this.succeeded = succeeded;
+        this.failed = failed;
+        this.results = results;
+    }
+
+    public static BulkRoleAssignResponse from(BulkRoleAssignmentResult result) {
+        List<ItemResult> results = result.items().stream()
+                .map(ItemResult::from)
+                .toList();
+        return new BulkRoleAssignResponse(result.total(), result.succeeded(), result.failed(), results);
+    }
+
+    /**
+     * 항목별 결과
+     */
+    @Getter
+    public static class ItemResult {
+        private int index;          // 요청 목록에서의 위치 (0부터)
+        private String email;
+        private List<IamRole> roles;
+        private boolean success;
+        private String errorCode;   // 실패 시에만
+        private String message;     // 실패 시에만
+
+        private ItemResult(int index, String email, List<IamRole> roles, boolean success, String errorCode, String message) {
+            this.index = index;
+            this.email = email;
+            this.roles = roles;
+            this.success = success;
+            this.errorCode = errorCode;
+            this.message = message;
+        }
+
+        static ItemResult from(BulkRoleAssignmentResult.Item item) {
+            return new ItemResult(item.index(), item.email(), item.roles(), item.success(), item.errorCode(), item.message());
+        }
+    }
+}
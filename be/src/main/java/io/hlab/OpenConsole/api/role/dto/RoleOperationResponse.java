@@ -0,0 +1,41 @@
+package io.hlab.OpenConsole.api.role.dto;
+
+import io.hlab.OpenConsole.domain.iam.IamOutboxMessage;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * 비동기 role 변경 요청(outbox)의 진행 상황 응답 DTO
+ * status: PENDING(대기/재시도 대기), PROCESSING(전달 중), DELIVERED(완료), DEAD(실패, 재시도 중단)
+ */
+@Getter
+@RequiredArgsConstructor
+public class RoleOperationResponse {
+    private final Long id;
+    private final String subject;
+    private final String operation;
+    private final List<String> roles;
+    private final String status;
+    private final int attempts;
+    private final String lastError;
+    private final LocalDateTime createdAt;
+    private final LocalDateTime completedAt;
+    private final String statusUrl;
+
+    public static RoleOperationResponse from(IamOutboxMessage message, String statusUrl) {
+        return new RoleOperationResponse(
+                message.getId(),
+                message.getSubject(),
+                message.getOperation().name(),
+                message.getRoleKeyList(),
+                message.getStatus().name(),
+                message.getAttempts(),
+                message.getLastError(),
+                message.getCreatedAt(),
+                message.getCompletedAt(),
+                statusUrl);
+    }
+}
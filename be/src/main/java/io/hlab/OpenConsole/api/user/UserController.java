@@ -1,18 +1,25 @@
 package io.hlab.OpenConsole.api.user;
 
 import io.hlab.OpenConsole.api.user.dto.UserCreateRequest;
+import io.hlab.OpenConsole.api.user.dto.UserImportResponse;
 import io.hlab.OpenConsole.api.user.dto.UserResponse;
 import io.hlab.OpenConsole.api.user.dto.UserUpdateRequest;
+import io.hlab.OpenConsole.application.user.UserImportFormat;
+import io.hlab.OpenConsole.application.user.UserImportJob;
+import io.hlab.OpenConsole.application.user.UserImportService;
 import io.hlab.OpenConsole.application.user.UserService;
 import io.hlab.OpenConsole.common.dto.ApiResponse;
 import io.hlab.OpenConsole.domain.user.User;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.validation.Valid;
+import java.io.IOException;
 import java.util.Optional;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.security.oauth2.core.oidc.user.OidcUser;
+import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.*;
 
@@ -22,6 +29,7 @@ import org.springframework.web.bind.annotation.*;
 @RequiredArgsConstructor
 public class UserController {
     private final UserService userService;
+    private final UserImportService userImportService;
 
     @GetMapping("/api/me")
     public ApiResponse<UserResponse> getMyInfo(@AuthenticationPrincipal OidcUser principal, HttpServletRequest httpRequest) {
@@ -80,6 +88,33 @@ public class UserController {
         userService.deleteUser(id);
     }
 
+    /**
+     * 사용자 대량 가져오기 (CSV: email,name / NDJSON: {"email":..,"name":..})
+     * 요청 본문을 버퍼링하지 않고 스트림으로 읽어 청크 단위로 저장합니다.
+     * importId를 지정하면 처리 중에 GET /users/import/{importId}로 진행 상황을 조회할 수 있습니다.
+     */
+    @PostMapping(value = "/import", consumes = {"text/csv", "application/x-ndjson"})
+    @PreAuthorize("hasRole('ADMIN')")
+    public ApiResponse<UserImportResponse> importUsers(
+            @RequestHeader(HttpHeaders.CONTENT_TYPE) String contentType,
+            @RequestParam(defaultValue = "false") boolean createInIam,
+            @RequestParam(required = false) String importId,
+            HttpServletRequest httpRequest) throws IOException {
+        UserImportFormat format = UserImportFormat.fromContentType(contentType);
+        UserImportJob job = userImportService.importUsers(importId, format, httpRequest.getInputStream(), createInIam);
+        if (job.getStatus() == UserImportJob.Status.FAILED) {
+            // 중단 전까지 저장된 행은 유지되므로, 부분 결과를 함께 반환
+            return new ApiResponse<>("USER_IMPORT_FAILED", "사용자 가져오기가 중단되었습니다.", UserImportResponse.from(job));
+        }
+        return ApiResponse.success("사용자 가져오기가 완료되었습니다.", UserImportResponse.from(job));
+    }
+
+    @GetMapping("/import/{importId}")
+    @PreAuthorize("hasRole('ADMIN')")
+    public ApiResponse<UserImportResponse> getImport(@PathVariable String importId) {
+        return ApiResponse.success(UserImportResponse.from(userImportService.getJob(importId)));
+    }
+
     /**
      * HATEOAS: 요청의 기본 URL을 추출하여 링크 생성에 사용
      */
@@ -0,0 +1,52 @@
+package io.hlab.OpenConsole.api.user.dto;
+
+import io.hlab.OpenConsole.application.user.UserImportJob;
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * 사용자 가져오기 결과/진행 상황 응답 DTO
+ * 건수 집계와 행별 오류 보고서 (오류는 최대 app.user-import.max-errors건)
+ */
+@Getter
+public class UserImportResponse {
+    private String importId;
+    private String status;
+    private String format;
+    private boolean createInIam;
+    private long rowsRead;
+    private long inserted;
+    private long skippedExisting;
+    private long invalid;
+    private long iamCreated;
+    private long iamFailed;
+    private LocalDateTime startedAt;
+    private LocalDateTime finishedAt;
+    private String failureMessage;
+    private boolean errorsTruncated;
+    private List<UserImportJob.RowError> errors;
+
+    private UserImportResponse(UserImportJob job) {
+        this.importId = job.getId();
+        this.status = job.getStatus().name();
+        this.format = job.getFormat().name();
+        this.createInIam = job.isCreateInIam();
+        this.rowsRead = job.getRowsRead().get();
+        this.inserted = job.getInserted().get();
+        this.skippedExisting = job.getSkippedExisting().get();
+        this.invalid = job.getInvalid().get();
+        this.iamCreated = job.getIamCreated().get();
+        this.iamFailed = job.getIamFailed().get();
+        this.startedAt = job.getStartedAt();
+        this.finishedAt = job.getFinishedAt();
+        this.failureMessage = job.getFailureMessage();
+        this.errorsTruncated = job.isErrorsTruncated();
+        this.errors = job.getErrors();
+    }
+
+    public static UserImportResponse from(UserImportJob job) {
+        return new UserImportResponse(job);
+    }
+}
@@ -0,0 +1,126 @@
+package io.hlab.OpenConsole.application.iam;
+
+import io.hlab.OpenConsole.application.user.UserDirectorySyncService;
+import io.hlab.OpenConsole.domain.iam.IamEventInboxRepository;
+import io.hlab.OpenConsole.infrastructure.iam.IamAuthorizationChangedEvent;
+import io.hlab.OpenConsole.infrastructure.iam.IamChangeEvent;
+import io.hlab.OpenConsole.infrastructure.iam.IamUserChangedEvent;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+
+/**
+ * IAM 변경 알림 처리
+ * webhook으로 받은 이벤트를 inbox로 중복 제거한 뒤 로컬 캐시와 프로젝션에 반영
+ *
+ * <ul>
+ *   <li>사용자 변경: {@link IamUserChangedEvent} 발행(email ↔ subject, grant 캐시 무효화) + users 테이블 단건 갱신</li>
+ *   <li>사용자 삭제: {@link IamUserChangedEvent} 발행 + users 테이블에 삭제 상태 표시</li>
+ *   <li>role grant 변경: {@link IamAuthorizationChangedEvent} 발행 (grant 캐시 무효화)</li>
+ * </ul>
+ * inbox 기록 후에는 반영(이벤트 리스너, users 테이블 갱신) 중 실패해도 예외를 전파하지 않고 로그만 남깁니다.
+ * 예외로 5xx를 응답하면 Zitadel이 다시 보내도 DUPLICATE로 처리되어 반영 기회가 사라지기 때문입니다.
+ * (캐시는 TTL로 만료되고, 프로젝션은 주기 재조정, users 테이블은 다음 디렉터리 동기화에서 바로잡힘)
+ */
+@Slf4j
+@Service
+public class IamEventService {
+
+    private final IamEventInboxRepository inboxRepository;
+    private final UserDirectorySyncService userDirectorySyncService;
+    private final ApplicationEventPublisher eventPublisher;
+    private final Duration inboxRetention;
+
+    public IamEventService(
+            IamEventInboxRepository inboxRepository,
+            UserDirectorySyncService userDirectorySyncService,
+            ApplicationEventPublisher eventPublisher,
+            @Value("${zitadel.webhook.inbox-retention:7d}") Duration inboxRetention) {
+        this.inboxRepository = inboxRepository;
+        this.userDirectorySyncService = userDirectorySyncService;
+        this.eventPublisher = eventPublisher;
+        this.inboxRetention = inboxRetention;
+    }
+
+    /**
+     * 처리 결과
+     */
+    public enum Result {
+        /** 처리함 */
+        PROCESSED,
+        /** 이미 처리한 이벤트 (재전송) */
+        DUPLICATE,
+        /** 처리 대상이 아닌 이벤트 (기록만 함) */
+        IGNORED
+    }
+
+    /**
+     * 이벤트 처리
+     *
+     * @param event 서명 검증을 통과한 이벤트
+     * @return 처리 결과
+     */
+    public Result handle(IamChangeEvent event) {
+        if (!inboxRepository.insertIfAbsent(event.eventId(), event.eventType(), event.subject(),
+                LocalDateTime.now(ZoneOffset.UTC))) {
+            log.debug("IAM event duplicate: eventId={}, type={}", event.eventId(), event.eventType());
+            return Result.DUPLICATE;
+        }
+        log.info("IAM event received: eventId={}, type={}, kind={}, subject={}",
+                event.eventId(), event.eventType(), event.kind(), event.subject());
+
+        switch (event.kind()) {
+            case USER_CHANGED -> {
+                publish(event, IamUserChangedEvent.ofSubject(event.subject()));
+                applyToDirectory(event, () -> userDirectorySyncService.refreshUser(event.subject()));
+            }
+            case USER_REMOVED -> {
+                publish(event, IamUserChangedEvent.ofSubject(event.subject()));
+                applyToDirectory(event, () -> userDirectorySyncService.markUserRemoved(event.subject()));
+            }
+            case AUTHORIZATION_CHANGED -> publish(event, new IamAuthorizationChangedEvent(event.subject()));
+            case OTHER -> {
+                return Result.IGNORED;
+            }
+        }
+        return Result.PROCESSED;
+    }
+
+    /**
+     * 보관 기간이 지난 inbox 기록 삭제 (zitadel.webhook.inbox-cleanup-interval마다)
+     */
+    @Scheduled(fixedDelayString = "${zitadel.webhook.inbox-cleanup-interval:1h}")
+    public void purgeInbox() {
+        int deleted = inboxRepository.deleteReceivedBefore(LocalDateTime.now(ZoneOffset.UTC).minus(inboxRetention));
+        if (deleted > 0) {
+            log.info("IAM event inbox purged: deleted={}", deleted);
+        }
+    }
+
+    /**
+     * 캐시/프로젝션 무효화 이벤트 발행 (리스너 실패는 로그만 남김)
+     */
+    private void publish(IamChangeEvent event, Object applicationEvent) {
+        try {
+            eventPublisher.publishEvent(applicationEvent);
+        } catch (RuntimeException e) {
+            log.warn("IAM event listener failed, caches will expire by TTL: eventId={}, subject={}, event={}",
+                    event.eventId(), event.subject(), applicationEvent, e);
+        }
+    }
+
+    private void applyToDirectory(IamChangeEvent event, Runnable action) {
+        try {
+            action.run();
+        } catch (RuntimeException e) {
+            log.warn("IAM event could not be applied to user directory, next sync will reconcile: eventId={}, subject={}",
+                    event.eventId(), event.subject(), e);
+        }
+    }
+}
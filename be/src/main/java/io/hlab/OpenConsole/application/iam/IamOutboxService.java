@@ -0,0 +1,63 @@
+package io.hlab.OpenConsole.application.iam;
+
+import io.hlab.OpenConsole.common.exception.ErrorCode;
+import io.hlab.OpenConsole.domain.iam.IamOutboxMessage;
+import io.hlab.OpenConsole.domain.iam.IamOutboxRepository;
+import io.hlab.OpenConsole.infrastructure.iam.IamRole;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.List;
+
+/**
+ * IAM 변경 요청을 outbox에 기록
+ * 호출한 쪽의 트랜잭션에 참여하므로 로컬 변경(예: JIT 사용자 생성)과 함께 커밋되거나 함께 롤백됩니다.
+ * 실제 IAM 호출은 커밋 후 {@link IamOutboxWorker}가 수행합니다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+@Transactional
+public class IamOutboxService {
+
+    private final IamOutboxRepository outboxRepository;
+
+    /**
+     * role 부여 요청 기록
+     *
+     * @return 기록된 메시지 (id로 진행 상황 조회)
+     */
+    public IamOutboxMessage enqueueAssignRoles(String subject, List<IamRole> roles) {
+        return enqueue(subject, IamOutboxMessage.Operation.ASSIGN_ROLES, roles);
+    }
+
+    /**
+     * role 제거 요청 기록
+     *
+     * @return 기록된 메시지 (id로 진행 상황 조회)
+     */
+    public IamOutboxMessage enqueueRemoveRole(String subject, IamRole role) {
+        return enqueue(subject, IamOutboxMessage.Operation.REMOVE_ROLE, List.of(role));
+    }
+
+    @Transactional(readOnly = true)
+    public IamOutboxMessage getMessage(Long id) {
+        return outboxRepository.findById(id)
+                .orElseThrow(() -> ErrorCode.IAM_OPERATION_NOT_FOUND.toException());
+    }
+
+    private IamOutboxMessage enqueue(String subject, IamOutboxMessage.Operation operation, List<IamRole> roles) {
+        List<String> roleKeys = roles.stream()
+                .map(IamRole::getValue)
+                .toList();
+        IamOutboxMessage message = outboxRepository.save(
+                IamOutboxMessage.create(subject, operation, roleKeys, LocalDateTime.now(ZoneOffset.UTC)));
+        log.info("IAM operation queued: id={}, subject={}, operation={}, roles={}",
+                message.getId(), subject, operation, roleKeys);
+        return message;
+    }
+}
@@ -0,0 +1,208 @@
+package io.hlab.OpenConsole.application.iam;
+
+import io.hlab.OpenConsole.domain.iam.IamOutboxMessage;
+import io.hlab.OpenConsole.domain.iam.IamOutboxRepository;
+import io.hlab.OpenConsole.infrastructure.iam.IamRequestPriority;
+import io.hlab.OpenConsole.infrastructure.iam.IamRole;
+import io.hlab.OpenConsole.infrastructure.iam.ReactiveIamClient;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.web.reactive.function.client.WebClientResponseException;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * IAM outbox 전달 워커
+ * {@code zitadel.outbox.poll-interval}마다 전달할 수 있는 메시지를 선점하여 IAM에 전달
+ *
+ * <ul>
+ *   <li><b>순서</b>: 한 번에 subject마다 가장 앞의 메시지만 가져오므로 같은 subject의 변경은 기록된 순서대로 반영</li>
+ *   <li><b>동시성</b>: 서로 다른 subject는 최대 {@code zitadel.outbox.concurrency}개까지 동시에 전달 (일괄 작업 우선순위)</li>
+ *   <li><b>재시도</b>: 실패 시 지수 백오프({@code initial-backoff} ~ {@code max-backoff})로 다시 시도</li>
+ *   <li><b>dead letter</b>: {@code max-attempts}번 실패했거나 재시도해도 성공할 수 없는 실패(4xx, 알 수 없는 role)는 DEAD로 남김</li>
+ * </ul>
+ * 선점은 조건부 UPDATE로 하므로 여러 노드에서 동시에 실행해도 같은 메시지를 두 번 전달하지 않습니다.
+ * 전달 중 노드가 중단되면 {@code lease}가 지난 뒤 다른 노드가 다시 전달합니다 (role 부여/제거는 멱등).
+ */
+@Slf4j
+@Component
+public class IamOutboxWorker {
+
+    private final IamOutboxRepository outboxRepository;
+    private final ReactiveIamClient reactiveIamClient;
+    private final boolean enabled;
+    private final int batchSize;
+    private final int concurrency;
+    private final int maxAttempts;
+    private final Duration initialBackoff;
+    private final Duration maxBackoff;
+    private final Duration lease;
+    private final Duration retention;
+
+    public IamOutboxWorker(
+            IamOutboxRepository outboxRepository,
+            ReactiveIamClient reactiveIamClient,
+            @Value("${zitadel.outbox.enabled:true}") boolean enabled,
+            @Value("${zitadel.outbox.batch-size:50}") int batchSize,
+            @Value("${zitadel.outbox.concurrency:8}") int concurrency,
+            @Value("${zitadel.outbox.max-attempts:8}") int maxAttempts,
+            @Value("${zitadel.outbox.initial-backoff:1s}") Duration initialBackoff,
+            @Value("${zitadel.outbox.max-backoff:5m}") Duration maxBackoff,
+            @Value("${zitadel.outbox.lease:2m}") Duration lease,
+            @Value("${zitadel.outbox.retention:7d}") Duration retention) {
+        this.outboxRepository = outboxRepository;
+        this.reactiveIamClient = reactiveIamClient;
+        this.enabled = enabled;
+        this.batchSize = batchSize;
+        this.concurrency = concurrency;
+        this.maxAttempts = maxAttempts;
+        this.initialBackoff = initialBackoff;
+        this.maxBackoff = maxBackoff;
+        this.lease = lease;
+        this.retention = retention;
+    }
+
+    /**
+     * 주기 실행 (zitadel.outbox.enabled=true일 때만)
+     */
+    @Scheduled(fixedDelayString = "${zitadel.outbox.poll-interval:1s}")
+    public void scheduledDispatch() {
+        if (!enabled) {
+            return;
+        }
+        try {
+            dispatch();
+        } catch (RuntimeException e) {
+            log.error("IAM outbox dispatch failed", e);
+        }
+    }
+
+    /**
+     * 전달할 수 있는 메시지를 한 묶음 선점하여 전달
+     *
+     * @return 선점하여 처리한 메시지 수
+     */
+    public int dispatch() {
+        LocalDateTime now = now();
+        int released = outboxRepository.releaseExpiredLeases(now);
+        if (released > 0) {
+            log.warn("IAM outbox leases expired, messages returned to queue: count={}", released);
+        }
+
+        List<IamOutboxMessage> claimed = new ArrayList<>();
+        for (IamOutboxMessage message : outboxRepository.findDeliverable(now, batchSize)) {
+            if (outboxRepository.claim(message.getId(), now.plus(lease))) {
+                claimed.add(message);
+            }
+        }
+        if (claimed.isEmpty()) {
+            return 0;
+        }
+
+        Flux.fromIterable(claimed)
+                .flatMap(this::deliver, concurrency)
+                .then()
+                .contextWrite(IamRequestPriority.bulk())
+                .block();
+        return claimed.size();
+    }
+
+    /**
+     * 보관 기간이 지난 전달 완료 메시지 삭제
+     */
+    @Scheduled(fixedDelayString = "${zitadel.outbox.cleanup-interval:1h}")
+    public void purgeDelivered() {
+        int deleted = outboxRepository.deleteDeliveredBefore(now().minus(retention));
+        if (deleted > 0) {
+            log.info("IAM outbox purged: deleted={}", deleted);
+        }
+    }
+
+    private Mono<Void> deliver(IamOutboxMessage message) {
+        int attempts = message.getAttempts() + 1;
+        return Mono.defer(() -> call(message))
+                .thenReturn(Optional.<Throwable>empty())
+                .onErrorResume(e -> Mono.just(Optional.of(e)))
+                // 결과 기록(JDBC)은 IAM 응답 스레드가 아닌 boundedElastic에서 실행
+                .publishOn(Schedulers.boundedElastic())
+                .doOnNext(error -> error.ifPresentOrElse(
+                        e -> fail(message, attempts, e),
+                        () -> delivered(message, attempts)))
+                .then();
+    }
+
+    private void delivered(IamOutboxMessage message, int attempts) {
+        outboxRepository.markDelivered(message.getId(), attempts, now());
+        log.info("IAM operation delivered: id={}, subject={}, operation={}, attempts={}",
+                message.getId(), message.getSubject(), message.getOperation(), attempts);
+    }
+
+    private Mono<Void> call(IamOutboxMessage message) {
+        List<IamRole> roles = new ArrayList<>();
+        for (String roleKey : message.getRoleKeyList()) {
+            IamRole role = IamRole.fromString(roleKey);
+            if (role == null) {
+                return Mono.error(new IllegalArgumentException("알 수 없는 role: " + roleKey));
+            }
+            roles.add(role);
+        }
+
+        return switch (message.getOperation()) {
+            case ASSIGN_ROLES -> reactiveIamClient.assignRoles(message.getSubject(), roles);
+            case REMOVE_ROLE -> Flux.fromIterable(roles)
+                    .concatMap(role -> reactiveIamClient.removeRole(message.getSubject(), role))
+                    .then();
+        };
+    }
+
+    private void fail(IamOutboxMessage message, int attempts, Throwable e) {
+        if (attempts >= maxAttempts || isPermanent(e)) {
+            outboxRepository.markDead(message.getId(), attempts, e.getMessage(), now());
+            log.error("IAM operation dead-lettered: id={}, subject={}, operation={}, attempts={}, error={}",
+                    message.getId(), message.getSubject(), message.getOperation(), attempts, e.getMessage());
+            return;
+        }
+        Duration backoff = backoff(attempts);
+        outboxRepository.markRetry(message.getId(), attempts, now().plus(backoff), e.getMessage());
+        log.warn("IAM operation failed, will retry: id={}, subject={}, operation={}, attempts={}, backoff={}, error={}",
+                message.getId(), message.getSubject(), message.getOperation(), attempts, backoff, e.getMessage());
+    }
+
+    /**
+     * n번째 실패 후 대기 시간 (initial-backoff * 2^(n-1), 최대 max-backoff)
+     */
+    private Duration backoff(int attempts) {
+        Duration backoff = initialBackoff.multipliedBy(1L << Math.min(attempts - 1, 20));
+        return backoff.compareTo(maxBackoff) > 0 ? maxBackoff : backoff;
+    }
+
+    /**
+     * 재시도해도 성공할 수 없는 실패인지 확인 (408/429를 제외한 4xx 응답, 알 수 없는 role)
+     */
+    private static boolean isPermanent(Throwable e) {
+        if (e instanceof IllegalArgumentException) {
+            return true;
+        }
+        for (Throwable current = e; current != null; current = current.getCause()) {
+            if (current instanceof WebClientResponseException response) {
+                int status = response.getStatusCode().value();
+                return status >= 400 && status < 500 && status != 408 && status != 429;
+            }
+        }
+        return false;
+    }
+
+    private static LocalDateTime now() {
+        return LocalDateTime.now(ZoneOffset.UTC);
+    }
+}
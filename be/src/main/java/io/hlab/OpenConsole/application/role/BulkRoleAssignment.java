@@ -0,0 +1,14 @@
+package io.hlab.OpenConsole.application.role;
+
+import io.hlab.OpenConsole.infrastructure.iam.IamRole;
+
+import java.util.List;
+
+/**
+ * Role 일괄 부여 요청 항목
+ *
+ * @param email 사용자 이메일
+ * @param roles 부여할 role 목록
+ */
+public record BulkRoleAssignment(String email, List<IamRole> roles) {
+}
@@ -0,0 +1,54 @@
+package io.hlab.OpenConsole.application.role;
+
+import io.hlab.OpenConsole.infrastructure.iam.IamRole;
+
+import java.util.Comparator;
+import java.util.List;
+
+/**
+ * Role 일괄 부여 결과
+ * 항목별 성공/실패를 요청 순서대로 담음 (일부 실패 허용)
+ *
+ * @param items 요청 순서대로 정렬된 항목별 결과
+ */
+public record BulkRoleAssignmentResult(List<Item> items) {
+
+    public static BulkRoleAssignmentResult of(List<Item> items) {
+        return new BulkRoleAssignmentResult(items.stream()
+                .sorted(Comparator.comparingInt(Item::index))
+                .toList());
+    }
+
+    public int total() {
+        return items.size();
+    }
+
+    public long succeeded() {
+        return items.stream().filter(Item::success).count();
+    }
+
+    public long failed() {
+        return total() - succeeded();
+    }
+
+    /**
+     * 항목별 결과
+     *
+     * @param index 요청 목록에서의 위치 (0부터)
+     * @param email 사용자 이메일
+     * @param roles 부여 요청한 role 목록
+     * @param success 성공 여부
+     * @param errorCode 실패 시 에러 코드 (ErrorCode), 성공 시 null
+     * @param message 실패 사유, 성공 시 null
+     */
+    public record Item(int index, String email, List<IamRole> roles, boolean success, String errorCode, String message) {
+
+        public static Item succeeded(int index, BulkRoleAssignment assignment) {
+            return new Item(index, assignment.email(), assignment.roles(), true, null, null);
+        }
+
+        public static Item failed(int index, BulkRoleAssignment assignment, String errorCode, String message) {
+            return new Item(index, assignment.email(), assignment.roles(), false, errorCode, message);
+        }
+    }
+}
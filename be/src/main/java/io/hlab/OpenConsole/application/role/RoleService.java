@@ -1,28 +1,59 @@
 package io.hlab.OpenConsole.application.role;
 
+import io.hlab.OpenConsole.application.iam.IamOutboxService;
+import io.hlab.OpenConsole.application.iam.IamOutboxWorker;
+import io.hlab.OpenConsole.common.exception.ErrorCode;
+import io.hlab.OpenConsole.domain.iam.IamOutboxMessage;
 import io.hlab.OpenConsole.infrastructure.iam.IamClient;
 import io.hlab.OpenConsole.infrastructure.iam.IamException;
+import io.hlab.OpenConsole.infrastructure.iam.IamRequestPriority;
 import io.hlab.OpenConsole.infrastructure.iam.IamRole;
+import io.hlab.OpenConsole.infrastructure.iam.IamUnavailableException;
+import io.hlab.OpenConsole.infrastructure.iam.ReactiveIamClient;
 import io.hlab.OpenConsole.infrastructure.security.JwtUtils;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
 
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Locale;
+import java.util.Map;
 
 /**
  * Role 관리 서비스
  * IAM 시스템에서 사용자의 role을 부여/제거/조회
+ *
+ * <p>로컬 DB에 직접 접근하지 않으므로 트랜잭션을 선언하지 않습니다.
+ * 원격 호출 동안 DB 커넥션을 잡지 않도록 트랜잭션 안에서 호출하지 마세요.
+ * outbox 기록/조회는 {@link IamOutboxService}가 자체 트랜잭션으로 처리합니다.
+ *
+ * <p>{@code *Async} 메소드는 {@link ReactiveIamClient}를 사용하여 요청 스레드를 점유하지 않고
+ * {@link Mono}로 결과를 반환합니다. Controller에서 그대로 반환하면 Servlet 비동기 처리로 응답됩니다.
+ *
+ * <p>{@code *Queued} 메소드는 IAM을 호출하지 않고 변경 요청을 outbox에 기록한 뒤 바로 반환하며,
+ * 실제 변경은 {@link IamOutboxWorker}가 재시도/순서를 보장하며 전달합니다.
  */
 @Slf4j
 @Service
 @RequiredArgsConstructor
-@Transactional
 public class RoleService {
 
     private final IamClient iamClient;
+    private final ReactiveIamClient reactiveIamClient;
     private final JwtUtils jwtUtils;
+    private final IamOutboxService outboxService;
+
+    /**
+     * 일괄 부여 시 동시에 진행할 사용자(email) 수
+     */
+    @Value("${zitadel.bulk.assign-concurrency:8}")
+    private int bulkAssignConcurrency = 8;
 
     /**
      * 사용자에게 role 부여
@@ -74,7 +105,6 @@ public class RoleService {
      * @return 사용자가 가진 role 목록
      * @throws IamException IAM API 호출 실패 시
      */
-    @Transactional(readOnly = true)
     public List<IamRole> getUserRoles(String email) throws IamException {
         // 1. Email로 subject 조회
         String subject = iamClient.getUserSubjectByEmail(email);
@@ -85,12 +115,153 @@ public class RoleService {
         return roles;
     }
 
+    /**
+     * 사용자에게 여러 role 부여 (논블로킹)
+     *
+     * @param email 사용자 이메일
+     * @param roles 부여할 role 목록
+     * @return 완료 시그널 (실패 시 IamException 에러 시그널)
+     */
+    public Mono<Void> assignRolesAsync(String email, List<IamRole> roles) {
+        // 1. Email로 subject 조회 → 2. Role 부여
+        return reactiveIamClient.getUserSubjectByEmail(email)
+                .flatMap(subject -> reactiveIamClient.assignRoles(subject, roles)
+                        .doOnSuccess(ignored -> log.info("Roles assigned: email={}, subject={}, roles={}", email, subject, roles)));
+    }
+
+    /**
+     * 사용자로부터 role 제거 (논블로킹)
+     *
+     * @param email 사용자 이메일
+     * @param role 제거할 role
+     * @return 완료 시그널 (실패 시 IamException 에러 시그널)
+     */
+    public Mono<Void> removeRoleAsync(String email, IamRole role) {
+        // 1. Email로 subject 조회 → 2. Role 제거
+        return reactiveIamClient.getUserSubjectByEmail(email)
+                .flatMap(subject -> reactiveIamClient.removeRole(subject, role)
+                        .doOnSuccess(ignored -> log.info("Role removed: email={}, subject={}, role={}", email, subject, role)));
+    }
+
+    /**
+     * 사용자에게 여러 role 부여 요청 (outbox, 논블로킹)
+     * subject 조회만 기다리고 IAM 변경은 기다리지 않습니다.
+     *
+     * @param email 사용자 이메일
+     * @param roles 부여할 role 목록
+     * @return 기록된 변경 요청 (사용자를 찾지 못하면 IamException 에러 시그널)
+     */
+    public Mono<IamOutboxMessage> assignRolesQueued(String email, List<IamRole> roles) {
+        return reactiveIamClient.getUserSubjectByEmail(email)
+                .publishOn(Schedulers.boundedElastic())
+                .map(subject -> outboxService.enqueueAssignRoles(subject, roles));
+    }
+
+    /**
+     * 사용자로부터 role 제거 요청 (outbox, 논블로킹)
+     *
+     * @param email 사용자 이메일
+     * @param role 제거할 role
+     * @return 기록된 변경 요청 (사용자를 찾지 못하면 IamException 에러 시그널)
+     */
+    public Mono<IamOutboxMessage> removeRoleQueued(String email, IamRole role) {
+        return reactiveIamClient.getUserSubjectByEmail(email)
+                .publishOn(Schedulers.boundedElastic())
+                .map(subject -> outboxService.enqueueRemoveRole(subject, role));
+    }
+
+    /**
+     * outbox에 기록된 변경 요청의 진행 상황 조회
+     */
+    public IamOutboxMessage getOperation(Long id) {
+        return outboxService.getMessage(id);
+    }
+
+    /**
+     * 사용자의 role 목록 조회 (논블로킹)
+     *
+     * @param email 사용자 이메일
+     * @return 사용자가 가진 role 목록 (실패 시 IamException 에러 시그널)
+     */
+    public Mono<List<IamRole>> getUserRolesAsync(String email) {
+        // 1. Email로 subject 조회 → 2. Role 조회
+        return reactiveIamClient.getUserSubjectByEmail(email)
+                .flatMap(subject -> reactiveIamClient.getUserRoles(subject)
+                        .doOnNext(roles -> log.info("User roles retrieved: email={}, subject={}, roles={}", email, subject, roles)));
+    }
+
+    /**
+     * 여러 사용자에게 role 일괄 부여 (논블로킹)
+     *
+     * <ol>
+     *   <li>요청의 모든 email을 {@link ReactiveIamClient#getUserSubjectsByEmails}로 묶어서 조회</li>
+     *   <li>email별로 role 부여를 최대 {@code zitadel.bulk.assign-concurrency}개까지 병렬 실행</li>
+     * </ol>
+     * 같은 email의 항목은 grant 병합 경쟁을 피하기 위해 순서대로 실행합니다.
+     * IAM 호출은 {@link IamRequestPriority#BULK} 우선순위로 실행되어 대화형 요청에 양보합니다.
+     * 항목별 실패(사용자 없음, role 부여 실패)는 결과에 담고 나머지 항목은 계속 처리하며,
+     * email 일괄 조회 자체가 실패한 경우에만 IamException 에러 시그널로 전파합니다.
+     *
+     * @param assignments 부여 요청 목록
+     * @return 요청 순서대로 정렬된 항목별 결과
+     */
+    public Mono<BulkRoleAssignmentResult> assignRolesBulk(List<BulkRoleAssignment> assignments) {
+        List<String> emails = assignments.stream()
+                .map(BulkRoleAssignment::email)
+                .distinct()
+                .toList();
+
+        return reactiveIamClient.getUserSubjectsByEmails(emails)
+                .flatMap(subjects -> {
+                    // email(대소문자 무시)별로 항목 인덱스를 묶음
+                    Map<String, List<Integer>> indexesByEmail = new LinkedHashMap<>();
+                    for (int i = 0; i < assignments.size(); i++) {
+                        indexesByEmail.computeIfAbsent(assignments.get(i).email().toLowerCase(Locale.ROOT),
+                                key -> new ArrayList<>()).add(i);
+                    }
+
+                    return Flux.fromIterable(indexesByEmail.values())
+                            .flatMap(indexes -> Flux.fromIterable(indexes)
+                                    .concatMap(index -> assignOne(index, assignments.get(index), subjects)),
+                                    bulkAssignConcurrency)
+                            .collectList()
+                            .map(BulkRoleAssignmentResult::of);
+                })
+                .doOnNext(result -> log.info("Roles assigned in bulk: total={}, succeeded={}, failed={}",
+                        result.total(), result.succeeded(), result.failed()))
+                // 대화형 요청보다 낮은 우선순위로 IAM 호출
+                .contextWrite(IamRequestPriority.bulk());
+    }
+
+    /**
+     * 일괄 부여 항목 하나 처리 (실패는 에러 시그널이 아닌 실패 결과로 반환)
+     */
+    private Mono<BulkRoleAssignmentResult.Item> assignOne(
+            int index, BulkRoleAssignment assignment, Map<String, String> subjects) {
+        String subject = subjects.get(assignment.email());
+        if (subject == null) {
+            return Mono.just(BulkRoleAssignmentResult.Item.failed(index, assignment,
+                    ErrorCode.IAM_USER_NOT_FOUND.getCode(), "사용자를 찾을 수 없습니다: email=" + assignment.email()));
+        }
+
+        return reactiveIamClient.assignRoles(subject, assignment.roles())
+                .thenReturn(BulkRoleAssignmentResult.Item.succeeded(index, assignment))
+                .onErrorResume(e -> {
+                    log.warn("Bulk role assignment failed: email={}, subject={}, roles={}, error={}",
+                            assignment.email(), subject, assignment.roles(), e.getMessage());
+                    ErrorCode errorCode = e instanceof IamUnavailableException
+                            ? ErrorCode.IAM_UNAVAILABLE
+                            : ErrorCode.IAM_ROLE_ASSIGN_FAILED;
+                    return Mono.just(BulkRoleAssignmentResult.Item.failed(index, assignment,
+                            errorCode.getCode(), e.getMessage()));
+                });
+    }
+
     /**
      * 현재 로그인한 사용자의 role 목록 조회
      * 
      * @return 현재 사용자가 가진 role 목록
      */
-    @Transactional(readOnly = true)
     public List<IamRole> getCurrentUserRoles() {
         return jwtUtils.getCurrentUserRoles();
     }
@@ -0,0 +1,29 @@
+package io.hlab.OpenConsole.application.user;
+
+/**
+ * 사용자 디렉터리 동기화 실행 결과
+ *
+ * @param syncRun 실행 ID (다른 노드가 실행 중이어서 건너뛰었으면 0)
+ * @param executed 실행 여부
+ * @param seen IAM에서 읽은 사용자 수
+ * @param upserted 새로 저장하거나 갱신한 사용자 수
+ * @param unchanged high-water mark 이후 변경이 없어 표식만 남긴 사용자 수
+ * @param skipped email이 없거나 길이 제한을 넘어 저장하지 않은 사용자 수 (Machine 사용자 등)
+ * @param conflicts 다른 사용자와 email이 겹쳐 저장하지 못한 사용자 수
+ * @param deleted IAM에서 사라져 삭제 상태로 표시한 사용자 수
+ */
+public record UserDirectorySyncResult(
+        long syncRun,
+        boolean executed,
+        long seen,
+        long upserted,
+        long unchanged,
+        long skipped,
+        long conflicts,
+        long deleted
+) {
+
+    public static UserDirectorySyncResult notExecuted() {
+        return new UserDirectorySyncResult(0, false, 0, 0, 0, 0, 0, 0);
+    }
+}
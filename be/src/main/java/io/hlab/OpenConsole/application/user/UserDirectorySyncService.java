@@ -0,0 +1,346 @@
+package io.hlab.OpenConsole.application.user;
+
+import io.hlab.OpenConsole.domain.user.User;
+import io.hlab.OpenConsole.domain.user.UserRepository;
+import io.hlab.OpenConsole.domain.user.UserSyncState;
+import io.hlab.OpenConsole.domain.user.UserSyncStateRepository;
+import io.hlab.OpenConsole.infrastructure.iam.IamDirectoryScanIncompleteException;
+import io.hlab.OpenConsole.infrastructure.iam.IamDirectoryUser;
+import io.hlab.OpenConsole.infrastructure.iam.IamRequestPriority;
+import io.hlab.OpenConsole.infrastructure.iam.IamUserChangedEvent;
+import io.hlab.OpenConsole.infrastructure.iam.ReactiveIamClient;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Stream;
+
+/**
+ * IAM → 로컬 사용자 디렉터리 동기화
+ * IAM의 사용자를 users 테이블에 반영하여 사용자 목록/email → subject 조회를 원격 호출 없이 처리할 수 있게 함
+ *
+ * <h3>동작</h3>
+ * <ol>
+ *   <li>lease를 획득한 노드 하나만 실행 ({@code user_sync_state}, 만료 시 다른 노드가 이어받음).
+ *       청크와 삭제 배치마다 lease를 연장하며, 연장하지 못하면(다른 노드가 이어받음) 삭제 감지 전에 중단</li>
+ *   <li>{@link ReactiveIamClient#streamUsers()}로 전체 사용자를 일괄 작업 우선순위로 순회하며
+ *       {@code zitadel.sync.chunk-size} 단위로 처리</li>
+ *   <li>IAM 변경 시각이 high-water mark 이후인 사용자만 JDBC batch로 upsert하고,
+ *       나머지는 동기화 표식만 갱신 (청크당 UPDATE 한 번, 로컬에 없거나 삭제 상태인 사용자는 upsert로 보충)</li>
+ *   <li>순회를 끝까지 마치면 이번 실행에서 확인되지 않은 사용자를 삭제 상태로 표시 (mark-and-sweep).
+ *       email이 없거나 너무 길어 저장하지 않는 사용자도 IAM에 있으므로 표식은 갱신합니다.</li>
+ *   <li>high-water mark를 실행 시작 시각 - {@code zitadel.sync.clock-skew}로 갱신</li>
+ * </ol>
+ * Zitadel v2 ListUsers는 변경 시각으로 필터/정렬할 수 없으므로 목록은 매번 전부 읽지만,
+ * DB 쓰기와 캐시 무효화는 변경된 사용자에게만 발생합니다.
+ * 비활성화/잠금은 {@code iam_state}로 반영되며, 삭제된 사용자의 행은 지우지 않고 상태만 바꿉니다.
+ * 순회가 중간에 실패하면 삭제 감지와 high-water mark 갱신을 하지 않으므로 다음 실행에서 다시 처리됩니다.
+ * 순회 중 IAM에서 많은 사용자가 삭제되어 일부를 건너뛰었을 수 있을 때({@link IamDirectoryScanIncompleteException})도
+ * 받은 사용자는 반영하되 같은 이유로 삭제 감지와 high-water mark 갱신을 하지 않습니다.
+ */
+@Slf4j
+@Service
+public class UserDirectorySyncService {
+
+    static final String SYNC_NAME = "iam-users";
+
+    private static final int MAX_EMAIL_LENGTH = 100;
+    private static final int MAX_NAME_LENGTH = 50;
+
+    private final UserRepository userRepository;
+    private final UserSyncStateRepository syncStateRepository;
+    private final ReactiveIamClient reactiveIamClient;
+    private final TransactionTemplate transactionTemplate;
+    private final ApplicationEventPublisher eventPublisher;
+    private final boolean enabled;
+    private final int chunkSize;
+    private final Duration lease;
+    private final Duration clockSkew;
+
+    public UserDirectorySyncService(
+            UserRepository userRepository,
+            UserSyncStateRepository syncStateRepository,
+            ReactiveIamClient reactiveIamClient,
+            TransactionTemplate transactionTemplate,
+            ApplicationEventPublisher eventPublisher,
+            @Value("${zitadel.sync.enabled:false}") boolean enabled,
+            @Value("${zitadel.sync.chunk-size:500}") int chunkSize,
+            @Value("${zitadel.sync.lease:30m}") Duration lease,
+            @Value("${zitadel.sync.clock-skew:1m}") Duration clockSkew) {
+        this.userRepository = userRepository;
+        this.syncStateRepository = syncStateRepository;
+        this.reactiveIamClient = reactiveIamClient;
+        this.transactionTemplate = transactionTemplate;
+        this.eventPublisher = eventPublisher;
+        this.enabled = enabled;
+        this.chunkSize = chunkSize;
+        this.lease = lease;
+        this.clockSkew = clockSkew;
+    }
+
+    /**
+     * 주기 실행 (zitadel.sync.enabled=true일 때만)
+     */
+    @Scheduled(initialDelayString = "${zitadel.sync.initial-delay:30s}", fixedDelayString = "${zitadel.sync.interval:5m}")
+    public void scheduledSync() {
+        if (!enabled) {
+            return;
+        }
+        try {
+            sync();
+        } catch (RuntimeException e) {
+            log.error("User directory sync failed", e);
+        }
+    }
+
+    /**
+     * 동기화 1회 실행 (완료될 때까지 블로킹)
+     * 다른 노드가 실행 중이면 실행하지 않고 바로 반환합니다.
+     *
+     * @return 실행 결과
+     */
+    public UserDirectorySyncResult sync() {
+        LocalDateTime startedAt = LocalDateTime.now(ZoneOffset.UTC);
+        long syncRun = System.currentTimeMillis();
+        if (!syncStateRepository.tryAcquireLease(SYNC_NAME, syncRun, startedAt, startedAt.plus(lease))) {
+            log.info("User directory sync skipped: another run holds the lease");
+            return UserDirectorySyncResult.notExecuted();
+        }
+
+        LocalDateTime highWaterMark = syncStateRepository.findByName(SYNC_NAME)
+                .map(UserSyncState::getHighWaterMark)
+                .orElse(null);
+        log.info("User directory sync started: syncRun={}, highWaterMark={}", syncRun, highWaterMark);
+        Counters counters = new Counters();
+
+        try {
+            // 청크 처리(JDBC)는 호출 스레드에서 실행하고, 다음 청크는 하나만 미리 받음
+            try (Stream<List<IamDirectoryUser>> chunks = reactiveIamClient.streamUsers()
+                    .buffer(chunkSize)
+                    .contextWrite(IamRequestPriority.bulk())
+                    .toStream(1)) {
+                chunks.forEach(chunk -> {
+                    syncChunk(chunk, highWaterMark, syncRun, counters);
+                    renewLease(syncRun);
+                });
+            } catch (IamDirectoryScanIncompleteException e) {
+                // 보이지 않은 사용자가 실제로 삭제된 것인지 알 수 없으므로 삭제 감지 없이 종료하고 다음 실행에서 다시 순회
+                log.warn("User directory scan incomplete, skipping deletion sweep: syncRun={}, seen={}, reason={}",
+                        syncRun, counters.seen, e.getMessage());
+                syncStateRepository.fail(SYNC_NAME, syncRun, LocalDateTime.now(ZoneOffset.UTC));
+                return counters.toResult(syncRun);
+            }
+
+            if (counters.seen > 0) {
+                renewLease(syncRun);
+                sweep(syncRun, counters);
+            } else {
+                // 조직 설정 오류 등으로 빈 목록을 받았을 때 전체 사용자를 삭제 처리하지 않음
+                log.warn("User directory sync read no users, skipping deletion sweep: syncRun={}", syncRun);
+            }
+            syncStateRepository.complete(SYNC_NAME, syncRun, startedAt.minus(clockSkew), LocalDateTime.now(ZoneOffset.UTC));
+        } catch (RuntimeException e) {
+            syncStateRepository.fail(SYNC_NAME, syncRun, LocalDateTime.now(ZoneOffset.UTC));
+            throw e;
+        }
+
+        UserDirectorySyncResult result = counters.toResult(syncRun);
+        log.info("User directory sync completed: syncRun={}, seen={}, upserted={}, unchanged={}, skipped={}, conflicts={}, deleted={}",
+                syncRun, result.seen(), result.upserted(), result.unchanged(), result.skipped(),
+                result.conflicts(), result.deleted());
+        return result;
+    }
+
+    /**
+     * 사용자 한 명을 IAM에서 다시 읽어 반영 (IAM 변경 알림 수신 시)
+     * 동기화 표식은 바꾸지 않으므로 진행 중인 동기화의 삭제 감지에 영향을 주지 않습니다.
+     * 동기화가 꺼져 있으면 아무것도 하지 않습니다.
+     *
+     * @param subject IAM의 사용자 ID
+     */
+    public void refreshUser(String subject) {
+        if (!enabled) {
+            return;
+        }
+        IamDirectoryUser directoryUser = reactiveIamClient.getDirectoryUser(subject).block();
+        User user = directoryUser != null ? toUser(directoryUser) : null;
+        if (user == null) {
+            log.debug("User directory refresh skipped: subject={}", subject);
+            return;
+        }
+        transactionTemplate.executeWithoutResult(status -> userRepository.upsertFromIam(List.of(user), null));
+        log.debug("User directory refreshed: subject={}, state={}", subject, user.getIamState());
+    }
+
+    /**
+     * 사용자를 삭제 상태로 표시 (IAM 삭제 알림 수신 시)
+     * 동기화가 꺼져 있으면 아무것도 하지 않습니다.
+     *
+     * @param subject IAM의 사용자 ID
+     */
+    public void markUserRemoved(String subject) {
+        if (!enabled) {
+            return;
+        }
+        // 삭제 상태는 삭제 감지 대상에서 제외되므로 표식 값(0)은 의미 없음
+        transactionTemplate.executeWithoutResult(status ->
+                userRepository.markIamDeleted(List.of(subject), LocalDateTime.now(ZoneOffset.UTC), 0L));
+        log.debug("User directory marked user deleted: subject={}", subject);
+    }
+
+    private void syncChunk(List<IamDirectoryUser> chunk, LocalDateTime highWaterMark, long syncRun, Counters counters) {
+        counters.seen += chunk.size();
+
+        List<User> changed = new ArrayList<>();
+        Map<String, User> unchanged = new LinkedHashMap<>();
+        Set<String> skipped = new LinkedHashSet<>();
+        for (IamDirectoryUser directoryUser : chunk) {
+            User user = toUser(directoryUser);
+            if (user == null) {
+                counters.skipped++;
+                if (directoryUser.subject() != null && !directoryUser.subject().isBlank()) {
+                    skipped.add(directoryUser.subject());
+                }
+            } else if (highWaterMark != null && user.getIamChangedAt() != null
+                    && !user.getIamChangedAt().isAfter(highWaterMark)) {
+                unchanged.put(user.getSubject(), user);
+            } else {
+                changed.add(user);
+            }
+        }
+
+        // 1. 변경 없는 사용자는 표식만 갱신, 표식이 안 남은 사용자(로컬에 없거나 삭제 상태)는 upsert 대상으로 보충
+        //    (이전 실행에서 잘못 삭제 처리된 사용자가 IAM 변경 없이 다시 보이면 여기서 상태가 복구됨)
+        if (!unchanged.isEmpty()) {
+            Integer marked = transactionTemplate.execute(status -> userRepository.markIamSynced(unchanged.keySet(), syncRun));
+            if (marked == null || marked < unchanged.size()) {
+                Set<String> live = userRepository.findLiveSubjects(unchanged.keySet());
+                unchanged.values().removeIf(user -> {
+                    if (live.contains(user.getSubject())) {
+                        return false;
+                    }
+                    changed.add(user);
+                    return true;
+                });
+            }
+            counters.unchanged += unchanged.size();
+        }
+
+        // 2. 저장하지 않는 사용자도 IAM에 있으므로, 기존 행이 있으면 표식만 갱신하여 삭제 감지에서 제외
+        if (!skipped.isEmpty()) {
+            transactionTemplate.execute(status -> userRepository.markIamSynced(skipped, syncRun));
+        }
+
+        // 3. 변경된 사용자 upsert (청크당 트랜잭션 1개)
+        if (!changed.isEmpty()) {
+            upsert(changed, syncRun, counters);
+        }
+        log.debug("User directory sync chunk processed: syncRun={}, users={}, changed={}, totalSeen={}",
+                syncRun, chunk.size(), changed.size(), counters.seen);
+    }
+
+    private void upsert(List<User> users, long syncRun, Counters counters) {
+        try {
+            transactionTemplate.executeWithoutResult(status -> userRepository.upsertFromIam(users, syncRun));
+            counters.upserted += users.size();
+            users.forEach(this::publishChanged);
+        } catch (DataIntegrityViolationException e) {
+            // 다른 사용자(subject)가 이미 같은 email을 쓰는 경우: 행 단위로 다시 저장하여 충돌한 행만 제외
+            log.warn("User directory sync batch conflicted, retrying row by row: syncRun={}, users={}", syncRun, users.size());
+            for (User user : users) {
+                try {
+                    transactionTemplate.executeWithoutResult(status -> userRepository.upsertFromIam(List.of(user), syncRun));
+                    counters.upserted++;
+                    publishChanged(user);
+                } catch (DataIntegrityViolationException rowException) {
+                    counters.conflicts++;
+                    log.warn("User directory sync conflict: subject={}, email={}", user.getSubject(), user.getEmail());
+                }
+            }
+        }
+    }
+
+    /**
+     * 이번 실행에서 확인되지 않은 사용자를 삭제 상태로 표시
+     * 표시한 사용자는 표식이 갱신되어 다음 조회에서 제외되므로 처음부터 반복 조회합니다.
+     */
+    private void sweep(long syncRun, Counters counters) {
+        LocalDateTime deletedAt = LocalDateTime.now(ZoneOffset.UTC);
+        List<String> subjects;
+        while (!(subjects = userRepository.findIamSubjectsNotSynced(syncRun, chunkSize)).isEmpty()) {
+            List<String> batch = subjects;
+            Integer deleted = transactionTemplate.execute(status -> userRepository.markIamDeleted(batch, deletedAt, syncRun));
+            counters.deleted += deleted != null ? deleted : 0;
+            batch.forEach(subject -> eventPublisher.publishEvent(IamUserChangedEvent.ofSubject(subject)));
+            log.info("User directory sync marked users deleted: syncRun={}, count={}", syncRun, batch.size());
+            renewLease(syncRun);
+        }
+    }
+
+    /**
+     * lease 연장 (다른 노드가 이어받았으면 이 실행의 표식으로는 삭제를 판단할 수 없으므로 중단)
+     */
+    private void renewLease(long syncRun) {
+        if (!syncStateRepository.renewLease(SYNC_NAME, syncRun, LocalDateTime.now(ZoneOffset.UTC).plus(lease))) {
+            throw new IllegalStateException("User directory sync lease lost: syncRun=" + syncRun);
+        }
+    }
+
+    private void publishChanged(User user) {
+        eventPublisher.publishEvent(new IamUserChangedEvent(user.getSubject(), user.getEmail()));
+    }
+
+    /**
+     * IAM 사용자를 저장할 엔티티로 변환 (이름이 없으면 email의 local part 사용)
+     *
+     * @return 저장할 수 없는 사용자(email 없음, 길이 초과)면 null
+     */
+    private static User toUser(IamDirectoryUser directoryUser) {
+        String subject = directoryUser.subject();
+        String email = directoryUser.email();
+        if (subject == null || subject.isBlank() || email == null || email.isBlank()
+                || email.length() > MAX_EMAIL_LENGTH || email.indexOf('@') < 0) {
+            return null;
+        }
+        String name = directoryUser.name();
+        if (name == null || name.isBlank()) {
+            name = email.substring(0, email.indexOf('@'));
+        }
+        if (name.length() > MAX_NAME_LENGTH) {
+            name = name.substring(0, MAX_NAME_LENGTH);
+        }
+        LocalDateTime changedAt = directoryUser.changedAt() != null
+                ? LocalDateTime.ofInstant(directoryUser.changedAt(), ZoneOffset.UTC)
+                : null;
+        return User.fromIam(subject, email, name, directoryUser.state(), changedAt);
+    }
+
+    /**
+     * 실행 중 집계 (호출 스레드에서만 갱신)
+     */
+    private static final class Counters {
+        private long seen;
+        private long upserted;
+        private long unchanged;
+        private long skipped;
+        private long conflicts;
+        private long deleted;
+
+        private UserDirectorySyncResult toResult(long syncRun) {
+            return new UserDirectorySyncResult(syncRun, true, seen, upserted, unchanged, skipped, conflicts, deleted);
+        }
+    }
+}
@@ -0,0 +1,37 @@
+package io.hlab.OpenConsole.application.user;
+
+import io.hlab.OpenConsole.common.exception.ErrorCode;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.MediaType;
+
+/**
+ * 사용자 가져오기 입력 형식
+ */
+@Getter
+@RequiredArgsConstructor
+public enum UserImportFormat {
+    /**
+     * CSV: {@code email,name} (첫 줄이 email로 시작하면 헤더로 간주)
+     */
+    CSV("text/csv"),
+
+    /**
+     * NDJSON: 한 줄에 JSON 객체 하나 ({@code {"email": "...", "name": "..."}})
+     */
+    NDJSON("application/x-ndjson");
+
+    private final String mediaType;
+
+    public static UserImportFormat fromContentType(String contentType) {
+        if (contentType != null) {
+            MediaType requested = MediaType.parseMediaType(contentType);
+            for (UserImportFormat format : values()) {
+                if (MediaType.parseMediaType(format.mediaType).includes(requested)) {
+                    return format;
+                }
+            }
+        }
+        throw ErrorCode.INVALID_INPUT.toException();
+    }
+}
@@ -0,0 +1,117 @@
+package io.hlab.OpenConsole.application.user;
+
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 사용자 가져오기 작업의 진행 상황과 행별 오류 보고서
+ * 가져오기 파이프라인의 여러 스레드에서 갱신되며, 진행 상황 조회 API에서 동시에 읽음
+ *
+ * <p>오류 보고서는 최대 {@code maxErrors}건까지만 보관하고, 전체 오류 건수는 별도로 집계합니다.
+ */
+@Getter
+public class UserImportJob {
+
+    public enum Status {
+        RUNNING,
+        COMPLETED,
+        FAILED
+    }
+
+    /**
+     * 행별 오류
+     *
+     * @param line 입력에서의 줄 번호
+     * @param email 사용자 이메일 (파싱 실패 시 null)
+     * @param code 오류 코드 (ErrorCode 또는 가져오기 전용 코드)
+     * @param message 오류 내용
+     */
+    public record RowError(long line, String email, String code, String message) {
+    }
+
+    private final String id;
+    private final UserImportFormat format;
+    private final boolean createInIam;
+    private final int maxErrors;
+    private final LocalDateTime startedAt = LocalDateTime.now();
+
+    private volatile Status status = Status.RUNNING;
+    private volatile LocalDateTime finishedAt;
+    private volatile String failureMessage;
+
+    private final AtomicLong rowsRead = new AtomicLong();
+    private final AtomicLong inserted = new AtomicLong();
+    private final AtomicLong skippedExisting = new AtomicLong();
+    private final AtomicLong invalid = new AtomicLong();
+    private final AtomicLong iamCreated = new AtomicLong();
+    private final AtomicLong iamFailed = new AtomicLong();
+    private final AtomicLong errorCount = new AtomicLong();
+    private final ConcurrentLinkedQueue<RowError> errors = new ConcurrentLinkedQueue<>();
+
+    public UserImportJob(String id, UserImportFormat format, boolean createInIam, int maxErrors) {
+        this.id = id;
+        this.format = format;
+        this.createInIam = createInIam;
+        this.maxErrors = maxErrors;
+    }
+
+    void addRowsRead(int count) {
+        rowsRead.addAndGet(count);
+    }
+
+    void addInserted(int count) {
+        inserted.addAndGet(count);
+    }
+
+    void markInvalid(UserImportRow row, String code, String message) {
+        invalid.incrementAndGet();
+        addError(row, code, message);
+    }
+
+    void markExisting(UserImportRow row, String code, String message) {
+        skippedExisting.incrementAndGet();
+        addError(row, code, message);
+    }
+
+    void markIamCreated() {
+        iamCreated.incrementAndGet();
+    }
+
+    void markIamFailed(UserImportRow row, String code, String message) {
+        iamFailed.incrementAndGet();
+        addError(row, code, message);
+    }
+
+    void complete() {
+        finishedAt = LocalDateTime.now();
+        status = Status.COMPLETED;
+    }
+
+    void fail(String message) {
+        failureMessage = message;
+        finishedAt = LocalDateTime.now();
+        status = Status.FAILED;
+    }
+
+    private void addError(UserImportRow row, String code, String message) {
+        if (errorCount.incrementAndGet() <= maxErrors) {
+            errors.add(new RowError(row.line(), row.email(), code, message));
+        }
+    }
+
+    /**
+     * 보관 중인 오류 목록 (최대 maxErrors건, 발생 순서)
+     */
+    public List<RowError> getErrors() {
+        return new ArrayList<>(errors);
+    }
+
+    public boolean isErrorsTruncated() {
+        return errorCount.get() > maxErrors;
+    }
+}
@@ -0,0 +1,170 @@
+package io.hlab.OpenConsole.application.user;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.io.BufferedReader;
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Locale;
+import java.util.NoSuchElementException;
+
+/**
+ * 사용자 가져오기 입력 스트림 리더
+ * 입력을 한 줄씩 읽어 {@link UserImportRow}로 변환하며, 전체 내용을 메모리에 올리지 않음
+ *
+ * <p>파싱할 수 없는 줄은 예외 대신 {@link UserImportRow#invalid}로 반환하여 나머지 행은 계속 처리합니다.
+ * 한 번만 순회할 수 있습니다.
+ */
+public class UserImportReader implements Iterable<UserImportRow>, Closeable {
+
+    private static final char BOM = '\uFEFF';
+
+    private final UserImportFormat format;
+    private final BufferedReader reader;
+    private final ObjectMapper objectMapper;
+    private boolean iterated;
+
+    public UserImportReader(UserImportFormat format, InputStream input, ObjectMapper objectMapper) {
+        this.format = format;
+        this.reader = new BufferedReader(new InputStreamReader(input, StandardCharsets.UTF_8));
+        this.objectMapper = objectMapper;
+    }
+
+    @Override
+    public Iterator<UserImportRow> iterator() {
+        if (iterated) {
+            throw new IllegalStateException("UserImportReader는 한 번만 순회할 수 있습니다.");
+        }
+        iterated = true;
+        return new RowIterator();
+    }
+
+    @Override
+    public void close() throws IOException {
+        reader.close();
+    }
+
+    private UserImportRow parse(long lineNumber, String line) {
+        return switch (format) {
+            case CSV -> parseCsv(lineNumber, line);
+            case NDJSON -> parseNdjson(lineNumber, line);
+        };
+    }
+
+    private UserImportRow parseCsv(long lineNumber, String line) {
+        List<String> fields = splitCsv(line);
+        if (fields == null) {
+            return UserImportRow.invalid(lineNumber, "CSV 형식이 올바르지 않습니다 (닫히지 않은 따옴표).");
+        }
+        String email = fields.get(0).trim();
+        String name = fields.size() > 1 ? fields.get(1).trim() : null;
+        return UserImportRow.of(lineNumber, email, name);
+    }
+
+    private UserImportRow parseNdjson(long lineNumber, String line) {
+        try {
+            JsonNode node = objectMapper.readTree(line);
+            if (!node.isObject()) {
+                return UserImportRow.invalid(lineNumber, "JSON 객체가 아닙니다.");
+            }
+            String email = node.path("email").isTextual() ? node.get("email").asText().trim() : null;
+            String name = node.path("name").isTextual() ? node.get("name").asText().trim() : null;
+            return UserImportRow.of(lineNumber, email, name);
+        } catch (JsonProcessingException e) {
+            return UserImportRow.invalid(lineNumber, "JSON 형식이 올바르지 않습니다: " + e.getOriginalMessage());
+        }
+    }
+
+    /**
+     * 한 줄의 CSV를 필드로 분리 (RFC 4180의 따옴표/이스케이프 지원, 여러 줄에 걸친 필드는 미지원)
+     *
+     * @return 필드 목록, 따옴표가 닫히지 않았으면 null
+     */
+    static List<String> splitCsv(String line) {
+        List<String> fields = new ArrayList<>();
+        StringBuilder field = new StringBuilder();
+        boolean quoted = false;
+        for (int i = 0; i < line.length(); i++) {
+            char c = line.charAt(i);
+            if (quoted) {
+                if (c == '"' && i + 1 < line.length() && line.charAt(i + 1) == '"') {
+                    field.append('"');
+                    i++;
+                } else if (c == '"') {
+                    quoted = false;
+                } else {
+                    field.append(c);
+                }
+            } else if (c == '"') {
+                quoted = true;
+            } else if (c == ',') {
+                fields.add(field.toString());
+                field.setLength(0);
+            } else {
+                field.append(c);
+            }
+        }
+        if (quoted) {
+            return null;
+        }
+        fields.add(field.toString());
+        return fields;
+    }
+
+    private class RowIterator implements Iterator<UserImportRow> {
+        private long lineNumber;
+        private UserImportRow next;
+        private boolean headerChecked;
+
+        @Override
+        public boolean hasNext() {
+            if (next != null) {
+                return true;
+            }
+            try {
+                String line;
+                while ((line = reader.readLine()) != null) {
+                    lineNumber++;
+                    // UTF-8 BOM 제거 (엑셀에서 저장한 CSV 등)
+                    if (lineNumber == 1 && !line.isEmpty() && line.charAt(0) == BOM) {
+                        line = line.substring(1);
+                    }
+                    if (line.isBlank()) {
+                        continue;
+                    }
+                    // CSV 헤더(email,name) 건너뛰기
+                    if (format == UserImportFormat.CSV && !headerChecked) {
+                        headerChecked = true;
+                        if (line.strip().toLowerCase(Locale.ROOT).startsWith("email")) {
+                            continue;
+                        }
+                    }
+                    next = parse(lineNumber, line);
+                    return true;
+                }
+                return false;
+            } catch (IOException e) {
+                throw new UncheckedIOException("가져오기 입력을 읽는 중 오류가 발생했습니다.", e);
+            }
+        }
+
+        @Override
+        public UserImportRow next() {
+            if (!hasNext()) {
+                throw new NoSuchElementException();
+            }
+            UserImportRow row = next;
+            next = null;
+            return row;
+        }
+    }
+}
@@ -0,0 +1,24 @@
+package io.hlab.OpenConsole.application.user;
+
+/**
+ * 가져오기 입력의 한 행
+ *
+ * @param line 입력에서의 줄 번호 (1부터)
+ * @param email 사용자 이메일
+ * @param name 사용자 이름
+ * @param error 파싱 실패 사유, 정상 행이면 null
+ */
+public record UserImportRow(long line, String email, String name, String error) {
+
+    public static UserImportRow of(long line, String email, String name) {
+        return new UserImportRow(line, email, name, null);
+    }
+
+    public static UserImportRow invalid(long line, String error) {
+        return new UserImportRow(line, null, null, error);
+    }
+
+    public UserImportRow withName(String name) {
+        return new UserImportRow(line, email, name, error);
+    }
+}
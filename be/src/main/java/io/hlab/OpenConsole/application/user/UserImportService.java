@@ -0,0 +1,239 @@
+package io.hlab.OpenConsole.application.user;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.hlab.OpenConsole.common.exception.ErrorCode;
+import io.hlab.OpenConsole.domain.user.User;
+import io.hlab.OpenConsole.domain.user.UserRepository;
+import io.hlab.OpenConsole.infrastructure.iam.IamRequestPriority;
+import io.hlab.OpenConsole.infrastructure.iam.ReactiveIamClient;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.regex.Pattern;
+
+/**
+ * 사용자 대량 가져오기 서비스
+ * CSV/NDJSON 입력을 스트리밍으로 읽어 청크 단위로 DB에 저장하고, 선택적으로 IAM에도 사용자를 생성
+ *
+ * <h3>파이프라인</h3>
+ * <ol>
+ *   <li>입력을 한 줄씩 읽어 {@code app.user-import.chunk-size} 단위로 묶음 (전체를 메모리에 올리지 않음)</li>
+ *   <li>청크마다 검증 → 파일 내 중복 제거 → IN 쿼리 한 번으로 기존 email 제외 → JDBC batch insert (청크당 트랜잭션 1개)</li>
+ *   <li>{@code createInIam=true}면 저장된 행을 최대 {@code app.user-import.iam-concurrency}개씩 병렬로 IAM에 생성</li>
+ * </ol>
+ * 각 단계는 다음 청크를 하나만 미리 요청하므로, IAM이나 DB가 느려지면 입력 읽기도 함께 멈춥니다(backpressure).
+ * 입력 읽기와 DB 저장은 boundedElastic 스레드에서, IAM 호출은 WebClient 이벤트 루프에서 실행됩니다.
+ *
+ * <p>진행 상황은 작업 ID로 {@link #getJob(String)}에서 조회할 수 있으며,
+ * 완료 후 {@code app.user-import.retention} 동안 보관됩니다.
+ */
+@Slf4j
+@Service
+public class UserImportService {
+
+    private static final Pattern EMAIL_PATTERN = Pattern.compile("^[^@\\s]+@[^@\\s]+\\.[^@\\s]+$");
+    private static final int MAX_EMAIL_LENGTH = 100;
+    private static final int MAX_NAME_LENGTH = 50;
+
+    private final UserRepository userRepository;
+    private final ReactiveIamClient reactiveIamClient;
+    private final TransactionTemplate transactionTemplate;
+    private final ObjectMapper objectMapper;
+    private final int chunkSize;
+    private final int maxErrors;
+    private final int iamConcurrency;
+    private final Cache<String, UserImportJob> jobs;
+
+    public UserImportService(
+            UserRepository userRepository,
+            ReactiveIamClient reactiveIamClient,
+            TransactionTemplate transactionTemplate,
+            ObjectMapper objectMapper,
+            @Value("${app.user-import.chunk-size:1000}") int chunkSize,
+            @Value("${app.user-import.max-errors:1000}") int maxErrors,
+            @Value("${app.user-import.iam-concurrency:8}") int iamConcurrency,
+            @Value("${app.user-import.retention:1h}") Duration retention) {
+        this.userRepository = userRepository;
+        this.reactiveIamClient = reactiveIamClient;
+        this.transactionTemplate = transactionTemplate;
+        this.objectMapper = objectMapper;
+        this.chunkSize = chunkSize;
+        this.maxErrors = maxErrors;
+        this.iamConcurrency = iamConcurrency;
+        this.jobs = Caffeine.newBuilder()
+                .expireAfterWrite(retention)
+                .build();
+    }
+
+    /**
+     * 입력 스트림에서 사용자를 가져옴 (입력을 모두 처리할 때까지 블로킹)
+     *
+     * @param importId 클라이언트가 지정한 작업 ID (진행 상황 조회용, null이면 생성)
+     * @param format 입력 형식
+     * @param input 요청 본문 스트림
+     * @param createInIam IAM에도 사용자를 생성할지 여부
+     * @return 완료된 작업 (진행 상황 및 오류 보고서)
+     */
+    public UserImportJob importUsers(String importId, UserImportFormat format, InputStream input, boolean createInIam) {
+        String jobId = importId != null && !importId.isBlank() ? importId : UUID.randomUUID().toString();
+        UserImportJob job = new UserImportJob(jobId, format, createInIam, maxErrors);
+        if (jobs.asMap().putIfAbsent(jobId, job) != null) {
+            throw ErrorCode.USER_IMPORT_ALREADY_EXISTS.toException();
+        }
+        log.info("User import started: importId={}, format={}, createInIam={}", jobId, format, createInIam);
+
+        try (UserImportReader reader = new UserImportReader(format, input, objectMapper)) {
+            Flux.fromIterable(reader)
+                    // 입력 읽기(블로킹 I/O)와 이후 요청(request)을 모두 boundedElastic에서 실행
+                    .subscribeOn(Schedulers.boundedElastic())
+                    .buffer(chunkSize)
+                    .concatMap(chunk -> Mono.fromCallable(() -> importChunk(chunk, job)), 1)
+                    .concatMap(inserted -> createInIam ? createInIam(inserted, job) : Mono.empty(), 1)
+                    .then()
+                    .block();
+            job.complete();
+        } catch (RuntimeException | IOException e) {
+            log.error("User import failed: importId={}, rowsRead={}", jobId, job.getRowsRead().get(), e);
+            job.fail(e.getMessage());
+            return job;
+        }
+
+        log.info("User import completed: importId={}, rowsRead={}, inserted={}, skippedExisting={}, invalid={}, iamCreated={}, iamFailed={}",
+                jobId, job.getRowsRead().get(), job.getInserted().get(), job.getSkippedExisting().get(),
+                job.getInvalid().get(), job.getIamCreated().get(), job.getIamFailed().get());
+        return job;
+    }
+
+    /**
+     * 가져오기 작업 조회 (진행 중이거나 보관 기간 내의 완료된 작업)
+     */
+    public UserImportJob getJob(String importId) {
+        UserImportJob job = jobs.getIfPresent(importId);
+        if (job == null) {
+            throw ErrorCode.USER_IMPORT_NOT_FOUND.toException();
+        }
+        return job;
+    }
+
+    /**
+     * 청크 하나를 검증/중복 제거 후 DB에 저장
+     *
+     * @return 실제로 저장된 행
+     */
+    private List<UserImportRow> importChunk(List<UserImportRow> chunk, UserImportJob job) {
+        job.addRowsRead(chunk.size());
+
+        // 1. 검증 및 파일(청크) 내 중복 제거
+        Map<String, UserImportRow> candidates = new LinkedHashMap<>();
+        for (UserImportRow row : chunk) {
+            UserImportRow validated = validate(row, job);
+            if (validated != null && candidates.putIfAbsent(validated.email(), validated) != null) {
+                job.markInvalid(validated, "DUPLICATE_IN_FILE", "파일 안에 같은 email이 이미 있습니다.");
+            }
+        }
+
+        // 2. 이미 존재하는 email 제외 (IN 쿼리 한 번, 이전 청크에서 저장된 email 포함)
+        Set<String> existing = userRepository.findExistingEmails(candidates.keySet());
+        List<UserImportRow> toInsert = new ArrayList<>(candidates.size());
+        for (UserImportRow row : candidates.values()) {
+            if (existing.contains(row.email())) {
+                job.markExisting(row, ErrorCode.USER_ALREADY_EXISTS.getCode(), ErrorCode.USER_ALREADY_EXISTS.getMessage());
+            } else {
+                toInsert.add(row);
+            }
+        }
+
+        // 3. JDBC batch insert (청크당 트랜잭션 1개)
+        List<UserImportRow> inserted = insert(toInsert, job);
+        log.debug("User import chunk processed: importId={}, rows={}, inserted={}, totalRead={}",
+                job.getId(), chunk.size(), inserted.size(), job.getRowsRead().get());
+        return inserted;
+    }
+
+    private List<UserImportRow> insert(List<UserImportRow> rows, UserImportJob job) {
+        try {
+            transactionTemplate.executeWithoutResult(status -> userRepository.insertAll(toUsers(rows)));
+            job.addInserted(rows.size());
+            return rows;
+        } catch (DataIntegrityViolationException e) {
+            // 확인 이후 다른 요청이 같은 email을 저장한 경우: 행 단위로 다시 저장하여 충돌한 행만 제외
+            log.warn("User import batch insert conflicted, retrying row by row: importId={}, rows={}", job.getId(), rows.size());
+            List<UserImportRow> inserted = new ArrayList<>(rows.size());
+            for (UserImportRow row : rows) {
+                try {
+                    transactionTemplate.executeWithoutResult(status -> userRepository.insertAll(toUsers(List.of(row))));
+                    job.addInserted(1);
+                    inserted.add(row);
+                } catch (DataIntegrityViolationException rowException) {
+                    job.markExisting(row, ErrorCode.USER_ALREADY_EXISTS.getCode(), ErrorCode.USER_ALREADY_EXISTS.getMessage());
+                }
+            }
+            return inserted;
+        }
+    }
+
+    /**
+     * 저장된 행을 IAM에 생성 (행별 실패는 오류 보고서에 기록하고 계속 진행)
+     * 일괄 작업 우선순위로 호출하여 대화형 요청의 IAM 호출에 양보합니다.
+     */
+    private Mono<Void> createInIam(List<UserImportRow> rows, UserImportJob job) {
+        return Flux.fromIterable(rows)
+                .flatMap(row -> reactiveIamClient.createUser(row.email(), row.name())
+                        .doOnNext(subject -> job.markIamCreated())
+                        .onErrorResume(e -> {
+                            job.markIamFailed(row, ErrorCode.IAM_ERROR.getCode(), e.getMessage());
+                            return Mono.empty();
+                        }), iamConcurrency)
+                .then()
+                .contextWrite(IamRequestPriority.bulk());
+    }
+
+    /**
+     * 행 검증 (이름이 없으면 email의 local part 사용)
+     *
+     * @return 검증된 행, 유효하지 않으면 오류를 기록하고 null
+     */
+    private UserImportRow validate(UserImportRow row, UserImportJob job) {
+        if (row.error() != null) {
+            job.markInvalid(row, ErrorCode.INVALID_INPUT.getCode(), row.error());
+            return null;
+        }
+        String email = row.email();
+        if (email == null || email.isBlank() || email.length() > MAX_EMAIL_LENGTH || !EMAIL_PATTERN.matcher(email).matches()) {
+            job.markInvalid(row, ErrorCode.INVALID_INPUT.getCode(), "올바른 이메일 형식이 아닙니다.");
+            return null;
+        }
+        String name = row.name();
+        if (name == null || name.isBlank()) {
+            name = email.substring(0, email.indexOf('@'));
+        }
+        if (name.length() > MAX_NAME_LENGTH) {
+            job.markInvalid(row, ErrorCode.INVALID_INPUT.getCode(), "이름은 50자 이하여야 합니다.");
+            return null;
+        }
+        return row.withName(name);
+    }
+
+    private static List<User> toUsers(List<UserImportRow> rows) {
+        return rows.stream()
+                .map(row -> User.create(row.email(), row.name()))
+                .toList();
+    }
+}
@@ -0,0 +1,68 @@
+package io.hlab.OpenConsole.application.user;
+
+import io.hlab.OpenConsole.domain.user.User;
+import io.hlab.OpenConsole.infrastructure.iam.IamRole;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Async;
+import org.springframework.stereotype.Service;
+
+import java.util.List;
+
+/**
+ * OAuth2 로그인 사용자의 JIT 프로비저닝 (로그인 응답 경로 밖에서 실행)
+ *
+ * <ul>
+ *   <li>로그인 성공 핸들러는 요청만 넘기고 바로 리다이렉트하며, 실제 처리는 {@code applicationTaskExecutor}에서 실행</li>
+ *   <li>사용자 저장은 email 기준 멱등({@link UserService#provisionUser})이므로 매 로그인마다 호출해도 되고,
+ *       여러 탭에서 동시에 로그인해도 사용자와 기본 role 부여 요청은 한 번만 기록됨</li>
+ *   <li>기본 role 부여는 outbox에 기록되어 {@code IamOutboxWorker}가 재시도하며 전달</li>
+ *   <li>저장이나 커밋이 실패하면(DB 장애 등) 로그만 남기며, 다음 로그인에서 다시 시도됨</li>
+ * </ul>
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class UserProvisioningService {
+
+    /**
+     * 첫 로그인 사용자에게 부여할 기본 role
+     * TODO: 기본 role은 설정으로 관리하거나 사용자 입력으로 받을 수 있음
+     */
+    private static final List<IamRole> DEFAULT_ROLES = List.of(IamRole.USER_A);
+
+    private final UserService userService;
+
+    /**
+     * 로그인한 사용자가 없으면 생성하고, 첫 로그인이면(디렉터리 동기화가 먼저 만든 사용자 포함) 기본 role 부여 요청 기록 (비동기)
+     *
+     * @param subject IAM 사용자 ID
+     * @param email OIDC email (없으면 subject 기반 email 사용)
+     * @param fullName OIDC 이름 (없으면 email의 local part 사용)
+     */
+    @Async
+    public void provisionOnLogin(String subject, String email, String fullName) {
+        String userEmail = (email != null && !email.isBlank())
+                ? email
+                : subject + "@zitadel.local"; // email이 없을 경우 (드물지만 방어적 처리)
+        String userName = fullName;
+        if (userName == null || userName.isBlank()) {
+            userName = userEmail.substring(0, userEmail.indexOf("@"));
+        }
+
+        try {
+            if (userService.provisionUser(User.create(userEmail, userName), subject, DEFAULT_ROLES)) {
+                if (email == null || email.isBlank()) {
+                    log.warn("OAuth2 user email is missing. Using subject-based email. subject={}, generatedEmail={}",
+                            subject, userEmail);
+                }
+                log.info("First login, default role queued: email={}, subject={}, roles={}",
+                        userEmail, subject, DEFAULT_ROLES);
+            }
+        } catch (RuntimeException e) {
+            // DataAccessException, 커밋 실패(TransactionSystemException) 등 어떤 실패도 @Async 밖으로 던지지 않음
+            log.error("JIT user provisioning failed, will retry on next login: email={}, subject={}, error={}",
+                    userEmail, subject, e.getMessage());
+        }
+    }
+}
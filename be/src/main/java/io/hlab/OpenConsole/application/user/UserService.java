@@ -1,13 +1,18 @@
 package io.hlab.OpenConsole.application.user;
 
+import io.hlab.OpenConsole.application.iam.IamOutboxService;
 import io.hlab.OpenConsole.common.exception.ErrorCode;
 import io.hlab.OpenConsole.domain.user.User;
 import io.hlab.OpenConsole.domain.user.UserRepository;
+import io.hlab.OpenConsole.infrastructure.iam.IamRole;
+import io.hlab.OpenConsole.infrastructure.iam.IamUserChangedEvent;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.List;
 import java.util.Optional;
 
 @Slf4j
@@ -16,6 +21,8 @@ import java.util.Optional;
 @Transactional
 public class UserService {
     private final UserRepository userRepository;
+    private final ApplicationEventPublisher eventPublisher;
+    private final IamOutboxService outboxService;
 
     /**
      * 사용자 생성
@@ -69,6 +76,36 @@ public class UserService {
         return savedUser;
     }
 
+    /**
+     * 첫 로그인 사용자 생성 (JIT, email 기준 멱등)
+     * 사용자가 없을 때만 사용자 저장과 기본 role 부여 요청(outbox)을 한 트랜잭션으로 기록하므로,
+     * 로그인은 IAM 응답을 기다리지 않고 role 부여는 실패해도 재시도됩니다.
+     * 디렉터리 동기화가 먼저 만든 사용자는 행이 이미 있으므로 동기화가 남긴 표식({@link User#getDefaultRolesPending})으로
+     * 첫 로그인인지 판단해 기본 role 부여 요청을 기록합니다.
+     * 같은 사용자가 동시에 로그인해도 사용자와 role 부여 요청은 한 번만 기록됩니다.
+     *
+     * @param user User 엔티티
+     * @param subject IAM 사용자 ID
+     * @param defaultRoles 부여할 기본 role
+     * @return 기본 role 부여 요청을 기록했으면 true (첫 로그인), 이미 처리된 사용자면 false
+     */
+    public boolean provisionUser(User user, String subject, List<IamRole> defaultRoles) {
+        if (userRepository.insertIfAbsent(user)) {
+            log.info("User created: email={}, subject={}", user.getEmail(), subject);
+        } else if (userRepository.claimDefaultRoles(user.getEmail())) {
+            log.info("First login of synced user: email={}, subject={}", user.getEmail(), subject);
+        } else {
+            log.debug("User already provisioned: email={}", user.getEmail());
+            return false;
+        }
+        if (!defaultRoles.isEmpty()) {
+            outboxService.enqueueAssignRoles(subject, defaultRoles);
+        }
+        // 이전에 "없는 사용자"로 캐시된 email이 있을 수 있으므로 IAM 조회 캐시 무효화
+        eventPublisher.publishEvent(new IamUserChangedEvent(subject, user.getEmail()));
+        return true;
+    }
+
     public void updateUser(Long id, String name) {
         User user = getUser(id);
         user.updateName(name);
@@ -76,11 +113,12 @@ public class UserService {
     }
 
     public void deleteUser(Long id) {
-        if (!userRepository.findById(id).isPresent()) {
-            throw ErrorCode.USER_NOT_FOUND.toException();
-        }
+        User user = getUser(id);
         userRepository.deleteById(id);
         log.info("User deleted: id={}", id);
+
+        // IAM 조회 캐시(email → subject 등) 무효화
+        eventPublisher.publishEvent(IamUserChangedEvent.ofEmail(user.getEmail()));
     }
 }
 
@@ -9,13 +9,19 @@ public enum ErrorCode {
     // User 관련
     USER_NOT_FOUND("USER_NOT_FOUND", "사용자를 찾을 수 없습니다.", 404),
     USER_ALREADY_EXISTS("USER_ALREADY_EXISTS", "이미 존재하는 사용자입니다.", 409),
+    USER_IMPORT_NOT_FOUND("USER_IMPORT_NOT_FOUND", "사용자 가져오기 작업을 찾을 수 없습니다.", 404),
+    USER_IMPORT_ALREADY_EXISTS("USER_IMPORT_ALREADY_EXISTS", "같은 ID의 사용자 가져오기 작업이 이미 있습니다.", 409),
     
     // IAM 관련
     IAM_ERROR("IAM_ERROR", "IAM 처리 중 오류가 발생했습니다.", 500),
+    IAM_UNAVAILABLE("IAM_UNAVAILABLE", "IAM을 일시적으로 사용할 수 없습니다. 잠시 후 다시 시도해주세요.", 503),
     IAM_USER_NOT_FOUND("IAM_USER_NOT_FOUND", "IAM에서 사용자를 찾을 수 없습니다.", 404),
     IAM_ROLE_ASSIGN_FAILED("IAM_ROLE_ASSIGN_FAILED", "Role 부여에 실패했습니다.", 500),
     IAM_ROLE_REMOVE_FAILED("IAM_ROLE_REMOVE_FAILED", "Role 제거에 실패했습니다.", 500),
     IAM_ROLE_QUERY_FAILED("IAM_ROLE_QUERY_FAILED", "Role 조회에 실패했습니다.", 500),
+    IAM_EVENT_DISABLED("IAM_EVENT_DISABLED", "IAM 변경 알림 수신이 비활성화되어 있습니다.", 404),
+    IAM_EVENT_SIGNATURE_INVALID("IAM_EVENT_SIGNATURE_INVALID", "IAM 변경 알림의 서명이 올바르지 않습니다.", 401),
+    IAM_OPERATION_NOT_FOUND("IAM_OPERATION_NOT_FOUND", "IAM 변경 요청을 찾을 수 없습니다.", 404),
     
     // 공통
     INVALID_INPUT("INVALID_INPUT", "잘못된 입력입니다.", 400),
@@ -2,6 +2,7 @@ package io.hlab.OpenConsole.common.exception;
 
 import io.hlab.OpenConsole.common.dto.ApiResponse;
 import io.hlab.OpenConsole.infrastructure.iam.IamException;
+import io.hlab.OpenConsole.infrastructure.iam.IamUnavailableException;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
@@ -36,6 +37,20 @@ public class GlobalExceptionHandler {
         return ResponseEntity.status(ErrorCode.IAM_ERROR.getStatus()).body(response);
     }
 
+    /**
+     * IAM 일시 장애 (시간 초과, circuit open, 동시 호출 한도 초과, 연결 실패)
+     * 재시도 가능한 상태이므로 500 대신 503으로 응답합니다.
+     */
+    @ExceptionHandler(IamUnavailableException.class)
+    public ResponseEntity<ApiResponse<Object>> handleIamUnavailableException(IamUnavailableException e) {
+        log.warn("IAM 사용 불가: {}", e.getMessage());
+        ApiResponse<Object> response = ApiResponse.error(
+                ErrorCode.IAM_UNAVAILABLE.getCode(),
+                ErrorCode.IAM_UNAVAILABLE.getMessage()
+        );
+        return ResponseEntity.status(ErrorCode.IAM_UNAVAILABLE.getStatus()).body(response);
+    }
+
     @ExceptionHandler(MethodArgumentNotValidException.class)
     public ResponseEntity<ApiResponse<Map<String, String>>> handleValidationException(
             MethodArgumentNotValidException e) {
@@ -0,0 +1,37 @@
+package io.hlab.OpenConsole.domain.iam;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.Table;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * 수신한 IAM 변경 알림 (inbox)
+ * IAM은 같은 알림을 여러 번 보낼 수 있으므로(at-least-once) 이벤트 ID로 한 번만 처리되도록 기록
+ *
+ * <p>보관 기간({@code zitadel.webhook.inbox-retention})이 지나면 삭제됩니다.
+ */
+@Entity
+@Table(name = "iam_event_inbox", indexes = @Index(name = "idx_iam_event_inbox_received_at", columnList = "received_at"))
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class IamEventInbox {
+    @Id
+    @Column(name = "event_id", length = 200)
+    private String eventId;
+
+    @Column(name = "event_type", nullable = false, length = 100)
+    private String eventType;
+
+    @Column(length = 200)
+    private String subject;
+
+    @Column(name = "received_at", nullable = false)
+    private LocalDateTime receivedAt;
+}
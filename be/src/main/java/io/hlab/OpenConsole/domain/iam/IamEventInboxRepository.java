@@ -0,0 +1,20 @@
+package io.hlab.OpenConsole.domain.iam;
+
+import java.time.LocalDateTime;
+
+public interface IamEventInboxRepository {
+
+    /**
+     * 이벤트 기록 (이미 기록된 이벤트 ID면 기록하지 않음)
+     *
+     * @return 새로 기록했으면 true, 이미 처리한 이벤트면 false
+     */
+    boolean insertIfAbsent(String eventId, String eventType, String subject, LocalDateTime receivedAt);
+
+    /**
+     * 보관 기간이 지난 기록 삭제
+     *
+     * @return 삭제된 행 수
+     */
+    int deleteReceivedBefore(LocalDateTime threshold);
+}
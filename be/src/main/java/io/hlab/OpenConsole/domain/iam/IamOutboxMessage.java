@@ -0,0 +1,115 @@
+package io.hlab.OpenConsole.domain.iam;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.Table;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * IAM 변경 요청 outbox (iam_outbox)
+ * 로컬 변경과 같은 트랜잭션에서 기록하고, 커밋 후 워커가 IAM에 전달
+ *
+ * <ul>
+ *   <li><b>순서</b>: 같은 subject의 메시지는 id 순서대로 하나씩 전달 (앞 메시지가 끝나기 전에는 다음 메시지를 가져가지 않음)</li>
+ *   <li><b>재시도</b>: 일시적인 실패는 {@code nextAttemptAt}까지 기다렸다가 다시 전달</li>
+ *   <li><b>dead letter</b>: 재시도 한도를 넘거나 재시도해도 성공할 수 없는 실패는 {@link Status#DEAD}로 남기고 다음 메시지로 진행</li>
+ * </ul>
+ * 시각은 모두 UTC입니다.
+ */
+@Entity
+@Table(name = "iam_outbox", indexes = {
+        @Index(name = "idx_iam_outbox_status_next_attempt", columnList = "status, next_attempt_at"),
+        @Index(name = "idx_iam_outbox_subject", columnList = "subject, id")
+})
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class IamOutboxMessage {
+
+    public enum Operation {
+        /** role 부여 (기존 role과 병합) */
+        ASSIGN_ROLES,
+        /** role 제거 */
+        REMOVE_ROLE
+    }
+
+    public enum Status {
+        /** 전달 대기 (재시도 대기 포함) */
+        PENDING,
+        /** 워커가 전달 중 (leaseUntil이 지나면 다시 PENDING) */
+        PROCESSING,
+        /** 전달 완료 */
+        DELIVERED,
+        /** 전달 포기 (dead letter) */
+        DEAD
+    }
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(nullable = false, length = 200)
+    private String subject;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 30)
+    private Operation operation;
+
+    /**
+     * 쉼표로 구분한 roleKeys
+     */
+    @Column(name = "role_keys", nullable = false, length = 500)
+    private String roleKeys;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 20)
+    private Status status;
+
+    @Column(nullable = false)
+    private int attempts;
+
+    @Column(name = "next_attempt_at", nullable = false)
+    private LocalDateTime nextAttemptAt;
+
+    @Column(name = "lease_until")
+    private LocalDateTime leaseUntil;
+
+    @Column(name = "last_error", length = 1000)
+    private String lastError;
+
+    @Column(name = "created_at", nullable = false, updatable = false)
+    private LocalDateTime createdAt;
+
+    @Column(name = "completed_at")
+    private LocalDateTime completedAt;
+
+    /**
+     * 전달 대기 메시지 생성
+     */
+    public static IamOutboxMessage create(String subject, Operation operation, List<String> roleKeys, LocalDateTime now) {
+        IamOutboxMessage message = new IamOutboxMessage();
+        message.subject = subject;
+        message.operation = operation;
+        message.roleKeys = String.join(",", roleKeys);
+        message.status = Status.PENDING;
+        message.attempts = 0;
+        message.nextAttemptAt = now;
+        message.createdAt = now;
+        return message;
+    }
+
+    public List<String> getRoleKeyList() {
+        return roleKeys == null || roleKeys.isEmpty() ? List.of() : Arrays.asList(roleKeys.split(","));
+    }
+}
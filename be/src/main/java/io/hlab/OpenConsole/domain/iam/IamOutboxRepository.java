@@ -0,0 +1,44 @@
+package io.hlab.OpenConsole.domain.iam;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+public interface IamOutboxRepository {
+
+    IamOutboxMessage save(IamOutboxMessage message);
+
+    Optional<IamOutboxMessage> findById(Long id);
+
+    /**
+     * 지금 전달할 수 있는 메시지 (id 순)
+     * 재시도 시각이 지난 PENDING 메시지 중, 같은 subject에 아직 끝나지 않은(PENDING/PROCESSING) 앞 메시지가 없는 것만 반환하므로
+     * subject마다 최대 한 건입니다.
+     */
+    List<IamOutboxMessage> findDeliverable(LocalDateTime now, int limit);
+
+    /**
+     * PENDING 메시지를 PROCESSING으로 선점 (여러 노드가 동시에 가져가지 않도록 조건부 UPDATE)
+     *
+     * @return 선점 여부
+     */
+    boolean claim(Long id, LocalDateTime leaseUntil);
+
+    void markDelivered(Long id, int attempts, LocalDateTime completedAt);
+
+    void markRetry(Long id, int attempts, LocalDateTime nextAttemptAt, String lastError);
+
+    void markDead(Long id, int attempts, String lastError, LocalDateTime completedAt);
+
+    /**
+     * lease가 지난 PROCESSING 메시지를 PENDING으로 되돌림 (전달 중 노드가 중단된 경우)
+     *
+     * @return 되돌린 메시지 수
+     */
+    int releaseExpiredLeases(LocalDateTime now);
+
+    /**
+     * 전달 완료 후 보관 기간이 지난 메시지 삭제 (dead letter는 남김)
+     */
+    int deleteDeliveredBefore(LocalDateTime threshold);
+}
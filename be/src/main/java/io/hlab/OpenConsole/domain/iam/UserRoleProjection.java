@@ -0,0 +1,56 @@
+package io.hlab.OpenConsole.domain.iam;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * 사용자별 IAM role grant 프로젝션 (user_roles)
+ * IAM의 Authorization(grant ID + roleKeys)을 로컬 DB에 보관하여 role 조회를 원격 호출 없이 처리
+ *
+ * <ul>
+ *   <li><b>version</b>: 쓸 때마다 1씩 증가. write-through와 주기 재조정 모두 IAM을 조회하기 전에 읽은 version이
+ *       그대로일 때만 덮어써서 그 사이의 다른 쓰기나 변경 알림을 되돌리지 않음</li>
+ *   <li><b>syncedAt</b>: IAM과 마지막으로 일치를 확인한 시각 (UTC). 변경 알림을 받으면 null(다시 확인 필요)</li>
+ * </ul>
+ * IAM이 SSOT이며, 이 테이블은 언제든 다시 채울 수 있는 읽기 전용 사본입니다.
+ */
+@Entity
+@Table(name = "user_roles")
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class UserRoleProjection {
+    @Id
+    @Column(length = 200)
+    private String subject;
+
+    /**
+     * Authorization ID (grant가 없으면 null)
+     */
+    @Column(name = "grant_id", length = 200)
+    private String grantId;
+
+    /**
+     * 쉼표로 구분한 roleKeys
+     */
+    @Column(name = "role_keys", nullable = false, length = 1000)
+    private String roleKeys;
+
+    @Column(nullable = false)
+    private long version;
+
+    @Column(name = "synced_at")
+    private LocalDateTime syncedAt;
+
+    public List<String> getRoleKeyList() {
+        return roleKeys == null || roleKeys.isEmpty() ? List.of() : Arrays.asList(roleKeys.split(","));
+    }
+}
@@ -0,0 +1,31 @@
+package io.hlab.OpenConsole.domain.iam;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+public interface UserRoleProjectionRepository {
+
+    Optional<UserRoleProjection> findBySubject(String subject);
+
+    /**
+     * 읽은 시점의 version이 그대로일 때만 저장 (compare-and-set, 저장하면 version 증가)
+     *
+     * @param expectedVersion 읽은 시점의 version (null이면 행이 없을 때만 생성)
+     * @return 저장 여부 (그 사이 다른 쓰기가 있었으면 false)
+     */
+    boolean saveIfVersion(String subject, String grantId, List<String> roleKeys, LocalDateTime syncedAt, Long expectedVersion);
+
+    /**
+     * 다시 확인이 필요하다고 표시 (syncedAt = null, version 증가)
+     * 행은 남겨 두어 IAM 장애 시 마지막 값으로 응답할 수 있게 합니다.
+     */
+    void markStale(String subject);
+
+    void markAllStale();
+
+    /**
+     * 주어진 시각 이전에 확인되었거나 확인이 필요한 행 (재조정 대상)
+     */
+    List<UserRoleProjection> findSyncedBefore(LocalDateTime threshold, int limit);
+}
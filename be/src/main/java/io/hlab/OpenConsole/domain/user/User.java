@@ -16,6 +16,11 @@ import java.time.LocalDateTime;
 @AllArgsConstructor(access = AccessLevel.PRIVATE)
 @Builder
 public class User {
+    /**
+     * IAM에서 삭제된 사용자의 상태 값 (디렉터리 동기화가 삭제를 감지하면 기록)
+     */
+    public static final String IAM_STATE_DELETED = "USER_STATE_DELETED";
+
     @Id
     @GeneratedValue(strategy = GenerationType.IDENTITY)
     private Long id;
@@ -26,6 +31,38 @@ public class User {
     @Column(nullable = false, length = 50)
     private String name;
 
+    /**
+     * IAM의 사용자 ID (디렉터리 동기화로 채워짐, 동기화 전에 생성된 사용자는 null)
+     */
+    @Column(unique = true, length = 200)
+    private String subject;
+
+    /**
+     * IAM의 사용자 상태 (예: USER_STATE_ACTIVE, USER_STATE_INACTIVE, IAM에서 삭제되면 USER_STATE_DELETED)
+     */
+    @Column(name = "iam_state", length = 30)
+    private String iamState;
+
+    /**
+     * IAM에서 마지막으로 변경된 시각 (UTC, 동기화 시 변경 여부 판단 기준)
+     */
+    @Column(name = "iam_changed_at")
+    private LocalDateTime iamChangedAt;
+
+    /**
+     * 마지막으로 이 사용자를 확인한 동기화 실행 ID (삭제 감지용 mark-and-sweep 표식)
+     */
+    @Column(name = "iam_sync_run")
+    private Long iamSyncRun;
+
+    /**
+     * 첫 로그인 때 기본 role 부여 요청을 기록해야 하는지 여부
+     * 디렉터리 동기화가 새로 만든 행(IAM의 새 사용자)에 true로 기록되고, 첫 로그인에서 false로 바뀝니다.
+     * JIT 로그인으로 생성된 행은 생성할 때 바로 요청을 기록하므로 null입니다.
+     */
+    @Column(name = "default_roles_pending")
+    private Boolean defaultRolesPending;
+
     @Column(name = "created_at", nullable = false, updatable = false)
     private LocalDateTime createdAt;
 
@@ -45,7 +82,7 @@ public class User {
 
     /**
      * 사용자 생성
-     * IAM 정보(subject, provider)는 저장하지 않음 (IAM이 SSOT)
+     * IAM 정보(subject, provider)는 저장하지 않음 (IAM이 SSOT, subject는 디렉터리 동기화가 채움)
      * 
      * @param email 이메일
      * @param name 이름
@@ -58,6 +95,26 @@ public class User {
                 .build();
     }
 
+    /**
+     * IAM 디렉터리 정보로 사용자 생성 (디렉터리 동기화용)
+     *
+     * @param subject IAM의 사용자 ID
+     * @param email 이메일
+     * @param name 이름
+     * @param iamState IAM의 사용자 상태
+     * @param iamChangedAt IAM에서 마지막으로 변경된 시각 (UTC)
+     * @return User 엔티티
+     */
+    public static User fromIam(String subject, String email, String name, String iamState, LocalDateTime iamChangedAt) {
+        return User.builder()
+                .subject(subject)
+                .email(email)
+                .name(name)
+                .iamState(iamState)
+                .iamChangedAt(iamChangedAt)
+                .build();
+    }
+
     public void setEmail(String email) {
         this.email = email;
     }
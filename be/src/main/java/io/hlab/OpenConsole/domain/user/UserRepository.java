@@ -1,6 +1,10 @@
 package io.hlab.OpenConsole.domain.user;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
+import java.util.Set;
 
 public interface UserRepository {
     User save(User user);
@@ -12,5 +16,81 @@ public interface UserRepository {
     boolean existsByEmail(String email);
 
     void deleteById(Long id);
-}
 
+    /**
+     * email이 없을 때만 사용자 저장 (JIT 로그인용, email 기준 멱등)
+     * 동시에 같은 email로 저장하여 unique 제약에 걸린 쪽도 false를 반환합니다 (insert-on-conflict-do-nothing).
+     * 충돌한 INSERT만 되돌리므로 호출한 쪽 트랜잭션은 그대로 커밋할 수 있습니다.
+     *
+     * @return 새로 저장했으면 true, 이미 있었으면 false
+     */
+    boolean insertIfAbsent(User user);
+
+    /**
+     * 디렉터리 동기화가 먼저 만든 사용자의 기본 role 부여 표식을 가져감 (JIT 로그인용)
+     * 표식({@code defaultRolesPending})이 남아 있을 때만 지우고 true를 반환하므로 한 사용자에 한 번만 true입니다.
+     *
+     * @return 표식을 가져갔으면 true, 표식이 없거나 이미 가져갔으면 false
+     */
+    boolean claimDefaultRoles(String email);
+
+    /**
+     * 주어진 email 중 이미 존재하는 email 목록 (IN 쿼리 한 번)
+     */
+    Set<String> findExistingEmails(Collection<String> emails);
+
+    /**
+     * 사용자 일괄 저장 (JDBC batch insert)
+     * 영속성 컨텍스트를 거치지 않으므로 반환된 사용자 ID가 필요한 경우에는 사용하지 않습니다.
+     *
+     * @return 저장된 행 수
+     */
+    int insertAll(List<User> users);
+
+    /**
+     * 주어진 subject 중 이미 존재하는 subject 목록 (IN 쿼리 한 번)
+     */
+    Set<String> findExistingSubjects(Collection<String> subjects);
+
+    /**
+     * IAM 디렉터리 정보로 사용자 일괄 upsert (JDBC batch)
+     * subject가 같은 행은 갱신하고, email이 같은 행 중 subject가 없거나(JIT로 먼저 생성된 사용자)
+     * IAM에서 삭제된 사용자의 행은 새 subject로 연결하며, 나머지는 새로 저장합니다.
+     * 처리한 행에는 동기화 표식(syncRun)을 남깁니다.
+     * 새로 저장하거나 삭제된 행에 연결한 사용자는 첫 로그인 때 기본 role을 받도록 표시합니다 ({@link #claimDefaultRoles}).
+     *
+     * @param users {@link User#fromIam}으로 만든 사용자
+     * @param syncRun 동기화 실행 ID (null이면 기존 표식 유지: 동기화 밖에서 단건 갱신할 때)
+     * @return 처리한 행 수
+     */
+    int upsertFromIam(List<User> users, Long syncRun);
+
+    /**
+     * 변경 없는 사용자에 동기화 표식만 남김 (UPDATE 한 번)
+     * 삭제 상태인 행은 IAM에 다시 나타난 것이므로 표식을 남기지 않습니다 (호출한 쪽이 upsert로 상태를 복구).
+     *
+     * @return 표식이 남은 행 수 (로컬에 없거나 삭제 상태인 subject는 제외됨)
+     */
+    int markIamSynced(Collection<String> subjects, long syncRun);
+
+    /**
+     * 주어진 subject 중 로컬에 있고 삭제 상태가 아닌 subject 목록 (IN 쿼리 한 번)
+     * {@link #markIamSynced}로 표식이 남는 행과 같은 조건입니다.
+     */
+    Set<String> findLiveSubjects(Collection<String> subjects);
+
+    /**
+     * 이번 동기화에서 확인되지 않은(IAM에서 사라진) 사용자의 subject 목록
+     * 이미 삭제 상태인 사용자는 제외합니다.
+     *
+     * @param limit 최대 조회 수
+     */
+    List<String> findIamSubjectsNotSynced(long syncRun, int limit);
+
+    /**
+     * 사용자를 IAM에서 삭제된 상태로 표시 (행은 유지)
+     *
+     * @return 갱신된 행 수
+     */
+    int markIamDeleted(Collection<String> subjects, LocalDateTime changedAt, long syncRun);
+}
@@ -0,0 +1,56 @@
+package io.hlab.OpenConsole.domain.user;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * 사용자 디렉터리 동기화 상태
+ * 동기화 종류(name)마다 한 행을 두고 high-water mark와 실행 lease를 관리
+ *
+ * <p>여러 노드가 같은 동기화를 동시에 실행하지 않도록 lease를 조건부 UPDATE로 획득합니다.
+ * 실행 도중 노드가 죽어도 lease 만료 후에는 다른 노드가 이어서 실행할 수 있습니다.
+ * 시각은 모두 UTC입니다.
+ */
+@Entity
+@Table(name = "user_sync_state")
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class UserSyncState {
+    @Id
+    @Column(length = 50)
+    private String name;
+
+    /**
+     * 마지막으로 완료된 동기화가 반영한 IAM 변경 시각 (이 시각 이전에 변경된 사용자는 로컬과 같음)
+     */
+    @Column(name = "high_water_mark")
+    private LocalDateTime highWaterMark;
+
+    /**
+     * 실행 중인 동기화의 실행 ID (실행 중이 아니면 null)
+     */
+    @Column(name = "lease_run")
+    private Long leaseRun;
+
+    @Column(name = "lease_until")
+    private LocalDateTime leaseUntil;
+
+    @Column(name = "last_started_at")
+    private LocalDateTime lastStartedAt;
+
+    @Column(name = "last_completed_at")
+    private LocalDateTime lastCompletedAt;
+
+    /**
+     * 마지막 실행 결과 (COMPLETED / FAILED)
+     */
+    @Column(name = "last_status", length = 20)
+    private String lastStatus;
+}
@@ -0,0 +1,42 @@
+package io.hlab.OpenConsole.domain.user;
+
+import java.time.LocalDateTime;
+import java.util.Optional;
+
+public interface UserSyncStateRepository {
+
+    Optional<UserSyncState> findByName(String name);
+
+    /**
+     * 동기화 실행 lease 획득 (상태 행이 없으면 생성)
+     * 다른 실행의 lease가 아직 유효하면 획득하지 못합니다.
+     *
+     * @param name 동기화 종류
+     * @param syncRun 실행 ID
+     * @param now 현재 시각 (UTC)
+     * @param leaseUntil lease 만료 시각 (UTC)
+     * @return 획득 여부
+     */
+    boolean tryAcquireLease(String name, long syncRun, LocalDateTime now, LocalDateTime leaseUntil);
+
+    /**
+     * 실행 중인 lease 연장
+     * 다른 실행이 lease를 가져갔으면 연장하지 않습니다.
+     *
+     * @param name 동기화 종류
+     * @param syncRun 실행 ID
+     * @param leaseUntil 새 lease 만료 시각 (UTC)
+     * @return 연장 여부 (false면 lease를 잃은 것이므로 실행을 중단해야 함)
+     */
+    boolean renewLease(String name, long syncRun, LocalDateTime leaseUntil);
+
+    /**
+     * 동기화 완료 처리: high-water mark를 갱신하고 lease 반납
+     */
+    void complete(String name, long syncRun, LocalDateTime highWaterMark, LocalDateTime completedAt);
+
+    /**
+     * 동기화 실패 처리: high-water mark는 그대로 두고 lease 반납
+     */
+    void fail(String name, long syncRun, LocalDateTime failedAt);
+}
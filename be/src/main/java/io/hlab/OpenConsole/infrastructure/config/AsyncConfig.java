@@ -0,0 +1,32 @@
+package io.hlab.OpenConsole.infrastructure.config;
+
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableAsync;
+import org.springframework.scheduling.annotation.EnableScheduling;
+
+/**
+ * 비동기(@Async) / 스케줄링(@Scheduled) 설정
+ *
+ * <p>Executor는 직접 정의하지 않고 Spring Boot 자동 설정을 그대로 사용합니다.
+ * {@code spring.threads.virtual.enabled=true}이면 Boot가 다음을 모두 가상 스레드 기반으로 교체합니다.
+ * <ul>
+ *   <li>Tomcat 요청 처리 스레드</li>
+ *   <li>{@code applicationTaskExecutor} (@Async 기본 Executor) → SimpleAsyncTaskExecutor(virtual)</li>
+ *   <li>{@code taskScheduler} (@Scheduled) → SimpleAsyncTaskScheduler(virtual)</li>
+ * </ul>
+ *
+ * <p>가상 스레드를 끈 경우 {@code taskScheduler}는 {@code spring.task.scheduling.pool.size}(기본 4) 크기의 스레드 풀입니다.
+ * Boot 기본값(1)이면 오래 블로킹하는 작업(디렉터리 동기화)이 도는 동안 다른 주기 작업(outbox 전달, JWKS 갱신 등)이 모두 멈추므로,
+ * 블로킹 주기 작업을 추가할 때는 풀 크기도 함께 확인하세요.
+ *
+ * <p>별도의 백그라운드 Executor가 필요하면 {@code new ThreadPoolExecutor(...)}로 직접 만들지 말고
+ * 자동 설정된 {@code SimpleAsyncTaskExecutorBuilder}/{@code ThreadPoolTaskExecutorBuilder}를 주입받아 생성하세요.
+ * 그래야 같은 프로퍼티 하나로 실행 모드가 함께 전환됩니다.
+ *
+ * @see VirtualThreadPinningMonitor
+ */
+@Configuration
+@EnableAsync
+@EnableScheduling
+public class AsyncConfig {
+}
@@ -0,0 +1,121 @@
+package io.hlab.OpenConsole.infrastructure.config;
+
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordedFrame;
+import jdk.jfr.consumer.RecordedStackTrace;
+import jdk.jfr.consumer.RecordingStream;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnThreading;
+import org.springframework.boot.autoconfigure.thread.Threading;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 가상 스레드 pinning 감지기
+ * JFR의 {@code jdk.VirtualThreadPinned} 이벤트를 스트리밍으로 구독하여 경고 로그를 남김
+ *
+ * <p>가상 스레드가 {@code synchronized} 블록 안이나 native 프레임에서 블로킹되면
+ * carrier 스레드에 고정(pinning)되어 다른 가상 스레드가 실행되지 못합니다.
+ * 블로킹 경로(JDBC, {@code block()} 호출 등)에서는 {@code synchronized} 대신
+ * {@link java.util.concurrent.locks.ReentrantLock}을 사용하세요.
+ *
+ * <p>가상 스레드 모드({@code spring.threads.virtual.enabled=true})에서만 활성화됩니다.
+ * 로컬에서 더 자세한 스택이 필요하면 JVM 옵션 {@code -Djdk.tracePinnedThreads=full}을 함께 사용할 수 있습니다.
+ */
+@Slf4j
+@Component
+@ConditionalOnThreading(Threading.VIRTUAL)
+@ConditionalOnProperty(name = "app.virtual-threads.pinning-monitor.enabled", havingValue = "true", matchIfMissing = true)
+public class VirtualThreadPinningMonitor implements SmartLifecycle {
+
+    private static final String PINNED_EVENT = "jdk.VirtualThreadPinned";
+
+    /**
+     * 이 시간 이상 pinning된 경우만 기록 (JFR 기본값과 동일)
+     */
+    @Value("${app.virtual-threads.pinning-monitor.threshold:20ms}")
+    private Duration threshold;
+
+    /**
+     * 로그에 출력할 최대 스택 프레임 수
+     */
+    @Value("${app.virtual-threads.pinning-monitor.max-frames:10}")
+    private int maxFrames;
+
+    private final AtomicLong pinnedEventCount = new AtomicLong();
+
+    private volatile RecordingStream recordingStream;
+
+    @Override
+    public void start() {
+        try {
+            RecordingStream stream = new RecordingStream();
+            stream.enable(PINNED_EVENT).withThreshold(threshold).withStackTrace();
+            stream.onEvent(PINNED_EVENT, this::onPinned);
+            stream.startAsync();
+            this.recordingStream = stream;
+            log.info("가상 스레드 pinning 모니터 시작: threshold={}", threshold);
+        } catch (RuntimeException e) {
+            // JFR을 지원하지 않는 런타임에서도 애플리케이션 기동은 계속되어야 함
+            log.warn("가상 스레드 pinning 모니터를 시작할 수 없습니다: {}", e.getMessage());
+        }
+    }
+
+    @Override
+    public void stop() {
+        RecordingStream stream = this.recordingStream;
+        if (stream != null) {
+            stream.close();
+            this.recordingStream = null;
+            log.info("가상 스레드 pinning 모니터 종료: 감지된 pinning 이벤트={}", pinnedEventCount.get());
+        }
+    }
+
+    @Override
+    public boolean isRunning() {
+        return recordingStream != null;
+    }
+
+    /**
+     * 애플리케이션 기동 이후 감지된 pinning 이벤트 수
+     */
+    public long getPinnedEventCount() {
+        return pinnedEventCount.get();
+    }
+
+    private void onPinned(RecordedEvent event) {
+        pinnedEventCount.incrementAndGet();
+        String threadName = event.getThread() != null ? event.getThread().getJavaName() : "unknown";
+        log.warn("가상 스레드 pinning 감지: duration={}ms, thread={}\n{}",
+                event.getDuration().toMillis(), threadName, formatStackTrace(event.getStackTrace()));
+    }
+
+    private String formatStackTrace(RecordedStackTrace stackTrace) {
+        if (stackTrace == null) {
+            return "\t(stack trace 없음)";
+        }
+        List<RecordedFrame> frames = stackTrace.getFrames();
+        StringBuilder sb = new StringBuilder();
+        int limit = Math.min(frames.size(), maxFrames);
+        for (int i = 0; i < limit; i++) {
+            RecordedFrame frame = frames.get(i);
+            sb.append("\tat ")
+                    .append(frame.getMethod().getType().getName())
+                    .append('.')
+                    .append(frame.getMethod().getName())
+                    .append(':')
+                    .append(frame.getLineNumber())
+                    .append('\n');
+        }
+        if (frames.size() > limit) {
+            sb.append("\t... ").append(frames.size() - limit).append(" more");
+        }
+        return sb.toString();
+    }
+}
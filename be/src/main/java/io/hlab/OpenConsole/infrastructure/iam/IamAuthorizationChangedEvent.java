@@ -0,0 +1,13 @@
+package io.hlab.OpenConsole.infrastructure.iam;
+
+/**
+ * IAM 권한(role grant) 변경 이벤트
+ * 외부(IAM 콘솔, 다른 서비스)에서 사용자의 role이 부여/변경/제거되었음을 알림
+ *
+ * <p>role 조회 결과를 캐시하거나 저장하는 컴포넌트는 이 이벤트를 받아 해당 사용자의 항목을 무효화합니다.
+ * 이벤트에서 사용자를 알 수 없으면 subject는 null이며, 이때는 전체를 무효화합니다.
+ *
+ * @param subject IAM의 사용자 ID (nullable)
+ */
+public record IamAuthorizationChangedEvent(String subject) {
+}
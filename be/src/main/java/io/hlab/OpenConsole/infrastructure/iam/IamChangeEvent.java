@@ -0,0 +1,35 @@
+package io.hlab.OpenConsole.infrastructure.iam;
+
+import java.time.Instant;
+
+/**
+ * IAM이 보낸 변경 알림 (webhook)
+ * IAM별 페이로드를 해석한 결과로, 중복 제거와 캐시/프로젝션 갱신에 필요한 값만 담음
+ *
+ * @param eventId 이벤트 고유 ID (같은 이벤트가 다시 전달되면 같은 값, inbox 중복 제거 키)
+ * @param kind 변경 종류
+ * @param eventType IAM의 원래 이벤트 타입 (예: user.human.email.changed)
+ * @param subject 대상 사용자의 IAM ID (알 수 없으면 null)
+ * @param occurredAt IAM에서 이벤트가 발생한 시각 (알 수 없으면 null)
+ */
+public record IamChangeEvent(String eventId, Kind kind, String eventType, String subject, Instant occurredAt) {
+
+    public enum Kind {
+        /**
+         * 사용자 생성/정보 변경/상태 변경 (비활성화, 잠금 등)
+         */
+        USER_CHANGED,
+        /**
+         * 사용자 삭제
+         */
+        USER_REMOVED,
+        /**
+         * 사용자의 role grant 부여/변경/제거
+         */
+        AUTHORIZATION_CHANGED,
+        /**
+         * 처리 대상이 아닌 이벤트 (기록만 함)
+         */
+        OTHER
+    }
+}
@@ -1,6 +1,9 @@
 package io.hlab.OpenConsole.infrastructure.iam;
 
+import java.util.Collection;
 import java.util.List;
+import java.util.Map;
+import java.util.stream.Stream;
 
 /**
  * IAM 클라이언트 인터페이스
@@ -10,6 +13,8 @@ import java.util.List;
  * <ul>
  *   <li>{@link io.hlab.OpenConsole.infrastructure.iam.zitadel.ZitadelClient}: Zitadel 구현체</li>
  * </ul>
+ *
+ * <p>블로킹 API입니다. 호출 동안 요청 스레드를 점유하지 않아야 하는 경우 {@link ReactiveIamClient}를 사용하세요.
  * 
  * <h3>사용 예시</h3>
  * <pre>{@code
@@ -39,6 +44,7 @@ import java.util.List;
  * </ul>
  * 
  * @see io.hlab.OpenConsole.infrastructure.iam.zitadel.ZitadelClient
+ * @see io.hlab.OpenConsole.infrastructure.iam.ReactiveIamClient
  * @see io.hlab.OpenConsole.infrastructure.iam.IamException
  * @see io.hlab.OpenConsole.infrastructure.iam.IamRole
  */
@@ -89,6 +95,15 @@ public interface IamClient {
      */
     String getUserSubjectByEmail(String email) throws IamException;
 
+    /**
+     * 여러 Email의 subject를 일괄 조회
+     * 
+     * @param emails 사용자 이메일 목록
+     * @return 요청한 email → subject 맵 (IAM에 없는 email은 포함되지 않음)
+     * @throws IamException IAM API 호출 실패 시
+     */
+    Map<String, String> getUserSubjectsByEmails(Collection<String> emails) throws IamException;
+
     /**
      * Subject로 사용자의 email 조회
      * 
@@ -97,5 +112,25 @@ public interface IamClient {
      * @throws IamException IAM API 호출 실패 시
      */
     String getUserEmailBySubject(String subject) throws IamException;
+
+    /**
+     * IAM의 전체 사용자를 순서대로 조회하는 Stream
+     * 페이지를 소비하는 만큼만 다음 페이지를 조회하므로 사용자 수와 관계없이 메모리 사용량이 일정합니다.
+     * 호출 측에서 try-with-resources로 닫아야 진행 중인 조회가 취소됩니다.
+     * 
+     * @return 사용자 Stream (생성 순서)
+     * @throws IamException IAM API 호출 실패 시 (Stream 소비 중 발생)
+     */
+    Stream<IamDirectoryUser> streamUsers() throws IamException;
+
+    /**
+     * IAM에 사용자 생성 (Human)
+     * 
+     * @param email 사용자 이메일 (username으로도 사용)
+     * @param name 사용자 이름
+     * @return 생성된 사용자의 subject
+     * @throws IamException IAM API 호출 실패 시
+     */
+    String createUser(String email, String name) throws IamException;
 }
 
@@ -0,0 +1,19 @@
+package io.hlab.OpenConsole.infrastructure.iam;
+
+/**
+ * IAM 전체 사용자 순회가 일부 사용자를 건너뛰었을 수 있음을 나타내는 예외
+ * 순회 도중 겹쳐 조회하는 범위보다 많은 사용자가 삭제되어 페이지 사이에 빈 구간이 생겼을 때 발생합니다.
+ *
+ * <p>스트림은 받은 사용자를 모두 내보낸 뒤 이 예외로 끝나므로,
+ * 받은 사용자는 반영하되 "보이지 않은 사용자는 삭제됨"처럼 전체 목록을 전제로 하는 처리는 건너뛰어야 합니다.
+ */
+public class IamDirectoryScanIncompleteException extends IamException {
+
+    public IamDirectoryScanIncompleteException(String message) {
+        super(message);
+    }
+
+    public IamDirectoryScanIncompleteException(String message, Throwable cause) {
+        super(message, cause);
+    }
+}
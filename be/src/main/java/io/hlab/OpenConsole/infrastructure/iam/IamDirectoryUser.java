@@ -0,0 +1,18 @@
+package io.hlab.OpenConsole.infrastructure.iam;
+
+import java.time.Instant;
+
+/**
+ * IAM 디렉터리의 사용자 요약 정보
+ * 전체 사용자 순회({@link ReactiveIamClient#streamUsers()}) 결과로, 내보내기/동기화/관리 화면에서 사용
+ *
+ * @param subject IAM의 사용자 ID (subject)
+ * @param username 로그인 이름
+ * @param email 사용자 이메일 (Machine 사용자는 null)
+ * @param name 표시 이름
+ * @param state IAM의 사용자 상태 (예: USER_STATE_ACTIVE)
+ * @param changedAt IAM에서 마지막으로 변경된 시각 (알 수 없으면 null)
+ */
+public record IamDirectoryUser(String subject, String username, String email, String name, String state,
+                               Instant changedAt) {
+}
@@ -0,0 +1,48 @@
+package io.hlab.OpenConsole.infrastructure.iam;
+
+import reactor.util.context.Context;
+import reactor.util.context.ContextView;
+
+import java.util.function.Function;
+
+/**
+ * IAM 호출 우선순위
+ * IAM 전송 계층의 동시성 제한기가 대기열에서 대화형 요청을 일괄 작업보다 먼저 처리하는 데 사용
+ *
+ * <p>우선순위는 Reactor Context로 전달되며, 지정하지 않으면 {@link #INTERACTIVE}입니다.
+ * 일괄 작업(대량 role 부여, 사용자 가져오기, 동기화 등)은 IAM 호출 체인 끝에서 {@link #bulk()}를 적용합니다.
+ *
+ * <pre>{@code
+ * return Flux.fromIterable(items)
+ *         .flatMap(item -> reactiveIamClient.assignRoles(item.subject(), item.roles()))
+ *         .then()
+ *         .contextWrite(IamRequestPriority.bulk());
+ * }</pre>
+ */
+public enum IamRequestPriority {
+    /**
+     * 사용자 요청 처리 중의 호출 (기본값)
+     */
+    INTERACTIVE,
+
+    /**
+     * 일괄 작업 중의 호출 (대화형 요청에 밀려 대기할 수 있음)
+     */
+    BULK;
+
+    private static final String CONTEXT_KEY = IamRequestPriority.class.getName();
+
+    /**
+     * Reactor Context에서 우선순위 조회
+     */
+    public static IamRequestPriority from(ContextView context) {
+        return context.getOrDefault(CONTEXT_KEY, INTERACTIVE);
+    }
+
+    /**
+     * 일괄 작업 우선순위를 Context에 기록하는 함수 ({@code contextWrite}에 전달)
+     */
+    public static Function<Context, Context> bulk() {
+        return context -> context.put(CONTEXT_KEY, BULK);
+    }
+}
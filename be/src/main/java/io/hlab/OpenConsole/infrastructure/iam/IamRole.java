@@ -1,5 +1,10 @@
 package io.hlab.OpenConsole.infrastructure.iam;
 
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Locale;
+import java.util.Map;
+
 /**
  * IAM Role Enum
  * IAM에서 사용하는 Role을 표현
@@ -11,10 +16,27 @@ public enum IamRole {
     USER_B("userB"),
     USER_C("userC");
 
+    /**
+     * 소문자 role 문자열 → IamRole (대소문자 구분 없는 조회를 한 번의 해시 조회로 처리)
+     */
+    private static final Map<String, IamRole> BY_LOWER_CASE_VALUE = new HashMap<>();
+
+    static {
+        for (IamRole role : values()) {
+            BY_LOWER_CASE_VALUE.put(role.value.toLowerCase(Locale.ROOT), role);
+        }
+    }
+
     private final String value;
 
+    /**
+     * role 집합 bitmask에서 이 role이 차지하는 비트 (ordinal 기준, 상수 추가 시 순서가 아니라 끝에 추가)
+     */
+    private final int bit;
+
     IamRole(String value) {
         this.value = value;
+        this.bit = 1 << ordinal();
     }
 
     /**
@@ -26,6 +48,31 @@ public enum IamRole {
         return value;
     }
 
+    /**
+     * role 집합 bitmask에서 이 role의 비트
+     *
+     * @return {@code 1 << ordinal()}
+     */
+    public int bit() {
+        return bit;
+    }
+
+    /**
+     * role 집합을 bitmask로 변환
+     *
+     * @param roles role 목록 (null이면 0)
+     * @return 각 role의 {@link #bit()}를 OR한 값
+     */
+    public static int mask(Collection<IamRole> roles) {
+        int mask = 0;
+        if (roles != null) {
+            for (IamRole role : roles) {
+                mask |= role.bit;
+            }
+        }
+        return mask;
+    }
+
     /**
      * 문자열로부터 IamRole을 찾음
      * 
@@ -36,14 +83,8 @@ public enum IamRole {
         if (roleString == null || roleString.isBlank()) {
             return null;
         }
-        
-        for (IamRole role : values()) {
-            if (role.value.equalsIgnoreCase(roleString)) {
-                return role;
-            }
-        }
-        
-        return null;
+        IamRole role = BY_LOWER_CASE_VALUE.get(roleString);
+        return role != null ? role : BY_LOWER_CASE_VALUE.get(roleString.toLowerCase(Locale.ROOT));
     }
 
     /**
@@ -0,0 +1,20 @@
+package io.hlab.OpenConsole.infrastructure.iam;
+
+/**
+ * IAM을 일시적으로 사용할 수 없음을 나타내는 예외
+ * 응답 시간 초과, circuit breaker open, 동시 호출 한도(bulkhead) 초과, 연결 실패처럼
+ * 잠시 후 재시도하면 성공할 수 있는 실패를 표현합니다.
+ *
+ * <p>{@link IamException}의 하위 타입이므로 기존 처리 흐름을 그대로 따르며,
+ * 전역 예외 핸들러에서 500 대신 503(Service Unavailable)으로 응답합니다.
+ */
+public class IamUnavailableException extends IamException {
+
+    public IamUnavailableException(String message) {
+        super(message);
+    }
+
+    public IamUnavailableException(String message, Throwable cause) {
+        super(message, cause);
+    }
+}
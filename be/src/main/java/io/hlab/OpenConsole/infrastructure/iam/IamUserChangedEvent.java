@@ -0,0 +1,23 @@
+package io.hlab.OpenConsole.infrastructure.iam;
+
+/**
+ * IAM 사용자 변경 이벤트
+ * 사용자 삭제, email 변경, 신규 생성 등으로 email ↔ subject 매핑이 바뀌었을 수 있음을 알림
+ *
+ * <p>IAM 조회 결과를 캐시하는 컴포넌트는 이 이벤트를 받아 해당 사용자의 캐시를 무효화합니다.
+ * subject와 email 중 알고 있는 값만 채우면 되며, 모르는 값은 null입니다.
+ * email 변경의 경우 이전 email과 새 email 각각에 대해 발행합니다.
+ *
+ * @param subject IAM의 사용자 ID (nullable)
+ * @param email 사용자 이메일 (nullable)
+ */
+public record IamUserChangedEvent(String subject, String email) {
+
+    public static IamUserChangedEvent ofSubject(String subject) {
+        return new IamUserChangedEvent(subject, null);
+    }
+
+    public static IamUserChangedEvent ofEmail(String email) {
+        return new IamUserChangedEvent(null, email);
+    }
+}
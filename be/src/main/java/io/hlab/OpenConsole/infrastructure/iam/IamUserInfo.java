@@ -1,37 +1,54 @@
 package io.hlab.OpenConsole.infrastructure.iam;
 
 import lombok.Getter;
-import lombok.RequiredArgsConstructor;
 
+import java.util.Collection;
+import java.util.EnumSet;
 import java.util.List;
+import java.util.Set;
 
 /**
  * IAM에서 추출한 사용자 정보
- * 토큰 디코딩 결과를 담는 값 객체
+ * 토큰 디코딩 결과를 담는 불변 값 객체
+ *
+ * <p>인증 시 한 번 만들어 인증 토큰에 담아 두고({@code IamAuthenticationToken}) 요청 처리 중에는 읽기만 합니다.
+ * role 확인은 EnumSet 조회이므로 상수 시간입니다. 권한 검사용으로 role 집합의 bitmask({@link IamRole#mask})도 함께 보관합니다.
  */
 @Getter
-@RequiredArgsConstructor
 public class IamUserInfo {
     private final String subject;      // IAM의 고유 사용자 ID (sub)
     private final String email;
     private final String name;
-    private final List<IamRole> roles; // 사용자가 가진 역할 목록
+    private final List<IamRole> roles; // 사용자가 가진 역할 목록 (불변)
 
-    public static IamUserInfo of(String subject, String email, String name, List<IamRole> roles) {
+    @Getter(lombok.AccessLevel.NONE)
+    private final Set<IamRole> roleSet;
+
+    private final int roleMask;        // roles의 bitmask (IamRole#bit 참고)
+
+    public IamUserInfo(String subject, String email, String name, Collection<IamRole> roles) {
+        this.subject = subject;
+        this.email = email;
+        this.name = name;
+        this.roleSet = roles == null || roles.isEmpty() ? EnumSet.noneOf(IamRole.class) : EnumSet.copyOf(roles);
+        this.roles = List.copyOf(roleSet);
+        this.roleMask = IamRole.mask(roleSet);
+    }
+
+    public static IamUserInfo of(String subject, String email, String name, Collection<IamRole> roles) {
         return new IamUserInfo(subject, email, name, roles);
     }
 
     public boolean hasRole(IamRole role) {
-        return roles.contains(role);
+        return roleSet.contains(role);
     }
 
     public boolean hasAnyRole(IamRole... roles) {
         for (IamRole role : roles) {
-            if (this.roles.contains(role)) {
+            if (roleSet.contains(role)) {
                 return true;
             }
         }
         return false;
     }
 }
-
@@ -0,0 +1,89 @@
+package io.hlab.OpenConsole.infrastructure.iam;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * JWT claims에서 role 추출
+ * ZitadelTokenDecoder가 인증 시 한 번 호출하며, 결과는 IamUserInfo에 담겨 요청 동안 재사용됩니다.
+ *
+ * <p>role 클레임 위치는 {@code zitadel.token.role-claims}로 설정하며 기동 시 한 번 경로로 컴파일합니다.
+ * 요청마다 모든 claim 키를 훑지 않고, 설정된 경로만 직접 조회합니다.
+ * 경로의 {@code .}은 중첩 객체를 뜻합니다 (예: {@code realm_access.roles}).
+ *
+ * <p>role 클레임 값은 다음 두 형태를 지원합니다.
+ * <ul>
+ *   <li>배열 형태: {@code ["admin", "userA"]}</li>
+ *   <li>객체 형태 (Zitadel project roles): {@code {"user": {"351864415584321539": "idp.avgmax.team"}}} → 키가 role</li>
+ * </ul>
+ * role 문자열은 {@link IamRole#fromString}(대소문자 무시 해시 조회)으로 변환하고, 알 수 없는 role은 무시합니다.
+ */
+@Slf4j
+@Component
+public class JwtRoleExtractor {
+
+    private final List<String[]> claimPaths;
+
+    public JwtRoleExtractor(
+            @Value("${zitadel.token.role-claims:roles,urn:zitadel:iam:org:project:roles,urn:zitadel:iam:org:project:${zitadel.project-id:}:roles}") List<String> roleClaims) {
+        List<String[]> paths = new ArrayList<>(roleClaims.size());
+        for (String claim : roleClaims) {
+            if (claim != null && !claim.isBlank()) {
+                paths.add(claim.strip().split("\\."));
+            }
+        }
+        this.claimPaths = List.copyOf(paths);
+        log.debug("JWT role 클레임 경로: {}", roleClaims);
+    }
+
+    /**
+     * claims에서 role 추출
+     *
+     * @param claims JWT claims
+     * @return role 집합 (없으면 빈 집합, 수정 가능한 새 EnumSet)
+     */
+    public EnumSet<IamRole> extract(Map<String, Object> claims) {
+        EnumSet<IamRole> roles = EnumSet.noneOf(IamRole.class);
+        for (String[] path : claimPaths) {
+            Object value = resolve(claims, path);
+            if (value instanceof Collection<?> list) {
+                for (Object role : list) {
+                    if (role instanceof String roleString) {
+                        add(roles, roleString);
+                    }
+                }
+            } else if (value instanceof Map<?, ?> roleMap) {
+                for (Object roleName : roleMap.keySet()) {
+                    if (roleName instanceof String roleString) {
+                        add(roles, roleString);
+                    }
+                }
+            }
+        }
+        return roles;
+    }
+
+    private static Object resolve(Map<String, Object> claims, String[] path) {
+        Object current = claims.get(path[0]);
+        for (int i = 1; i < path.length && current != null; i++) {
+            current = current instanceof Map<?, ?> map ? map.get(path[i]) : null;
+        }
+        return current;
+    }
+
+    private static void add(EnumSet<IamRole> roles, String roleString) {
+        IamRole role = IamRole.fromString(roleString);
+        if (role != null) {
+            roles.add(role);
+        } else if (log.isDebugEnabled()) {
+            log.debug("알 수 없는 role 무시: {}", roleString);
+        }
+    }
+}
@@ -0,0 +1,120 @@
+package io.hlab.OpenConsole.infrastructure.iam;
+
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 논블로킹 IAM 클라이언트 인터페이스
+ * {@link IamClient}와 동일한 기능을 {@link Mono}로 제공하여 호출 중 요청 스레드를 점유하지 않음
+ *
+ * <p>
+ * 모든 메소드는 lazy하게 동작하며, 구독 시점에 IAM API를 호출합니다.
+ * 실패는 {@link IamException} 에러 시그널로 전파됩니다.
+ * 블로킹 API가 필요한 곳은 이 인터페이스를 감싸는 {@link IamClient}를 사용합니다.
+ * </p>
+ *
+ * <h3>사용 예시</h3>
+ * <pre>{@code
+ * // Controller에서 Mono를 그대로 반환하면 Servlet 비동기 처리로 응답
+ * return reactiveIamClient.getUserSubjectByEmail(email)
+ *         .flatMap(reactiveIamClient::getUserRoles)
+ *         .map(roles -> ApiResponse.success(RoleResponse.of(email, roles)));
+ * }</pre>
+ *
+ * @see io.hlab.OpenConsole.infrastructure.iam.zitadel.ReactiveZitadelClient
+ * @see IamClient
+ */
+public interface ReactiveIamClient {
+
+    /**
+     * 사용자에게 role을 부여
+     *
+     * @param userId IAM의 사용자 ID (subject)
+     * @param role 부여할 role
+     * @return 완료 시그널
+     */
+    Mono<Void> assignRole(String userId, IamRole role);
+
+    /**
+     * 사용자에게 여러 role을 부여
+     *
+     * @param userId IAM의 사용자 ID (subject)
+     * @param roles 부여할 role 목록
+     * @return 완료 시그널
+     */
+    Mono<Void> assignRoles(String userId, List<IamRole> roles);
+
+    /**
+     * 사용자로부터 role을 제거
+     *
+     * @param userId IAM의 사용자 ID (subject)
+     * @param role 제거할 role
+     * @return 완료 시그널
+     */
+    Mono<Void> removeRole(String userId, IamRole role);
+
+    /**
+     * 사용자의 모든 role 목록 조회
+     *
+     * @param userId IAM의 사용자 ID (subject)
+     * @return 사용자가 가진 role 목록
+     */
+    Mono<List<IamRole>> getUserRoles(String userId);
+
+    /**
+     * Email로 사용자의 subject 조회
+     *
+     * @param email 사용자 이메일
+     * @return IAM의 사용자 ID (subject)
+     */
+    Mono<String> getUserSubjectByEmail(String email);
+
+    /**
+     * 여러 Email의 subject를 일괄 조회
+     * 개별 조회를 반복하지 않고 IAM 검색을 묶어서 호출합니다.
+     *
+     * @param emails 사용자 이메일 목록
+     * @return 요청한 email → subject 맵 (IAM에 없는 email은 포함되지 않음)
+     */
+    Mono<Map<String, String>> getUserSubjectsByEmails(Collection<String> emails);
+
+    /**
+     * Subject로 사용자의 email 조회
+     *
+     * @param subject IAM의 사용자 ID (subject)
+     * @return 사용자 이메일
+     */
+    Mono<String> getUserEmailBySubject(String subject);
+
+    /**
+     * Subject로 사용자 요약 정보 조회 (단건 동기화/갱신용)
+     *
+     * @param subject IAM의 사용자 ID (subject)
+     * @return 사용자 요약 정보
+     */
+    Mono<IamDirectoryUser> getDirectoryUser(String subject);
+
+    /**
+     * IAM의 전체 사용자를 순서대로 스트리밍
+     * 페이지 단위로 조회하되 다음 페이지를 미리 요청하며, 사용자 수와 관계없이 메모리에는 몇 페이지만 유지합니다.
+     * 일괄 작업에서 사용할 때는 {@link IamRequestPriority#bulk()}를 함께 적용하세요.
+     * 순회 중 일부 사용자를 건너뛰었을 수 있으면 받은 사용자를 모두 내보낸 뒤
+     * {@link IamDirectoryScanIncompleteException}으로 끝납니다.
+     *
+     * @return 사용자 스트림 (생성 순서)
+     */
+    Flux<IamDirectoryUser> streamUsers();
+
+    /**
+     * IAM에 사용자 생성 (Human)
+     *
+     * @param email 사용자 이메일 (username으로도 사용)
+     * @param name 사용자 이름
+     * @return 생성된 사용자의 subject
+     */
+    Mono<String> createUser(String email, String name);
+}
@@ -0,0 +1,64 @@
+package io.hlab.OpenConsole.infrastructure.iam.zitadel;
+
+import io.hlab.OpenConsole.infrastructure.iam.zitadel.dto.ZitadelAuthorizationDto;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 사용자 한 명의 Authorization(grant) 스냅샷
+ * ListAuthorizations 한 번의 응답으로 grant ID와 roleKeys를 함께 보관
+ *
+ * @param grantId Authorization ID, grant가 없으면 null
+ * @param roleKeys 현재 부여된 roleKeys (불변)
+ * @param fetchedAt 스냅샷을 만든 시각 (조회 또는 write-through 시점)
+ */
+public record GrantSnapshot(String grantId, List<String> roleKeys, Instant fetchedAt) {
+
+    public GrantSnapshot {
+        roleKeys = roleKeys != null ? List.copyOf(roleKeys) : List.of();
+    }
+
+    public static GrantSnapshot of(String grantId, List<String> roleKeys) {
+        return new GrantSnapshot(grantId, roleKeys, Instant.now());
+    }
+
+    /**
+     * ListAuthorizations 응답에서 스냅샷 생성 (첫 번째 Authorization 기준)
+     */
+    public static GrantSnapshot from(ZitadelAuthorizationDto.ListResponse response) {
+        if (response != null && response.authorizations() != null && !response.authorizations().isEmpty()) {
+            ZitadelAuthorizationDto.ListResponse.Authorization authorization = response.authorizations().get(0);
+            String grantId = authorization.id() != null && !authorization.id().isBlank() ? authorization.id() : null;
+            return of(grantId, authorization.roleKeys());
+        }
+        return of(null, List.of());
+    }
+
+    public boolean hasGrant() {
+        return grantId != null;
+    }
+
+    /**
+     * 요청한 roleKeys를 병합한 목록 (기존 순서 유지, 중복 제거)
+     */
+    public List<String> mergedWith(List<String> addedRoleKeys) {
+        List<String> merged = new ArrayList<>(roleKeys);
+        for (String roleKey : addedRoleKeys) {
+            if (!merged.contains(roleKey)) {
+                merged.add(roleKey);
+            }
+        }
+        return merged;
+    }
+
+    /**
+     * 지정한 roleKey를 제거한 목록
+     */
+    public List<String> without(String removedRoleKey) {
+        return roleKeys.stream()
+                .filter(roleKey -> !roleKey.equals(removedRoleKey))
+                .toList();
+    }
+}
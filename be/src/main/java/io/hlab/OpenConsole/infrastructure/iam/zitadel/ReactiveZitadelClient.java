@@ -0,0 +1,443 @@
+package io.hlab.OpenConsole.infrastructure.iam.zitadel;
+
+import io.hlab.OpenConsole.infrastructure.iam.IamDirectoryUser;
+import io.hlab.OpenConsole.infrastructure.iam.IamException;
+import io.hlab.OpenConsole.infrastructure.iam.IamRole;
+import io.hlab.OpenConsole.infrastructure.iam.IamUnavailableException;
+import io.hlab.OpenConsole.infrastructure.iam.ReactiveIamClient;
+import io.hlab.OpenConsole.infrastructure.iam.zitadel.client.ZitadelAuthExecutor;
+import io.hlab.OpenConsole.infrastructure.iam.zitadel.client.ZitadelUserExecutor;
+import io.hlab.OpenConsole.infrastructure.iam.zitadel.client.ZitadelUserProjections;
+import io.hlab.OpenConsole.infrastructure.iam.zitadel.dto.ZitadelUserDto;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.web.reactive.function.client.WebClientResponseException;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Zitadel Management API 논블로킹 클라이언트 구현체 (Facade)
+ * ReactiveIamClient 인터페이스를 구현하며, 내부적으로 ZitadelAuthExecutor 등을 사용
+ * 서비스 로직만 담당하고, 실제 API 호출은 Executor에 위임
+ *
+ * <p>블로킹 구현체인 {@link ZitadelClient}는 이 클래스를 감싸는 어댑터입니다.
+ * Email → Subject 조회는 {@link ZitadelSubjectCache}를 거쳐 반복 호출 시 원격 조회를 생략합니다.
+ * Role 조회는 {@link ZitadelGrantCache}의 {@link GrantSnapshot}을 사용하여 스냅샷이 fresh하면 ListAuthorizations를 생략하고,
+ * Role 변경은 UpdateAuthorization이 roleKeys 전체를 교체하므로 캐시를 쓰지 않고 ListAuthorizations 1회로 현재 grant를 읽습니다.
+ * Grant 스냅샷은 {@link ZitadelGrantProjection}(user_roles)에도 write-through로 저장되어,
+ * role 조회는 캐시 → fresh한 프로젝션 → ListAuthorizations 순으로 응답하고 IAM 장애 시에는 마지막 프로젝션으로 응답합니다.
+ *
+ * <h3>예외 처리 패턴</h3>
+ * <ul>
+ *   <li><b>IamException</b>: Executor에서 이미 IamException으로 변환된 에러 시그널이 전파되므로,
+ *       비즈니스 로직(예: 409 Conflict 처리)이 필요한 경우에만 onErrorResume으로 처리합니다.
+ *       그 외에는 그대로 전파합니다. 로깅은 GlobalExceptionHandler에서 수행합니다.</li>
+ * </ul>
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ReactiveZitadelClient implements ReactiveIamClient {
+
+    private final ZitadelAuthExecutor authExecutor;
+    private final ZitadelUserExecutor userExecutor;
+    private final ZitadelSubjectCache subjectCache;
+    private final ZitadelGrantCache grantCache;
+    private final ZitadelGrantProjection grantProjection;
+
+    /**
+     * 일괄 email 조회 시 한 번의 ListUsers에 담을 email 수
+     */
+    @Value("${zitadel.bulk.lookup-batch-size:100}")
+    private int lookupBatchSize = 100;
+
+    /**
+     * 전체 사용자 순회 시 페이지당 사용자 수
+     */
+    @Value("${zitadel.stream.page-size:100}")
+    private int streamPageSize = 100;
+
+    @Override
+    public Mono<Void> assignRole(String userId, IamRole role) {
+        return assignRoles(userId, List.of(role));
+    }
+
+    @Override
+    public Mono<Void> assignRoles(String userId, List<IamRole> roles) {
+        List<String> roleKeys = roles.stream()
+                .map(IamRole::getValue)
+                .toList();
+
+        return Mono.defer(() -> {
+            log.info("Zitadel에 role 부여 요청: userId={}, roles={}", userId, roles);
+
+            // UpdateAuthorization은 roleKeys 전체를 교체하므로, 캐시가 아닌 현재 grant를 다시 읽어 병합
+            // (콘솔/다른 노드에서 캐시 TTL 안에 바뀐 role을 덮어쓰지 않도록)
+            return grantProjection.version(userId)
+                    .flatMap(version -> fetchGrantSnapshot(userId)
+                            .flatMap(snapshot -> {
+                                if (snapshot.hasGrant()) {
+                                    return mergeIntoGrant(userId, snapshot, roleKeys, version);
+                                }
+
+                                // grant가 없으면 CreateAuthorization
+                                return authExecutor.createAuthorization(userId, roleKeys)
+                                        .flatMap(response -> {
+                                            log.info("Zitadel role 부여 완료 (새 grant 생성): userId={}, roles={}", userId, roles);
+                                            return remember(userId, GrantSnapshot.of(response.id(), roleKeys), version);
+                                        })
+                                        // 조회 후 다른 요청이 grant를 먼저 만들었으면(409 Conflict) 다시 조회하여 병합
+                                        // 409가 아닌 다른 IamException은 그대로 전파
+                                        .onErrorResume(ReactiveZitadelClient::isConflict,
+                                                e -> mergeIntoExistingGrant(userId, roleKeys, version));
+                            }));
+        }).onErrorResume(e -> forget(userId).then(Mono.error(e)));
+    }
+
+    @Override
+    public Mono<Void> removeRole(String userId, IamRole role) {
+        return Mono.defer(() -> {
+            log.info("Zitadel에서 role 제거 요청: userId={}, role={}", userId, role);
+
+            // 1. 현재 grant 스냅샷 조회 (전체 교체 업데이트이므로 캐시를 쓰지 않고 ListAuthorizations 1회)
+            return grantProjection.version(userId)
+                    .flatMap(version -> fetchGrantSnapshot(userId)
+                            .flatMap(snapshot -> {
+                                if (!snapshot.hasGrant()) {
+                                    return Mono.error(new IamException("Grant ID를 찾을 수 없습니다: userId=" + userId));
+                                }
+
+                                // 2. 제거할 roleKey를 현재 roleKeys에서 제거
+                                String grantId = snapshot.grantId();
+                                List<String> updatedRoleKeys = snapshot.without(role.getValue());
+
+                                // 3. UpdateAuthorization으로 업데이트
+                                return authExecutor.updateAuthorization(grantId, updatedRoleKeys)
+                                        .then(Mono.defer(() -> {
+                                            log.info(
+                                                    "Zitadel role 제거 완료: userId={}, grantId={}, removedRole={}, remainingRoles={}",
+                                                    userId, grantId, role, updatedRoleKeys);
+                                            return remember(userId, GrantSnapshot.of(grantId, updatedRoleKeys), version);
+                                        }));
+                            }));
+        }).onErrorResume(e -> forget(userId).then(Mono.error(e)));
+    }
+
+    @Override
+    public Mono<List<IamRole>> getUserRoles(String userId) {
+        return Mono.defer(() -> {
+            log.info("Zitadel에서 사용자 role 조회: userId={}", userId);
+
+            return readGrantSnapshot(userId)
+                    // 스냅샷의 roleKeys를 IamRole 리스트로 변환
+                    .map(snapshot -> toRoles(snapshot.roleKeys()))
+                    .doOnNext(roles -> log.info("Zitadel role 조회 완료: userId={}, roles={}", userId, roles));
+        });
+    }
+
+    @Override
+    public Mono<String> getUserSubjectByEmail(String email) {
+        return Mono.defer(() -> {
+            log.info("Zitadel에서 email로 사용자 조회: email={}", email);
+
+            return subjectCache.getOrLoad(email, this::loadSubjectByEmail)
+                    .switchIfEmpty(Mono.error(() -> new IamException("사용자를 찾을 수 없습니다: email=" + email)))
+                    .doOnNext(subject -> log.info("Zitadel 사용자 조회 성공: email={}, subject={}", email, subject));
+        });
+    }
+
+    @Override
+    public Mono<Map<String, String>> getUserSubjectsByEmails(Collection<String> emails) {
+        return Mono.defer(() -> {
+            Map<String, String> subjects = new ConcurrentHashMap<>();
+            List<String> lookups = new ArrayList<>();
+
+            // 1. 캐시에 있는 email은 원격 조회에서 제외 (음성 캐시 포함, 중복 email은 한 번만 확인)
+            Set<String> uniqueEmails = new LinkedHashSet<>(emails);
+            for (String email : uniqueEmails) {
+                ZitadelSubjectCache.Lookup cached = subjectCache.lookup(email);
+                switch (cached.status()) {
+                    case HIT -> subjects.put(email, cached.subject());
+                    case MISS -> lookups.add(email);
+                    case NOT_FOUND -> { }
+                }
+            }
+            log.info("Zitadel에서 email로 사용자 일괄 조회: total={}, unique={}, cached={}, lookups={}",
+                    emails.size(), uniqueEmails.size(), uniqueEmails.size() - lookups.size(), lookups.size());
+
+            // 2. 나머지는 lookupBatchSize 단위로 묶어서 inUserEmailsQuery로 조회
+            return Flux.fromIterable(partition(lookups, lookupBatchSize))
+                    .concatMap(batch -> userExecutor.findUsersByEmails(batch)
+                            .doOnNext(users -> collectSubjects(batch, users, subjects)))
+                    .then(Mono.fromSupplier(() -> {
+                        log.info("Zitadel 사용자 일괄 조회 완료: requested={}, found={}", uniqueEmails.size(), subjects.size());
+                        return Map.copyOf(subjects);
+                    }));
+        });
+    }
+
+    @Override
+    public Mono<String> getUserEmailBySubject(String subject) {
+        return Mono.defer(() -> {
+            log.info("Zitadel에서 subject로 사용자 조회: subject={}", subject);
+
+            return userExecutor.getUserByID(subject)
+                    .mapNotNull(response -> {
+                        ZitadelUserDto.ListUsersResponse.User user = response.user();
+
+                        // Human 타입 사용자의 email 추출
+                        if (user != null && user.human() != null && user.human().email() != null) {
+                            String email = user.human().email().email();
+                            if (email != null && !email.isBlank()) {
+                                return email;
+                            }
+                        }
+                        return null;
+                    })
+                    .doOnNext(email -> {
+                        log.info("Zitadel 사용자 조회 성공: subject={}, email={}", subject, email);
+                        subjectCache.put(email, subject);
+                    })
+                    .switchIfEmpty(Mono.error(() -> new IamException("사용자 email을 찾을 수 없습니다: subject=" + subject)));
+        });
+    }
+
+    /**
+     * Email로 Zitadel 사용자를 검색하여 subject 추출 (캐시 미스 시 호출)
+     * 사용자가 없으면 empty (음성 캐시 대상), subject가 비어 있으면 IamException (캐시하지 않음)
+     */
+    private Mono<String> loadSubjectByEmail(String email) {
+        return userExecutor.findUserByEmail(email)
+                .flatMap(user -> {
+                    String subject = user.subject();
+
+                    if (subject != null && !subject.isBlank()) {
+                        return Mono.just(subject);
+                    }
+                    return Mono.error(new IamException("사용자 ID를 찾을 수 없습니다: email=" + email));
+                });
+    }
+
+    @Override
+    public Mono<IamDirectoryUser> getDirectoryUser(String subject) {
+        return userExecutor.getUserByID(subject)
+                .mapNotNull(ZitadelUserDto.GetUserByIDResponse::user)
+                .map(ReactiveZitadelClient::toDirectoryUser)
+                .switchIfEmpty(Mono.error(() -> new IamException("사용자를 찾을 수 없습니다: subject=" + subject)));
+    }
+
+    @Override
+    public Flux<IamDirectoryUser> streamUsers() {
+        return userExecutor.streamUsers(streamPageSize)
+                .map(ReactiveZitadelClient::toDirectoryUser);
+    }
+
+    @Override
+    public Mono<String> createUser(String email, String name) {
+        return Mono.defer(() -> {
+            log.info("Zitadel에 사용자 생성 요청: email={}", email);
+
+            // 이름에 공백이 있으면 마지막 공백 기준으로 givenName/familyName 분리, 없으면 둘 다 같은 값
+            int lastSpace = name.trim().lastIndexOf(' ');
+            String givenName = lastSpace > 0 ? name.trim().substring(0, lastSpace) : name.trim();
+            String familyName = lastSpace > 0 ? name.trim().substring(lastSpace + 1) : name.trim();
+
+            // returnCode를 지정하여 Zitadel이 인증 메일을 발송하지 않도록 함 (대량 생성 시 메일 폭주 방지)
+            ZitadelUserDto.CreateUserRequest request = new ZitadelUserDto.CreateUserRequest(
+                    null,
+                    null,
+                    email,
+                    new ZitadelUserDto.CreateUserRequest.Human(
+                            new ZitadelUserDto.CreateUserRequest.Human.Profile(givenName, familyName, name, null),
+                            new ZitadelUserDto.CreateUserRequest.Human.Email(email, false, null,
+                                    new ZitadelUserDto.CreateUserRequest.Human.Email.ReturnCode()),
+                            null,
+                            null));
+
+            return userExecutor.createUser(request)
+                    .map(ZitadelUserDto.CreateUserResponse::id)
+                    .doOnNext(subject -> {
+                        log.info("Zitadel 사용자 생성 완료: email={}, subject={}", email, subject);
+                        subjectCache.put(email, subject);
+                    });
+        });
+    }
+
+    private static IamDirectoryUser toDirectoryUser(ZitadelUserDto.ListUsersResponse.User user) {
+        String subject = user.id() != null ? user.id() : user.userId();
+        Instant changedAt = user.details() != null ? user.details().changeDate() : null;
+        ZitadelUserDto.ListUsersResponse.User.Human human = user.human();
+        if (human == null) {
+            String name = user.machine() != null ? user.machine().name() : user.username();
+            return new IamDirectoryUser(subject, user.username(), null, name, user.state(), changedAt);
+        }
+        String email = human.email() != null ? human.email().email() : null;
+        String name = human.profile() != null ? human.profile().displayName() : null;
+        return new IamDirectoryUser(subject, user.username(), email, name, user.state(), changedAt);
+    }
+
+    /**
+     * 일괄 검색 결과를 요청한 email과 매칭 (대소문자 무시)
+     * 찾은 매핑은 캐시에 넣고, 결과에 없는 email은 음성 캐시에 넣음
+     */
+    private void collectSubjects(List<String> batch, List<ZitadelUserProjections.UserRef> users,
+                                 Map<String, String> subjects) {
+        Map<String, String> subjectsByEmail = new HashMap<>();
+        for (ZitadelUserProjections.UserRef user : users) {
+            if (user.subject() != null && user.email() != null) {
+                subjectsByEmail.putIfAbsent(user.email().toLowerCase(Locale.ROOT), user.subject());
+            }
+        }
+
+        for (String email : batch) {
+            String subject = subjectsByEmail.get(email.toLowerCase(Locale.ROOT));
+            if (subject != null) {
+                subjects.put(email, subject);
+                subjectCache.put(email, subject);
+            } else {
+                subjectCache.putNotFound(email);
+            }
+        }
+    }
+
+    private static <T> List<List<T>> partition(List<T> items, int size) {
+        List<List<T>> batches = new ArrayList<>();
+        for (int from = 0; from < items.size(); from += size) {
+            batches.add(items.subList(from, Math.min(from + size, items.size())));
+        }
+        return batches;
+    }
+
+    /**
+     * 최신 grant 스냅샷을 다시 조회한 뒤 요청한 roleKeys를 병합하여 업데이트
+     * grant가 없다고 조회한 뒤 생성이 409 Conflict로 실패한 경우(동시 생성)에 사용
+     */
+    private Mono<Void> mergeIntoExistingGrant(String userId, List<String> roleKeys, long version) {
+        log.info("Grant가 이미 존재하여 기존 role과 병합 후 업데이트 시도: userId={}, roleKeys={}", userId, roleKeys);
+
+        return fetchGrantSnapshot(userId)
+                .flatMap(snapshot -> snapshot.hasGrant()
+                        ? mergeIntoGrant(userId, snapshot, roleKeys, version)
+                        : Mono.error(new IamException("Grant ID를 찾을 수 없습니다: userId=" + userId)));
+    }
+
+    /**
+     * 스냅샷의 roleKeys와 요청한 roleKeys를 병합(중복 제거)하여 UpdateAuthorization
+     */
+    private Mono<Void> mergeIntoGrant(String userId, GrantSnapshot snapshot, List<String> roleKeys, long version) {
+        String grantId = snapshot.grantId();
+        List<String> mergedRoleKeys = snapshot.mergedWith(roleKeys);
+
+        return authExecutor.updateAuthorization(grantId, mergedRoleKeys)
+                .then(Mono.defer(() -> {
+                    log.info(
+                            "Zitadel role 부여 완료 (기존 grant 업데이트): userId={}, grantId={}, 기존 roles={}, 추가 roles={}, 최종 roles={}",
+                            userId, grantId, snapshot.roleKeys(), roleKeys, mergedRoleKeys);
+                    return remember(userId, GrantSnapshot.of(grantId, mergedRoleKeys), version);
+                }));
+    }
+
+    /**
+     * 조회 전용 grant 스냅샷 (role 조회)
+     * 캐시 → max-staleness 안의 프로젝션 → ListAuthorizations 순으로 조회하고,
+     * IAM을 일시적으로 사용할 수 없으면 신선도와 관계없이 마지막 프로젝션으로 응답합니다.
+     * 변경 작업은 오래된 스냅샷으로 덮어쓰지 않도록 항상 {@link #fetchGrantSnapshot}으로 현재 grant를 읽습니다.
+     */
+    private Mono<GrantSnapshot> readGrantSnapshot(String userId) {
+        return Mono.defer(() -> {
+            GrantSnapshot cached = grantCache.getIfFresh(userId);
+            if (cached != null) {
+                return Mono.just(cached);
+            }
+            return grantProjection.findFresh(userId)
+                    .switchIfEmpty(Mono.defer(() -> loadGrantSnapshot(userId)
+                            .onErrorResume(ReactiveZitadelClient::isUnavailable, e -> grantProjection.findAny(userId)
+                                    .doOnNext(snapshot -> log.warn(
+                                            "IAM 장애로 마지막 grant 프로젝션으로 응답: userId={}, syncedAt={}, error={}",
+                                            userId, snapshot.fetchedAt(), e.getMessage()))
+                                    .switchIfEmpty(Mono.error(e)))));
+        });
+    }
+
+    /**
+     * ListAuthorizations로 grant 스냅샷을 새로 조회하여 캐시와 프로젝션에 저장 (조회용)
+     */
+    private Mono<GrantSnapshot> loadGrantSnapshot(String userId) {
+        return grantProjection.version(userId)
+                .flatMap(version -> fetchGrantSnapshot(userId)
+                        .flatMap(snapshot -> remember(userId, snapshot, version).thenReturn(snapshot)));
+    }
+
+    /**
+     * ListAuthorizations로 현재 grant 스냅샷 조회 (저장하지 않음, 변경 작업은 변경 결과를 저장)
+     */
+    private Mono<GrantSnapshot> fetchGrantSnapshot(String userId) {
+        return authExecutor.listAuthorizations(userId)
+                .map(GrantSnapshot::from)
+                .defaultIfEmpty(GrantSnapshot.of(null, List.of()))
+                .doOnNext(snapshot -> log.debug("Grant 스냅샷 조회 완료: userId={}, grantId={}, roleKeys={}",
+                        userId, snapshot.grantId(), snapshot.roleKeys()));
+    }
+
+    /**
+     * IAM에서 확인한 스냅샷을 캐시와 프로젝션에 저장 (write-through)
+     *
+     * @param version IAM을 조회하기 전에 읽은 프로젝션 version (그 사이 다른 쓰기가 있었으면 프로젝션은 stale로 표시)
+     */
+    private Mono<Void> remember(String userId, GrantSnapshot snapshot, long version) {
+        grantCache.put(userId, snapshot);
+        return grantProjection.save(userId, snapshot, version);
+    }
+
+    /**
+     * 변경 실패 등으로 현재 grant를 알 수 없을 때 캐시 제거, 프로젝션은 stale로 표시
+     */
+    private Mono<Void> forget(String userId) {
+        grantCache.invalidate(userId);
+        return grantProjection.markStale(userId);
+    }
+
+    private static List<IamRole> toRoles(List<String> roleKeys) {
+        List<IamRole> roles = new ArrayList<>();
+        for (String roleKey : roleKeys) {
+            IamRole iamRole = IamRole.fromString(roleKey);
+            if (iamRole != null && !roles.contains(iamRole)) {
+                roles.add(iamRole);
+            }
+        }
+        return roles;
+    }
+
+    /**
+     * IamException의 원인이 409 Conflict인지 확인
+     */
+    private static boolean isConflict(Throwable e) {
+        return hasStatus(e, 409);
+    }
+
+    /**
+     * IAM을 일시적으로 사용할 수 없는 실패인지 확인 (시간 초과, circuit breaker open, 5xx 등)
+     */
+    private static boolean isUnavailable(Throwable e) {
+        return e instanceof IamUnavailableException || ZitadelTransientFailurePredicate.isTransient(e);
+    }
+
+    private static boolean hasStatus(Throwable e, int status) {
+        return e instanceof IamException
+                && e.getCause() instanceof WebClientResponseException cause
+                && cause.getStatusCode().value() == status;
+    }
+}
@@ -0,0 +1,442 @@
+package io.hlab.OpenConsole.infrastructure.iam.zitadel;
+
+import io.hlab.OpenConsole.infrastructure.iam.IamRequestPriority;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.web.reactive.function.client.ClientRequest;
+import org.springframework.web.reactive.function.client.ClientResponse;
+import org.springframework.web.reactive.function.client.ExchangeFilterFunction;
+import org.springframework.web.reactive.function.client.ExchangeFunction;
+import reactor.core.Disposable;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.MonoSink;
+import reactor.core.publisher.SignalType;
+import reactor.core.scheduler.Schedulers;
+
+import java.time.Duration;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Zitadel 전송 계층의 적응형 동시성 제한기 (AIMD)
+ * 관찰한 응답 시간과 429/503/504 응답으로 Zitadel이 감당할 수 있는 동시 요청 수를 학습하고, 초과 요청은 잠시 대기시킴
+ *
+ * <p>공유 WebClient의 {@link ExchangeFilterFunction}으로 등록되어 모든 Executor 호출에 적용됩니다
+ * ({@link ZitadelWebClientConfig}). 대량 작업 중 Zitadel이 429/타임아웃을 반환하기 시작하면
+ * 동시 요청 수를 줄여 계속 두드리지 않도록 합니다.
+ *
+ * <h3>한도 조정 (AIMD)</h3>
+ * <ul>
+ *   <li><b>증가</b>: 응답 시간이 {@code latency-threshold} 이하인 성공 응답마다 {@code 1/limit}씩 증가 (RTT당 약 +1).
+ *       한도의 절반 이상을 사용 중일 때만 증가하여, 한가할 때 한도가 불필요하게 커지지 않도록 합니다.</li>
+ *   <li><b>감소</b>: 429/503/504 응답, 연결 실패, {@code latency-threshold} 초과 응답이면
+ *       한도에 {@code backoff-ratio}를 곱함. 동시에 몰린 실패로 한도가 한 번에 무너지지 않도록 RTT당 한 번만 감소합니다.
+ *       타임아웃(TimeLimiter)은 요청을 취소하므로, {@code latency-threshold}가 지난 뒤 취소된 요청도 감소로 반영합니다.
+ *       그보다 빨리 취소된 요청(헤지 요청의 패자, 호출자 취소)은 한도에 반영하지 않습니다.</li>
+ *   <li>한도는 {@code min-limit}~{@code max-limit} 범위를 유지합니다.</li>
+ *   <li>{@code latency-threshold}는 작업별 TimeLimiter 기한 중 가장 짧은 것보다 충분히 작게 설정해야 지연 신호가 동작합니다.</li>
+ * </ul>
+ *
+ * <h3>대기열과 우선순위</h3>
+ * <ul>
+ *   <li>한도를 넘는 요청은 우선순위({@link IamRequestPriority})별 대기열에서 최대 {@code max-wait}까지 기다립니다.
+ *       대기열이 가득 찼거나 대기 시간을 넘기면 {@link ZitadelLimiterRejectedException}(503)으로 거절합니다.
+ *       이 필터는 {@link ZitadelResilience}의 TimeLimiter 안쪽에서 실행되므로 대기 시간도 작업 기한에 포함됩니다.
+ *       {@code max-wait}를 가장 짧은 TimeLimiter 기한보다 작게 두어, 로컬 대기가 Zitadel 타임아웃으로 집계되어
+ *       공유 circuit breaker를 열지 않도록 합니다 (거절 예외 자체는 circuit breaker가 무시함).</li>
+ *   <li>자리가 나면 대화형 요청을 먼저 처리하며, 일괄 작업은 한도의 {@code bulk-share} 비율까지만 사용할 수 있어
+ *       대화형 요청을 위한 여유를 항상 남깁니다.</li>
+ * </ul>
+ * 한도는 응답 본문 수신이 끝나거나(취소 포함) 요청이 실패한 시점에 반환하며, 응답 시간도 본문 수신 완료까지로 측정합니다.
+ * 따라서 응답 본문은 반드시 소비하거나 해제해야 합니다 ({@code retrieve()}의 body 변환은 항상 소비함).
+ *
+ * <h3>메트릭 (MeterRegistry가 있을 때)</h3>
+ * <ul>
+ *   <li>{@code zitadel.limiter.limit}: 현재 동시 요청 한도</li>
+ *   <li>{@code zitadel.limiter.in-flight}: 진행 중인 요청 수</li>
+ *   <li>{@code zitadel.limiter.queue{priority}}: 대기 중인 요청 수</li>
+ *   <li>{@code zitadel.limiter.rejected{priority, reason}}: 거절된 요청 수 (queue-full / timeout)</li>
+ *   <li>{@code zitadel.limiter.drops}: 한도를 줄인 횟수</li>
+ * </ul>
+ */
+@Slf4j
+@Component
+public class ZitadelAdaptiveLimiter implements ExchangeFilterFunction {
+
+    private final boolean enabled;
+    private final double minLimit;
+    private final double maxLimit;
+    private final double backoffRatio;
+    private final long latencyThresholdNanos;
+    private final double bulkShare;
+    private final Map<IamRequestPriority, Duration> maxWait = new EnumMap<>(IamRequestPriority.class);
+    private final Map<IamRequestPriority, Integer> maxQueueSize = new EnumMap<>(IamRequestPriority.class);
+
+    private final Object lock = new Object();
+    private final Map<IamRequestPriority, Deque<Waiter>> queues = new EnumMap<>(IamRequestPriority.class);
+    private final Map<IamRequestPriority, LongAdder> queueFullRejections = new EnumMap<>(IamRequestPriority.class);
+    private final Map<IamRequestPriority, LongAdder> timeoutRejections = new EnumMap<>(IamRequestPriority.class);
+    private final LongAdder drops = new LongAdder();
+
+    // lock으로 보호
+    private double limit;
+    private int inFlight;
+    private int bulkInFlight;
+    private long lastDropNanos;
+
+    public ZitadelAdaptiveLimiter(
+            ObjectProvider<MeterRegistry> meterRegistry,
+            @Value("${zitadel.limiter.enabled:true}") boolean enabled,
+            @Value("${zitadel.limiter.initial-limit:20}") int initialLimit,
+            @Value("${zitadel.limiter.min-limit:2}") int minLimit,
+            @Value("${zitadel.limiter.max-limit:100}") int maxLimit,
+            @Value("${zitadel.limiter.backoff-ratio:0.9}") double backoffRatio,
+            @Value("${zitadel.limiter.latency-threshold:500ms}") Duration latencyThreshold,
+            @Value("${zitadel.limiter.bulk-share:0.8}") double bulkShare,
+            @Value("${zitadel.limiter.interactive.max-wait:500ms}") Duration interactiveMaxWait,
+            @Value("${zitadel.limiter.interactive.max-queue-size:200}") int interactiveMaxQueueSize,
+            @Value("${zitadel.limiter.bulk.max-wait:500ms}") Duration bulkMaxWait,
+            @Value("${zitadel.limiter.bulk.max-queue-size:1000}") int bulkMaxQueueSize) {
+        this.enabled = enabled;
+        this.minLimit = minLimit;
+        this.maxLimit = maxLimit;
+        this.backoffRatio = backoffRatio;
+        this.latencyThresholdNanos = latencyThreshold.toNanos();
+        this.bulkShare = bulkShare;
+        this.limit = Math.max(minLimit, Math.min(maxLimit, initialLimit));
+        // nanoTime은 기준점이 임의이므로 첫 감소가 항상 허용되도록 충분히 과거로 설정
+        this.lastDropNanos = System.nanoTime() - TimeUnit.HOURS.toNanos(1);
+        maxWait.put(IamRequestPriority.INTERACTIVE, interactiveMaxWait);
+        maxWait.put(IamRequestPriority.BULK, bulkMaxWait);
+        maxQueueSize.put(IamRequestPriority.INTERACTIVE, interactiveMaxQueueSize);
+        maxQueueSize.put(IamRequestPriority.BULK, bulkMaxQueueSize);
+        for (IamRequestPriority priority : IamRequestPriority.values()) {
+            queues.put(priority, new ArrayDeque<>());
+            queueFullRejections.put(priority, new LongAdder());
+            timeoutRejections.put(priority, new LongAdder());
+        }
+        registerMetrics(meterRegistry.getIfAvailable());
+    }
+
+    @Override
+    public Mono<ClientResponse> filter(ClientRequest request, ExchangeFunction next) {
+        if (!enabled) {
+            return next.exchange(request);
+        }
+        // 정상 응답이면 본문 수신이 끝날 때 반환하고, 응답 전 실패/취소면 그 시점에 반환
+        return Mono.deferContextual(context -> Mono.usingWhen(
+                acquire(IamRequestPriority.from(context)),
+                permit -> next.exchange(request)
+                        .map(response -> {
+                            permit.complete(outcome(response.statusCode().value()));
+                            return response.mutate()
+                                    .body(body -> body.doFinally(signal -> {
+                                        if (signal == SignalType.CANCEL) {
+                                            permit.cancel();
+                                        } else {
+                                            permit.release();
+                                        }
+                                    }))
+                                    .build();
+                        }),
+                permit -> Mono.empty(),
+                (permit, e) -> permit.fail(),
+                Permit::cancel));
+    }
+
+    /**
+     * 현재 동시 요청 한도
+     */
+    public double getLimit() {
+        synchronized (lock) {
+            return limit;
+        }
+    }
+
+    /**
+     * 진행 중인 요청 수
+     */
+    public int getInFlight() {
+        synchronized (lock) {
+            return inFlight;
+        }
+    }
+
+    /**
+     * 우선순위별 대기 중인 요청 수
+     */
+    public int getQueueSize(IamRequestPriority priority) {
+        synchronized (lock) {
+            return queues.get(priority).size();
+        }
+    }
+
+    private Mono<Permit> acquire(IamRequestPriority priority) {
+        return Mono.create(sink -> {
+            Permit immediate = null;
+            Waiter waiter = null;
+            boolean queueFull = false;
+            int currentLimit;
+            synchronized (lock) {
+                currentLimit = (int) limit;
+                if (canAcquire(priority)) {
+                    immediate = take(priority);
+                } else if (queues.get(priority).size() >= maxQueueSize.get(priority)) {
+                    queueFull = true;
+                } else {
+                    waiter = new Waiter(priority, sink);
+                    queues.get(priority).addLast(waiter);
+                }
+            }
+
+            // 구독자 신호는 lock 밖에서 전달 (하위 구독이 곧바로 요청을 시작하므로)
+            if (immediate != null) {
+                sink.success(immediate);
+                return;
+            }
+            if (queueFull) {
+                queueFullRejections.get(priority).increment();
+                sink.error(new ZitadelLimiterRejectedException(
+                        "Zitadel 요청 대기열이 가득 찼습니다: priority=" + priority + ", limit=" + currentLimit));
+                return;
+            }
+
+            Waiter queued = waiter;
+            queued.timeout = Schedulers.parallel().schedule(
+                    () -> expire(queued), maxWait.get(priority).toMillis(), TimeUnit.MILLISECONDS);
+            sink.onCancel(() -> cancel(queued));
+        });
+    }
+
+    /**
+     * 대기 시간 초과: 아직 대기열에 있으면 거절
+     */
+    private void expire(Waiter waiter) {
+        synchronized (lock) {
+            if (waiter.permit != null || !queues.get(waiter.priority).remove(waiter)) {
+                return;
+            }
+        }
+        timeoutRejections.get(waiter.priority).increment();
+        waiter.sink.error(new ZitadelLimiterRejectedException(
+                "Zitadel 요청 대기 시간 초과: priority=" + waiter.priority + ", maxWait=" + maxWait.get(waiter.priority)));
+    }
+
+    /**
+     * 대기 중 구독 취소: 대기열에서 제거하거나, 이미 한도를 받았으면 반환
+     */
+    private void cancel(Waiter waiter) {
+        Permit granted;
+        synchronized (lock) {
+            granted = waiter.permit;
+            if (granted == null) {
+                queues.get(waiter.priority).remove(waiter);
+            }
+        }
+        if (waiter.timeout != null) {
+            waiter.timeout.dispose();
+        }
+        if (granted != null) {
+            granted.release();
+        }
+    }
+
+    /**
+     * lock 안에서 호출
+     */
+    private boolean canAcquire(IamRequestPriority priority) {
+        if (inFlight >= (int) limit) {
+            return false;
+        }
+        if (priority == IamRequestPriority.BULK) {
+            // 대화형 요청이 기다리는 중이면 양보하고, 한도의 bulkShare 비율까지만 사용
+            return queues.get(IamRequestPriority.INTERACTIVE).isEmpty()
+                    && bulkInFlight < Math.max(1, (int) (limit * bulkShare));
+        }
+        return true;
+    }
+
+    /**
+     * lock 안에서 호출
+     */
+    private Permit take(IamRequestPriority priority) {
+        inFlight++;
+        if (priority == IamRequestPriority.BULK) {
+            bulkInFlight++;
+        }
+        return new Permit(priority, System.nanoTime());
+    }
+
+    private void release(Permit permit) {
+        List<Waiter> granted = new ArrayList<>();
+        synchronized (lock) {
+            int inFlightBeforeRelease = inFlight;
+            inFlight--;
+            if (permit.priority == IamRequestPriority.BULK) {
+                bulkInFlight--;
+            }
+            adjustLimit(permit, inFlightBeforeRelease);
+
+            // 대화형 대기열 우선으로 자리가 나는 만큼 깨움
+            for (IamRequestPriority priority : IamRequestPriority.values()) {
+                Deque<Waiter> queue = queues.get(priority);
+                while (!queue.isEmpty() && canAcquire(priority)) {
+                    Waiter waiter = queue.pollFirst();
+                    waiter.permit = take(priority);
+                    granted.add(waiter);
+                }
+            }
+        }
+
+        for (Waiter waiter : granted) {
+            if (waiter.timeout != null) {
+                waiter.timeout.dispose();
+            }
+            waiter.sink.success(waiter.permit);
+        }
+    }
+
+    /**
+     * lock 안에서 호출
+     */
+    private void adjustLimit(Permit permit, int inFlightBeforeRelease) {
+        long now = System.nanoTime();
+        long rtt = now - permit.startNanos;
+        Outcome outcome = permit.outcome;
+        if (outcome == Outcome.SUCCESS && rtt > latencyThresholdNanos) {
+            outcome = Outcome.DROPPED;
+        }
+
+        if (outcome == Outcome.DROPPED) {
+            // 같은 RTT 안에 몰린 실패는 한 번만 반영
+            if (now - lastDropNanos >= rtt) {
+                double previous = limit;
+                limit = Math.max(minLimit, limit * backoffRatio);
+                lastDropNanos = now;
+                drops.increment();
+                log.debug("Zitadel 동시 요청 한도 감소: {} -> {}", (int) previous, (int) limit);
+            }
+        } else if (outcome == Outcome.SUCCESS && inFlightBeforeRelease * 2 >= limit) {
+            limit = Math.min(maxLimit, limit + 1.0 / limit);
+        }
+    }
+
+    private static Outcome outcome(int status) {
+        if (status == 429 || status == 503 || status == 504) {
+            return Outcome.DROPPED;
+        }
+        return status < 500 ? Outcome.SUCCESS : Outcome.IGNORED;
+    }
+
+    private void registerMetrics(MeterRegistry meterRegistry) {
+        if (meterRegistry == null) {
+            return;
+        }
+        Gauge.builder("zitadel.limiter.limit", this, ZitadelAdaptiveLimiter::getLimit)
+                .description("Zitadel 동시 요청 한도")
+                .register(meterRegistry);
+        Gauge.builder("zitadel.limiter.in-flight", this, ZitadelAdaptiveLimiter::getInFlight)
+                .description("진행 중인 Zitadel 요청 수")
+                .register(meterRegistry);
+        FunctionCounter.builder("zitadel.limiter.drops", drops, LongAdder::sum)
+                .description("Zitadel 동시 요청 한도를 줄인 횟수")
+                .register(meterRegistry);
+        for (IamRequestPriority priority : IamRequestPriority.values()) {
+            String tag = priority.name().toLowerCase(Locale.ROOT);
+            Gauge.builder("zitadel.limiter.queue", this, limiter -> limiter.getQueueSize(priority))
+                    .tag("priority", tag)
+                    .description("한도를 기다리는 Zitadel 요청 수")
+                    .register(meterRegistry);
+            FunctionCounter.builder("zitadel.limiter.rejected", queueFullRejections.get(priority), LongAdder::sum)
+                    .tag("priority", tag)
+                    .tag("reason", "queue-full")
+                    .description("거절된 Zitadel 요청 수")
+                    .register(meterRegistry);
+            FunctionCounter.builder("zitadel.limiter.rejected", timeoutRejections.get(priority), LongAdder::sum)
+                    .tag("priority", tag)
+                    .tag("reason", "timeout")
+                    .description("거절된 Zitadel 요청 수")
+                    .register(meterRegistry);
+        }
+    }
+
+    private enum Outcome {
+        SUCCESS,
+        DROPPED,
+        IGNORED
+    }
+
+    /**
+     * 대기 중인 요청 (permit은 lock 안에서만 설정)
+     */
+    private static final class Waiter {
+        private final IamRequestPriority priority;
+        private final MonoSink<Permit> sink;
+        private Permit permit;
+        private volatile Disposable timeout;
+
+        private Waiter(IamRequestPriority priority, MonoSink<Permit> sink) {
+            this.priority = priority;
+            this.sink = sink;
+        }
+    }
+
+    /**
+     * 획득한 한도 1개 (release는 여러 번 호출해도 한 번만 반영)
+     */
+    private final class Permit {
+        private final IamRequestPriority priority;
+        private final long startNanos;
+        private final AtomicBoolean released = new AtomicBoolean();
+        private volatile Outcome outcome = Outcome.IGNORED;
+
+        private Permit(IamRequestPriority priority, long startNanos) {
+            this.priority = priority;
+            this.startNanos = startNanos;
+        }
+
+        void complete(Outcome outcome) {
+            this.outcome = outcome;
+        }
+
+        /**
+         * 응답 전 실패 (연결 실패 등)
+         */
+        Mono<Void> fail() {
+            if (!released.get()) {
+                outcome = Outcome.DROPPED;
+            }
+            return release();
+        }
+
+        /**
+         * 요청 취소: latency-threshold가 지난 뒤의 취소(타임아웃)는 감소로, 그 전의 취소는 무시
+         */
+        Mono<Void> cancel() {
+            if (!released.get()) {
+                outcome = System.nanoTime() - startNanos >= latencyThresholdNanos ? Outcome.DROPPED : Outcome.IGNORED;
+            }
+            return release();
+        }
+
+        Mono<Void> release() {
+            if (released.compareAndSet(false, true)) {
+                ZitadelAdaptiveLimiter.this.release(this);
+            }
+            return Mono.empty();
+        }
+    }
+}
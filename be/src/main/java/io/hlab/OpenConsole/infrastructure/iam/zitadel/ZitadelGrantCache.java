@@ -0,0 +1,94 @@
+package io.hlab.OpenConsole.infrastructure.iam.zitadel;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+import io.hlab.OpenConsole.infrastructure.iam.IamAuthorizationChangedEvent;
+import io.hlab.OpenConsole.infrastructure.iam.IamUserChangedEvent;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+/**
+ * Subject → {@link GrantSnapshot} 캐시
+ * ListAuthorizations 결과를 사용자별로 보관하여 role 조회/변경 시 반복 조회를 줄임
+ *
+ * <ul>
+ *   <li><b>Write-through</b>: Create/UpdateAuthorization 성공 시 결과 roleKeys로 스냅샷을 갱신</li>
+ *   <li><b>신선도</b>: 저장 후 {@code zitadel.cache.grant.ttl}이 지나면 만료되며, 캐시에 있는 스냅샷은 항상 fresh로 간주</li>
+ *   <li><b>무효화</b>: 변경 실패 시, 그리고 {@link IamUserChangedEvent}/{@link IamAuthorizationChangedEvent} 수신 시 해당 subject 제거</li>
+ * </ul>
+ *
+ * <p>Zitadel 콘솔 등 외부에서 role을 변경한 경우 webhook({@code zitadel.webhook.*})이 켜져 있으면 곧바로 무효화되고,
+ * 꺼져 있으면 TTL 동안은 이전 스냅샷이 보일 수 있으므로 TTL은 짧게 유지합니다.
+ */
+@Slf4j
+@Component
+public class ZitadelGrantCache {
+
+    static final String CACHE_NAME = "zitadel.grant";
+
+    private final Cache<String, GrantSnapshot> cache;
+
+    public ZitadelGrantCache(
+            @Value("${zitadel.cache.grant.ttl:30s}") Duration ttl,
+            @Value("${zitadel.cache.grant.max-size:10000}") long maxSize,
+            ObjectProvider<MeterRegistry> meterRegistry) {
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfterWrite(ttl)
+                .recordStats()
+                .build();
+
+        meterRegistry.ifAvailable(registry -> CaffeineCacheMetrics.monitor(registry, cache, CACHE_NAME));
+        log.debug("Grant 캐시 설정: ttl={}, maxSize={}", ttl, maxSize);
+    }
+
+    /**
+     * fresh한 스냅샷 조회
+     *
+     * @return 스냅샷, 없거나 만료되었으면 null
+     */
+    public GrantSnapshot getIfFresh(String subject) {
+        return cache.getIfPresent(subject);
+    }
+
+    public void put(String subject, GrantSnapshot snapshot) {
+        cache.put(subject, snapshot);
+    }
+
+    public void invalidate(String subject) {
+        if (subject != null) {
+            cache.invalidate(subject);
+        }
+    }
+
+    public void invalidateAll() {
+        cache.invalidateAll();
+    }
+
+    public CacheStats stats() {
+        return cache.stats();
+    }
+
+    @EventListener
+    public void onUserChanged(IamUserChangedEvent event) {
+        invalidate(event.subject());
+    }
+
+    @EventListener
+    public void onAuthorizationChanged(IamAuthorizationChangedEvent event) {
+        log.debug("Grant 캐시 무효화: subject={}", event.subject());
+        if (event.subject() == null) {
+            invalidateAll();
+        } else {
+            invalidate(event.subject());
+        }
+    }
+}
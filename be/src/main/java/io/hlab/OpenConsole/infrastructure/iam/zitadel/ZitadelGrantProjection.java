@@ -0,0 +1,268 @@
+package io.hlab.OpenConsole.infrastructure.iam.zitadel;
+
+import io.hlab.OpenConsole.domain.iam.UserRoleProjection;
+import io.hlab.OpenConsole.domain.iam.UserRoleProjectionRepository;
+import io.hlab.OpenConsole.infrastructure.iam.IamAuthorizationChangedEvent;
+import io.hlab.OpenConsole.infrastructure.iam.IamRequestPriority;
+import io.hlab.OpenConsole.infrastructure.iam.zitadel.client.ZitadelAuthExecutor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.List;
+
+/**
+ * 사용자별 grant 스냅샷의 DB 프로젝션 (user_roles)
+ * role 조회를 ListAuthorizations 대신 로컬 DB에서 처리하고, IAM 장애 중에도 마지막 값으로 응답할 수 있게 함
+ *
+ * <ul>
+ *   <li><b>Write-through</b>: {@link ReactiveZitadelClient}가 Create/UpdateAuthorization 성공 또는 조회 후 저장.
+ *       IAM을 조회하기 전에 읽은 version({@link #version})이 그대로일 때만 덮어쓰고, 그 사이 다른 쓰기가 있었으면
+ *       어느 쪽이 최신인지 알 수 없으므로 stale로 표시</li>
+ *   <li><b>신선도</b>: 마지막 확인 후 {@code zitadel.projection.roles.max-staleness}가 지나지 않은 행만 fresh로 간주</li>
+ *   <li><b>재조정</b>: {@code reconcile-interval}마다 확인한 지 max-staleness의 절반이 지난 행을 ListAuthorizations로 다시 확인.
+ *       읽은 시점의 version이 그대로일 때만 덮어써서 그 사이의 write-through를 되돌리지 않음</li>
+ *   <li><b>무효화</b>: {@link IamAuthorizationChangedEvent} 수신 시 행은 남기고 stale로 표시 (장애 시 fallback 용도)</li>
+ * </ul>
+ *
+ * <p>DB 접근은 블로킹이므로 boundedElastic에서 실행합니다.
+ * 프로젝션 저장 실패는 role 변경 자체의 실패가 아니므로 로그만 남기고 무시합니다.
+ */
+@Slf4j
+@Component
+public class ZitadelGrantProjection {
+
+    /**
+     * 행이 없을 때의 version ({@link #save}는 행이 없을 때만 생성)
+     */
+    public static final long NO_ROW = 0L;
+
+    /**
+     * version을 읽지 못했을 때의 값 ({@link #save}는 덮어쓰지 않고 stale로 표시)
+     */
+    private static final long UNKNOWN_VERSION = -1L;
+
+    private final UserRoleProjectionRepository userRoleProjectionRepository;
+    private final ZitadelAuthExecutor authExecutor;
+    private final ZitadelGrantCache grantCache;
+    private final boolean enabled;
+    private final Duration maxStaleness;
+    private final int reconcileBatchSize;
+    private final int reconcileConcurrency;
+
+    public ZitadelGrantProjection(
+            UserRoleProjectionRepository userRoleProjectionRepository,
+            ZitadelAuthExecutor authExecutor,
+            ZitadelGrantCache grantCache,
+            @Value("${zitadel.projection.roles.enabled:true}") boolean enabled,
+            @Value("${zitadel.projection.roles.max-staleness:5m}") Duration maxStaleness,
+            @Value("${zitadel.projection.roles.reconcile-batch-size:100}") int reconcileBatchSize,
+            @Value("${zitadel.projection.roles.reconcile-concurrency:4}") int reconcileConcurrency) {
+        this.userRoleProjectionRepository = userRoleProjectionRepository;
+        this.authExecutor = authExecutor;
+        this.grantCache = grantCache;
+        this.enabled = enabled;
+        this.maxStaleness = maxStaleness;
+        this.reconcileBatchSize = reconcileBatchSize;
+        this.reconcileConcurrency = reconcileConcurrency;
+        log.debug("Grant 프로젝션 설정: enabled={}, maxStaleness={}, reconcileBatchSize={}, reconcileConcurrency={}",
+                enabled, maxStaleness, reconcileBatchSize, reconcileConcurrency);
+    }
+
+    /**
+     * max-staleness 안에 확인된 스냅샷 조회
+     *
+     * @return 스냅샷, 없거나 오래되었거나 비활성화 상태면 empty
+     */
+    public Mono<GrantSnapshot> findFresh(String subject) {
+        if (!enabled) {
+            return Mono.empty();
+        }
+        return Mono.fromCallable(() -> userRoleProjectionRepository.findBySubject(subject)
+                        .filter(this::isFresh)
+                        .map(ZitadelGrantProjection::toSnapshot)
+                        .orElse(null))
+                .subscribeOn(Schedulers.boundedElastic())
+                .onErrorResume(e -> {
+                    log.warn("Grant 프로젝션 조회 실패: subject={}, error={}", subject, e.getMessage());
+                    return Mono.empty();
+                });
+    }
+
+    /**
+     * 신선도와 관계없이 마지막으로 저장된 스냅샷 조회 (IAM 장애 시 fallback)
+     */
+    public Mono<GrantSnapshot> findAny(String subject) {
+        if (!enabled) {
+            return Mono.empty();
+        }
+        return Mono.fromCallable(() -> userRoleProjectionRepository.findBySubject(subject)
+                        .map(ZitadelGrantProjection::toSnapshot)
+                        .orElse(null))
+                .subscribeOn(Schedulers.boundedElastic())
+                .onErrorResume(e -> {
+                    log.warn("Grant 프로젝션 조회 실패: subject={}, error={}", subject, e.getMessage());
+                    return Mono.empty();
+                });
+    }
+
+    /**
+     * 현재 version 조회 (write-through 전에 IAM을 조회하기 직전에 읽어 {@link #save}에 넘김)
+     *
+     * @return version, 행이 없거나 비활성화 상태면 {@link #NO_ROW}
+     */
+    public Mono<Long> version(String subject) {
+        if (!enabled) {
+            return Mono.just(NO_ROW);
+        }
+        return Mono.fromCallable(() -> userRoleProjectionRepository.findBySubject(subject)
+                        .map(UserRoleProjection::getVersion)
+                        .orElse(NO_ROW))
+                .subscribeOn(Schedulers.boundedElastic())
+                .onErrorResume(e -> {
+                    log.warn("Grant 프로젝션 조회 실패: subject={}, error={}", subject, e.getMessage());
+                    return Mono.just(UNKNOWN_VERSION);
+                });
+    }
+
+    /**
+     * IAM에서 확인한 스냅샷 저장 (write-through)
+     * 재조정과 같이 version이 그대로일 때만 덮어쓰며, 그 사이 다른 쓰기가 있었으면 다음 조회에서 IAM을 다시 확인하도록 stale로 표시합니다.
+     *
+     * @param expectedVersion IAM을 조회하기 전에 {@link #version}으로 읽은 version
+     */
+    public Mono<Void> save(String subject, GrantSnapshot snapshot, long expectedVersion) {
+        if (!enabled) {
+            return Mono.empty();
+        }
+        return Mono.fromRunnable(() -> {
+                    boolean saved = expectedVersion != UNKNOWN_VERSION && userRoleProjectionRepository.saveIfVersion(
+                            subject, snapshot.grantId(), snapshot.roleKeys(), now(),
+                            expectedVersion != NO_ROW ? expectedVersion : null);
+                    if (!saved) {
+                        log.debug("Grant 프로젝션 version 충돌, stale로 표시: subject={}, expectedVersion={}",
+                                subject, expectedVersion);
+                        userRoleProjectionRepository.markStale(subject);
+                    }
+                })
+                .subscribeOn(Schedulers.boundedElastic())
+                .onErrorResume(e -> {
+                    log.warn("Grant 프로젝션 저장 실패: subject={}, error={}", subject, e.getMessage());
+                    return Mono.empty();
+                })
+                .then();
+    }
+
+    /**
+     * 다음 조회에서 IAM을 다시 확인하도록 표시 (변경 실패 등으로 상태를 알 수 없을 때)
+     */
+    public Mono<Void> markStale(String subject) {
+        if (!enabled) {
+            return Mono.empty();
+        }
+        return Mono.fromRunnable(() -> userRoleProjectionRepository.markStale(subject))
+                .subscribeOn(Schedulers.boundedElastic())
+                .onErrorResume(e -> {
+                    log.warn("Grant 프로젝션 stale 표시 실패: subject={}, error={}", subject, e.getMessage());
+                    return Mono.empty();
+                })
+                .then();
+    }
+
+    @EventListener
+    public void onAuthorizationChanged(IamAuthorizationChangedEvent event) {
+        if (!enabled) {
+            return;
+        }
+        if (event.subject() == null) {
+            userRoleProjectionRepository.markAllStale();
+        } else {
+            userRoleProjectionRepository.markStale(event.subject());
+        }
+    }
+
+    /**
+     * 주기 실행 (zitadel.projection.roles.enabled=true일 때만)
+     */
+    @Scheduled(
+            initialDelayString = "${zitadel.projection.roles.reconcile-interval:1m}",
+            fixedDelayString = "${zitadel.projection.roles.reconcile-interval:1m}")
+    public void scheduledReconcile() {
+        if (!enabled) {
+            return;
+        }
+        try {
+            reconcile();
+        } catch (RuntimeException e) {
+            log.error("Grant projection reconcile failed", e);
+        }
+    }
+
+    /**
+     * 오래된 행을 ListAuthorizations로 다시 확인 (주기 재조정)
+     * 한 번에 reconcile-batch-size개까지 처리하며, 나머지는 다음 주기에 처리합니다.
+     *
+     * @return 갱신한 행 수
+     */
+    public int reconcile() {
+        if (!enabled) {
+            return 0;
+        }
+        LocalDateTime threshold = now().minus(maxStaleness.dividedBy(2));
+        List<UserRoleProjection> rows = userRoleProjectionRepository.findSyncedBefore(threshold, reconcileBatchSize);
+        if (rows.isEmpty()) {
+            return 0;
+        }
+
+        Long updated = Flux.fromIterable(rows)
+                .flatMap(this::reconcileOne, reconcileConcurrency)
+                .filter(Boolean::booleanValue)
+                .count()
+                .contextWrite(IamRequestPriority.bulk())
+                .block();
+        log.info("Grant projection reconciled: checked={}, updated={}", rows.size(), updated);
+        return updated != null ? updated.intValue() : 0;
+    }
+
+    private Mono<Boolean> reconcileOne(UserRoleProjection row) {
+        String subject = row.getSubject();
+        return authExecutor.listAuthorizations(subject)
+                .map(GrantSnapshot::from)
+                .defaultIfEmpty(GrantSnapshot.of(null, List.of()))
+                .flatMap(snapshot -> Mono.fromCallable(() -> {
+                            boolean saved = userRoleProjectionRepository.saveIfVersion(
+                                    subject, snapshot.grantId(), snapshot.roleKeys(), now(), row.getVersion());
+                            if (saved) {
+                                grantCache.put(subject, snapshot);
+                            }
+                            return saved;
+                        })
+                        .subscribeOn(Schedulers.boundedElastic()))
+                .onErrorResume(e -> {
+                    log.warn("Grant projection reconcile failed: subject={}, error={}", subject, e.getMessage());
+                    return Mono.just(false);
+                });
+    }
+
+    private boolean isFresh(UserRoleProjection row) {
+        return row.getSyncedAt() != null && row.getSyncedAt().isAfter(now().minus(maxStaleness));
+    }
+
+    private static GrantSnapshot toSnapshot(UserRoleProjection row) {
+        Instant fetchedAt = row.getSyncedAt() != null ? row.getSyncedAt().toInstant(ZoneOffset.UTC) : Instant.EPOCH;
+        return new GrantSnapshot(row.getGrantId(), row.getRoleKeyList(), fetchedAt);
+    }
+
+    private static LocalDateTime now() {
+        return LocalDateTime.now(ZoneOffset.UTC);
+    }
+}
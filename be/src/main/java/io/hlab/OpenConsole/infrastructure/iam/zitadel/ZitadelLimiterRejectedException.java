@@ -0,0 +1,18 @@
+package io.hlab.OpenConsole.infrastructure.iam.zitadel;
+
+import io.hlab.OpenConsole.infrastructure.iam.IamUnavailableException;
+
+/**
+ * 적응형 동시성 제한기({@link ZitadelAdaptiveLimiter})가 요청을 보내지 않고 거절했음을 나타내는 예외
+ * 대기열이 가득 찼거나 대기 시간({@code zitadel.limiter.*.max-wait})을 넘긴 경우 발생합니다.
+ *
+ * <p>Zitadel의 실패가 아니라 로컬 대기열의 혼잡이므로 circuit breaker는 이 예외를 집계하지 않고
+ * ({@code resilience4j.circuitbreaker.configs.default.ignore-exceptions}), 재시도 대상도 아닙니다.
+ * 응답은 {@link IamUnavailableException}과 같이 503입니다.
+ */
+public class ZitadelLimiterRejectedException extends IamUnavailableException {
+
+    public ZitadelLimiterRejectedException(String message) {
+        super(message);
+    }
+}
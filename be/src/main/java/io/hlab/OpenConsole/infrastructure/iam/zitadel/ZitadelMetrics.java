@@ -0,0 +1,201 @@
+package io.hlab.OpenConsole.infrastructure.iam.zitadel;
+
+import io.hlab.OpenConsole.infrastructure.iam.IamUnavailableException;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.Meter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.stereotype.Component;
+import org.springframework.web.reactive.function.client.ClientRequest;
+import org.springframework.web.reactive.function.client.ClientResponse;
+import org.springframework.web.reactive.function.client.ExchangeFilterFunction;
+import org.springframework.web.reactive.function.client.ExchangeFunction;
+import org.springframework.web.reactive.function.client.WebClientResponseException;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.SignalType;
+
+import java.time.Duration;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Zitadel 작업별 지연/오류 메트릭
+ * {@link ZitadelResilience#decorate}가 모든 Executor 호출을 이 클래스로 감싸고,
+ * 공유 WebClient 필터로 등록되어 실제 HTTP 상태와 응답 크기를 기록합니다.
+ *
+ * <h3>메트릭 (MeterRegistry가 있을 때)</h3>
+ * <ul>
+ *   <li>{@code zitadel.client.requests} (timer): 작업 한 번의 소요 시간 (재시도/대기 포함).
+ *       태그 {@code operation}, {@code outcome}, {@code status}. percentile histogram과 SLO 버킷을 함께 발행</li>
+ *   <li>{@code zitadel.client.requests.active} (gauge): 작업별 진행 중인 호출 수</li>
+ *   <li>{@code zitadel.client.response.size} (distribution, bytes): 작업별 응답 본문 크기 (압축 해제 후)</li>
+ * </ul>
+ *
+ * <p>{@code operation} 태그는 resilience4j 메트릭의 {@code name} 태그와 같은 {@link ZitadelOperation#getInstanceName()}을 사용합니다.
+ * {@code status}는 마지막 시도의 HTTP 상태 코드이며, 응답을 받지 못했으면 {@code NONE}입니다.
+ * {@code outcome}은 SUCCESS, CLIENT_ERROR(4xx), SERVER_ERROR(5xx), UNAVAILABLE(시간 초과/circuit open/연결 실패 등),
+ * CANCELLED(헤징에서 진 요청 등), UNKNOWN 중 하나입니다.
+ *
+ * <p>작업 정보는 Reactor context로 WebClient 필터에 전달합니다 ({@link io.hlab.OpenConsole.infrastructure.iam.IamRequestPriority}와 같은 방식).
+ */
+@Slf4j
+@Component
+public class ZitadelMetrics implements ExchangeFilterFunction {
+
+    private static final String EXCHANGE_KEY = ZitadelMetrics.class.getName() + ".exchange";
+
+    private final MeterRegistry meterRegistry;
+    private final Map<ZitadelOperation, AtomicInteger> active = new EnumMap<>(ZitadelOperation.class);
+    private final Map<ZitadelOperation, DistributionSummary> responseSizes = new EnumMap<>(ZitadelOperation.class);
+    private final Meter.MeterProvider<Timer> requestTimer;
+
+    public ZitadelMetrics(
+            ObjectProvider<MeterRegistry> meterRegistry,
+            @Value("${zitadel.metrics.enabled:true}") boolean enabled,
+            @Value("${zitadel.metrics.percentiles-histogram:true}") boolean percentilesHistogram,
+            @Value("${zitadel.metrics.slo:50ms,100ms,250ms,500ms,1s,2s}") List<Duration> slo) {
+        this.meterRegistry = enabled ? meterRegistry.getIfAvailable() : null;
+        if (this.meterRegistry == null) {
+            this.requestTimer = null;
+            return;
+        }
+        this.requestTimer = Timer.builder("zitadel.client.requests")
+                .description("Zitadel 작업 소요 시간")
+                .publishPercentileHistogram(percentilesHistogram)
+                .serviceLevelObjectives(slo.toArray(Duration[]::new))
+                .withRegistry(this.meterRegistry);
+        for (ZitadelOperation operation : ZitadelOperation.values()) {
+            AtomicInteger count = new AtomicInteger();
+            active.put(operation, count);
+            Gauge.builder("zitadel.client.requests.active", count, AtomicInteger::get)
+                    .tag("operation", operation.getInstanceName())
+                    .description("진행 중인 Zitadel 작업 수")
+                    .register(this.meterRegistry);
+            responseSizes.put(operation, DistributionSummary.builder("zitadel.client.response.size")
+                    .tag("operation", operation.getInstanceName())
+                    .baseUnit("bytes")
+                    .description("Zitadel 응답 본문 크기")
+                    .publishPercentileHistogram(percentilesHistogram)
+                    .register(this.meterRegistry));
+        }
+        log.debug("Zitadel 메트릭 설정: percentilesHistogram={}, slo={}", percentilesHistogram, slo);
+    }
+
+    /**
+     * 작업 한 번의 소요 시간/결과 기록 (구독할 때마다 측정)
+     *
+     * @param operation 작업
+     * @param call 복원력 정책까지 적용된 호출
+     */
+    public <T> Mono<T> record(ZitadelOperation operation, Mono<T> call) {
+        if (meterRegistry == null) {
+            return call;
+        }
+        return Mono.defer(() -> {
+            Exchange exchange = new Exchange(operation);
+            AtomicInteger inFlight = active.get(operation);
+            inFlight.incrementAndGet();
+            Timer.Sample sample = Timer.start(meterRegistry);
+            return call
+                    .doOnError(exchange::failed)
+                    .doFinally(signal -> {
+                        inFlight.decrementAndGet();
+                        sample.stop(requestTimer.withTags(Tags.of(
+                                "operation", operation.getInstanceName(),
+                                "outcome", exchange.outcome(signal),
+                                "status", exchange.statusTag())));
+                    })
+                    .contextWrite(context -> context.put(EXCHANGE_KEY, exchange));
+        });
+    }
+
+    /**
+     * 실제 HTTP 응답의 상태 코드와 본문 크기 기록 (공유 WebClient 필터)
+     * {@link #record}를 거치지 않은 요청은 그대로 통과합니다.
+     */
+    @Override
+    public Mono<ClientResponse> filter(ClientRequest request, ExchangeFunction next) {
+        return Mono.deferContextual(context -> {
+            Exchange exchange = context.getOrDefault(EXCHANGE_KEY, null);
+            if (exchange == null) {
+                return next.exchange(request);
+            }
+            return next.exchange(request).map(response -> {
+                exchange.status = response.statusCode().value();
+                DistributionSummary size = responseSizes.get(exchange.operation);
+                return response.mutate()
+                        .body(body -> countBytes(body, size))
+                        .build();
+            });
+        });
+    }
+
+    private static Flux<DataBuffer> countBytes(Flux<DataBuffer> body, DistributionSummary size) {
+        AtomicLong bytes = new AtomicLong();
+        return body
+                .doOnNext(buffer -> bytes.addAndGet(buffer.readableByteCount()))
+                .doOnComplete(() -> size.record(bytes.get()));
+    }
+
+    /**
+     * 작업 한 번의 상태 (마지막 시도의 HTTP 상태, 실패 원인)
+     */
+    private static final class Exchange {
+
+        private final ZitadelOperation operation;
+        private volatile int status;
+        private volatile Throwable error;
+
+        private Exchange(ZitadelOperation operation) {
+            this.operation = operation;
+        }
+
+        private void failed(Throwable e) {
+            this.error = e;
+        }
+
+        private String statusTag() {
+            int code = statusCode();
+            return code > 0 ? String.valueOf(code) : "NONE";
+        }
+
+        private int statusCode() {
+            for (Throwable e = error; e != null; e = e.getCause()) {
+                if (e instanceof WebClientResponseException responseException) {
+                    return responseException.getStatusCode().value();
+                }
+            }
+            return status;
+        }
+
+        private String outcome(SignalType signal) {
+            if (signal == SignalType.CANCEL) {
+                return "CANCELLED";
+            }
+            if (signal != SignalType.ON_ERROR) {
+                return "SUCCESS";
+            }
+            int code = statusCode();
+            if (code >= 400 && code < 500) {
+                return "CLIENT_ERROR";
+            }
+            if (code >= 500) {
+                return "SERVER_ERROR";
+            }
+            if (error instanceof IamUnavailableException || ZitadelTransientFailurePredicate.isTransient(error)) {
+                return "UNAVAILABLE";
+            }
+            return "UNKNOWN";
+        }
+    }
+}
@@ -0,0 +1,48 @@
+package io.hlab.OpenConsole.infrastructure.iam.zitadel;
+
+import lombok.Getter;
+
+/**
+ * Zitadel API 작업 목록
+ * {@link ZitadelResilience}에서 작업별 타임아웃/재시도 인스턴스 이름과 재시도 가능 여부를 결정하는 데 사용
+ *
+ * <p>인스턴스 이름은 {@code resilience4j.timelimiter.instances.<name>},
+ * {@code resilience4j.retry.instances.<name>}의 키로 사용되며, 설정이 없으면 {@code configs.default}를 따릅니다.
+ */
+@Getter
+public enum ZitadelOperation {
+    // User v2 API
+    LIST_USERS("zitadel-list-users", true),
+    GET_USER_BY_ID("zitadel-get-user-by-id", true),
+    CREATE_USER("zitadel-create-user", false),
+    DELETE_USER("zitadel-delete-user", false),
+    DEACTIVATE_USER("zitadel-deactivate-user", false),
+    SET_USER_METADATA("zitadel-set-user-metadata", false),
+    LOCK_USER("zitadel-lock-user", false),
+    UNLOCK_USER("zitadel-unlock-user", false),
+    CREATE_INVITE_CODE("zitadel-create-invite-code", false),
+
+    // Authorization v2 API
+    LIST_AUTHORIZATIONS("zitadel-list-authorizations", true),
+    CREATE_AUTHORIZATION("zitadel-create-authorization", false),
+    UPDATE_AUTHORIZATION("zitadel-update-authorization", false),
+    DELETE_AUTHORIZATION("zitadel-delete-authorization", false),
+    ACTIVATE_AUTHORIZATION("zitadel-activate-authorization", false),
+    DEACTIVATE_AUTHORIZATION("zitadel-deactivate-authorization", false);
+
+    /**
+     * resilience4j 인스턴스 이름
+     */
+    private final String instanceName;
+
+    /**
+     * 멱등(조회) 작업 여부: true인 작업만 재시도합니다.
+     * 쓰기 작업은 요청이 이미 반영된 뒤 응답만 유실됐을 수 있으므로 재시도하지 않습니다.
+     */
+    private final boolean idempotent;
+
+    ZitadelOperation(String instanceName, boolean idempotent) {
+        this.instanceName = instanceName;
+        this.idempotent = idempotent;
+    }
+}
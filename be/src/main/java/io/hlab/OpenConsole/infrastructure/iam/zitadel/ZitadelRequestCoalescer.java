@@ -0,0 +1,143 @@
+package io.hlab.OpenConsole.infrastructure.iam.zitadel;
+
+import io.hlab.OpenConsole.infrastructure.iam.IamRequestPriority;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Mono;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+
+/**
+ * Zitadel 조회 요청 병합기 (Single-flight)
+ * 같은 키의 조회가 진행 중이면 새 요청을 보내지 않고 진행 중인 요청의 결과를 함께 받음
+ *
+ * <p>대시보드 동시 접속, 배포 직후 대량 재로그인처럼 같은 사용자에 대한 동일 조회가 몰릴 때
+ * Zitadel로 나가는 요청 수를 키당 1개로 제한합니다.
+ * 결과(성공/에러)는 대기 중인 모든 구독자에게 동일하게 전달되며, 완료 즉시 키가 제거되므로
+ * 캐시가 아니라 "진행 중인 요청 공유"입니다.
+ *
+ * <p>공유된 요청은 구독자 일부가 취소해도 중단되지 않으며, 첫 구독자의 Reactor Context로 실행됩니다.
+ * 요청 우선순위({@link IamRequestPriority})가 다르면 서로 다른 요청으로 취급하므로,
+ * 대화형 요청이 일괄 작업 우선순위로 시작된 요청에 합류하여 함께 대기하지 않습니다.
+ *
+ * <h3>메트릭 (MeterRegistry가 있을 때)</h3>
+ * <ul>
+ *   <li>{@code zitadel.coalescing.requests{operation}}: 병합기를 거친 전체 요청 수</li>
+ *   <li>{@code zitadel.coalescing.coalesced{operation}}: 진행 중인 요청에 합류한 요청 수</li>
+ *   <li>{@code zitadel.coalescing.ratio{operation}}: coalesced / requests</li>
+ *   <li>{@code zitadel.coalescing.in-flight}: 현재 진행 중인 고유 요청 수</li>
+ * </ul>
+ */
+@Slf4j
+@Component
+public class ZitadelRequestCoalescer {
+
+    private final ConcurrentHashMap<FlightKey, Mono<?>> inFlight = new ConcurrentHashMap<>();
+    private final ConcurrentHashMap<String, OperationStats> stats = new ConcurrentHashMap<>();
+    private final MeterRegistry meterRegistry;
+
+    @Value("${zitadel.coalescing.enabled:true}")
+    private boolean enabled = true;
+
+    public ZitadelRequestCoalescer(ObjectProvider<MeterRegistry> meterRegistry) {
+        this.meterRegistry = meterRegistry.getIfAvailable();
+        if (this.meterRegistry != null) {
+            Gauge.builder("zitadel.coalescing.in-flight", inFlight, ConcurrentHashMap::size)
+                    .description("현재 진행 중인 고유 Zitadel 조회 수")
+                    .register(this.meterRegistry);
+        }
+    }
+
+    /**
+     * 같은 operation/key/우선순위의 요청이 진행 중이면 그 결과를 공유하고, 없으면 call로 새 요청을 시작
+     *
+     * @param operation 작업 이름 (메트릭 태그, 키 네임스페이스)
+     * @param key 요청을 식별하는 키 (예: userId, email)
+     * @param call 실제 API 호출
+     * @return 공유된 결과
+     */
+    @SuppressWarnings("unchecked")
+    public <T> Mono<T> execute(String operation, String key, Supplier<Mono<T>> call) {
+        if (!enabled) {
+            return Mono.defer(call);
+        }
+
+        return Mono.deferContextual(context -> {
+            OperationStats operationStats = stats(operation);
+            operationStats.requests.increment();
+
+            FlightKey flightKey = new FlightKey(operation, key, IamRequestPriority.from(context));
+            boolean[] leader = {false};
+            Mono<?> flight = inFlight.computeIfAbsent(flightKey, k -> {
+                leader[0] = true;
+                return newFlight(k, call);
+            });
+
+            if (!leader[0]) {
+                operationStats.coalesced.increment();
+                log.debug("진행 중인 Zitadel 요청에 합류: operation={}, key={}", operation, key);
+            }
+            return (Mono<T>) flight;
+        });
+    }
+
+    /**
+     * 작업별 병합 비율 (coalesced / requests)
+     */
+    public double coalescingRatio(String operation) {
+        OperationStats operationStats = stats.get(operation);
+        return operationStats != null ? operationStats.ratio() : 0.0;
+    }
+
+    private <T> Mono<T> newFlight(FlightKey flightKey, Supplier<Mono<T>> call) {
+        AtomicReference<Mono<T>> self = new AtomicReference<>();
+        Mono<T> flight = Mono.defer(call)
+                // 완료/에러 즉시 제거하여 다음 요청은 새로 호출 (자기 자신일 때만 제거)
+                .doFinally(signal -> inFlight.remove(flightKey, self.get()))
+                .share();
+        self.set(flight);
+        return flight;
+    }
+
+    private OperationStats stats(String operation) {
+        return stats.computeIfAbsent(operation, op -> {
+            OperationStats operationStats = new OperationStats();
+            if (meterRegistry != null) {
+                FunctionCounter.builder("zitadel.coalescing.requests", operationStats.requests, LongAdder::sum)
+                        .tag("operation", op)
+                        .description("병합기를 거친 Zitadel 조회 요청 수")
+                        .register(meterRegistry);
+                FunctionCounter.builder("zitadel.coalescing.coalesced", operationStats.coalesced, LongAdder::sum)
+                        .tag("operation", op)
+                        .description("진행 중인 요청에 합류하여 생략된 Zitadel 조회 수")
+                        .register(meterRegistry);
+                Gauge.builder("zitadel.coalescing.ratio", operationStats, OperationStats::ratio)
+                        .tag("operation", op)
+                        .description("Zitadel 조회 병합 비율 (coalesced / requests)")
+                        .register(meterRegistry);
+            }
+            return operationStats;
+        });
+    }
+
+    private record FlightKey(String operation, String key, IamRequestPriority priority) {
+    }
+
+    private static final class OperationStats {
+        private final LongAdder requests = new LongAdder();
+        private final LongAdder coalesced = new LongAdder();
+
+        double ratio() {
+            long total = requests.sum();
+            return total == 0 ? 0.0 : (double) coalesced.sum() / total;
+        }
+    }
+}
@@ -0,0 +1,283 @@
+package io.hlab.OpenConsole.infrastructure.iam.zitadel;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.EnumMap;
+import java.util.EnumSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+
+/**
+ * Zitadel 조회 요청 헤징(hedged request)
+ * 응답이 지연 기준 시간 안에 오지 않으면 같은 요청을 한 번 더 보내고, 먼저 도착한 응답을 사용
+ *
+ * <p>{@code /roles} 처리 경로의 getUserByID, listAuthorizations처럼 지연에 민감한 조회에서
+ * 가끔 느린 Zitadel 응답이 p99를 좌우하는 문제를 줄이기 위한 옵트인 기능입니다 ({@code zitadel.hedging.enabled}).
+ *
+ * <h3>동작</h3>
+ * <ul>
+ *   <li><b>대상</b>: {@code zitadel.hedging.operations}에 포함된 멱등(조회) 작업만.
+ *       {@link ZitadelOperation#isIdempotent()}가 false인 작업(createAuthorization 등)은 설정과 관계없이 헤징하지 않습니다.</li>
+ *   <li><b>지연 기준</b>: 작업별 최근 응답 시간의 {@code percentile} 값 ({@code min-delay}~{@code max-delay}로 제한).
+ *       표본이 {@code min-samples}개 미만이면 {@code initial-delay}를 사용합니다.</li>
+ *   <li><b>결과</b>: 먼저 도착한 신호를 사용하고 나머지 요청은 취소합니다. 헤지 요청의 에러는 무시하고 원 요청을 기다립니다.</li>
+ *   <li><b>예산</b>: 원 요청마다 {@code budget-ratio}만큼 토큰을 적립하고(최대 {@code budget-burst}개), 헤지 요청 하나에 토큰 1개를 사용합니다.
+ *       즉 헤지 요청은 전체 요청의 {@code budget-ratio} 비율을 넘지 않습니다.</li>
+ * </ul>
+ * 각 요청은 {@link ZitadelResilience}를 따로 거치므로 헤지 요청도 bulkhead/circuit breaker의 제한을 받습니다.
+ *
+ * <h3>메트릭 (MeterRegistry가 있을 때)</h3>
+ * <ul>
+ *   <li>{@code zitadel.hedging.requests{operation}}: 헤징 대상 요청 수</li>
+ *   <li>{@code zitadel.hedging.hedged{operation}}: 추가로 보낸 헤지 요청 수</li>
+ *   <li>{@code zitadel.hedging.wins{operation}}: 헤지 요청이 먼저 응답한 수</li>
+ *   <li>{@code zitadel.hedging.budget-exhausted{operation}}: 예산 부족으로 헤징하지 않은 수</li>
+ *   <li>{@code zitadel.hedging.delay{operation}}: 현재 지연 기준 (ms)</li>
+ * </ul>
+ */
+@Slf4j
+@Component
+public class ZitadelRequestHedger {
+
+    /**
+     * 예산 토큰 1개의 내부 단위 (비율을 정수 연산으로 적립하기 위함)
+     */
+    private static final long TOKEN = 1_000_000L;
+
+    private final boolean enabled;
+    private final Set<ZitadelOperation> operations;
+    private final double percentile;
+    private final Duration initialDelay;
+    private final Duration minDelay;
+    private final Duration maxDelay;
+    private final long depositPerRequest;
+    private final long budgetCapacity;
+    private final int windowSize;
+    private final int minSamples;
+    private final MeterRegistry meterRegistry;
+
+    private final AtomicLong budget = new AtomicLong();
+    private final Map<ZitadelOperation, OperationStats> stats = new EnumMap<>(ZitadelOperation.class);
+
+    public ZitadelRequestHedger(
+            ObjectProvider<MeterRegistry> meterRegistry,
+            @Value("${zitadel.hedging.enabled:false}") boolean enabled,
+            @Value("${zitadel.hedging.operations:GET_USER_BY_ID,LIST_AUTHORIZATIONS}") Set<ZitadelOperation> operations,
+            @Value("${zitadel.hedging.percentile:0.95}") double percentile,
+            @Value("${zitadel.hedging.initial-delay:100ms}") Duration initialDelay,
+            @Value("${zitadel.hedging.min-delay:10ms}") Duration minDelay,
+            @Value("${zitadel.hedging.max-delay:1s}") Duration maxDelay,
+            @Value("${zitadel.hedging.budget-ratio:0.05}") double budgetRatio,
+            @Value("${zitadel.hedging.budget-burst:10}") int budgetBurst,
+            @Value("${zitadel.hedging.window-size:1000}") int windowSize,
+            @Value("${zitadel.hedging.min-samples:100}") int minSamples) {
+        this.meterRegistry = meterRegistry.getIfAvailable();
+        this.enabled = enabled;
+        this.operations = operations.isEmpty() ? EnumSet.noneOf(ZitadelOperation.class) : EnumSet.copyOf(operations);
+        this.percentile = percentile;
+        this.initialDelay = initialDelay;
+        this.minDelay = minDelay;
+        this.maxDelay = maxDelay;
+        this.depositPerRequest = (long) (budgetRatio * TOKEN);
+        this.budgetCapacity = budgetBurst * TOKEN;
+        this.windowSize = windowSize;
+        this.minSamples = Math.min(minSamples, windowSize);
+
+        this.operations.removeIf(operation -> {
+            if (!operation.isIdempotent()) {
+                log.warn("멱등이 아닌 Zitadel 작업은 헤징할 수 없어 제외합니다: operation={}", operation);
+                return true;
+            }
+            return false;
+        });
+        // 요청 경로에서 맵을 수정하지 않도록 미리 생성 (EnumMap은 동시 읽기만 안전)
+        this.operations.forEach(operation -> stats.put(operation, newStats(operation)));
+        if (enabled) {
+            log.info("Zitadel 요청 헤징 활성화: operations={}, percentile={}, budgetRatio={}",
+                    this.operations, percentile, budgetRatio);
+        }
+    }
+
+    /**
+     * 헤징 대상이면 지연 기준 시간 후 같은 요청을 한 번 더 보내고, 먼저 도착한 결과를 반환
+     *
+     * @param operation 작업 (헤징 대상 여부 결정)
+     * @param call 실제 API 호출 (호출할 때마다 새 요청을 만드는 Supplier)
+     * @return 먼저 도착한 결과
+     */
+    public <T> Mono<T> hedge(ZitadelOperation operation, Supplier<Mono<T>> call) {
+        OperationStats operationStats = stats.get(operation);
+        if (!enabled || operationStats == null) {
+            return Mono.defer(call);
+        }
+
+        return Mono.defer(() -> {
+            operationStats.requests.increment();
+            deposit();
+
+            Duration delay = operationStats.hedgeDelay();
+            Mono<T> primary = timed(operationStats, call);
+            Mono<T> backup = Mono.delay(delay)
+                    .flatMap(tick -> {
+                        if (!tryWithdraw()) {
+                            operationStats.budgetExhausted.increment();
+                            return Mono.never();
+                        }
+                        operationStats.hedged.increment();
+                        log.debug("Zitadel 헤지 요청 전송: operation={}, delay={}ms", operation, delay.toMillis());
+                        return timed(operationStats, call)
+                                .doOnNext(result -> operationStats.wins.increment())
+                                // 헤지 요청의 실패는 무시하고 원 요청의 결과를 기다림
+                                .onErrorResume(e -> Mono.never());
+                    });
+
+            // 먼저 도착한 신호(값/완료/에러)를 사용하고 나머지는 취소
+            return Mono.firstWithSignal(primary, backup);
+        });
+    }
+
+    /**
+     * 작업의 현재 지연 기준 시간
+     */
+    public Duration hedgeDelay(ZitadelOperation operation) {
+        OperationStats operationStats = stats.get(operation);
+        return operationStats != null ? operationStats.hedgeDelay() : initialDelay;
+    }
+
+    /**
+     * 개별 요청의 응답 시간을 기록 (헤징 결과가 아닌 각 요청 자체의 지연을 표본으로 사용)
+     */
+    private <T> Mono<T> timed(OperationStats operationStats, Supplier<Mono<T>> call) {
+        return Mono.defer(() -> {
+            long start = System.nanoTime();
+            return Mono.defer(call)
+                    .doOnNext(result -> operationStats.latency.record(System.nanoTime() - start));
+        });
+    }
+
+    private void deposit() {
+        budget.accumulateAndGet(depositPerRequest, (current, amount) -> Math.min(budgetCapacity, current + amount));
+    }
+
+    private boolean tryWithdraw() {
+        while (true) {
+            long current = budget.get();
+            if (current < TOKEN) {
+                return false;
+            }
+            if (budget.compareAndSet(current, current - TOKEN)) {
+                return true;
+            }
+        }
+    }
+
+    private OperationStats newStats(ZitadelOperation operation) {
+        OperationStats operationStats = new OperationStats(new LatencyWindow(windowSize, minSamples, percentile));
+        if (meterRegistry != null) {
+            String op = operation.getInstanceName();
+            FunctionCounter.builder("zitadel.hedging.requests", operationStats.requests, LongAdder::sum)
+                    .tag("operation", op)
+                    .description("헤징 대상 Zitadel 조회 요청 수")
+                    .register(meterRegistry);
+            FunctionCounter.builder("zitadel.hedging.hedged", operationStats.hedged, LongAdder::sum)
+                    .tag("operation", op)
+                    .description("추가로 보낸 Zitadel 헤지 요청 수")
+                    .register(meterRegistry);
+            FunctionCounter.builder("zitadel.hedging.wins", operationStats.wins, LongAdder::sum)
+                    .tag("operation", op)
+                    .description("헤지 요청이 먼저 응답한 수")
+                    .register(meterRegistry);
+            FunctionCounter.builder("zitadel.hedging.budget-exhausted", operationStats.budgetExhausted, LongAdder::sum)
+                    .tag("operation", op)
+                    .description("예산 부족으로 헤징하지 않은 수")
+                    .register(meterRegistry);
+            Gauge.builder("zitadel.hedging.delay", operationStats, s -> s.hedgeDelay().toMillis())
+                    .tag("operation", op)
+                    .description("현재 헤징 지연 기준 (ms)")
+                    .baseUnit("milliseconds")
+                    .register(meterRegistry);
+        }
+        return operationStats;
+    }
+
+    private final class OperationStats {
+        private final LongAdder requests = new LongAdder();
+        private final LongAdder hedged = new LongAdder();
+        private final LongAdder wins = new LongAdder();
+        private final LongAdder budgetExhausted = new LongAdder();
+        private final LatencyWindow latency;
+
+        private OperationStats(LatencyWindow latency) {
+            this.latency = latency;
+        }
+
+        Duration hedgeDelay() {
+            long nanos = latency.percentileNanos();
+            if (nanos < 0) {
+                return initialDelay;
+            }
+            Duration delay = Duration.ofNanos(nanos);
+            if (delay.compareTo(minDelay) < 0) {
+                return minDelay;
+            }
+            return delay.compareTo(maxDelay) > 0 ? maxDelay : delay;
+        }
+    }
+
+    /**
+     * 최근 응답 시간 표본 (고정 크기 링 버퍼)
+     * 백분위수는 표본이 일정 개수 쌓일 때마다 다시 계산하여 캐시하므로 요청 경로에서는 읽기만 합니다.
+     * 표본 쓰기는 동기화하지 않으므로 동시에 기록된 일부 표본이 덮어써질 수 있으나, 지연 기준 추정에는 영향이 없습니다.
+     */
+    static final class LatencyWindow {
+
+        private static final int RECOMPUTE_INTERVAL = 50;
+
+        private final long[] samples;
+        private final int minSamples;
+        private final double percentile;
+        private final AtomicLong count = new AtomicLong();
+        private volatile long percentileNanos = -1;
+
+        LatencyWindow(int size, int minSamples, double percentile) {
+            this.samples = new long[size];
+            this.minSamples = minSamples;
+            this.percentile = percentile;
+        }
+
+        void record(long nanos) {
+            long n = count.getAndIncrement();
+            samples[(int) (n % samples.length)] = nanos;
+            long recorded = n + 1;
+            if (recorded >= minSamples && (recorded == minSamples || recorded % RECOMPUTE_INTERVAL == 0)) {
+                recompute((int) Math.min(recorded, samples.length));
+            }
+        }
+
+        /**
+         * @return 백분위수 (ns), 표본이 부족하면 -1
+         */
+        long percentileNanos() {
+            return percentileNanos;
+        }
+
+        private void recompute(int size) {
+            long[] sorted = Arrays.copyOf(samples, size);
+            Arrays.sort(sorted);
+            int index = (int) Math.ceil(percentile * size) - 1;
+            percentileNanos = sorted[Math.max(0, Math.min(index, size - 1))];
+        }
+    }
+}
@@ -0,0 +1,141 @@
+package io.hlab.OpenConsole.infrastructure.iam.zitadel;
+
+import io.github.resilience4j.bulkhead.Bulkhead;
+import io.github.resilience4j.bulkhead.BulkheadFullException;
+import io.github.resilience4j.bulkhead.BulkheadRegistry;
+import io.github.resilience4j.circuitbreaker.CallNotPermittedException;
+import io.github.resilience4j.circuitbreaker.CircuitBreaker;
+import io.github.resilience4j.circuitbreaker.CircuitBreakerRegistry;
+import io.github.resilience4j.reactor.bulkhead.operator.BulkheadOperator;
+import io.github.resilience4j.reactor.circuitbreaker.operator.CircuitBreakerOperator;
+import io.github.resilience4j.reactor.retry.RetryOperator;
+import io.github.resilience4j.reactor.timelimiter.TimeLimiterOperator;
+import io.github.resilience4j.retry.Retry;
+import io.github.resilience4j.retry.RetryRegistry;
+import io.github.resilience4j.timelimiter.TimeLimiter;
+import io.github.resilience4j.timelimiter.TimeLimiterRegistry;
+import io.hlab.OpenConsole.infrastructure.iam.IamUnavailableException;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.web.reactive.function.client.WebClientRequestException;
+import reactor.core.publisher.Mono;
+
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * Zitadel 호출 복원력(resilience) 계층
+ * 모든 Executor 호출을 bulkhead → time limiter → circuit breaker → retry 순서로 감쌈
+ *
+ * <h3>구성 (안쪽부터)</h3>
+ * <ul>
+ *   <li><b>Bulkhead</b> ({@code zitadel}, 공유): 노드당 동시 Zitadel 호출 수 제한. 한도를 넘으면 대기 없이 즉시 실패합니다.</li>
+ *   <li><b>TimeLimiter</b> (작업별): 작업마다 응답 기한. 기한을 넘기면 구독을 취소(요청 중단)합니다.</li>
+ *   <li><b>CircuitBreaker</b> ({@code zitadel}, 공유): Zitadel 자체가 불안정하면 호출하지 않고 즉시 실패합니다.
+ *       일시적인 실패({@link ZitadelTransientFailurePredicate})만 실패율에 반영됩니다.</li>
+ *   <li><b>Retry</b> (작업별, 조회 작업만): 지수 백오프 + jitter로 재시도. 각 시도가 circuit breaker와 기한을 다시 거칩니다.</li>
+ * </ul>
+ *
+ * <p>설정은 {@code resilience4j.*} (configs.default + 작업별 instances)로 조정하며,
+ * 인스턴스 이름은 {@link ZitadelOperation#getInstanceName()}을 따릅니다.
+ * 상태/호출 메트릭은 MeterRegistry가 있으면 resilience4j 자동 구성이 {@code resilience4j.*} 이름으로 등록합니다.
+ *
+ * <p>시간 초과, circuit open, bulkhead 초과, 연결 실패는 {@link IamUnavailableException}(503)으로 변환됩니다.
+ * Request coalescing과 함께 쓰는 조회는 병합기 안쪽에서 감싸므로, 공유된 요청 하나에만 재시도가 적용됩니다.
+ * 작업별 지연/오류 메트릭({@link ZitadelMetrics})도 이 계층에서 함께 기록합니다.
+ */
+@Slf4j
+@Component
+public class ZitadelResilience {
+
+    /**
+     * 노드 전체가 공유하는 circuit breaker / bulkhead 인스턴스 이름
+     */
+    public static final String SHARED_INSTANCE = "zitadel";
+
+    private final CircuitBreaker circuitBreaker;
+    private final Bulkhead bulkhead;
+    private final Map<ZitadelOperation, TimeLimiter> timeLimiters = new EnumMap<>(ZitadelOperation.class);
+    private final Map<ZitadelOperation, Retry> retries = new EnumMap<>(ZitadelOperation.class);
+    private final ZitadelMetrics metrics;
+
+    @Value("${zitadel.resilience.enabled:true}")
+    private boolean enabled = true;
+
+    public ZitadelResilience(
+            CircuitBreakerRegistry circuitBreakerRegistry,
+            BulkheadRegistry bulkheadRegistry,
+            TimeLimiterRegistry timeLimiterRegistry,
+            RetryRegistry retryRegistry,
+            ZitadelMetrics metrics) {
+        this.metrics = metrics;
+        this.circuitBreaker = circuitBreakerRegistry.circuitBreaker(SHARED_INSTANCE);
+        this.bulkhead = bulkheadRegistry.bulkhead(SHARED_INSTANCE);
+        // 인스턴스를 미리 생성하여 첫 호출 전에도 메트릭이 노출되도록 함
+        for (ZitadelOperation operation : ZitadelOperation.values()) {
+            timeLimiters.put(operation, timeLimiterRegistry.timeLimiter(operation.getInstanceName()));
+            if (operation.isIdempotent()) {
+                retries.put(operation, retryRegistry.retry(operation.getInstanceName()));
+            }
+        }
+
+        circuitBreaker.getEventPublisher().onStateTransition(event ->
+                log.warn("Zitadel circuit breaker 상태 변경: {}", event.getStateTransition()));
+        retries.values().forEach(retry -> retry.getEventPublisher().onRetry(event ->
+                log.debug("Zitadel 호출 재시도: operation={}, attempt={}, wait={}, cause={}",
+                        event.getName(), event.getNumberOfRetryAttempts(), event.getWaitInterval(),
+                        event.getLastThrowable() != null ? event.getLastThrowable().toString() : null)));
+    }
+
+    /**
+     * Zitadel 호출에 복원력 정책 적용
+     *
+     * @param operation 작업 (타임아웃/재시도 인스턴스 및 재시도 여부 결정)
+     * @param call 실제 API 호출 (구독할 때마다 새로 요청하는 lazy Mono)
+     * @return 정책이 적용된 호출 (작업 메트릭 포함, {@link ZitadelMetrics})
+     */
+    public <T> Mono<T> decorate(ZitadelOperation operation, Mono<T> call) {
+        if (!enabled) {
+            return metrics.record(operation, call);
+        }
+
+        Mono<T> decorated = call
+                .transformDeferred(BulkheadOperator.of(bulkhead))
+                .transformDeferred(TimeLimiterOperator.of(timeLimiters.get(operation)))
+                .transformDeferred(CircuitBreakerOperator.of(circuitBreaker));
+
+        Retry retry = retries.get(operation);
+        if (retry != null) {
+            decorated = decorated.transformDeferred(RetryOperator.of(retry));
+        }
+        return metrics.record(operation, decorated.onErrorMap(e -> toUnavailable(operation, e)));
+    }
+
+    /**
+     * 현재 circuit breaker 상태 (CLOSED / OPEN / HALF_OPEN ...)
+     */
+    public CircuitBreaker.State circuitBreakerState() {
+        return circuitBreaker.getState();
+    }
+
+    /**
+     * 복원력 계층에서 발생한 실패를 IamUnavailableException으로 변환 (그 외 예외는 그대로)
+     */
+    private static Throwable toUnavailable(ZitadelOperation operation, Throwable e) {
+        if (e instanceof CallNotPermittedException) {
+            return new IamUnavailableException("Zitadel 호출 차단(circuit open): operation=" + operation.getInstanceName(), e);
+        }
+        if (e instanceof BulkheadFullException) {
+            return new IamUnavailableException("Zitadel 동시 호출 한도 초과: operation=" + operation.getInstanceName(), e);
+        }
+        if (e instanceof TimeoutException) {
+            return new IamUnavailableException("Zitadel 응답 시간 초과: operation=" + operation.getInstanceName(), e);
+        }
+        if (e instanceof WebClientRequestException) {
+            return new IamUnavailableException("Zitadel 연결 실패: operation=" + operation.getInstanceName(), e);
+        }
+        return e;
+    }
+}
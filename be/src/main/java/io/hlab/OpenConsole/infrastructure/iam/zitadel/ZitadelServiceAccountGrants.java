@@ -0,0 +1,170 @@
+package io.hlab.OpenConsole.infrastructure.iam.zitadel;
+
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.nimbusds.jose.JOSEException;
+import com.nimbusds.jose.JWSAlgorithm;
+import com.nimbusds.jose.JWSHeader;
+import com.nimbusds.jose.crypto.RSASSASigner;
+import com.nimbusds.jwt.JWTClaimsSet;
+import com.nimbusds.jwt.SignedJWT;
+import io.hlab.OpenConsole.infrastructure.iam.IamException;
+import org.springframework.util.LinkedMultiValueMap;
+import org.springframework.util.MultiValueMap;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.security.GeneralSecurityException;
+import java.security.KeyFactory;
+import java.security.PrivateKey;
+import java.security.spec.PKCS8EncodedKeySpec;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Base64;
+import java.util.Date;
+import java.util.function.Supplier;
+
+/**
+ * 서비스 계정 토큰 발급 요청(form) 생성
+ * {@link ZitadelServiceAccountTokenProvider}에 넘길 grant를 인증 방식별로 만듭니다.
+ */
+final class ZitadelServiceAccountGrants {
+
+    private static final String JWT_BEARER = "urn:ietf:params:oauth:grant-type:jwt-bearer";
+
+    /**
+     * assertion 유효 시간 (토큰 요청 한 번에만 사용하므로 짧게)
+     */
+    private static final Duration ASSERTION_LIFETIME = Duration.ofMinutes(5);
+
+    private ZitadelServiceAccountGrants() {
+    }
+
+    /**
+     * Zitadel에서 내려받은 서비스 계정 키 파일 (JSON)
+     */
+    @JsonIgnoreProperties(ignoreUnknown = true)
+    record KeyFile(String keyId, String key, String userId) {
+    }
+
+    /**
+     * client_credentials grant (서비스 계정 client secret)
+     */
+    static Supplier<MultiValueMap<String, String>> clientCredentials(String clientId, String clientSecret, String scope) {
+        require(clientId, "zitadel.auth.client-id");
+        require(clientSecret, "zitadel.auth.client-secret");
+        return () -> {
+            MultiValueMap<String, String> form = new LinkedMultiValueMap<>();
+            form.add("grant_type", "client_credentials");
+            form.add("client_id", clientId);
+            form.add("client_secret", clientSecret);
+            form.add("scope", scope);
+            return form;
+        };
+    }
+
+    /**
+     * JWT profile grant (서비스 계정 키 파일로 서명한 assertion)
+     * 키 파일은 기동 시 한 번 읽고, assertion은 요청마다 새로 서명합니다.
+     *
+     * @param audience Zitadel issuer (base URL)
+     */
+    static Supplier<MultiValueMap<String, String>> jwtProfile(String keyFilePath, String audience, String scope,
+                                                              ObjectMapper objectMapper, Clock clock) {
+        require(keyFilePath, "zitadel.auth.key-file");
+        KeyFile keyFile = readKeyFile(keyFilePath, objectMapper);
+        RSASSASigner signer = new RSASSASigner(parsePrivateKey(keyFile.key()));
+        JWSHeader header = new JWSHeader.Builder(JWSAlgorithm.RS256).keyID(keyFile.keyId()).build();
+        return () -> {
+            Instant now = clock.instant();
+            JWTClaimsSet claims = new JWTClaimsSet.Builder()
+                    .issuer(keyFile.userId())
+                    .subject(keyFile.userId())
+                    .audience(audience)
+                    .issueTime(Date.from(now))
+                    .expirationTime(Date.from(now.plus(ASSERTION_LIFETIME)))
+                    .build();
+            SignedJWT assertion = new SignedJWT(header, claims);
+            try {
+                assertion.sign(signer);
+            } catch (JOSEException e) {
+                throw new IamException("서비스 계정 assertion 서명 실패: " + e.getMessage(), e);
+            }
+            MultiValueMap<String, String> form = new LinkedMultiValueMap<>();
+            form.add("grant_type", JWT_BEARER);
+            form.add("assertion", assertion.serialize());
+            form.add("scope", scope);
+            return form;
+        };
+    }
+
+    private static KeyFile readKeyFile(String path, ObjectMapper objectMapper) {
+        try {
+            KeyFile keyFile = objectMapper.readValue(Files.readAllBytes(Path.of(path)), KeyFile.class);
+            if (keyFile.key() == null || keyFile.keyId() == null || keyFile.userId() == null) {
+                throw new IllegalStateException("서비스 계정 키 파일에 keyId, key, userId가 모두 있어야 합니다: " + path);
+            }
+            return keyFile;
+        } catch (IOException e) {
+            throw new IllegalStateException("서비스 계정 키 파일을 읽을 수 없습니다: " + path, e);
+        }
+    }
+
+    /**
+     * PEM 개인 키 파싱 (Zitadel 키 파일은 PKCS#1 "RSA PRIVATE KEY", PKCS#8 "PRIVATE KEY"도 허용)
+     */
+    static PrivateKey parsePrivateKey(String pem) {
+        boolean pkcs1 = pem.contains("BEGIN RSA PRIVATE KEY");
+        String base64 = pem.replaceAll("-----(BEGIN|END)[A-Z ]+-----", "").replaceAll("\\s", "");
+        byte[] der = Base64.getDecoder().decode(base64);
+        try {
+            return KeyFactory.getInstance("RSA")
+                    .generatePrivate(new PKCS8EncodedKeySpec(pkcs1 ? wrapPkcs1(der) : der));
+        } catch (GeneralSecurityException e) {
+            throw new IllegalStateException("서비스 계정 개인 키를 읽을 수 없습니다.", e);
+        }
+    }
+
+    /**
+     * PKCS#1 RSAPrivateKey를 PKCS#8 PrivateKeyInfo로 감쌈 (JCA KeyFactory는 PKCS#8만 지원)
+     * PrivateKeyInfo ::= SEQUENCE { version INTEGER 0, AlgorithmIdentifier rsaEncryption, OCTET STRING pkcs1 }
+     */
+    private static byte[] wrapPkcs1(byte[] pkcs1) {
+        byte[] versionAndAlgorithm = {
+                0x02, 0x01, 0x00,
+                0x30, 0x0d, 0x06, 0x09, 0x2a, (byte) 0x86, 0x48, (byte) 0x86, (byte) 0xf7, 0x0d, 0x01, 0x01, 0x01, 0x05, 0x00
+        };
+        byte[] octetString = derElement(0x04, pkcs1);
+        byte[] content = new byte[versionAndAlgorithm.length + octetString.length];
+        System.arraycopy(versionAndAlgorithm, 0, content, 0, versionAndAlgorithm.length);
+        System.arraycopy(octetString, 0, content, versionAndAlgorithm.length, octetString.length);
+        return derElement(0x30, content);
+    }
+
+    private static byte[] derElement(int tag, byte[] content) {
+        int length = content.length;
+        byte[] lengthBytes;
+        if (length < 0x80) {
+            lengthBytes = new byte[]{(byte) length};
+        } else if (length < 0x100) {
+            lengthBytes = new byte[]{(byte) 0x81, (byte) length};
+        } else if (length < 0x10000) {
+            lengthBytes = new byte[]{(byte) 0x82, (byte) (length >> 8), (byte) length};
+        } else {
+            lengthBytes = new byte[]{(byte) 0x83, (byte) (length >> 16), (byte) (length >> 8), (byte) length};
+        }
+        byte[] element = new byte[1 + lengthBytes.length + length];
+        element[0] = (byte) tag;
+        System.arraycopy(lengthBytes, 0, element, 1, lengthBytes.length);
+        System.arraycopy(content, 0, element, 1 + lengthBytes.length, length);
+        return element;
+    }
+
+    private static void require(String value, String property) {
+        if (value == null || value.isBlank()) {
+            throw new IllegalStateException(property + "이(가) 설정되지 않았습니다.");
+        }
+    }
+}
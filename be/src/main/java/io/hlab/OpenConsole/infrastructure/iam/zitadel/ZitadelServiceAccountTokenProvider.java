@@ -0,0 +1,211 @@
+package io.hlab.OpenConsole.infrastructure.iam.zitadel;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+import io.hlab.OpenConsole.infrastructure.iam.IamUnavailableException;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.http.MediaType;
+import org.springframework.util.MultiValueMap;
+import org.springframework.web.reactive.function.BodyInserters;
+import org.springframework.web.reactive.function.client.WebClient;
+import reactor.core.Disposable;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.Sinks;
+import reactor.core.scheduler.Scheduler;
+import reactor.core.scheduler.Schedulers;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Supplier;
+
+/**
+ * 서비스 계정 access token 제공자 (OAuth 2.0 token endpoint)
+ * client_credentials 또는 JWT profile(jwt-bearer) grant로 토큰을 발급받아 캐시
+ *
+ * <ul>
+ *   <li><b>캐시</b>: 토큰이 만료되기 전까지는 요청마다 캐시된 토큰을 바로 반환 (토큰 발급을 기다리지 않음)</li>
+ *   <li><b>사전 갱신</b>: 만료 {@code refresh-before} 전(수명이 짧으면 수명의 절반 시점)에 백그라운드에서 새 토큰 발급</li>
+ *   <li><b>single-flight</b>: 동시에 갱신이 필요해도 token endpoint 호출은 한 번만 하고 결과를 공유</li>
+ *   <li><b>실패</b>: 갱신에 실패하면 기존 토큰이 유효한 동안 계속 사용하고 {@code retry-interval} 후 다시 시도</li>
+ * </ul>
+ * 요청이 토큰 발급을 기다리는 경우는 기동 직후 첫 요청과, 갱신이 만료 시각까지 계속 실패한 경우뿐입니다.
+ */
+@Slf4j
+public class ZitadelServiceAccountTokenProvider implements ZitadelTokenProvider, DisposableBean {
+
+    private final WebClient tokenClient;
+    private final String tokenPath;
+    private final Supplier<MultiValueMap<String, String>> grant;
+    private final Duration refreshBefore;
+    private final Duration retryInterval;
+    private final Duration fetchTimeout;
+    private final Clock clock;
+    private final Scheduler scheduler;
+
+    private volatile AccessToken current;
+    private final AtomicReference<Mono<AccessToken>> inflight = new AtomicReference<>();
+    private final AtomicReference<Disposable> scheduledRefresh = new AtomicReference<>();
+
+    /**
+     * @param tokenClient token endpoint 호출용 WebClient (Zitadel API용 WebClient와 별도, 인증 헤더 없음)
+     * @param tokenPath token endpoint 경로 (예: /oauth/v2/token)
+     * @param grant 발급 요청 form (호출할 때마다 새로 만듦, JWT profile은 매번 새 assertion 서명)
+     */
+    public ZitadelServiceAccountTokenProvider(WebClient tokenClient, String tokenPath,
+                                              Supplier<MultiValueMap<String, String>> grant,
+                                              Duration refreshBefore, Duration retryInterval, Duration fetchTimeout,
+                                              Clock clock, Scheduler scheduler) {
+        this.tokenClient = tokenClient;
+        this.tokenPath = tokenPath;
+        this.grant = grant;
+        this.refreshBefore = refreshBefore;
+        this.retryInterval = retryInterval;
+        this.fetchTimeout = fetchTimeout;
+        this.clock = clock;
+        this.scheduler = scheduler;
+    }
+
+    public ZitadelServiceAccountTokenProvider(WebClient tokenClient, String tokenPath,
+                                              Supplier<MultiValueMap<String, String>> grant,
+                                              Duration refreshBefore, Duration retryInterval, Duration fetchTimeout) {
+        this(tokenClient, tokenPath, grant, refreshBefore, retryInterval, fetchTimeout,
+                Clock.systemUTC(), Schedulers.parallel());
+    }
+
+    /**
+     * 캐시된 토큰
+     *
+     * @param value access token
+     * @param expiresAt 만료 시각
+     * @param refreshAt 사전 갱신 시각
+     */
+    record AccessToken(String value, Instant expiresAt, Instant refreshAt) {
+    }
+
+    /**
+     * token endpoint 응답 (RFC 6749 5.1)
+     */
+    record TokenResponse(
+            @JsonProperty("access_token") String accessToken,
+            @JsonProperty("token_type") String tokenType,
+            @JsonProperty("expires_in") Long expiresIn) {
+    }
+
+    @Override
+    public Mono<String> getToken() {
+        return Mono.defer(() -> {
+            AccessToken token = current;
+            Instant now = clock.instant();
+            if (token != null && now.isBefore(token.expiresAt())) {
+                // 예약된 갱신이 늦어진 경우에도 요청은 기다리지 않고 백그라운드에서 갱신
+                if (!now.isBefore(token.refreshAt())) {
+                    refreshInBackground();
+                }
+                return Mono.just(token.value());
+            }
+            return refresh().map(AccessToken::value);
+        });
+    }
+
+    @Override
+    public void invalidate(String token) {
+        AccessToken cached = current;
+        if (cached != null && cached.value().equals(token)) {
+            log.warn("Zitadel이 서비스 계정 토큰을 거부하여 새로 발급합니다.");
+            current = null;
+            refreshInBackground();
+        }
+    }
+
+    @Override
+    public void destroy() {
+        Disposable task = scheduledRefresh.getAndSet(null);
+        if (task != null) {
+            task.dispose();
+        }
+    }
+
+    /**
+     * 토큰 발급 (single-flight)
+     * 진행 중인 발급이 있으면 그 결과를 공유하고, 없으면 새로 시작합니다.
+     * 발급은 구독과 관계없이 끝까지 진행되므로 기다리던 요청이 취소되어도 결과는 캐시에 반영됩니다.
+     */
+    Mono<AccessToken> refresh() {
+        while (true) {
+            Mono<AccessToken> existing = inflight.get();
+            if (existing != null) {
+                return existing;
+            }
+            Sinks.One<AccessToken> sink = Sinks.one();
+            Mono<AccessToken> shared = sink.asMono();
+            if (inflight.compareAndSet(null, shared)) {
+                fetchToken().subscribe(
+                        token -> {
+                            current = token;
+                            inflight.set(null);
+                            scheduleRefresh(token.refreshAt());
+                            sink.tryEmitValue(token);
+                        },
+                        error -> {
+                            inflight.set(null);
+                            scheduleRetry();
+                            sink.tryEmitError(error);
+                        });
+                return shared;
+            }
+        }
+    }
+
+    private void refreshInBackground() {
+        refresh().subscribe(
+                token -> log.debug("서비스 계정 토큰 갱신 완료: expiresAt={}", token.expiresAt()),
+                error -> log.warn("서비스 계정 토큰 갱신 실패: {}", error.getMessage()));
+    }
+
+    private Mono<AccessToken> fetchToken() {
+        return tokenClient.post()
+                .uri(tokenPath)
+                .contentType(MediaType.APPLICATION_FORM_URLENCODED)
+                .body(BodyInserters.fromFormData(grant.get()))
+                .retrieve()
+                .bodyToMono(TokenResponse.class)
+                .timeout(fetchTimeout)
+                .flatMap(response -> response.accessToken() == null || response.accessToken().isBlank()
+                        ? Mono.error(new IamUnavailableException("token endpoint 응답에 access_token이 없습니다."))
+                        : Mono.just(toAccessToken(response)))
+                .onErrorMap(e -> !(e instanceof IamUnavailableException),
+                        e -> new IamUnavailableException("서비스 계정 토큰 발급 실패: " + e.getMessage(), e));
+    }
+
+    private AccessToken toAccessToken(TokenResponse response) {
+        Instant now = clock.instant();
+        // expires_in이 없으면 Zitadel 기본값(12시간)보다 보수적으로 1시간으로 간주
+        Duration lifetime = Duration.ofSeconds(response.expiresIn() != null && response.expiresIn() > 0
+                ? response.expiresIn()
+                : 3600);
+        Duration lead = refreshBefore.compareTo(lifetime.dividedBy(2)) < 0 ? refreshBefore : lifetime.dividedBy(2);
+        return new AccessToken(response.accessToken(), now.plus(lifetime), now.plus(lifetime).minus(lead));
+    }
+
+    private void scheduleRefresh(Instant at) {
+        long delay = Math.max(0, Duration.between(clock.instant(), at).toMillis());
+        Disposable previous = scheduledRefresh.getAndSet(
+                scheduler.schedule(this::refreshInBackground, delay, TimeUnit.MILLISECONDS));
+        if (previous != null) {
+            previous.dispose();
+        }
+    }
+
+    /**
+     * 갱신 실패 후 재시도 예약 (토큰이 없거나 만료되었으면 다음 요청이 다시 발급하므로 예약하지 않음)
+     */
+    private void scheduleRetry() {
+        AccessToken token = current;
+        if (token != null && clock.instant().plus(retryInterval).isBefore(token.expiresAt())) {
+            scheduleRefresh(clock.instant().plus(retryInterval));
+        }
+    }
+}
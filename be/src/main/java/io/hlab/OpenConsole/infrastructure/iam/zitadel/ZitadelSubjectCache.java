@@ -0,0 +1,198 @@
+package io.hlab.OpenConsole.infrastructure.iam.zitadel;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+import io.hlab.OpenConsole.infrastructure.iam.IamUserChangedEvent;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.util.Locale;
+import java.util.Optional;
+import java.util.function.Function;
+
+/**
+ * Email → Subject 매핑 캐시
+ * Zitadel ListUsers(email 검색) 호출 결과를 캐시하여 role 관리 시 원격 호출을 줄임
+ *
+ * <ul>
+ *   <li><b>TTL / 크기 제한</b>: {@code zitadel.cache.subject.ttl}, {@code zitadel.cache.subject.max-size}</li>
+ *   <li><b>음성 캐시</b>: 존재하지 않는 email도 {@code zitadel.cache.subject.negative-ttl} 동안 캐시 (짧게 유지)</li>
+ *   <li><b>무효화</b>: {@link IamUserChangedEvent} 수신 시 email 또는 subject 기준으로 제거</li>
+ *   <li><b>메트릭</b>: MeterRegistry가 있으면 {@code cache.gets{cache=zitadel.subject,result=hit|miss}} 등으로 노출</li>
+ * </ul>
+ *
+ * <p>email은 대소문자를 구분하지 않도록 소문자로 정규화하여 키로 사용합니다.
+ * 조회 실패(IamException 등)는 캐시하지 않습니다.
+ */
+@Slf4j
+@Component
+public class ZitadelSubjectCache {
+
+    static final String CACHE_NAME = "zitadel.subject";
+
+    private final Cache<String, Optional<String>> cache;
+
+    public ZitadelSubjectCache(
+            @Value("${zitadel.cache.subject.ttl:10m}") Duration ttl,
+            @Value("${zitadel.cache.subject.negative-ttl:30s}") Duration negativeTtl,
+            @Value("${zitadel.cache.subject.max-size:10000}") long maxSize,
+            ObjectProvider<MeterRegistry> meterRegistry) {
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfter(new SubjectExpiry(ttl, negativeTtl))
+                .recordStats()
+                .build();
+
+        meterRegistry.ifAvailable(registry -> CaffeineCacheMetrics.monitor(registry, cache, CACHE_NAME));
+        log.debug("Subject 캐시 설정: ttl={}, negativeTtl={}, maxSize={}", ttl, negativeTtl, maxSize);
+    }
+
+    /**
+     * 캐시에서 subject를 조회하고, 없으면 loader로 조회한 결과를 캐시
+     *
+     * @param email 사용자 이메일
+     * @param loader 캐시 미스 시 호출할 조회 함수 (사용자가 없으면 empty)
+     * @return subject, 사용자가 없으면 empty (음성 캐시 포함)
+     */
+    public Mono<String> getOrLoad(String email, Function<String, Mono<String>> loader) {
+        return Mono.defer(() -> {
+            String key = normalize(email);
+            Optional<String> cached = cache.getIfPresent(key);
+            if (cached != null) {
+                log.debug("Subject 캐시 적중: email={}, found={}", email, cached.isPresent());
+                return Mono.justOrEmpty(cached);
+            }
+
+            return loader.apply(email)
+                    .doOnNext(subject -> cache.put(key, Optional.of(subject)))
+                    .switchIfEmpty(Mono.fromRunnable(() -> cache.put(key, Optional.empty())));
+        });
+    }
+
+    /**
+     * 캐시된 항목만 조회 (원격 호출 없음)
+     *
+     * @return 조회 결과 (적중 / 음성 캐시 적중 / 캐시 없음)
+     */
+    public Lookup lookup(String email) {
+        Optional<String> cached = cache.getIfPresent(normalize(email));
+        if (cached == null) {
+            return Lookup.MISS;
+        }
+        return cached.map(Lookup::hit).orElse(Lookup.NOT_FOUND);
+    }
+
+    /**
+     * 다른 경로(예: subject로 email 조회, 일괄 조회)에서 알게 된 매핑을 캐시에 반영
+     */
+    public void put(String email, String subject) {
+        if (email != null && subject != null) {
+            cache.put(normalize(email), Optional.of(subject));
+        }
+    }
+
+    /**
+     * 일괄 조회 결과 존재하지 않는 email을 음성 캐시에 반영
+     */
+    public void putNotFound(String email) {
+        if (email != null) {
+            cache.put(normalize(email), Optional.empty());
+        }
+    }
+
+    public void invalidateEmail(String email) {
+        if (email != null) {
+            cache.invalidate(normalize(email));
+        }
+    }
+
+    /**
+     * subject로 매핑된 모든 email 항목 제거
+     * 역인덱스 없이 전체 항목을 순회하므로 무효화 경로(드문 이벤트)에서만 사용합니다.
+     */
+    public void invalidateSubject(String subject) {
+        if (subject != null) {
+            cache.asMap().values().removeIf(value -> value.isPresent() && value.get().equals(subject));
+        }
+    }
+
+    public void invalidateAll() {
+        cache.invalidateAll();
+    }
+
+    public CacheStats stats() {
+        return cache.stats();
+    }
+
+    @EventListener
+    public void onUserChanged(IamUserChangedEvent event) {
+        log.debug("Subject 캐시 무효화: subject={}, email={}", event.subject(), event.email());
+        invalidateEmail(event.email());
+        invalidateSubject(event.subject());
+    }
+
+    static String normalize(String email) {
+        return email.trim().toLowerCase(Locale.ROOT);
+    }
+
+    /**
+     * 캐시만 조회한 결과
+     *
+     * @param status 조회 상태
+     * @param subject {@link Status#HIT}일 때의 subject, 그 외에는 null
+     */
+    public record Lookup(Status status, String subject) {
+
+        static final Lookup NOT_FOUND = new Lookup(Status.NOT_FOUND, null);
+        static final Lookup MISS = new Lookup(Status.MISS, null);
+
+        static Lookup hit(String subject) {
+            return new Lookup(Status.HIT, subject);
+        }
+
+        public enum Status {
+            /**
+             * 캐시된 subject 있음
+             */
+            HIT,
+            /**
+             * 사용자가 없다는 결과가 캐시됨 (음성 캐시)
+             */
+            NOT_FOUND,
+            /**
+             * 캐시된 항목 없음 (원격 조회 필요)
+             */
+            MISS
+        }
+    }
+
+    /**
+     * 양성 항목과 음성 항목에 서로 다른 TTL을 적용
+     */
+    private record SubjectExpiry(Duration ttl, Duration negativeTtl) implements Expiry<String, Optional<String>> {
+
+        @Override
+        public long expireAfterCreate(String key, Optional<String> value, long currentTime) {
+            return (value.isPresent() ? ttl : negativeTtl).toNanos();
+        }
+
+        @Override
+        public long expireAfterUpdate(String key, Optional<String> value, long currentTime, long currentDuration) {
+            return expireAfterCreate(key, value, currentTime);
+        }
+
+        @Override
+        public long expireAfterRead(String key, Optional<String> value, long currentTime, long currentDuration) {
+            return currentDuration;
+        }
+    }
+}
@@ -1,15 +1,14 @@
 package io.hlab.OpenConsole.infrastructure.iam.zitadel;
 
-import io.hlab.OpenConsole.infrastructure.iam.IamRole;
 import io.hlab.OpenConsole.infrastructure.iam.IamTokenDecoder;
 import io.hlab.OpenConsole.infrastructure.iam.IamException;
 import io.hlab.OpenConsole.infrastructure.iam.IamUserInfo;
+import io.hlab.OpenConsole.infrastructure.iam.JwtRoleExtractor;
+import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
 
-import java.util.ArrayList;
-import java.util.List;
 import java.util.Map;
 
 /**
@@ -21,11 +20,14 @@ import java.util.Map;
  */
 @Slf4j
 @Component
+@RequiredArgsConstructor
 public class ZitadelTokenDecoder implements IamTokenDecoder {
 
     @Value("${spring.security.oauth2.resourceserver.jwt.issuer-uri}")
     private String issuerUri;
 
+    private final JwtRoleExtractor jwtRoleExtractor;
+
     @Override
     public IamUserInfo decode(String token) throws IamException {
         log.debug("Zitadel 토큰 디코딩 시작");
@@ -63,54 +65,26 @@ public class ZitadelTokenDecoder implements IamTokenDecoder {
     @Override
     public IamUserInfo fromClaims(Map<String, Object> claims) {
         String subject = (String) claims.get("sub");
-        String email = (String) claims.get("email");
+        String email = resolveEmail(claims);
         String name = (String) claims.get("name");
 
-        // Zitadel의 role은 보통 "roles" 또는 "urn:zitadel:iam:org:project:roles" 클레임에 있음
-        List<IamRole> roles = extractRoles(claims);
-
-        return IamUserInfo.of(subject, email, name, roles);
+        // role 클레임 위치는 zitadel.token.role-claims (JwtRoleExtractor)
+        return IamUserInfo.of(subject, email, name, jwtRoleExtractor.extract(claims));
     }
 
     /**
-     * JWT claims에서 role 목록 추출
-     * 
-     * @param claims JWT claims
-     * @return role 목록
+     * email 클레임, 없으면 email 형태의 preferred_username
+     * JWT에 email이 없으면 Zitadel 설정에서 email 클레임을 토큰에 포함하도록 설정해야 합니다.
+     * (Zitadel Console > Project > Application > Token Settings)
      */
-    private static List<IamRole> extractRoles(Map<String, Object> claims) {
-        List<IamRole> roles = new ArrayList<>();
-
-        // Zitadel의 role 클레임 위치 확인 필요
-        // 일반적으로 "roles" 또는 "urn:zitadel:iam:org:project:roles" 형태
-        Object rolesClaim = claims.get("roles");
-        if (rolesClaim instanceof List) {
-            ((List<?>) rolesClaim).forEach(role -> {
-                if (role instanceof String) {
-                    IamRole iamRole = IamRole.fromString((String) role);
-                    if (iamRole != null) {
-                        roles.add(iamRole);
-                    }
-                }
-            });
+    private static String resolveEmail(Map<String, Object> claims) {
+        if (claims.get("email") instanceof String email) {
+            return email;
         }
-
-        // 다른 형태의 role 클레임도 확인
-        // 예: "urn:zitadel:iam:org:project:roles" 형태
-        claims.forEach((key, value) -> {
-            if (key.contains("roles") && value instanceof List) {
-                ((List<?>) value).forEach(role -> {
-                    if (role instanceof String) {
-                        IamRole iamRole = IamRole.fromString((String) role);
-                        if (iamRole != null && !roles.contains(iamRole)) {
-                            roles.add(iamRole);
-                        }
-                    }
-                });
-            }
-        });
-
-        return roles;
+        if (claims.get("preferred_username") instanceof String username && username.contains("@")) {
+            log.debug("email 클레임 대신 preferred_username 사용: {}", username);
+            return username;
+        }
+        return null;
     }
 }
-
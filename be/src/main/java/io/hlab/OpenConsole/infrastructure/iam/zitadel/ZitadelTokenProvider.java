@@ -0,0 +1,37 @@
+package io.hlab.OpenConsole.infrastructure.iam.zitadel;
+
+import reactor.core.publisher.Mono;
+
+/**
+ * Zitadel Management API 호출에 사용할 access token 제공자
+ * {@link ZitadelWebClientConfig}의 WebClient 필터가 요청마다 토큰을 받아 Authorization 헤더에 넣습니다.
+ *
+ * <p>구현체는 {@code zitadel.auth.type}으로 선택합니다.
+ * <ul>
+ *   <li>{@code pat}: 설정한 Personal Access Token을 그대로 사용 ({@link #ofStatic})</li>
+ *   <li>{@code client-credentials}, {@code jwt-profile}: 서비스 계정으로 토큰을 발급받아 캐시하고 만료 전에 갱신
+ *       ({@link ZitadelServiceAccountTokenProvider})</li>
+ * </ul>
+ */
+public interface ZitadelTokenProvider {
+
+    /**
+     * 현재 유효한 access token
+     * 캐시된 토큰이 있으면 바로 반환하며, 토큰이 아직 없거나 만료된 경우에만 발급을 기다립니다.
+     */
+    Mono<String> getToken();
+
+    /**
+     * IAM이 토큰을 거부(401)했을 때 호출 (캐시된 토큰이 같으면 버리고 새로 발급)
+     */
+    default void invalidate(String token) {
+    }
+
+    /**
+     * 고정 토큰 (PAT)
+     */
+    static ZitadelTokenProvider ofStatic(String token) {
+        Mono<String> value = Mono.just(token);
+        return () -> value;
+    }
+}
@@ -0,0 +1,41 @@
+package io.hlab.OpenConsole.infrastructure.iam.zitadel;
+
+import org.springframework.web.reactive.function.client.WebClientRequestException;
+import org.springframework.web.reactive.function.client.WebClientResponseException;
+
+import java.util.concurrent.TimeoutException;
+import java.util.function.Predicate;
+
+/**
+ * Zitadel 호출 실패 중 일시적인(transient) 실패를 판별
+ * resilience4j 설정에서 재시도 대상({@code retry-exception-predicate})과
+ * circuit breaker 실패 집계 대상({@code record-failure-predicate})으로 함께 사용됩니다.
+ *
+ * <p>일시적인 실패: 5xx, 408, 429 응답 / 연결·읽기 실패 / 응답 시간 초과.
+ * 404, 409 같은 4xx는 Zitadel이 정상적으로 응답한 것이므로 재시도하지 않고 실패로 집계하지도 않습니다.
+ * Executor가 응답 오류를 {@link io.hlab.OpenConsole.infrastructure.iam.IamException}으로 감싸므로 cause 체인을 따라 확인합니다.
+ */
+public class ZitadelTransientFailurePredicate implements Predicate<Throwable> {
+
+    private static final int MAX_CAUSE_DEPTH = 10;
+
+    @Override
+    public boolean test(Throwable throwable) {
+        return isTransient(throwable);
+    }
+
+    public static boolean isTransient(Throwable throwable) {
+        Throwable current = throwable;
+        for (int depth = 0; current != null && depth < MAX_CAUSE_DEPTH; depth++) {
+            if (current instanceof WebClientResponseException e) {
+                int status = e.getStatusCode().value();
+                return status >= 500 || status == 408 || status == 429;
+            }
+            if (current instanceof WebClientRequestException || current instanceof TimeoutException) {
+                return true;
+            }
+            current = current.getCause();
+        }
+        return false;
+    }
+}
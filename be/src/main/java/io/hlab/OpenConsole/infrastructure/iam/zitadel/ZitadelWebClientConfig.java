@@ -0,0 +1,270 @@
+package io.hlab.OpenConsole.infrastructure.iam.zitadel;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.netty.channel.ChannelOption;
+import io.netty.handler.timeout.ReadTimeoutHandler;
+import io.netty.handler.timeout.WriteTimeoutHandler;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.client.reactive.ReactorClientHttpConnector;
+import org.springframework.util.MultiValueMap;
+import org.springframework.web.reactive.function.client.ClientRequest;
+import org.springframework.web.reactive.function.client.ExchangeFilterFunction;
+import org.springframework.web.reactive.function.client.WebClient;
+import reactor.core.publisher.Mono;
+import reactor.netty.http.HttpProtocol;
+import reactor.netty.http.client.HttpClient;
+import reactor.netty.resources.ConnectionProvider;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+/**
+ * Zitadel API 호출용 공유 WebClient 설정
+ *
+ * <p>Executor마다 호출 시점에 WebClient를 새로 만들던 구조를 대체합니다.
+ * 애플리케이션 전체에서 하나의 커넥션 풀을 재사용하며, 모든 값은 {@code zitadel.http.*}로 조정할 수 있습니다.
+ *
+ * <h3>설정 항목</h3>
+ * <ul>
+ *   <li><b>pool</b>: 최대 커넥션 수, idle/life time, 백그라운드 eviction 주기, 대기(pending acquire) 한도</li>
+ *   <li><b>timeout</b>: connect / read / write / response 타임아웃</li>
+ *   <li><b>protocol</b>: keep-alive, HTTP/2(https는 h2, http는 h2c), 응답 압축(gzip)</li>
+ *   <li><b>limiter</b>: 적응형 동시 요청 제한 ({@link ZitadelAdaptiveLimiter}, {@code zitadel.limiter.*})</li>
+ *   <li><b>metrics</b>: 작업별 HTTP 상태/응답 크기 ({@link ZitadelMetrics}, {@code zitadel.metrics.*})</li>
+ *   <li><b>auth</b>: 요청마다 {@link ZitadelTokenProvider}의 토큰을 Authorization 헤더에 설정 ({@code zitadel.auth.*})</li>
+ * </ul>
+ */
+@Slf4j
+@Configuration
+public class ZitadelWebClientConfig {
+
+    @Value("${zitadel.domain}")
+    private String zitadelDomain;
+
+    @Value("${zitadel.api-token:}")
+    private String apiToken;
+
+    @Value("${zitadel.auth.type:pat}")
+    private String authType;
+
+    @Value("${zitadel.auth.client-id:}")
+    private String authClientId;
+
+    @Value("${zitadel.auth.client-secret:}")
+    private String authClientSecret;
+
+    @Value("${zitadel.auth.key-file:}")
+    private String authKeyFile;
+
+    @Value("${zitadel.auth.scope:openid urn:zitadel:iam:org:project:id:zitadel:aud}")
+    private String authScope;
+
+    @Value("${zitadel.auth.token-path:/oauth/v2/token}")
+    private String authTokenPath;
+
+    @Value("${zitadel.auth.refresh-before:60s}")
+    private Duration authRefreshBefore;
+
+    @Value("${zitadel.auth.retry-interval:5s}")
+    private Duration authRetryInterval;
+
+    @Value("${zitadel.auth.fetch-timeout:5s}")
+    private Duration authFetchTimeout;
+
+    @Value("${zitadel.http.pool.max-connections:100}")
+    private int maxConnections;
+
+    @Value("${zitadel.http.pool.max-idle-time:30s}")
+    private Duration maxIdleTime;
+
+    @Value("${zitadel.http.pool.max-life-time:5m}")
+    private Duration maxLifeTime;
+
+    @Value("${zitadel.http.pool.evict-interval:30s}")
+    private Duration evictInterval;
+
+    @Value("${zitadel.http.pool.pending-acquire-max-count:500}")
+    private int pendingAcquireMaxCount;
+
+    @Value("${zitadel.http.pool.pending-acquire-timeout:2s}")
+    private Duration pendingAcquireTimeout;
+
+    @Value("${zitadel.http.connect-timeout:2s}")
+    private Duration connectTimeout;
+
+    @Value("${zitadel.http.read-timeout:5s}")
+    private Duration readTimeout;
+
+    @Value("${zitadel.http.write-timeout:5s}")
+    private Duration writeTimeout;
+
+    @Value("${zitadel.http.response-timeout:5s}")
+    private Duration responseTimeout;
+
+    @Value("${zitadel.http.keep-alive:true}")
+    private boolean keepAlive;
+
+    @Value("${zitadel.http.http2-enabled:false}")
+    private boolean http2Enabled;
+
+    @Value("${zitadel.http.compression-enabled:true}")
+    private boolean compressionEnabled;
+
+    /**
+     * Zitadel 전용 커넥션 풀
+     * 애플리케이션 종료 시 풀을 정리하도록 destroyMethod를 지정합니다.
+     */
+    @Bean(destroyMethod = "dispose")
+    public ConnectionProvider zitadelConnectionProvider() {
+        return ConnectionProvider.builder("zitadel")
+                .maxConnections(maxConnections)
+                .maxIdleTime(maxIdleTime)
+                .maxLifeTime(maxLifeTime)
+                .evictInBackground(evictInterval)
+                .pendingAcquireMaxCount(pendingAcquireMaxCount)
+                .pendingAcquireTimeout(pendingAcquireTimeout)
+                .build();
+    }
+
+    /**
+     * Zitadel API 호출용 access token 제공자 ({@code zitadel.auth.type})
+     * <ul>
+     *   <li>{@code pat} (기본값): {@code zitadel.api-token}을 그대로 사용</li>
+     *   <li>{@code client-credentials}: 서비스 계정 client id/secret으로 발급</li>
+     *   <li>{@code jwt-profile}: 서비스 계정 키 파일로 서명한 assertion으로 발급</li>
+     * </ul>
+     * 발급한 토큰은 캐시하고 만료 전에 백그라운드에서 갱신합니다 ({@link ZitadelServiceAccountTokenProvider}).
+     */
+    @Bean
+    public ZitadelTokenProvider zitadelTokenProvider(
+            WebClient.Builder webClientBuilder,
+            ConnectionProvider zitadelConnectionProvider,
+            ObjectMapper objectMapper) {
+        String baseUrl = resolveBaseUrl();
+        return switch (authType) {
+            case "pat" -> ZitadelTokenProvider.ofStatic(apiToken);
+            case "client-credentials" -> serviceAccountTokenProvider(webClientBuilder, zitadelConnectionProvider,
+                    ZitadelServiceAccountGrants.clientCredentials(authClientId, authClientSecret, authScope));
+            case "jwt-profile" -> serviceAccountTokenProvider(webClientBuilder, zitadelConnectionProvider,
+                    ZitadelServiceAccountGrants.jwtProfile(authKeyFile, baseUrl, authScope, objectMapper, Clock.systemUTC()));
+            default -> throw new IllegalStateException(
+                    "지원하지 않는 zitadel.auth.type입니다: " + authType + " (pat, client-credentials, jwt-profile)");
+        };
+    }
+
+    /**
+     * token endpoint 호출은 Zitadel API용 WebClient(토큰 필터, limiter)를 거치지 않도록 별도 WebClient 사용
+     * 커넥션 풀은 공유합니다.
+     */
+    private ZitadelTokenProvider serviceAccountTokenProvider(
+            WebClient.Builder webClientBuilder,
+            ConnectionProvider zitadelConnectionProvider,
+            Supplier<MultiValueMap<String, String>> grant) {
+        String baseUrl = resolveBaseUrl();
+        if (baseUrl == null) {
+            throw new IllegalStateException("zitadel.auth.type=" + authType + "에는 zitadel.domain이 필요합니다.");
+        }
+        HttpClient httpClient = HttpClient.create(zitadelConnectionProvider)
+                .option(ChannelOption.CONNECT_TIMEOUT_MILLIS, (int) connectTimeout.toMillis())
+                .responseTimeout(authFetchTimeout);
+        WebClient tokenClient = webClientBuilder.clone()
+                .clientConnector(new ReactorClientHttpConnector(httpClient))
+                .baseUrl(baseUrl)
+                .build();
+        log.info("Zitadel 서비스 계정 토큰 사용: type={}, refreshBefore={}", authType, authRefreshBefore);
+        return new ZitadelServiceAccountTokenProvider(tokenClient, authTokenPath, grant,
+                authRefreshBefore, authRetryInterval, authFetchTimeout);
+    }
+
+    /**
+     * 모든 Zitadel Executor가 공유하는 WebClient
+     */
+    @Bean
+    public WebClient zitadelWebClient(
+            WebClient.Builder webClientBuilder,
+            ConnectionProvider zitadelConnectionProvider,
+            ZitadelAdaptiveLimiter zitadelAdaptiveLimiter,
+            ZitadelMetrics zitadelMetrics,
+            ZitadelTokenProvider zitadelTokenProvider) {
+        String baseUrl = resolveBaseUrl();
+
+        HttpClient httpClient = HttpClient.create(zitadelConnectionProvider)
+                .keepAlive(keepAlive)
+                .compress(compressionEnabled)
+                .option(ChannelOption.CONNECT_TIMEOUT_MILLIS, (int) connectTimeout.toMillis())
+                .responseTimeout(responseTimeout)
+                // 요청 단위로 추가된 핸들러는 커넥션이 풀로 반환될 때 제거됨
+                .doOnRequest((request, connection) -> connection
+                        .addHandlerLast(new ReadTimeoutHandler(readTimeout.toMillis(), TimeUnit.MILLISECONDS))
+                        .addHandlerLast(new WriteTimeoutHandler(writeTimeout.toMillis(), TimeUnit.MILLISECONDS)));
+
+        if (http2Enabled) {
+            // https는 ALPN으로 h2 협상, 평문 http는 h2c(prior knowledge 없이 upgrade) 사용
+            httpClient = baseUrl != null && baseUrl.startsWith("https://")
+                    ? httpClient.secure().protocol(HttpProtocol.H2, HttpProtocol.HTTP11)
+                    : httpClient.protocol(HttpProtocol.H2C, HttpProtocol.HTTP11);
+        }
+
+        WebClient.Builder builder = webClientBuilder
+                .clientConnector(new ReactorClientHttpConnector(httpClient))
+                .defaultHeader("Content-Type", "application/json")
+                .defaultHeader("Connect-Protocol-Version", "1")
+                .filter(bearerTokenFilter(zitadelTokenProvider))
+                .filter(zitadelAdaptiveLimiter)
+                // 한도 대기 시간을 제외한 실제 HTTP 응답 상태/크기 기록
+                .filter(zitadelMetrics);
+
+        if (baseUrl != null) {
+            builder.baseUrl(baseUrl);
+        } else {
+            // 기존 동작과 동일하게 호출 시점에 설정 누락을 알림 (애플리케이션 기동은 막지 않음)
+            log.warn("zitadel.domain이 설정되지 않아 Zitadel API 호출이 실패합니다.");
+            builder.filter(missingDomainFilter());
+        }
+
+        log.debug("Zitadel WebClient 생성: baseUrl={}, maxConnections={}, http2={}, compression={}",
+                baseUrl, maxConnections, http2Enabled, compressionEnabled);
+        return builder.build();
+    }
+
+    /**
+     * domain에 프로토콜이 이미 포함되어 있으면 그대로 사용, 없으면 https:// 추가
+     *
+     * @return base URL 또는 null (domain 미설정 시)
+     */
+    private String resolveBaseUrl() {
+        if (zitadelDomain == null || zitadelDomain.isBlank()) {
+            return null;
+        }
+        return zitadelDomain.startsWith("http://") || zitadelDomain.startsWith("https://")
+                ? zitadelDomain
+                : "https://" + zitadelDomain;
+    }
+
+    /**
+     * 요청마다 현재 토큰을 Authorization 헤더에 설정
+     * 401 응답이면 토큰 제공자에 알려 다음 요청부터 새 토큰을 쓰게 합니다 (응답은 그대로 전달).
+     */
+    static ExchangeFilterFunction bearerTokenFilter(ZitadelTokenProvider tokenProvider) {
+        return (request, next) -> tokenProvider.getToken()
+                .flatMap(token -> next.exchange(ClientRequest.from(request)
+                                .headers(headers -> headers.setBearerAuth(token))
+                                .build())
+                        .doOnNext(response -> {
+                            if (response.statusCode().isSameCodeAs(HttpStatus.UNAUTHORIZED)) {
+                                tokenProvider.invalidate(token);
+                            }
+                        }));
+    }
+
+    private static ExchangeFilterFunction missingDomainFilter() {
+        return ExchangeFilterFunction.ofRequestProcessor(request -> Mono.error(new IllegalStateException(
+                "zitadel.domain이 설정되지 않았습니다. application.yaml 또는 환경 변수를 확인하세요.")));
+    }
+}
@@ -0,0 +1,175 @@
+package io.hlab.OpenConsole.infrastructure.iam.zitadel;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.hlab.OpenConsole.infrastructure.iam.IamChangeEvent;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.security.MessageDigest;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.format.DateTimeParseException;
+import java.util.HexFormat;
+
+/**
+ * Zitadel Actions(v2) webhook 서명 검증 및 이벤트 해석
+ *
+ * <p>Zitadel은 {@code ZITADEL-Signature: t=<unix seconds>,v1=<hex>} 헤더에
+ * {@code "<t>.<body>"}의 HMAC-SHA256 값을 담아 보냅니다 (Target의 signing key 사용).
+ * 서명이 맞지 않거나 타임스탬프가 {@code zitadel.webhook.tolerance}를 벗어나면(재전송 공격) 거절합니다.
+ *
+ * <p>이벤트 ID는 {@code aggregateID:sequence}로, 같은 이벤트가 다시 전달되어도 같은 값입니다.
+ * <ul>
+ *   <li>aggregateType=user: user.removed는 {@link IamChangeEvent.Kind#USER_REMOVED}, 나머지는 USER_CHANGED (subject=aggregateID)</li>
+ *   <li>aggregateType=usergrant: {@link IamChangeEvent.Kind#AUTHORIZATION_CHANGED} (subject=event_payload.userId)</li>
+ * </ul>
+ */
+@Slf4j
+@Component
+public class ZitadelWebhookVerifier {
+
+    public static final String SIGNATURE_HEADER = "ZITADEL-Signature";
+
+    private static final String HMAC_ALGORITHM = "HmacSHA256";
+
+    private final ObjectMapper objectMapper;
+    private final byte[] signingKey;
+    private final Duration tolerance;
+
+    public ZitadelWebhookVerifier(
+            ObjectMapper objectMapper,
+            @Value("${zitadel.webhook.signing-key:}") String signingKey,
+            @Value("${zitadel.webhook.tolerance:5m}") Duration tolerance) {
+        this.objectMapper = objectMapper;
+        this.signingKey = signingKey.getBytes(StandardCharsets.UTF_8);
+        this.tolerance = tolerance;
+    }
+
+    /**
+     * signing key가 설정되었는지 여부 (없으면 모든 요청을 거절)
+     */
+    public boolean isConfigured() {
+        return signingKey.length > 0;
+    }
+
+    /**
+     * 서명 헤더 검증
+     *
+     * @param signatureHeader ZITADEL-Signature 헤더 값
+     * @param body 요청 본문 (원본 바이트)
+     * @return 서명이 유효하고 허용 시간 안이면 true
+     */
+    public boolean verify(String signatureHeader, byte[] body) {
+        if (!isConfigured() || signatureHeader == null || signatureHeader.isBlank()) {
+            return false;
+        }
+        String timestamp = null;
+        String signature = null;
+        for (String part : signatureHeader.split(",")) {
+            String[] pair = part.trim().split("=", 2);
+            if (pair.length != 2) {
+                continue;
+            }
+            if ("t".equals(pair[0])) {
+                timestamp = pair[1];
+            } else if ("v1".equals(pair[0])) {
+                signature = pair[1];
+            }
+        }
+        if (timestamp == null || signature == null) {
+            return false;
+        }
+
+        long signedAt;
+        try {
+            signedAt = Long.parseLong(timestamp);
+        } catch (NumberFormatException e) {
+            return false;
+        }
+        long age = Math.abs(Instant.now().getEpochSecond() - signedAt);
+        if (age > tolerance.toSeconds()) {
+            log.warn("Zitadel webhook 서명 시각이 허용 범위를 벗어남: t={}, age={}s", signedAt, age);
+            return false;
+        }
+
+        byte[] expected;
+        byte[] actual;
+        try {
+            expected = sign(timestamp, body);
+            actual = HexFormat.of().parseHex(signature);
+        } catch (IllegalArgumentException e) {
+            return false;
+        }
+        return MessageDigest.isEqual(expected, actual);
+    }
+
+    /**
+     * 요청 본문을 이벤트로 해석
+     *
+     * @throws IllegalArgumentException JSON이 아니거나 이벤트 ID를 만들 수 없는 경우
+     */
+    public IamChangeEvent parse(byte[] body) {
+        JsonNode root;
+        try {
+            root = objectMapper.readTree(body);
+        } catch (IOException e) {
+            throw new IllegalArgumentException("이벤트 본문을 해석할 수 없습니다.", e);
+        }
+        String aggregateId = text(root, "aggregateID");
+        String sequence = text(root, "sequence");
+        String eventType = text(root, "event_type");
+        if (aggregateId == null || sequence == null || eventType == null) {
+            throw new IllegalArgumentException("aggregateID, sequence, event_type은 필수입니다.");
+        }
+        String aggregateType = text(root, "aggregateType");
+
+        IamChangeEvent.Kind kind;
+        String subject;
+        if ("user".equals(aggregateType)) {
+            kind = "user.removed".equals(eventType) ? IamChangeEvent.Kind.USER_REMOVED : IamChangeEvent.Kind.USER_CHANGED;
+            subject = aggregateId;
+        } else if ("usergrant".equals(aggregateType)) {
+            kind = IamChangeEvent.Kind.AUTHORIZATION_CHANGED;
+            subject = text(root.path("event_payload"), "userId");
+        } else {
+            kind = IamChangeEvent.Kind.OTHER;
+            subject = null;
+        }
+        return new IamChangeEvent(aggregateId + ":" + sequence, kind, eventType, subject, instant(text(root, "created_at")));
+    }
+
+    private byte[] sign(String timestamp, byte[] body) {
+        try {
+            Mac mac = Mac.getInstance(HMAC_ALGORITHM);
+            mac.init(new SecretKeySpec(signingKey, HMAC_ALGORITHM));
+            mac.update(timestamp.getBytes(StandardCharsets.UTF_8));
+            mac.update((byte) '.');
+            return mac.doFinal(body);
+        } catch (GeneralSecurityException e) {
+            throw new IllegalStateException("HMAC 계산 실패", e);
+        }
+    }
+
+    private static String text(JsonNode node, String field) {
+        JsonNode value = node.get(field);
+        return value != null && !value.isNull() && !value.asText().isBlank() ? value.asText() : null;
+    }
+
+    private static Instant instant(String value) {
+        if (value == null) {
+            return null;
+        }
+        try {
+            return Instant.parse(value);
+        } catch (DateTimeParseException e) {
+            return null;
+        }
+    }
+}
@@ -1,6 +1,10 @@
 package io.hlab.OpenConsole.infrastructure.iam.zitadel.client;
 
 import io.hlab.OpenConsole.infrastructure.iam.IamException;
+import io.hlab.OpenConsole.infrastructure.iam.zitadel.ZitadelOperation;
+import io.hlab.OpenConsole.infrastructure.iam.zitadel.ZitadelRequestCoalescer;
+import io.hlab.OpenConsole.infrastructure.iam.zitadel.ZitadelRequestHedger;
+import io.hlab.OpenConsole.infrastructure.iam.zitadel.ZitadelResilience;
 import io.hlab.OpenConsole.infrastructure.iam.zitadel.dto.ZitadelAuthorizationDto;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -8,13 +12,18 @@ import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
 import org.springframework.web.reactive.function.client.WebClient;
 import org.springframework.web.reactive.function.client.WebClientResponseException;
+import reactor.core.publisher.Mono;
 
 import java.util.List;
 
 /**
  * Zitadel Authorization v2 API 실행자
  * Authorization 관련 API 호출만 담당
- * 
+ *
+ * <p>모든 메소드는 {@link Mono}를 반환하며 구독 전까지 API를 호출하지 않습니다.
+ * {@link WebClientResponseException}은 {@link IamException}으로 변환되어 에러 시그널로 전파됩니다.
+ * 모든 호출은 {@link ZitadelResilience}로 감싸 작업별 타임아웃, 조회 재시도, circuit breaker, bulkhead가 적용됩니다.
+ *
  * <p>테스트 환경에서는 실제 Zitadel 서버가 없으므로 모킹하여 사용합니다.
  */
 @Slf4j
@@ -22,49 +31,37 @@ import java.util.List;
 @RequiredArgsConstructor
 public class ZitadelAuthExecutor {
 
-    @Value("${zitadel.domain}")
-    private String zitadelDomain;
-
     @Value("${zitadel.org-id}")
     private String orgId;
 
     @Value("${zitadel.project-id}")
     private String projectId;
 
-    @Value("${zitadel.api-token}")
-    private String apiToken;
+    /**
+     * 공유 WebClient (커넥션 풀/타임아웃 설정은 {@link io.hlab.OpenConsole.infrastructure.iam.zitadel.ZitadelWebClientConfig} 참고)
+     */
+    private final WebClient zitadelWebClient;
 
-    private final WebClient.Builder webClientBuilder;
+    /**
+     * 동일 조회 병합 (진행 중인 같은 요청이 있으면 결과 공유)
+     */
+    private final ZitadelRequestCoalescer requestCoalescer;
 
     /**
-     * WebClient 인스턴스 생성 (공통 헤더 설정)
+     * 지연에 민감한 조회의 헤지 요청 (옵트인, zitadel.hedging.* 참고)
      */
-    private WebClient createWebClient() {
-        // domain이 null이거나 빈 문자열인 경우 처리
-        if (zitadelDomain == null || zitadelDomain.isBlank()) {
-            throw new IllegalStateException("zitadel.domain이 설정되지 않았습니다. application.yaml 또는 환경 변수를 확인하세요.");
-        }
-        
-        // domain에 프로토콜이 이미 포함되어 있으면 그대로 사용, 없으면 https:// 추가
-        String baseUrl = zitadelDomain.startsWith("http://") || zitadelDomain.startsWith("https://")
-                ? zitadelDomain
-                : "https://" + zitadelDomain;
-        
-        return webClientBuilder
-                .baseUrl(baseUrl)
-                .defaultHeader("Authorization", "Bearer " + apiToken)
-                .defaultHeader("Content-Type", "application/json")
-                .defaultHeader("Connect-Protocol-Version", "1")
-                .build();
-    }
+    private final ZitadelRequestHedger requestHedger;
+
+    /**
+     * 타임아웃/재시도/circuit breaker/bulkhead (작업별 설정은 resilience4j.* 참고)
+     */
+    private final ZitadelResilience resilience;
 
     /**
      * Zitadel Authorization 생성 (CreateAuthorization)
      * user의 Authorization이 이미 존재하는 경우엔 오류 발생 (409 Conflict 였던 것 같음)
      */
-    public ZitadelAuthorizationDto.CreateResponse createAuthorization(String userId, List<String> roleKeys) throws IamException {
-        WebClient webClient = createWebClient();
-        
+    public Mono<ZitadelAuthorizationDto.CreateResponse> createAuthorization(String userId, List<String> roleKeys) {
         ZitadelAuthorizationDto.CreateRequest request = new ZitadelAuthorizationDto.CreateRequest(
                 userId,
                 projectId,
@@ -72,176 +69,146 @@ public class ZitadelAuthExecutor {
                 roleKeys
         );
 
-        try {
-            ZitadelAuthorizationDto.CreateResponse response = webClient.post()
-                    .uri("/zitadel.authorization.v2.AuthorizationService/CreateAuthorization")
-                    .header("x-zitadel-orgid", this.orgId)
-                    .bodyValue(request)
-                    .retrieve()
-                    .bodyToMono(ZitadelAuthorizationDto.CreateResponse.class)
-                    .block();
-
-            log.debug("Authorization 생성 완료: userId={}, roleKeys={}", userId, roleKeys);
-            return response;
-        } catch (WebClientResponseException e) {
-            log.error("Authorization 생성 실패: userId={}, roleKeys={}, status={}, body={}",
-                    userId, roleKeys, e.getStatusCode(), e.getResponseBodyAsString());
-            throw new IamException("Authorization 생성 실패: " + e.getMessage(), e);
-        }
+        return resilience.decorate(ZitadelOperation.CREATE_AUTHORIZATION, zitadelWebClient.post()
+                .uri("/zitadel.authorization.v2.AuthorizationService/CreateAuthorization")
+                .header("x-zitadel-orgid", this.orgId)
+                .bodyValue(request)
+                .retrieve()
+                .bodyToMono(ZitadelAuthorizationDto.CreateResponse.class)
+                .doOnNext(response -> log.debug("Authorization 생성 완료: userId={}, roleKeys={}", userId, roleKeys))
+                .onErrorMap(WebClientResponseException.class, e -> {
+                    log.error("Authorization 생성 실패: userId={}, roleKeys={}, status={}, body={}",
+                            userId, roleKeys, e.getStatusCode(), e.getResponseBodyAsString());
+                    return new IamException("Authorization 생성 실패: " + e.getMessage(), e);
+                }));
     }
 
     /**
      * Zitadel Authorization 업데이트 (UpdateAuthorization)
      */
-    public ZitadelAuthorizationDto.UpdateResponse updateAuthorization(String grantId, List<String> roleKeys) throws IamException {
-        WebClient webClient = createWebClient();
-        
+    public Mono<ZitadelAuthorizationDto.UpdateResponse> updateAuthorization(String grantId, List<String> roleKeys) {
         ZitadelAuthorizationDto.UpdateRequest request = new ZitadelAuthorizationDto.UpdateRequest(
                 grantId,
                 roleKeys
         );
 
-        try {
-            ZitadelAuthorizationDto.UpdateResponse response = webClient.post()
-                    .uri("/zitadel.authorization.v2.AuthorizationService/UpdateAuthorization")
-                    .header("x-zitadel-orgid", this.orgId)
-                    .bodyValue(request)
-                    .retrieve()
-                    .bodyToMono(ZitadelAuthorizationDto.UpdateResponse.class)
-                    .block();
-
-            log.debug("Authorization 업데이트 완료: grantId={}, roleKeys={}", grantId, roleKeys);
-            return response;
-        } catch (WebClientResponseException e) {
-            log.error("Authorization 업데이트 실패: grantId={}, roleKeys={}, status={}, body={}",
-                    grantId, roleKeys, e.getStatusCode(), e.getResponseBodyAsString());
-            throw new IamException("Authorization 업데이트 실패: " + e.getMessage(), e);
-        }
+        return resilience.decorate(ZitadelOperation.UPDATE_AUTHORIZATION, zitadelWebClient.post()
+                .uri("/zitadel.authorization.v2.AuthorizationService/UpdateAuthorization")
+                .header("x-zitadel-orgid", this.orgId)
+                .bodyValue(request)
+                .retrieve()
+                .bodyToMono(ZitadelAuthorizationDto.UpdateResponse.class)
+                .doOnNext(response -> log.debug("Authorization 업데이트 완료: grantId={}, roleKeys={}", grantId, roleKeys))
+                .onErrorMap(WebClientResponseException.class, e -> {
+                    log.error("Authorization 업데이트 실패: grantId={}, roleKeys={}, status={}, body={}",
+                            grantId, roleKeys, e.getStatusCode(), e.getResponseBodyAsString());
+                    return new IamException("Authorization 업데이트 실패: " + e.getMessage(), e);
+                }));
     }
 
     /**
      * Zitadel Authorization 목록 조회 (ListAuthorizations)
+     * 같은 userId의 조회가 진행 중이면 그 결과를 공유합니다.
+     * 헤징이 켜져 있으면 응답이 지연될 때 같은 요청을 한 번 더 보내 먼저 온 응답을 사용합니다.
      */
-    public ZitadelAuthorizationDto.ListResponse listAuthorizations(String userId) throws IamException {
-        WebClient webClient = createWebClient();
-        
-        ZitadelAuthorizationDto.ListRequest.PaginationRequest pagination = 
+    public Mono<ZitadelAuthorizationDto.ListResponse> listAuthorizations(String userId) {
+        ZitadelAuthorizationDto.ListRequest.PaginationRequest pagination =
                 new ZitadelAuthorizationDto.ListRequest.PaginationRequest(100, null, true);
-        
-        ZitadelAuthorizationDto.ListRequest.AuthorizationsSearchFilter.InUserIdsFilter inUserIdsFilter = 
+
+        ZitadelAuthorizationDto.ListRequest.AuthorizationsSearchFilter.InUserIdsFilter inUserIdsFilter =
                 new ZitadelAuthorizationDto.ListRequest.AuthorizationsSearchFilter.InUserIdsFilter(List.of(userId));
-        
-        ZitadelAuthorizationDto.ListRequest.AuthorizationsSearchFilter.ProjectIdFilter projectIdFilter = 
+
+        ZitadelAuthorizationDto.ListRequest.AuthorizationsSearchFilter.ProjectIdFilter projectIdFilter =
                 new ZitadelAuthorizationDto.ListRequest.AuthorizationsSearchFilter.ProjectIdFilter(projectId);
-        
-        ZitadelAuthorizationDto.ListRequest.AuthorizationsSearchFilter.OrganizationIdFilter orgIdFilter = 
+
+        ZitadelAuthorizationDto.ListRequest.AuthorizationsSearchFilter.OrganizationIdFilter orgIdFilter =
                 new ZitadelAuthorizationDto.ListRequest.AuthorizationsSearchFilter.OrganizationIdFilter(orgId);
-        
-        ZitadelAuthorizationDto.ListRequest.AuthorizationsSearchFilter filter1 = 
+
+        ZitadelAuthorizationDto.ListRequest.AuthorizationsSearchFilter filter1 =
                 new ZitadelAuthorizationDto.ListRequest.AuthorizationsSearchFilter(
                         null, inUserIdsFilter, null, null, projectIdFilter, null, null, null, null, null, null);
-        
-        ZitadelAuthorizationDto.ListRequest.AuthorizationsSearchFilter filter2 = 
+
+        ZitadelAuthorizationDto.ListRequest.AuthorizationsSearchFilter filter2 =
                 new ZitadelAuthorizationDto.ListRequest.AuthorizationsSearchFilter(
                         null, null, orgIdFilter, null, null, null, null, null, null, null, null);
-        
+
         ZitadelAuthorizationDto.ListRequest request = new ZitadelAuthorizationDto.ListRequest(
                 pagination,
                 ZitadelAuthorizationDto.ListRequest.AuthorizationFieldName.AUTHORIZATION_FIELD_NAME_UNSPECIFIED,
                 List.of(filter1, filter2)
         );
 
-        try {
-            return webClient.post()
-                    .uri("/zitadel.authorization.v2.AuthorizationService/ListAuthorizations")
-                    .header("x-zitadel-orgid", this.orgId)
-                    .bodyValue(request)
-                    .retrieve()
-                    .bodyToMono(ZitadelAuthorizationDto.ListResponse.class)
-                    .block();
-        } catch (WebClientResponseException e) {
-            log.error("Authorization 목록 조회 실패: userId={}, status={}, body={}",
-                    userId, e.getStatusCode(), e.getResponseBodyAsString());
-            throw new IamException("Authorization 목록 조회 실패: " + e.getMessage(), e);
-        }
+        return requestCoalescer.execute("listAuthorizations", userId, () -> requestHedger.hedge(ZitadelOperation.LIST_AUTHORIZATIONS,
+                () -> resilience.decorate(ZitadelOperation.LIST_AUTHORIZATIONS, zitadelWebClient.post()
+                .uri("/zitadel.authorization.v2.AuthorizationService/ListAuthorizations")
+                .header("x-zitadel-orgid", this.orgId)
+                .bodyValue(request)
+                .retrieve()
+                .bodyToMono(ZitadelAuthorizationDto.ListResponse.class)
+                .onErrorMap(WebClientResponseException.class, e -> {
+                    log.error("Authorization 목록 조회 실패: userId={}, status={}, body={}",
+                            userId, e.getStatusCode(), e.getResponseBodyAsString());
+                    return new IamException("Authorization 목록 조회 실패: " + e.getMessage(), e);
+                }))));
     }
 
     /**
      * Zitadel Authorization 삭제 (DeleteAuthorization)
      */
-    public ZitadelAuthorizationDto.DeleteResponse deleteAuthorization(String grantId) throws IamException {
-        WebClient webClient = createWebClient();
-        
+    public Mono<ZitadelAuthorizationDto.DeleteResponse> deleteAuthorization(String grantId) {
         ZitadelAuthorizationDto.DeleteRequest request = new ZitadelAuthorizationDto.DeleteRequest(grantId);
 
-        try {
-            ZitadelAuthorizationDto.DeleteResponse response = webClient.post()
-                    .uri("/zitadel.authorization.v2.AuthorizationService/DeleteAuthorization")
-                    .header("x-zitadel-orgid", this.orgId)
-                    .bodyValue(request)
-                    .retrieve()
-                    .bodyToMono(ZitadelAuthorizationDto.DeleteResponse.class)
-                    .block();
-
-            log.debug("Authorization 삭제 완료: grantId={}", grantId);
-            return response;
-        } catch (WebClientResponseException e) {
-            log.error("Authorization 삭제 실패: grantId={}, status={}, body={}",
-                    grantId, e.getStatusCode(), e.getResponseBodyAsString());
-            throw new IamException("Authorization 삭제 실패: " + e.getMessage(), e);
-        }
+        return resilience.decorate(ZitadelOperation.DELETE_AUTHORIZATION, zitadelWebClient.post()
+                .uri("/zitadel.authorization.v2.AuthorizationService/DeleteAuthorization")
+                .header("x-zitadel-orgid", this.orgId)
+                .bodyValue(request)
+                .retrieve()
+                .bodyToMono(ZitadelAuthorizationDto.DeleteResponse.class)
+                .doOnNext(response -> log.debug("Authorization 삭제 완료: grantId={}", grantId))
+                .onErrorMap(WebClientResponseException.class, e -> {
+                    log.error("Authorization 삭제 실패: grantId={}, status={}, body={}",
+                            grantId, e.getStatusCode(), e.getResponseBodyAsString());
+                    return new IamException("Authorization 삭제 실패: " + e.getMessage(), e);
+                }));
     }
 
     /**
      * Zitadel Authorization 활성화 (ActivateAuthorization)
      */
-    public ZitadelAuthorizationDto.ActivateResponse activateAuthorization(String grantId) throws IamException {
-        WebClient webClient = createWebClient();
-        
+    public Mono<ZitadelAuthorizationDto.ActivateResponse> activateAuthorization(String grantId) {
         ZitadelAuthorizationDto.ActivateRequest request = new ZitadelAuthorizationDto.ActivateRequest(grantId);
 
-        try {
-            ZitadelAuthorizationDto.ActivateResponse response = webClient.post()
-                    .uri("/zitadel.authorization.v2.AuthorizationService/ActivateAuthorization")
-                    .header("x-zitadel-orgid", this.orgId)
-                    .bodyValue(request)
-                    .retrieve()
-                    .bodyToMono(ZitadelAuthorizationDto.ActivateResponse.class)
-                    .block();
-
-            log.debug("Authorization 활성화 완료: grantId={}", grantId);
-            return response;
-        } catch (WebClientResponseException e) {
-            log.error("Authorization 활성화 실패: grantId={}, status={}, body={}",
-                    grantId, e.getStatusCode(), e.getResponseBodyAsString());
-            throw new IamException("Authorization 활성화 실패: " + e.getMessage(), e);
-        }
+        return resilience.decorate(ZitadelOperation.ACTIVATE_AUTHORIZATION, zitadelWebClient.post()
+                .uri("/zitadel.authorization.v2.AuthorizationService/ActivateAuthorization")
+                .header("x-zitadel-orgid", this.orgId)
+                .bodyValue(request)
+                .retrieve()
+                .bodyToMono(ZitadelAuthorizationDto.ActivateResponse.class)
+                .doOnNext(response -> log.debug("Authorization 활성화 완료: grantId={}", grantId))
+                .onErrorMap(WebClientResponseException.class, e -> {
+                    log.error("Authorization 활성화 실패: grantId={}, status={}, body={}",
+                            grantId, e.getStatusCode(), e.getResponseBodyAsString());
+                    return new IamException("Authorization 활성화 실패: " + e.getMessage(), e);
+                }));
     }
 
     /**
      * Zitadel Authorization 비활성화 (DeactivateAuthorization)
      */
-    public ZitadelAuthorizationDto.DeactivateResponse deactivateAuthorization(String grantId) throws IamException {
-        WebClient webClient = createWebClient();
-        
+    public Mono<ZitadelAuthorizationDto.DeactivateResponse> deactivateAuthorization(String grantId) {
         ZitadelAuthorizationDto.DeactivateRequest request = new ZitadelAuthorizationDto.DeactivateRequest(grantId);
 
-        try {
-            ZitadelAuthorizationDto.DeactivateResponse response = webClient.post()
-                    .uri("/zitadel.authorization.v2.AuthorizationService/DeactivateAuthorization")
-                    .header("x-zitadel-orgid", this.orgId)
-                    .bodyValue(request)
-                    .retrieve()
-                    .bodyToMono(ZitadelAuthorizationDto.DeactivateResponse.class)
-                    .block();
-
-            log.debug("Authorization 비활성화 완료: grantId={}", grantId);
-            return response;
-        } catch (WebClientResponseException e) {
-            log.error("Authorization 비활성화 실패: grantId={}, status={}, body={}",
-                    grantId, e.getStatusCode(), e.getResponseBodyAsString());
-            throw new IamException("Authorization 비활성화 실패: " + e.getMessage(), e);
-        }
+        return resilience.decorate(ZitadelOperation.DEACTIVATE_AUTHORIZATION, zitadelWebClient.post()
+                .uri("/zitadel.authorization.v2.AuthorizationService/DeactivateAuthorization")
+                .header("x-zitadel-orgid", this.orgId)
+                .bodyValue(request)
+                .retrieve()
+                .bodyToMono(ZitadelAuthorizationDto.DeactivateResponse.class)
+                .doOnNext(response -> log.debug("Authorization 비활성화 완료: grantId={}", grantId))
+                .onErrorMap(WebClientResponseException.class, e -> {
+                    log.error("Authorization 비활성화 실패: grantId={}, status={}, body={}",
+                            grantId, e.getStatusCode(), e.getResponseBodyAsString());
+                    return new IamException("Authorization 비활성화 실패: " + e.getMessage(), e);
+                }));
     }
 }
-
@@ -1,6 +1,11 @@
 package io.hlab.OpenConsole.infrastructure.iam.zitadel.client;
 
+import io.hlab.OpenConsole.infrastructure.iam.IamDirectoryScanIncompleteException;
 import io.hlab.OpenConsole.infrastructure.iam.IamException;
+import io.hlab.OpenConsole.infrastructure.iam.zitadel.ZitadelOperation;
+import io.hlab.OpenConsole.infrastructure.iam.zitadel.ZitadelRequestCoalescer;
+import io.hlab.OpenConsole.infrastructure.iam.zitadel.ZitadelRequestHedger;
+import io.hlab.OpenConsole.infrastructure.iam.zitadel.ZitadelResilience;
 import io.hlab.OpenConsole.infrastructure.iam.zitadel.dto.ZitadelUserDto;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -8,61 +13,96 @@ import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
 import org.springframework.web.reactive.function.client.WebClient;
 import org.springframework.web.reactive.function.client.WebClientResponseException;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
 
+import java.util.ArrayList;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
 
 /**
  * Zitadel User v2 API 실행자
  * User 관련 API 호출만 담당
+ *
+ * <p>모든 메소드는 {@link Mono}를 반환하며 구독 전까지 API를 호출하지 않습니다.
+ * {@link WebClientResponseException}은 {@link IamException}으로 변환되어 에러 시그널로 전파됩니다.
+ * 모든 호출은 {@link ZitadelResilience}로 감싸 작업별 타임아웃, 조회 재시도, circuit breaker, bulkhead가 적용됩니다.
  */
 @Slf4j
 @Component
 @RequiredArgsConstructor
 public class ZitadelUserExecutor {
 
-    @Value("${zitadel.domain}")
-    private String zitadelDomain;
+    /**
+     * 여러 페이지에 걸친 조회의 정렬 기준 (생성 시각 오름차순: 새 사용자는 항상 뒤에 추가되어 앞 페이지가 밀리지 않음)
+     */
+    private static final String STREAM_SORTING_COLUMN = "USER_FIELD_NAME_CREATION_DATE";
 
     @Value("${zitadel.org-id}")
     private String orgId;
 
-    @Value("${zitadel.api-token}")
-    private String apiToken;
+    /**
+     * 전체 사용자 순회 시 이전 페이지와 겹쳐 조회할 사용자 수
+     * 두 페이지 조회 사이에 이미 읽은 사용자가 이 수 이하로 삭제되어야 누락 없이 이어서 조회합니다.
+     */
+    @Value("${zitadel.stream.page-overlap:10}")
+    private int pageOverlap = 10;
 
-    private final WebClient.Builder webClientBuilder;
+    /**
+     * 공유 WebClient (커넥션 풀/타임아웃 설정은 {@link io.hlab.OpenConsole.infrastructure.iam.zitadel.ZitadelWebClientConfig} 참고)
+     */
+    private final WebClient zitadelWebClient;
 
     /**
-     * WebClient 인스턴스 생성 (공통 헤더 설정)
+     * 동일 조회 병합 (진행 중인 같은 요청이 있으면 결과 공유)
      */
-    private WebClient createWebClient() {
-        // domain이 null이거나 빈 문자열인 경우 처리
-        if (zitadelDomain == null || zitadelDomain.isBlank()) {
-            throw new IllegalStateException("zitadel.domain이 설정되지 않았습니다. application.yaml 또는 환경 변수를 확인하세요.");
-        }
-        
-        // domain에 프로토콜이 이미 포함되어 있으면 그대로 사용, 없으면 https:// 추가
-        String baseUrl = zitadelDomain.startsWith("http://") || zitadelDomain.startsWith("https://")
-                ? zitadelDomain
-                : "https://" + zitadelDomain;
-        
-        return webClientBuilder
-                .baseUrl(baseUrl)
-                .defaultHeader("Authorization", "Bearer " + apiToken)
-                .defaultHeader("Content-Type", "application/json")
-                .defaultHeader("Connect-Protocol-Version", "1")
-                .build();
-    }
+    private final ZitadelRequestCoalescer requestCoalescer;
+
+    /**
+     * 지연에 민감한 조회의 헤지 요청 (옵트인, zitadel.hedging.* 참고)
+     */
+    private final ZitadelRequestHedger requestHedger;
+
+    /**
+     * 타임아웃/재시도/circuit breaker/bulkhead (작업별 설정은 resilience4j.* 참고)
+     */
+    private final ZitadelResilience resilience;
 
     /**
      * Zitadel 사용자 목록 조회 (ListUsers)
      * POST /v2/users
      */
-    public ZitadelUserDto.ListUsersResponse listUsers(
+    public Mono<ZitadelUserDto.ListUsersResponse> listUsers(
             Integer offset, Integer limit, Boolean asc,
-            String sortingColumn, List<Map<String, Object>> queries) throws IamException {
-        WebClient webClient = createWebClient();
+            String sortingColumn, List<Map<String, Object>> queries) {
+        return listUsers(offset, limit, asc, sortingColumn, queries, ZitadelUserDto.ListUsersResponse.class);
+    }
+
+    /**
+     * ListUsers 응답 본문을 그대로 받아 projection 디코더로 필요한 필드만 읽음
+     * 전체 DTO 트리를 만들지 않으므로 email 검색처럼 ID/email만 필요한 조회에 사용
+     *
+     * @param projection 응답 본문 디코더 ({@link ZitadelUserProjections} 참고)
+     */
+    private <T> Mono<T> listUsersProjected(
+            Integer offset, Integer limit, List<Map<String, Object>> queries, Function<byte[], T> projection) {
+        return listUsersProjected(offset, limit, null, queries, projection);
+    }
+
+    private <T> Mono<T> listUsersProjected(
+            Integer offset, Integer limit, String sortingColumn,
+            List<Map<String, Object>> queries, Function<byte[], T> projection) {
+        return listUsers(offset, limit, true, sortingColumn, queries, byte[].class)
+                .mapNotNull(projection);
+    }
 
+    private <T> Mono<T> listUsers(
+            Integer offset, Integer limit, Boolean asc,
+            String sortingColumn, List<Map<String, Object>> queries, Class<T> bodyType) {
         ZitadelUserDto.ListUsersRequest.Query query = new ZitadelUserDto.ListUsersRequest.Query(
                 offset, limit, asc
         );
@@ -71,25 +111,28 @@ public class ZitadelUserExecutor {
                 query, sortingColumn, queries
         );
 
-        try {
-            return webClient.post()
-                    .uri("/v2/users")
-                    .header("x-zitadel-orgid", this.orgId)
-                    .bodyValue(request)
-                    .retrieve()
-                    .bodyToMono(ZitadelUserDto.ListUsersResponse.class)
-                    .block();
-        } catch (WebClientResponseException e) {
-            log.error("사용자 목록 조회 실패: status={}, body={}",
-                    e.getStatusCode(), e.getResponseBodyAsString());
-            throw new IamException("사용자 목록 조회 실패: " + e.getMessage(), e);
-        }
+        return requestHedger.hedge(ZitadelOperation.LIST_USERS,
+                () -> resilience.decorate(ZitadelOperation.LIST_USERS, zitadelWebClient.post()
+                .uri("/v2/users")
+                .header("x-zitadel-orgid", this.orgId)
+                .bodyValue(request)
+                .retrieve()
+                .bodyToMono(bodyType)
+                .onErrorMap(WebClientResponseException.class, e -> {
+                    log.error("사용자 목록 조회 실패: status={}, body={}",
+                            e.getStatusCode(), e.getResponseBodyAsString());
+                    return new IamException("사용자 목록 조회 실패: " + e.getMessage(), e);
+                })));
     }
 
     /**
      * Email로 사용자 검색 (ListUsers의 헬퍼 메소드)
+     * 같은 email의 검색이 진행 중이면 그 결과를 공유합니다.
+     * 응답은 첫 번째 사용자의 ID만 읽고 파싱을 멈춥니다 ({@link ZitadelUserProjections#firstUser}).
+     *
+     * @return 첫 번째 검색 결과 (subject만 채워짐), 사용자가 없으면 empty
      */
-    public ZitadelUserDto.ListUsersResponse.User findUserByEmail(String email) throws IamException {
+    public Mono<ZitadelUserProjections.UserRef> findUserByEmail(String email) {
         List<Map<String, Object>> queries = List.of(
                 Map.of("emailQuery", Map.of(
                         "emailAddress", email,
@@ -97,237 +140,310 @@ public class ZitadelUserExecutor {
                 ))
         );
 
-        ZitadelUserDto.ListUsersResponse response = listUsers(0, 100, true, null, queries);
+        // 첫 번째 결과만 사용하므로 1건만 요청
+        return requestCoalescer.execute("findUserByEmail", email,
+                () -> listUsersProjected(0, 1, queries, ZitadelUserProjections::firstUser));
+    }
 
-        if (response != null && response.result() != null && !response.result().isEmpty()) {
-            return response.result().get(0);
+    /**
+     * 여러 Email로 사용자 일괄 검색 (ListUsers의 헬퍼 메소드)
+     * inUserEmailsQuery로 email 목록에 해당하는 사용자를 모두 조회합니다.
+     * 한 email에 여러 사용자가 있을 수 있으므로 email 수만큼씩 생성 시각 순으로 페이지를 나눠,
+     * 요청한 수보다 적게 올 때까지 이어서 조회합니다 (대부분 한 번으로 끝남).
+     * 응답에서는 사용자별 ID와 email만 읽습니다 ({@link ZitadelUserProjections#users}).
+     *
+     * @param emails 검색할 email 목록 (한 번에 보낼 크기는 호출하는 쪽에서 나눔)
+     * @return 검색된 사용자 목록 (생성 순서), 없으면 빈 리스트
+     */
+    public Mono<List<ZitadelUserProjections.UserRef>> findUsersByEmails(List<String> emails) {
+        if (emails.isEmpty()) {
+            return Mono.just(List.of());
         }
+        List<Map<String, Object>> queries = List.of(
+                Map.of("inUserEmailsQuery", Map.of(
+                        "userEmails", emails
+                ))
+        );
+
+        return findUsersByEmailsFrom(0, emails.size(), queries)
+                .collectList()
+                .doOnNext(users -> log.debug("사용자 일괄 검색 완료: requested={}, found={}", emails.size(), users.size()));
+    }
+
+    private Flux<ZitadelUserProjections.UserRef> findUsersByEmailsFrom(
+            int offset, int limit, List<Map<String, Object>> queries) {
+        return listUsersProjected(offset, limit, STREAM_SORTING_COLUMN, queries, ZitadelUserProjections::users)
+                .defaultIfEmpty(List.of())
+                .flatMapMany(users -> users.size() < limit
+                        ? Flux.fromIterable(users)
+                        : Flux.fromIterable(users).concatWith(findUsersByEmailsFrom(offset + limit, limit, queries)));
+    }
+
+    /**
+     * 조직(zitadel.org-id)의 전체 사용자를 페이지 단위로 순회 (ListUsers의 헬퍼 메소드)
+     *
+     * <p>생성 시각 오름차순으로 정렬하여 순회 중 추가된 사용자는 마지막 페이지 뒤에 붙고, 이미 읽은 페이지는 밀리지 않습니다.
+     * 각 페이지는 이전 페이지와 {@code zitadel.stream.page-overlap}명만큼 겹쳐 조회하고 이미 받은 사용자는 건너뛰므로,
+     * 두 페이지 조회 사이에 이미 읽은 사용자가 그 수 이하로 삭제되어 offset이 당겨져도 누락되지 않습니다.
+     * 그보다 많이 삭제되면 겹친 구간이 비어 그 사이의 사용자를 건너뛰었을 수 있으므로,
+     * 나머지 페이지까지 모두 내보낸 뒤 {@link IamDirectoryScanIncompleteException}으로 스트림을 끝냅니다.
+     * 호출하는 쪽은 받은 사용자는 반영하되, 전체 목록을 전제로 하는 처리(삭제 판정 등)는 건너뛰어야 합니다.
+     *
+     * <p>현재 페이지를 소비하는 동안 다음 페이지를 미리 요청하며(prefetch 2),
+     * 구독자가 소비하지 않으면 그 이상 요청하지 않으므로 사용자 수와 관계없이 메모리에는 몇 페이지만 유지됩니다.
+     *
+     * @param pageSize 페이지당 사용자 수
+     * @return 사용자 스트림 (생성 순서)
+     */
+    public Flux<ZitadelUserDto.ListUsersResponse.User> streamUsers(int pageSize) {
+        List<Map<String, Object>> queries = List.of(
+                Map.of("organizationIdQuery", Map.of(
+                        "organizationId", orgId
+                ))
+        );
 
-        throw new IamException("사용자를 찾을 수 없습니다: email=" + email);
+        return Flux.defer(() -> {
+            AtomicInteger gaps = new AtomicInteger();
+            return fetchUserPage(0, Set.of(), pageSize, queries)
+                    .expand(page -> page.last()
+                            ? Mono.empty()
+                            : fetchUserPage(page.nextOffset(), page.ids(), pageSize, queries))
+                    .doOnNext(page -> {
+                        if (page.gap()) {
+                            gaps.incrementAndGet();
+                        }
+                    })
+                    .concatMapIterable(UserPage::users, 2)
+                    .concatWith(Mono.defer(() -> gaps.get() == 0
+                            ? Mono.empty()
+                            : Mono.error(new IamDirectoryScanIncompleteException(
+                                    "전체 사용자 순회 중 누락 가능 구간 발생: gaps=" + gaps.get()
+                                            + ", pageOverlap=" + pageOverlap))));
+        });
+    }
+
+    private Mono<UserPage> fetchUserPage(int offset, Set<String> previousIds, int pageSize,
+                                         List<Map<String, Object>> queries) {
+        int requestOffset = previousIds.isEmpty() ? offset : Math.max(0, offset - pageOverlap);
+        int limit = pageSize + (offset - requestOffset);
+
+        return listUsers(requestOffset, limit, true, STREAM_SORTING_COLUMN, queries)
+                .map(response -> {
+                    List<ZitadelUserDto.ListUsersResponse.User> result = response.result() != null
+                            ? response.result()
+                            : List.of();
+                    Set<String> ids = new HashSet<>();
+                    List<ZitadelUserDto.ListUsersResponse.User> users = new ArrayList<>(result.size());
+                    for (ZitadelUserDto.ListUsersResponse.User user : result) {
+                        String id = user.id() != null ? user.id() : user.userId();
+                        ids.add(id);
+                        if (!previousIds.contains(id)) {
+                            users.add(user);
+                        }
+                    }
+                    // 겹쳐 조회한 구간에 이전 페이지 사용자가 하나도 없으면 그 사이 사용자를 건너뛰었을 수 있음
+                    boolean gap = requestOffset < offset && users.size() == result.size();
+                    if (gap) {
+                        log.warn("사용자 페이지 겹침 구간 없음 (순회 중 {}명 넘게 삭제됨): offset={}, limit={}, received={}",
+                                offset - requestOffset, requestOffset, limit, result.size());
+                    }
+                    log.debug("사용자 페이지 조회: offset={}, limit={}, received={}, new={}",
+                            requestOffset, limit, result.size(), users.size());
+                    return new UserPage(users, ids, requestOffset + result.size(), result.size() < limit, gap);
+                });
+    }
+
+    /**
+     * 전체 사용자 순회의 한 페이지
+     *
+     * @param users 이전 페이지에 없던 사용자
+     * @param ids 이 페이지에서 받은 모든 사용자 ID (다음 페이지의 겹친 구간 제거용)
+     * @param nextOffset 다음 페이지 offset
+     * @param last 마지막 페이지 여부
+     * @param gap 겹쳐 조회한 구간에 이전 페이지 사용자가 없어 누락이 있을 수 있는지 여부
+     */
+    private record UserPage(List<ZitadelUserDto.ListUsersResponse.User> users, Set<String> ids,
+                            int nextOffset, boolean last, boolean gap) {
     }
 
     /**
      * Zitadel 사용자 ID로 조회 (GetUserByID)
      * GET /v2/users/{user_id}
+     * 같은 userId의 조회가 진행 중이면 그 결과를 공유합니다.
+     * 헤징이 켜져 있으면 응답이 지연될 때 같은 요청을 한 번 더 보내 먼저 온 응답을 사용합니다.
      */
-    public ZitadelUserDto.GetUserByIDResponse getUserByID(String userId) throws IamException {
-        WebClient webClient = createWebClient();
-
-        try {
-            return webClient.get()
-                    .uri("/v2/users/{user_id}", userId)
-                    .header("x-zitadel-orgid", this.orgId)
-                    .retrieve()
-                    .bodyToMono(ZitadelUserDto.GetUserByIDResponse.class)
-                    .block();
-        } catch (WebClientResponseException e) {
-            log.error("사용자 조회 실패: userId={}, status={}, body={}",
-                    userId, e.getStatusCode(), e.getResponseBodyAsString());
-            
-            if (e.getStatusCode().value() == 404) {
-                throw new IamException("사용자를 찾을 수 없습니다: userId=" + userId, e);
-            }
-            throw new IamException("사용자 조회 실패: " + e.getMessage(), e);
-        }
+    public Mono<ZitadelUserDto.GetUserByIDResponse> getUserByID(String userId) {
+        return requestCoalescer.execute("getUserByID", userId, () -> requestHedger.hedge(ZitadelOperation.GET_USER_BY_ID,
+                () -> resilience.decorate(ZitadelOperation.GET_USER_BY_ID, zitadelWebClient.get()
+                .uri("/v2/users/{user_id}", userId)
+                .header("x-zitadel-orgid", this.orgId)
+                .retrieve()
+                .bodyToMono(ZitadelUserDto.GetUserByIDResponse.class)
+                .onErrorMap(WebClientResponseException.class, e -> {
+                    log.error("사용자 조회 실패: userId={}, status={}, body={}",
+                            userId, e.getStatusCode(), e.getResponseBodyAsString());
+
+                    if (e.getStatusCode().value() == 404) {
+                        return new IamException("사용자를 찾을 수 없습니다: userId=" + userId, e);
+                    }
+                    return new IamException("사용자 조회 실패: " + e.getMessage(), e);
+                }))));
     }
 
     /**
      * Zitadel 사용자 생성 (CreateUser - Human)
      * POST /v2/users/new
      */
-    public ZitadelUserDto.CreateUserResponse createUser(ZitadelUserDto.CreateUserRequest request) throws IamException {
-        WebClient webClient = createWebClient();
-
-        try {
-            ZitadelUserDto.CreateUserResponse response = webClient.post()
-                    .uri("/v2/users/new")
-                    .header("x-zitadel-orgid", this.orgId)
-                    .bodyValue(request)
-                    .retrieve()
-                    .bodyToMono(ZitadelUserDto.CreateUserResponse.class)
-                    .block();
-
-            log.debug("사용자 생성 완료: userId={}", response.id());
-            return response;
-        } catch (WebClientResponseException e) {
-            log.error("사용자 생성 실패: status={}, body={}",
-                    e.getStatusCode(), e.getResponseBodyAsString());
-            throw new IamException("사용자 생성 실패: " + e.getMessage(), e);
-        }
+    public Mono<ZitadelUserDto.CreateUserResponse> createUser(ZitadelUserDto.CreateUserRequest request) {
+        return resilience.decorate(ZitadelOperation.CREATE_USER, zitadelWebClient.post()
+                .uri("/v2/users/new")
+                .header("x-zitadel-orgid", this.orgId)
+                .bodyValue(request)
+                .retrieve()
+                .bodyToMono(ZitadelUserDto.CreateUserResponse.class)
+                .doOnNext(response -> log.debug("사용자 생성 완료: userId={}", response.id()))
+                .onErrorMap(WebClientResponseException.class, e -> {
+                    log.error("사용자 생성 실패: status={}, body={}",
+                            e.getStatusCode(), e.getResponseBodyAsString());
+                    return new IamException("사용자 생성 실패: " + e.getMessage(), e);
+                }));
     }
 
     /**
      * Zitadel 사용자 삭제 (DeleteUser)
      * DELETE /v2/users/{user_id}
      */
-    public ZitadelUserDto.DeleteUserResponse deleteUser(String userId) throws IamException {
-        WebClient webClient = createWebClient();
-
-        try {
-            ZitadelUserDto.DeleteUserResponse response = webClient.delete()
-                    .uri("/v2/users/{user_id}", userId)
-                    .header("x-zitadel-orgid", this.orgId)
-                    .retrieve()
-                    .bodyToMono(ZitadelUserDto.DeleteUserResponse.class)
-                    .block();
-
-            log.debug("사용자 삭제 완료: userId={}", userId);
-            return response;
-        } catch (WebClientResponseException e) {
-            log.error("사용자 삭제 실패: userId={}, status={}, body={}",
-                    userId, e.getStatusCode(), e.getResponseBodyAsString());
-            
-            if (e.getStatusCode().value() == 404) {
-                throw new IamException("사용자를 찾을 수 없습니다: userId=" + userId, e);
-            }
-            throw new IamException("사용자 삭제 실패: " + e.getMessage(), e);
-        }
+    public Mono<ZitadelUserDto.DeleteUserResponse> deleteUser(String userId) {
+        return resilience.decorate(ZitadelOperation.DELETE_USER, zitadelWebClient.delete()
+                .uri("/v2/users/{user_id}", userId)
+                .header("x-zitadel-orgid", this.orgId)
+                .retrieve()
+                .bodyToMono(ZitadelUserDto.DeleteUserResponse.class)
+                .doOnNext(response -> log.debug("사용자 삭제 완료: userId={}", userId))
+                .onErrorMap(WebClientResponseException.class, e -> {
+                    log.error("사용자 삭제 실패: userId={}, status={}, body={}",
+                            userId, e.getStatusCode(), e.getResponseBodyAsString());
+
+                    if (e.getStatusCode().value() == 404) {
+                        return new IamException("사용자를 찾을 수 없습니다: userId=" + userId, e);
+                    }
+                    return new IamException("사용자 삭제 실패: " + e.getMessage(), e);
+                }));
     }
 
     /**
      * Zitadel 사용자 비활성화 (DeactivateUser)
      * POST /v2/users/{user_id}/deactivate
      */
-    public ZitadelUserDto.DeactivateUserResponse deactivateUser(String userId) throws IamException {
-        WebClient webClient = createWebClient();
-
-        try {
-            ZitadelUserDto.DeactivateUserResponse response = webClient.post()
-                    .uri("/v2/users/{user_id}/deactivate", userId)
-                    .header("x-zitadel-orgid", this.orgId)
-                    .retrieve()
-                    .bodyToMono(ZitadelUserDto.DeactivateUserResponse.class)
-                    .block();
-
-            log.debug("사용자 비활성화 완료: userId={}", userId);
-            return response;
-        } catch (WebClientResponseException e) {
-            log.error("사용자 비활성화 실패: userId={}, status={}, body={}",
-                    userId, e.getStatusCode(), e.getResponseBodyAsString());
-            
-            if (e.getStatusCode().value() == 404) {
-                throw new IamException("사용자를 찾을 수 없습니다: userId=" + userId, e);
-            }
-            throw new IamException("사용자 비활성화 실패: " + e.getMessage(), e);
-        }
+    public Mono<ZitadelUserDto.DeactivateUserResponse> deactivateUser(String userId) {
+        return resilience.decorate(ZitadelOperation.DEACTIVATE_USER, zitadelWebClient.post()
+                .uri("/v2/users/{user_id}/deactivate", userId)
+                .header("x-zitadel-orgid", this.orgId)
+                .retrieve()
+                .bodyToMono(ZitadelUserDto.DeactivateUserResponse.class)
+                .doOnNext(response -> log.debug("사용자 비활성화 완료: userId={}", userId))
+                .onErrorMap(WebClientResponseException.class, e -> {
+                    log.error("사용자 비활성화 실패: userId={}, status={}, body={}",
+                            userId, e.getStatusCode(), e.getResponseBodyAsString());
+
+                    if (e.getStatusCode().value() == 404) {
+                        return new IamException("사용자를 찾을 수 없습니다: userId=" + userId, e);
+                    }
+                    return new IamException("사용자 비활성화 실패: " + e.getMessage(), e);
+                }));
     }
 
     /**
      * Zitadel 사용자 메타데이터 설정 (SetUserMetadata)
      * POST /v2/users/{user_id}/metadata
      */
-    public ZitadelUserDto.SetUserMetadataResponse setUserMetadata(
-            String userId, List<ZitadelUserDto.SetUserMetadataRequest.Metadata> metadata) throws IamException {
-        WebClient webClient = createWebClient();
-
+    public Mono<ZitadelUserDto.SetUserMetadataResponse> setUserMetadata(
+            String userId, List<ZitadelUserDto.SetUserMetadataRequest.Metadata> metadata) {
         ZitadelUserDto.SetUserMetadataRequest request = new ZitadelUserDto.SetUserMetadataRequest(metadata);
 
-        try {
-            ZitadelUserDto.SetUserMetadataResponse response = webClient.post()
-                    .uri("/v2/users/{user_id}/metadata", userId)
-                    .header("x-zitadel-orgid", this.orgId)
-                    .bodyValue(request)
-                    .retrieve()
-                    .bodyToMono(ZitadelUserDto.SetUserMetadataResponse.class)
-                    .block();
-
-            log.debug("사용자 메타데이터 설정 완료: userId={}", userId);
-            return response;
-        } catch (WebClientResponseException e) {
-            log.error("사용자 메타데이터 설정 실패: userId={}, status={}, body={}",
-                    userId, e.getStatusCode(), e.getResponseBodyAsString());
-            
-            if (e.getStatusCode().value() == 404) {
-                throw new IamException("사용자를 찾을 수 없습니다: userId=" + userId, e);
-            }
-            throw new IamException("사용자 메타데이터 설정 실패: " + e.getMessage(), e);
-        }
+        return resilience.decorate(ZitadelOperation.SET_USER_METADATA, zitadelWebClient.post()
+                .uri("/v2/users/{user_id}/metadata", userId)
+                .header("x-zitadel-orgid", this.orgId)
+                .bodyValue(request)
+                .retrieve()
+                .bodyToMono(ZitadelUserDto.SetUserMetadataResponse.class)
+                .doOnNext(response -> log.debug("사용자 메타데이터 설정 완료: userId={}", userId))
+                .onErrorMap(WebClientResponseException.class, e -> {
+                    log.error("사용자 메타데이터 설정 실패: userId={}, status={}, body={}",
+                            userId, e.getStatusCode(), e.getResponseBodyAsString());
+
+                    if (e.getStatusCode().value() == 404) {
+                        return new IamException("사용자를 찾을 수 없습니다: userId=" + userId, e);
+                    }
+                    return new IamException("사용자 메타데이터 설정 실패: " + e.getMessage(), e);
+                }));
     }
 
     /**
      * Zitadel 사용자 잠금 (LockUser)
      * POST /v2/users/{user_id}/lock
      */
-    public ZitadelUserDto.LockUserResponse lockUser(String userId) throws IamException {
-        WebClient webClient = createWebClient();
-
-        try {
-            ZitadelUserDto.LockUserResponse response = webClient.post()
-                    .uri("/v2/users/{user_id}/lock", userId)
-                    .header("x-zitadel-orgid", this.orgId)
-                    .retrieve()
-                    .bodyToMono(ZitadelUserDto.LockUserResponse.class)
-                    .block();
-
-            log.debug("사용자 잠금 완료: userId={}", userId);
-            return response;
-        } catch (WebClientResponseException e) {
-            log.error("사용자 잠금 실패: userId={}, status={}, body={}",
-                    userId, e.getStatusCode(), e.getResponseBodyAsString());
-            
-            if (e.getStatusCode().value() == 404) {
-                throw new IamException("사용자를 찾을 수 없습니다: userId=" + userId, e);
-            }
-            throw new IamException("사용자 잠금 실패: " + e.getMessage(), e);
-        }
+    public Mono<ZitadelUserDto.LockUserResponse> lockUser(String userId) {
+        return resilience.decorate(ZitadelOperation.LOCK_USER, zitadelWebClient.post()
+                .uri("/v2/users/{user_id}/lock", userId)
+                .header("x-zitadel-orgid", this.orgId)
+                .retrieve()
+                .bodyToMono(ZitadelUserDto.LockUserResponse.class)
+                .doOnNext(response -> log.debug("사용자 잠금 완료: userId={}", userId))
+                .onErrorMap(WebClientResponseException.class, e -> {
+                    log.error("사용자 잠금 실패: userId={}, status={}, body={}",
+                            userId, e.getStatusCode(), e.getResponseBodyAsString());
+
+                    if (e.getStatusCode().value() == 404) {
+                        return new IamException("사용자를 찾을 수 없습니다: userId=" + userId, e);
+                    }
+                    return new IamException("사용자 잠금 실패: " + e.getMessage(), e);
+                }));
     }
 
     /**
      * Zitadel 사용자 잠금 해제 (UnlockUser)
      * POST /v2/users/{user_id}/unlock
      */
-    public ZitadelUserDto.UnlockUserResponse unlockUser(String userId) throws IamException {
-        WebClient webClient = createWebClient();
-
-        try {
-            ZitadelUserDto.UnlockUserResponse response = webClient.post()
-                    .uri("/v2/users/{user_id}/unlock", userId)
-                    .header("x-zitadel-orgid", this.orgId)
-                    .retrieve()
-                    .bodyToMono(ZitadelUserDto.UnlockUserResponse.class)
-                    .block();
-
-            log.debug("사용자 잠금 해제 완료: userId={}", userId);
-            return response;
-        } catch (WebClientResponseException e) {
-            log.error("사용자 잠금 해제 실패: userId={}, status={}, body={}",
-                    userId, e.getStatusCode(), e.getResponseBodyAsString());
-            
-            if (e.getStatusCode().value() == 404) {
-                throw new IamException("사용자를 찾을 수 없습니다: userId=" + userId, e);
-            }
-            throw new IamException("사용자 잠금 해제 실패: " + e.getMessage(), e);
-        }
+    public Mono<ZitadelUserDto.UnlockUserResponse> unlockUser(String userId) {
+        return resilience.decorate(ZitadelOperation.UNLOCK_USER, zitadelWebClient.post()
+                .uri("/v2/users/{user_id}/unlock", userId)
+                .header("x-zitadel-orgid", this.orgId)
+                .retrieve()
+                .bodyToMono(ZitadelUserDto.UnlockUserResponse.class)
+                .doOnNext(response -> log.debug("사용자 잠금 해제 완료: userId={}", userId))
+                .onErrorMap(WebClientResponseException.class, e -> {
+                    log.error("사용자 잠금 해제 실패: userId={}, status={}, body={}",
+                            userId, e.getStatusCode(), e.getResponseBodyAsString());
+
+                    if (e.getStatusCode().value() == 404) {
+                        return new IamException("사용자를 찾을 수 없습니다: userId=" + userId, e);
+                    }
+                    return new IamException("사용자 잠금 해제 실패: " + e.getMessage(), e);
+                }));
     }
 
     /**
      * Zitadel 초대 코드 생성 (CreateInviteCode)
      * POST /v2/users/{user_id}/invite_code
      */
-    public ZitadelUserDto.CreateInviteCodeResponse createInviteCode(
-            String userId, ZitadelUserDto.CreateInviteCodeRequest request) throws IamException {
-        WebClient webClient = createWebClient();
-
-        try {
-            ZitadelUserDto.CreateInviteCodeResponse response = webClient.post()
-                    .uri("/v2/users/{user_id}/invite_code", userId)
-                    .header("x-zitadel-orgid", this.orgId)
-                    .bodyValue(request)
-                    .retrieve()
-                    .bodyToMono(ZitadelUserDto.CreateInviteCodeResponse.class)
-                    .block();
-
-            log.debug("초대 코드 생성 완료: userId={}", userId);
-            return response;
-        } catch (WebClientResponseException e) {
-            log.error("초대 코드 생성 실패: userId={}, status={}, body={}",
-                    userId, e.getStatusCode(), e.getResponseBodyAsString());
-            
-            if (e.getStatusCode().value() == 404) {
-                throw new IamException("사용자를 찾을 수 없습니다: userId=" + userId, e);
-            }
-            throw new IamException("초대 코드 생성 실패: " + e.getMessage(), e);
-        }
+    public Mono<ZitadelUserDto.CreateInviteCodeResponse> createInviteCode(
+            String userId, ZitadelUserDto.CreateInviteCodeRequest request) {
+        return resilience.decorate(ZitadelOperation.CREATE_INVITE_CODE, zitadelWebClient.post()
+                .uri("/v2/users/{user_id}/invite_code", userId)
+                .header("x-zitadel-orgid", this.orgId)
+                .bodyValue(request)
+                .retrieve()
+                .bodyToMono(ZitadelUserDto.CreateInviteCodeResponse.class)
+                .doOnNext(response -> log.debug("초대 코드 생성 완료: userId={}", userId))
+                .onErrorMap(WebClientResponseException.class, e -> {
+                    log.error("초대 코드 생성 실패: userId={}, status={}, body={}",
+                            userId, e.getStatusCode(), e.getResponseBodyAsString());
+
+                    if (e.getStatusCode().value() == 404) {
+                        return new IamException("사용자를 찾을 수 없습니다: userId=" + userId, e);
+                    }
+                    return new IamException("초대 코드 생성 실패: " + e.getMessage(), e);
+                }));
     }
 }
-
@@ -0,0 +1,161 @@
+package io.hlab.OpenConsole.infrastructure.iam.zitadel.client;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import io.hlab.OpenConsole.infrastructure.iam.IamException;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * ListUsers 응답의 projection 디코더
+ * Jackson streaming API로 응답을 한 번 훑으면서 호출하는 쪽에 필요한 필드(subject, email)만 꺼냄
+ *
+ * <p>{@code bodyToMono(ListUsersResponse.class)}는 사용자마다 Human/Profile/Email/Phone/Machine 레코드를 모두 만들지만,
+ * email → subject 조회에는 ID와 email만 필요합니다. 나머지 필드는 {@link JsonParser#skipChildren()}으로 건너뛰고,
+ * 첫 번째 사용자만 필요한 경우에는 ID를 찾는 즉시 파싱을 멈춥니다.
+ *
+ * <p>전체 사용자 순회처럼 사용자 정보 전체가 필요한 곳은 기존 {@link ZitadelUserExecutor#listUsers}를 사용합니다.
+ */
+public final class ZitadelUserProjections {
+
+    /**
+     * 스레드 안전하며 생성 비용이 크므로 공유
+     */
+    private static final JsonFactory JSON_FACTORY = new JsonFactory();
+
+    private ZitadelUserProjections() {
+    }
+
+    /**
+     * ListUsers 결과의 사용자 한 명 (subject, email)
+     *
+     * @param subject 사용자 ID ({@code id}, 없으면 {@code userId})
+     * @param email Human 사용자의 email (Machine 사용자이거나 읽지 않았으면 null)
+     */
+    public record UserRef(String subject, String email) {
+    }
+
+    /**
+     * 첫 번째 사용자의 subject만 읽고 파싱을 멈춤 (email 검색 결과용)
+     *
+     * @return 첫 번째 사용자, 결과가 없으면 null (subject가 비어 있을 수 있음)
+     */
+    public static UserRef firstUser(byte[] json) {
+        try (JsonParser parser = JSON_FACTORY.createParser(json)) {
+            if (!moveToResult(parser)) {
+                return null;
+            }
+            return parser.nextToken() == JsonToken.START_OBJECT ? readUser(parser, false) : null;
+        } catch (IOException e) {
+            throw new IamException("사용자 목록 응답 파싱 실패: " + e.getMessage(), e);
+        }
+    }
+
+    /**
+     * 모든 사용자의 subject와 email 읽기 (일괄 email 검색 결과용)
+     *
+     * @return 사용자 목록, 결과가 없으면 빈 리스트
+     */
+    public static List<UserRef> users(byte[] json) {
+        try (JsonParser parser = JSON_FACTORY.createParser(json)) {
+            if (!moveToResult(parser)) {
+                return List.of();
+            }
+            List<UserRef> users = new ArrayList<>();
+            while (parser.nextToken() == JsonToken.START_OBJECT) {
+                users.add(readUser(parser, true));
+            }
+            return users;
+        } catch (IOException e) {
+            throw new IamException("사용자 목록 응답 파싱 실패: " + e.getMessage(), e);
+        }
+    }
+
+    /**
+     * 최상위 {@code result} 배열의 START_ARRAY까지 이동 (다른 최상위 필드는 건너뜀)
+     *
+     * @return result 배열이 있으면 true
+     */
+    private static boolean moveToResult(JsonParser parser) throws IOException {
+        if (parser.nextToken() != JsonToken.START_OBJECT) {
+            return false;
+        }
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String field = parser.currentName();
+            JsonToken value = parser.nextToken();
+            if ("result".equals(field) && value == JsonToken.START_ARRAY) {
+                return true;
+            }
+            parser.skipChildren();
+        }
+        return false;
+    }
+
+    /**
+     * 사용자 객체 하나 읽기 (START_OBJECT 위치에서 호출)
+     * email이 필요 없으면 {@code id}를 찾는 즉시 반환하므로, 호출 후 파서 위치는 객체 끝이 아닐 수 있습니다.
+     */
+    private static UserRef readUser(JsonParser parser, boolean withEmail) throws IOException {
+        String userId = null;
+        String id = null;
+        String email = null;
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String field = parser.currentName();
+            JsonToken value = parser.nextToken();
+            switch (field) {
+                case "id" -> {
+                    id = textOrNull(parser, value);
+                    if (!withEmail && id != null) {
+                        return new UserRef(id, null);
+                    }
+                }
+                case "userId" -> userId = textOrNull(parser, value);
+                case "human" -> {
+                    if (withEmail && value == JsonToken.START_OBJECT) {
+                        email = readHumanEmail(parser);
+                    } else {
+                        parser.skipChildren();
+                    }
+                }
+                default -> parser.skipChildren();
+            }
+        }
+        return new UserRef(id != null ? id : userId, email);
+    }
+
+    /**
+     * {@code human.email.email} 읽기 (human의 START_OBJECT 위치에서 호출, human 객체 끝까지 소비)
+     */
+    private static String readHumanEmail(JsonParser parser) throws IOException {
+        String email = null;
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String field = parser.currentName();
+            JsonToken value = parser.nextToken();
+            if ("email".equals(field) && value == JsonToken.START_OBJECT) {
+                while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                    String emailField = parser.currentName();
+                    JsonToken emailValue = parser.nextToken();
+                    if ("email".equals(emailField)) {
+                        email = textOrNull(parser, emailValue);
+                    } else {
+                        parser.skipChildren();
+                    }
+                }
+            } else {
+                parser.skipChildren();
+            }
+        }
+        return email;
+    }
+
+    private static String textOrNull(JsonParser parser, JsonToken value) throws IOException {
+        if (value == JsonToken.VALUE_STRING) {
+            return parser.getText();
+        }
+        parser.skipChildren();
+        return null;
+    }
+}
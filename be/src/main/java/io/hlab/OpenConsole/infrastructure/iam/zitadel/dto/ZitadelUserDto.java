@@ -4,6 +4,7 @@ import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
 import com.fasterxml.jackson.annotation.JsonInclude;
 import com.fasterxml.jackson.annotation.JsonProperty;
 
+import java.time.Instant;
 import java.util.List;
 import java.util.Map;
 
@@ -45,8 +46,19 @@ public class ZitadelUserDto {
                 @JsonProperty("username") String username,
                 @JsonProperty("state") String state,
                 @JsonProperty("human") Human human,
-                @JsonProperty("machine") Machine machine
+                @JsonProperty("machine") Machine machine,
+                @JsonProperty("details") Details details
         ) {
+            /**
+             * 사용자 변경 정보 (changeDate는 사용자 동기화의 변경 감지 기준)
+             */
+            public record Details(
+                    @JsonProperty("sequence") Long sequence,
+                    @JsonProperty("creationDate") Instant creationDate,
+                    @JsonProperty("changeDate") Instant changeDate,
+                    @JsonProperty("resourceOwner") String resourceOwner
+            ) {}
+
             public record Human(
                     @JsonProperty("profile") Profile profile,
                     @JsonProperty("email") Email email,
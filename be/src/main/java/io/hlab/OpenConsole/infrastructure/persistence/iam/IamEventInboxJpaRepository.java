@@ -0,0 +1,39 @@
+package io.hlab.OpenConsole.infrastructure.persistence.iam;
+
+import io.hlab.OpenConsole.domain.iam.IamEventInboxRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+
+/**
+ * 중복 여부를 조회 없이 PK 충돌로 판단하므로 INSERT 한 번으로 처리 (동시 수신에도 한 번만 기록)
+ */
+@Repository
+@RequiredArgsConstructor
+public class IamEventInboxJpaRepository implements IamEventInboxRepository {
+    private static final String INSERT_SQL =
+            "INSERT INTO iam_event_inbox (event_id, event_type, subject, received_at) VALUES (?, ?, ?, ?)";
+    private static final String DELETE_SQL =
+            "DELETE FROM iam_event_inbox WHERE received_at < ?";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @Override
+    public boolean insertIfAbsent(String eventId, String eventType, String subject, LocalDateTime receivedAt) {
+        try {
+            jdbcTemplate.update(INSERT_SQL, eventId, eventType, subject, Timestamp.valueOf(receivedAt));
+            return true;
+        } catch (DuplicateKeyException e) {
+            return false;
+        }
+    }
+
+    @Override
+    public int deleteReceivedBefore(LocalDateTime threshold) {
+        return jdbcTemplate.update(DELETE_SQL, Timestamp.valueOf(threshold));
+    }
+}
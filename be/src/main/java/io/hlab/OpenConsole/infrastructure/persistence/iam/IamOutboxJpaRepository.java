@@ -0,0 +1,93 @@
+package io.hlab.OpenConsole.infrastructure.persistence.iam;
+
+import io.hlab.OpenConsole.domain.iam.IamOutboxMessage;
+import io.hlab.OpenConsole.domain.iam.IamOutboxRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * 저장/조회는 JPA로, 상태 전이는 현재 상태를 조건으로 한 UPDATE 한 번으로 처리 (여러 노드의 워커가 동시에 실행될 수 있음)
+ */
+@Repository
+@RequiredArgsConstructor
+public class IamOutboxJpaRepository implements IamOutboxRepository {
+    private static final String CLAIM_SQL =
+            "UPDATE iam_outbox SET status = 'PROCESSING', lease_until = ? WHERE id = ? AND status = 'PENDING'";
+    private static final String DELIVERED_SQL =
+            "UPDATE iam_outbox SET status = 'DELIVERED', attempts = ?, lease_until = NULL, last_error = NULL, completed_at = ? "
+                    + "WHERE id = ? AND status = 'PROCESSING'";
+    private static final String RETRY_SQL =
+            "UPDATE iam_outbox SET status = 'PENDING', attempts = ?, next_attempt_at = ?, lease_until = NULL, last_error = ? "
+                    + "WHERE id = ? AND status = 'PROCESSING'";
+    private static final String DEAD_SQL =
+            "UPDATE iam_outbox SET status = 'DEAD', attempts = ?, lease_until = NULL, last_error = ?, completed_at = ? "
+                    + "WHERE id = ? AND status = 'PROCESSING'";
+    private static final String RELEASE_SQL =
+            "UPDATE iam_outbox SET status = 'PENDING', lease_until = NULL WHERE status = 'PROCESSING' AND lease_until < ?";
+    private static final String DELETE_DELIVERED_SQL =
+            "DELETE FROM iam_outbox WHERE status = 'DELIVERED' AND completed_at < ?";
+    private static final int MAX_ERROR_LENGTH = 1000;
+
+    private final SpringDataIamOutboxRepository springDataIamOutboxRepository;
+    private final JdbcTemplate jdbcTemplate;
+
+    @Override
+    public IamOutboxMessage save(IamOutboxMessage message) {
+        return springDataIamOutboxRepository.save(message);
+    }
+
+    @Override
+    public Optional<IamOutboxMessage> findById(Long id) {
+        return springDataIamOutboxRepository.findById(id);
+    }
+
+    @Override
+    public List<IamOutboxMessage> findDeliverable(LocalDateTime now, int limit) {
+        return springDataIamOutboxRepository.findDeliverable(now, IamOutboxMessage.Status.PENDING,
+                List.of(IamOutboxMessage.Status.PENDING, IamOutboxMessage.Status.PROCESSING), PageRequest.of(0, limit));
+    }
+
+    @Override
+    public boolean claim(Long id, LocalDateTime leaseUntil) {
+        return jdbcTemplate.update(CLAIM_SQL, Timestamp.valueOf(leaseUntil), id) > 0;
+    }
+
+    @Override
+    public void markDelivered(Long id, int attempts, LocalDateTime completedAt) {
+        jdbcTemplate.update(DELIVERED_SQL, attempts, Timestamp.valueOf(completedAt), id);
+    }
+
+    @Override
+    public void markRetry(Long id, int attempts, LocalDateTime nextAttemptAt, String lastError) {
+        jdbcTemplate.update(RETRY_SQL, attempts, Timestamp.valueOf(nextAttemptAt), truncate(lastError), id);
+    }
+
+    @Override
+    public void markDead(Long id, int attempts, String lastError, LocalDateTime completedAt) {
+        jdbcTemplate.update(DEAD_SQL, attempts, truncate(lastError), Timestamp.valueOf(completedAt), id);
+    }
+
+    @Override
+    public int releaseExpiredLeases(LocalDateTime now) {
+        return jdbcTemplate.update(RELEASE_SQL, Timestamp.valueOf(now));
+    }
+
+    @Override
+    public int deleteDeliveredBefore(LocalDateTime threshold) {
+        return jdbcTemplate.update(DELETE_DELIVERED_SQL, Timestamp.valueOf(threshold));
+    }
+
+    private static String truncate(String message) {
+        if (message == null || message.length() <= MAX_ERROR_LENGTH) {
+            return message;
+        }
+        return message.substring(0, MAX_ERROR_LENGTH);
+    }
+}
@@ -0,0 +1,30 @@
+package io.hlab.OpenConsole.infrastructure.persistence.iam;
+
+import io.hlab.OpenConsole.domain.iam.IamOutboxMessage;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+
+@Repository
+public interface SpringDataIamOutboxRepository extends JpaRepository<IamOutboxMessage, Long> {
+
+    @Query("""
+            select m from IamOutboxMessage m
+            where m.status = :pending
+              and m.nextAttemptAt <= :now
+              and not exists (
+                  select 1 from IamOutboxMessage p
+                  where p.subject = m.subject and p.id < m.id and p.status in :unfinished)
+            order by m.id
+            """)
+    List<IamOutboxMessage> findDeliverable(@Param("now") LocalDateTime now,
+                                           @Param("pending") IamOutboxMessage.Status pending,
+                                           @Param("unfinished") Collection<IamOutboxMessage.Status> unfinished,
+                                           Pageable pageable);
+}
@@ -0,0 +1,18 @@
+package io.hlab.OpenConsole.infrastructure.persistence.iam;
+
+import io.hlab.OpenConsole.domain.iam.UserRoleProjection;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Repository
+public interface SpringDataUserRoleProjectionRepository extends JpaRepository<UserRoleProjection, String> {
+
+    @Query("select p from UserRoleProjection p where p.syncedAt is null or p.syncedAt < :threshold")
+    List<UserRoleProjection> findSyncedBefore(@Param("threshold") LocalDateTime threshold, Pageable pageable);
+}
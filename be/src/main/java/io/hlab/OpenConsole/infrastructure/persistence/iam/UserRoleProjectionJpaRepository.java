@@ -0,0 +1,78 @@
+package io.hlab.OpenConsole.infrastructure.persistence.iam;
+
+import io.hlab.OpenConsole.domain.iam.UserRoleProjection;
+import io.hlab.OpenConsole.domain.iam.UserRoleProjectionRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+@Repository
+@RequiredArgsConstructor
+public class UserRoleProjectionJpaRepository implements UserRoleProjectionRepository {
+    private static final String UPDATE_IF_VERSION_SQL =
+            "UPDATE user_roles SET grant_id = ?, role_keys = ?, synced_at = ?, version = version + 1"
+                    + " WHERE subject = ? AND version = ?";
+    private static final String INSERT_SQL =
+            "INSERT INTO user_roles (subject, grant_id, role_keys, version, synced_at) VALUES (?, ?, ?, 1, ?)";
+    private static final String MARK_STALE_SQL =
+            "UPDATE user_roles SET synced_at = NULL, version = version + 1 WHERE subject = ?";
+    private static final String MARK_ALL_STALE_SQL =
+            "UPDATE user_roles SET synced_at = NULL, version = version + 1";
+
+    private final SpringDataUserRoleProjectionRepository springDataUserRoleProjectionRepository;
+
+    /**
+     * compare-and-set은 조건부 UPDATE 한 번으로 처리해야 하므로 직접 실행
+     */
+    private final JdbcTemplate jdbcTemplate;
+
+    @Override
+    public Optional<UserRoleProjection> findBySubject(String subject) {
+        return springDataUserRoleProjectionRepository.findById(subject);
+    }
+
+    @Override
+    public boolean saveIfVersion(String subject, String grantId, List<String> roleKeys, LocalDateTime syncedAt,
+                                 Long expectedVersion) {
+        if (expectedVersion == null) {
+            try {
+                insert(subject, grantId, roleKeys, syncedAt);
+                return true;
+            } catch (DuplicateKeyException e) {
+                return false;
+            }
+        }
+        return jdbcTemplate.update(UPDATE_IF_VERSION_SQL,
+                grantId, String.join(",", roleKeys), toTimestamp(syncedAt), subject, expectedVersion) > 0;
+    }
+
+    @Override
+    public void markStale(String subject) {
+        jdbcTemplate.update(MARK_STALE_SQL, subject);
+    }
+
+    @Override
+    public void markAllStale() {
+        jdbcTemplate.update(MARK_ALL_STALE_SQL);
+    }
+
+    @Override
+    public List<UserRoleProjection> findSyncedBefore(LocalDateTime threshold, int limit) {
+        return springDataUserRoleProjectionRepository.findSyncedBefore(threshold, PageRequest.of(0, limit));
+    }
+
+    private void insert(String subject, String grantId, List<String> roleKeys, LocalDateTime syncedAt) {
+        jdbcTemplate.update(INSERT_SQL, subject, grantId, String.join(",", roleKeys), toTimestamp(syncedAt));
+    }
+
+    private static Timestamp toTimestamp(LocalDateTime dateTime) {
+        return dateTime != null ? Timestamp.valueOf(dateTime) : null;
+    }
+}
@@ -1,9 +1,16 @@
 package io.hlab.OpenConsole.infrastructure.persistence.user;
 
 import io.hlab.OpenConsole.domain.user.User;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
 @Repository
@@ -11,5 +18,36 @@ public interface SpringDataUserRepository extends JpaRepository<User, Long> {
     Optional<User> findByEmail(String email);
     
     boolean existsByEmail(String email);
-}
 
+    @Query("select u.email from User u where u.email in :emails")
+    List<String> findEmailsByEmailIn(@Param("emails") Collection<String> emails);
+
+    @Query("select u.subject from User u where u.subject in :subjects")
+    List<String> findSubjectsBySubjectIn(@Param("subjects") Collection<String> subjects);
+
+    @Query("select u.subject from User u where u.subject in :subjects"
+            + " and (u.iamState is null or u.iamState <> :deletedState)")
+    List<String> findLiveSubjectsBySubjectIn(@Param("subjects") Collection<String> subjects,
+                                             @Param("deletedState") String deletedState);
+
+    @Modifying
+    @Query("update User u set u.iamSyncRun = :syncRun where u.subject in :subjects"
+            + " and (u.iamState is null or u.iamState <> :deletedState)")
+    int updateIamSyncRunBySubjectIn(@Param("subjects") Collection<String> subjects, @Param("syncRun") long syncRun,
+                                    @Param("deletedState") String deletedState);
+
+    @Query("select u.subject from User u where u.subject is not null"
+            + " and (u.iamSyncRun is null or u.iamSyncRun <> :syncRun)"
+            + " and (u.iamState is null or u.iamState <> :deletedState)")
+    List<String> findSubjectsNotSynced(@Param("syncRun") long syncRun, @Param("deletedState") String deletedState,
+                                       Pageable pageable);
+
+    @Modifying
+    @Query("update User u set u.iamState = :deletedState, u.iamChangedAt = :changedAt, u.iamSyncRun = :syncRun,"
+            + " u.updatedAt = :updatedAt where u.subject in :subjects")
+    int markIamDeletedBySubjectIn(@Param("subjects") Collection<String> subjects,
+                                  @Param("deletedState") String deletedState,
+                                  @Param("changedAt") LocalDateTime changedAt,
+                                  @Param("syncRun") long syncRun,
+                                  @Param("updatedAt") LocalDateTime updatedAt);
+}
@@ -0,0 +1,9 @@
+package io.hlab.OpenConsole.infrastructure.persistence.user;
+
+import io.hlab.OpenConsole.domain.user.UserSyncState;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public interface SpringDataUserSyncStateRepository extends JpaRepository<UserSyncState, String> {
+}
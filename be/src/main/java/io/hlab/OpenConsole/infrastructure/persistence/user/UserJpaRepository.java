@@ -3,15 +3,53 @@ package io.hlab.OpenConsole.infrastructure.persistence.user;
 import io.hlab.OpenConsole.domain.user.User;
 import io.hlab.OpenConsole.domain.user.UserRepository;
 import lombok.RequiredArgsConstructor;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.stereotype.Repository;
 
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Savepoint;
+import java.sql.Timestamp;
+import java.sql.Types;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
 import java.util.Optional;
+import java.util.Set;
 
 @Repository
 @RequiredArgsConstructor
 public class UserJpaRepository implements UserRepository {
+    private static final String INSERT_SQL =
+            "INSERT INTO users (email, name, created_at, updated_at) VALUES (?, ?, ?, ?)";
+    private static final String IAM_UPDATE_BY_SUBJECT_SQL =
+            "UPDATE users SET email = ?, name = ?, iam_state = ?, iam_changed_at = ?,"
+                    + " iam_sync_run = COALESCE(?, iam_sync_run), updated_at = ? WHERE subject = ?";
+    private static final String IAM_LINK_BY_EMAIL_SQL =
+            // default_roles_pending은 바뀌기 전의 iam_state로 판단해야 하므로 먼저 대입 (MySQL은 왼쪽부터 차례로 대입)
+            "UPDATE users SET default_roles_pending = CASE WHEN iam_state = '" + User.IAM_STATE_DELETED + "'"
+                    + " THEN ? ELSE default_roles_pending END,"
+                    + " subject = ?, name = ?, iam_state = ?, iam_changed_at = ?,"
+                    + " iam_sync_run = COALESCE(?, iam_sync_run), updated_at = ?"
+                    + " WHERE email = ? AND (subject IS NULL OR iam_state = '" + User.IAM_STATE_DELETED + "')";
+    private static final String IAM_INSERT_SQL =
+            "INSERT INTO users (email, name, subject, iam_state, iam_changed_at, iam_sync_run, created_at, updated_at,"
+                    + " default_roles_pending) VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?)";
+    private static final String CLAIM_DEFAULT_ROLES_SQL =
+            "UPDATE users SET default_roles_pending = ?, updated_at = ? WHERE email = ? AND default_roles_pending = ?";
+
     private final SpringDataUserRepository springDataUserRepository;
 
+    /**
+     * 대량 저장용 (IDENTITY 전략에서는 Hibernate JDBC batch가 동작하지 않으므로 직접 batch insert)
+     */
+    private final JdbcTemplate jdbcTemplate;
+
     @Override
     public User save(User user) {
         return springDataUserRepository.save(user);
@@ -36,5 +74,182 @@ public class UserJpaRepository implements UserRepository {
     public void deleteById(Long id) {
         springDataUserRepository.deleteById(id);
     }
-}
 
+    /**
+     * 대부분은 이미 있는 사용자이므로 존재 여부를 먼저 확인하고, 동시 로그인으로 생기는 경합만 unique 제약으로 판별
+     * (DB별 MERGE/ON CONFLICT 문법에 의존하지 않음)
+     *
+     * <p>INSERT는 savepoint 안에서 실행하고 unique 제약에 걸리면 savepoint로 되돌립니다.
+     * PostgreSQL은 실패한 문장이 있으면 트랜잭션 전체가 aborted 상태가 되어 커밋할 수 없으므로,
+     * 예외만 잡아서는 호출한 쪽 트랜잭션이 깨집니다. 영속성 컨텍스트도 거치지 않으므로 Hibernate 세션에도 영향이 없습니다.
+     */
+    @Override
+    public boolean insertIfAbsent(User user) {
+        if (springDataUserRepository.existsByEmail(user.getEmail())) {
+            return false;
+        }
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        Boolean inserted = jdbcTemplate.execute((ConnectionCallback<Boolean>) connection -> {
+            // 트랜잭션 밖(auto-commit)이면 문장 단위로 끝나므로 savepoint가 필요 없음
+            Savepoint savepoint = connection.getAutoCommit() ? null : connection.setSavepoint();
+            try (PreparedStatement ps = connection.prepareStatement(INSERT_SQL)) {
+                ps.setString(1, user.getEmail());
+                ps.setString(2, user.getName());
+                ps.setTimestamp(3, now);
+                ps.setTimestamp(4, now);
+                ps.executeUpdate();
+            } catch (SQLException e) {
+                if (savepoint != null) {
+                    connection.rollback(savepoint);
+                }
+                if (jdbcTemplate.getExceptionTranslator().translate("insertIfAbsent", INSERT_SQL, e)
+                        instanceof DuplicateKeyException) {
+                    return false;
+                }
+                throw e;
+            }
+            if (savepoint != null) {
+                connection.releaseSavepoint(savepoint);
+            }
+            return true;
+        });
+        return Boolean.TRUE.equals(inserted);
+    }
+
+    /**
+     * 조건부 UPDATE 한 번으로 표식을 가져가므로 동시에 로그인해도 한 쪽만 true를 받습니다 (행 잠금으로 직렬화).
+     */
+    @Override
+    public boolean claimDefaultRoles(String email) {
+        return jdbcTemplate.update(CLAIM_DEFAULT_ROLES_SQL,
+                false, Timestamp.valueOf(LocalDateTime.now()), email, true) > 0;
+    }
+
+    @Override
+    public Set<String> findExistingEmails(Collection<String> emails) {
+        if (emails.isEmpty()) {
+            return Set.of();
+        }
+        return new HashSet<>(springDataUserRepository.findEmailsByEmailIn(emails));
+    }
+
+    @Override
+    public int insertAll(List<User> users) {
+        if (users.isEmpty()) {
+            return 0;
+        }
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        jdbcTemplate.batchUpdate(INSERT_SQL, users, users.size(), (ps, user) -> {
+            ps.setString(1, user.getEmail());
+            ps.setString(2, user.getName());
+            ps.setTimestamp(3, now);
+            ps.setTimestamp(4, now);
+        });
+        // 드라이버에 따라 SUCCESS_NO_INFO(-2)를 반환할 수 있으므로 실패 예외가 없으면 전체 저장으로 간주
+        return users.size();
+    }
+
+    @Override
+    public Set<String> findExistingSubjects(Collection<String> subjects) {
+        if (subjects.isEmpty()) {
+            return Set.of();
+        }
+        return new HashSet<>(springDataUserRepository.findSubjectsBySubjectIn(subjects));
+    }
+
+    /**
+     * DB별 MERGE/ON CONFLICT 문법에 의존하지 않도록 기존 행을 먼저 조회해 UPDATE/INSERT batch로 나눔
+     * (batch 결과 건수는 드라이버에 따라 SUCCESS_NO_INFO일 수 있어 분기 기준으로 쓰지 않음)
+     */
+    @Override
+    public int upsertFromIam(List<User> users, Long syncRun) {
+        if (users.isEmpty()) {
+            return 0;
+        }
+        Set<String> existingSubjects = findExistingSubjects(users.stream().map(User::getSubject).toList());
+        List<User> updates = new ArrayList<>();
+        List<User> others = new ArrayList<>();
+        for (User user : users) {
+            (existingSubjects.contains(user.getSubject()) ? updates : others).add(user);
+        }
+        Set<String> existingEmails = findExistingEmails(others.stream().map(User::getEmail).toList());
+        List<User> links = new ArrayList<>();
+        List<User> inserts = new ArrayList<>();
+        for (User user : others) {
+            (existingEmails.contains(user.getEmail()) ? links : inserts).add(user);
+        }
+
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        if (!updates.isEmpty()) {
+            jdbcTemplate.batchUpdate(IAM_UPDATE_BY_SUBJECT_SQL, updates, updates.size(), (ps, user) -> {
+                ps.setString(1, user.getEmail());
+                ps.setString(2, user.getName());
+                ps.setString(3, user.getIamState());
+                ps.setTimestamp(4, toTimestamp(user.getIamChangedAt()));
+                ps.setObject(5, syncRun, Types.BIGINT);
+                ps.setTimestamp(6, now);
+                ps.setString(7, user.getSubject());
+            });
+        }
+        if (!links.isEmpty()) {
+            jdbcTemplate.batchUpdate(IAM_LINK_BY_EMAIL_SQL, links, links.size(), (ps, user) -> {
+                ps.setBoolean(1, true);
+                ps.setString(2, user.getSubject());
+                ps.setString(3, user.getName());
+                ps.setString(4, user.getIamState());
+                ps.setTimestamp(5, toTimestamp(user.getIamChangedAt()));
+                ps.setObject(6, syncRun, Types.BIGINT);
+                ps.setTimestamp(7, now);
+                ps.setString(8, user.getEmail());
+            });
+        }
+        if (!inserts.isEmpty()) {
+            jdbcTemplate.batchUpdate(IAM_INSERT_SQL, inserts, inserts.size(), (ps, user) -> {
+                ps.setString(1, user.getEmail());
+                ps.setString(2, user.getName());
+                ps.setString(3, user.getSubject());
+                ps.setString(4, user.getIamState());
+                ps.setTimestamp(5, toTimestamp(user.getIamChangedAt()));
+                ps.setObject(6, syncRun, Types.BIGINT);
+                ps.setTimestamp(7, now);
+                ps.setTimestamp(8, now);
+                ps.setBoolean(9, true);
+            });
+        }
+        return users.size();
+    }
+
+    @Override
+    public int markIamSynced(Collection<String> subjects, long syncRun) {
+        if (subjects.isEmpty()) {
+            return 0;
+        }
+        return springDataUserRepository.updateIamSyncRunBySubjectIn(subjects, syncRun, User.IAM_STATE_DELETED);
+    }
+
+    @Override
+    public Set<String> findLiveSubjects(Collection<String> subjects) {
+        if (subjects.isEmpty()) {
+            return Set.of();
+        }
+        return new HashSet<>(springDataUserRepository.findLiveSubjectsBySubjectIn(subjects, User.IAM_STATE_DELETED));
+    }
+
+    @Override
+    public List<String> findIamSubjectsNotSynced(long syncRun, int limit) {
+        return springDataUserRepository.findSubjectsNotSynced(syncRun, User.IAM_STATE_DELETED, PageRequest.of(0, limit));
+    }
+
+    @Override
+    public int markIamDeleted(Collection<String> subjects, LocalDateTime changedAt, long syncRun) {
+        if (subjects.isEmpty()) {
+            return 0;
+        }
+        return springDataUserRepository.markIamDeletedBySubjectIn(
+                subjects, User.IAM_STATE_DELETED, changedAt, syncRun, LocalDateTime.now());
+    }
+
+    private static Timestamp toTimestamp(LocalDateTime dateTime) {
+        return dateTime != null ? Timestamp.valueOf(dateTime) : null;
+    }
+}
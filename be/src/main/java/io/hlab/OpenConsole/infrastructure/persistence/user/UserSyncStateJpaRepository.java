@@ -0,0 +1,76 @@
+package io.hlab.OpenConsole.infrastructure.persistence.user;
+
+import io.hlab.OpenConsole.domain.user.UserSyncState;
+import io.hlab.OpenConsole.domain.user.UserSyncStateRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.Optional;
+
+@Repository
+@RequiredArgsConstructor
+public class UserSyncStateJpaRepository implements UserSyncStateRepository {
+    private static final String ACQUIRE_SQL =
+            "UPDATE user_sync_state SET lease_run = ?, lease_until = ?, last_started_at = ?"
+                    + " WHERE name = ? AND (lease_until IS NULL OR lease_until < ?)";
+    private static final String INSERT_SQL =
+            "INSERT INTO user_sync_state (name, lease_run, lease_until, last_started_at) VALUES (?, ?, ?, ?)";
+    private static final String RENEW_SQL =
+            "UPDATE user_sync_state SET lease_until = ? WHERE name = ? AND lease_run = ?";
+    private static final String COMPLETE_SQL =
+            "UPDATE user_sync_state SET high_water_mark = ?, last_completed_at = ?, last_status = 'COMPLETED',"
+                    + " lease_run = NULL, lease_until = NULL WHERE name = ? AND lease_run = ?";
+    private static final String FAIL_SQL =
+            "UPDATE user_sync_state SET last_completed_at = ?, last_status = 'FAILED',"
+                    + " lease_run = NULL, lease_until = NULL WHERE name = ? AND lease_run = ?";
+
+    private final SpringDataUserSyncStateRepository springDataUserSyncStateRepository;
+
+    /**
+     * lease는 조건부 UPDATE 한 번으로 획득해야 하므로 직접 실행
+     */
+    private final JdbcTemplate jdbcTemplate;
+
+    @Override
+    public Optional<UserSyncState> findByName(String name) {
+        return springDataUserSyncStateRepository.findById(name);
+    }
+
+    @Override
+    public boolean tryAcquireLease(String name, long syncRun, LocalDateTime now, LocalDateTime leaseUntil) {
+        int updated = jdbcTemplate.update(ACQUIRE_SQL,
+                syncRun, Timestamp.valueOf(leaseUntil), Timestamp.valueOf(now), name, Timestamp.valueOf(now));
+        if (updated > 0) {
+            return true;
+        }
+        if (springDataUserSyncStateRepository.existsById(name)) {
+            return false;
+        }
+        try {
+            jdbcTemplate.update(INSERT_SQL, name, syncRun, Timestamp.valueOf(leaseUntil), Timestamp.valueOf(now));
+            return true;
+        } catch (DuplicateKeyException e) {
+            // 다른 노드가 먼저 상태 행을 만들고 lease를 가져감
+            return false;
+        }
+    }
+
+    @Override
+    public boolean renewLease(String name, long syncRun, LocalDateTime leaseUntil) {
+        return jdbcTemplate.update(RENEW_SQL, Timestamp.valueOf(leaseUntil), name, syncRun) > 0;
+    }
+
+    @Override
+    public void complete(String name, long syncRun, LocalDateTime highWaterMark, LocalDateTime completedAt) {
+        jdbcTemplate.update(COMPLETE_SQL, Timestamp.valueOf(highWaterMark), Timestamp.valueOf(completedAt), name, syncRun);
+    }
+
+    @Override
+    public void fail(String name, long syncRun, LocalDateTime failedAt) {
+        jdbcTemplate.update(FAIL_SQL, Timestamp.valueOf(failedAt), name, syncRun);
+    }
+}
@@ -0,0 +1,36 @@
+package io.hlab.OpenConsole.infrastructure.security;
+
+import io.hlab.OpenConsole.infrastructure.iam.IamUserInfo;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.oauth2.jwt.Jwt;
+import org.springframework.security.oauth2.server.resource.authentication.JwtAuthenticationToken;
+
+import java.util.Collection;
+
+/**
+ * 인증 시 한 번 해석한 사용자 정보를 담은 JWT 인증 토큰
+ * SecurityConfig의 jwtAuthenticationConverter가 만들며, {@link JwtUtils}는 claims를 다시 읽지 않고 이 값을 사용합니다.
+ *
+ * <p>{@link JwtAuthenticationToken}을 상속하므로 기존처럼 JWT와 authorities도 그대로 사용할 수 있습니다.
+ * role 검사({@link IamSecurityExpressionRoot})는 authorities 대신 {@link #getRoleMask()}를 사용합니다.
+ */
+public class IamAuthenticationToken extends JwtAuthenticationToken {
+
+    private final IamUserInfo userInfo;
+
+    public IamAuthenticationToken(Jwt jwt, Collection<? extends GrantedAuthority> authorities, IamUserInfo userInfo) {
+        super(jwt, authorities, jwt.getSubject());
+        this.userInfo = userInfo;
+    }
+
+    public IamUserInfo getUserInfo() {
+        return userInfo;
+    }
+
+    /**
+     * 사용자 role 집합의 bitmask
+     */
+    public int getRoleMask() {
+        return userInfo != null ? userInfo.getRoleMask() : 0;
+    }
+}
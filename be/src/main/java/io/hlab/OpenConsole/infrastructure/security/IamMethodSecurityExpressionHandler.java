@@ -0,0 +1,49 @@
+package io.hlab.OpenConsole.infrastructure.security;
+
+import org.aopalliance.intercept.MethodInvocation;
+import org.springframework.expression.EvaluationContext;
+import org.springframework.expression.spel.support.StandardEvaluationContext;
+import org.springframework.security.access.expression.method.DefaultMethodSecurityExpressionHandler;
+import org.springframework.security.access.expression.method.MethodSecurityExpressionOperations;
+import org.springframework.security.authentication.AuthenticationTrustResolver;
+import org.springframework.security.authentication.AuthenticationTrustResolverImpl;
+import org.springframework.security.core.Authentication;
+
+import java.util.function.Supplier;
+
+/**
+ * role 검사를 bitmask로 처리하는 MethodSecurityExpressionHandler
+ * 표현식 root를 {@link IamSecurityExpressionRoot}로 바꾸고 PermissionEvaluator로 {@link IamPermissionEvaluator}를 사용
+ *
+ * <p>SpEL 파싱/캐시, 메서드 인자 바인딩, {@code @PreFilter}/{@code @PostFilter}는 기본 핸들러를 그대로 사용하므로
+ * 기존 {@code @PreAuthorize("hasRole('ADMIN')")} 등의 annotation은 수정 없이 동작합니다.
+ */
+public class IamMethodSecurityExpressionHandler extends DefaultMethodSecurityExpressionHandler {
+
+    private final IamPermissionEvaluator permissionEvaluator = new IamPermissionEvaluator();
+    private final AuthenticationTrustResolver trustResolver = new AuthenticationTrustResolverImpl();
+
+    public IamMethodSecurityExpressionHandler() {
+        setPermissionEvaluator(permissionEvaluator);
+        setTrustResolver(trustResolver);
+    }
+
+    @Override
+    public EvaluationContext createEvaluationContext(Supplier<Authentication> authentication, MethodInvocation mi) {
+        EvaluationContext context = super.createEvaluationContext(authentication, mi);
+        if (context instanceof StandardEvaluationContext standardContext) {
+            standardContext.setRootObject(createRoot(authentication, mi));
+        }
+        return context;
+    }
+
+    @Override
+    protected MethodSecurityExpressionOperations createSecurityExpressionRoot(
+            Authentication authentication, MethodInvocation invocation) {
+        return createRoot(() -> authentication, invocation);
+    }
+
+    private IamSecurityExpressionRoot createRoot(Supplier<Authentication> authentication, MethodInvocation mi) {
+        return new IamSecurityExpressionRoot(authentication, mi.getThis(), permissionEvaluator, trustResolver);
+    }
+}
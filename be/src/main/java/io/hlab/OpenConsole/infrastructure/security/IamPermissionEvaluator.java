@@ -0,0 +1,131 @@
+package io.hlab.OpenConsole.infrastructure.security;
+
+import io.hlab.OpenConsole.infrastructure.iam.IamRole;
+import org.springframework.security.access.PermissionEvaluator;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.GrantedAuthority;
+
+import java.io.Serializable;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * role bitmask 기반 PermissionEvaluator
+ * {@code @PreAuthorize("hasPermission(null, 'admin')")}처럼 permission을 role 이름으로 받아 bit 연산으로 판단
+ *
+ * <ul>
+ *   <li>permission: {@link IamRole} 또는 role 문자열. 쉼표로 여러 개를 주면 그중 하나라도 있으면 허용 ({@code 'ADMIN,USER_A'})</li>
+ *   <li>대상 객체(targetDomainObject, targetId/targetType)별 ACL은 아직 없으므로 무시합니다</li>
+ *   <li>{@link IamAuthenticationToken}이면 인증 시 계산한 bitmask를, 그 외 인증(OAuth2 로그인, 테스트용 인증 등)이면
+ *       {@code ROLE_} authority에서 bitmask를 계산하여 사용합니다</li>
+ * </ul>
+ */
+public class IamPermissionEvaluator implements PermissionEvaluator {
+
+    private static final String ROLE_PREFIX = "ROLE_";
+
+    /**
+     * role authority 이름({@code ROLE_ADMIN}) → bit
+     */
+    private static final Map<String, Integer> AUTHORITY_BITS = new HashMap<>();
+
+    /**
+     * hasRole 인자({@code ADMIN} 또는 {@code ROLE_ADMIN}) → bit
+     */
+    private static final Map<String, Integer> ROLE_BITS = new HashMap<>();
+
+    static {
+        for (IamRole role : IamRole.values()) {
+            AUTHORITY_BITS.put(ROLE_PREFIX + role.name(), role.bit());
+            ROLE_BITS.put(ROLE_PREFIX + role.name(), role.bit());
+            ROLE_BITS.put(role.name(), role.bit());
+        }
+    }
+
+    /**
+     * permission 문자열 → 필요한 role bitmask (annotation에 적힌 상수만 들어오므로 크기가 제한됨)
+     */
+    private final Map<String, Integer> permissionMasks = new ConcurrentHashMap<>();
+
+    @Override
+    public boolean hasPermission(Authentication authentication, Object targetDomainObject, Object permission) {
+        int required = requiredMask(permission);
+        return required != 0 && (roleMask(authentication) & required) != 0;
+    }
+
+    @Override
+    public boolean hasPermission(Authentication authentication, Serializable targetId, String targetType, Object permission) {
+        return hasPermission(authentication, null, permission);
+    }
+
+    private int requiredMask(Object permission) {
+        if (permission instanceof IamRole role) {
+            return role.bit();
+        }
+        if (permission instanceof String value) {
+            return permissionMasks.computeIfAbsent(value, IamPermissionEvaluator::parseMask);
+        }
+        return 0;
+    }
+
+    /**
+     * 쉼표로 구분한 role 목록을 bitmask로 변환 (role 값, enum 이름, ROLE_ 접두사 모두 허용, 모르는 role은 무시)
+     */
+    private static int parseMask(String permission) {
+        int mask = 0;
+        for (String token : permission.split(",")) {
+            String name = token.strip();
+            if (name.startsWith(ROLE_PREFIX)) {
+                name = name.substring(ROLE_PREFIX.length());
+            }
+            IamRole role = IamRole.fromString(name);
+            mask |= role != null ? role.bit() : authorityBit(ROLE_PREFIX + name);
+        }
+        return mask;
+    }
+
+    /**
+     * {@code ROLE_<IamRole 이름>} authority의 bit
+     *
+     * @return bit, IamRole이 아니면 0
+     */
+    static int authorityBit(String authority) {
+        Integer bit = AUTHORITY_BITS.get(authority);
+        return bit != null ? bit : 0;
+    }
+
+    /**
+     * hasRole 인자의 bit (Spring Security와 같이 {@code ROLE_} 접두사는 있어도 되고 없으면 붙인 것으로 간주)
+     *
+     * @return bit, IamRole이 아니면 0
+     */
+    static int roleBit(String role) {
+        Integer bit = ROLE_BITS.get(role);
+        return bit != null ? bit : 0;
+    }
+
+    /**
+     * 인증의 role bitmask
+     * {@link IamAuthenticationToken}이면 인증 시 계산한 값을 그대로 사용하고, 그 외에는 authority를 한 번 훑어 계산
+     */
+    static int roleMask(Authentication authentication) {
+        if (authentication == null) {
+            return 0;
+        }
+        if (authentication instanceof IamAuthenticationToken token) {
+            return token.getRoleMask();
+        }
+        Collection<? extends GrantedAuthority> authorities = authentication.getAuthorities();
+        int mask = 0;
+        if (authorities != null) {
+            for (GrantedAuthority authority : authorities) {
+                if (authority != null && authority.getAuthority() != null) {
+                    mask |= authorityBit(authority.getAuthority());
+                }
+            }
+        }
+        return mask;
+    }
+}
@@ -0,0 +1,199 @@
+package io.hlab.OpenConsole.infrastructure.security;
+
+import org.springframework.security.access.PermissionEvaluator;
+import org.springframework.security.access.expression.method.MethodSecurityExpressionOperations;
+import org.springframework.security.authentication.AuthenticationTrustResolver;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.GrantedAuthority;
+
+import java.io.Serializable;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.Set;
+import java.util.function.Supplier;
+
+/**
+ * {@code @PreAuthorize}/{@code @PostAuthorize} 표현식의 root 객체
+ * 기본 root(MethodSecurityExpressionRoot)와 같은 함수를 제공하되, IamRole에 대한 hasRole/hasAnyRole/hasAuthority는
+ * 인증의 role bitmask({@link IamPermissionEvaluator#roleMask})와 bit 연산으로 판단
+ *
+ * <p>기본 root는 요청마다 authority 문자열 Set을 만든 뒤 {@code "ROLE_" + role} 문자열로 조회합니다.
+ * IamRole이 아닌 role이나 authority(scope 등)만 같은 방식으로 authority Set을 만들어 확인합니다.
+ *
+ * <p>표현식 평가마다 새로 만들며 스레드 간에 공유하지 않습니다.
+ */
+final class IamSecurityExpressionRoot implements MethodSecurityExpressionOperations {
+
+    private static final String ROLE_PREFIX = "ROLE_";
+
+    private final Supplier<Authentication> authenticationSupplier;
+    private final PermissionEvaluator permissionEvaluator;
+    private final AuthenticationTrustResolver trustResolver;
+    private final Object target;
+
+    private Authentication authentication;
+    private boolean authenticationResolved;
+    private int roleMask = -1;
+    private Set<String> authoritySet;
+
+    private Object filterObject;
+    private Object returnObject;
+
+    IamSecurityExpressionRoot(
+            Supplier<Authentication> authentication,
+            Object target,
+            PermissionEvaluator permissionEvaluator,
+            AuthenticationTrustResolver trustResolver) {
+        this.authenticationSupplier = authentication;
+        this.target = target;
+        this.permissionEvaluator = permissionEvaluator;
+        this.trustResolver = trustResolver;
+    }
+
+    @Override
+    public Authentication getAuthentication() {
+        if (!authenticationResolved) {
+            authentication = authenticationSupplier.get();
+            authenticationResolved = true;
+        }
+        return authentication;
+    }
+
+    public Object getPrincipal() {
+        Authentication current = getAuthentication();
+        return current != null ? current.getPrincipal() : null;
+    }
+
+    @Override
+    public boolean hasRole(String role) {
+        int bit = IamPermissionEvaluator.roleBit(role);
+        if (bit != 0) {
+            return (roleMask() & bit) != 0;
+        }
+        return role != null && authoritySet().contains(withRolePrefix(role));
+    }
+
+    @Override
+    public boolean hasAnyRole(String... roles) {
+        for (String role : roles) {
+            if (hasRole(role)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    @Override
+    public boolean hasAuthority(String authority) {
+        int bit = IamPermissionEvaluator.authorityBit(authority);
+        if (bit != 0) {
+            return (roleMask() & bit) != 0;
+        }
+        return authority != null && authoritySet().contains(authority);
+    }
+
+    @Override
+    public boolean hasAnyAuthority(String... authorities) {
+        for (String authority : authorities) {
+            if (hasAuthority(authority)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    @Override
+    public boolean permitAll() {
+        return true;
+    }
+
+    @Override
+    public boolean denyAll() {
+        return false;
+    }
+
+    @Override
+    public boolean isAnonymous() {
+        return trustResolver.isAnonymous(getAuthentication());
+    }
+
+    @Override
+    public boolean isAuthenticated() {
+        Authentication current = getAuthentication();
+        return current != null && !trustResolver.isAnonymous(current) && current.isAuthenticated();
+    }
+
+    @Override
+    public boolean isRememberMe() {
+        return trustResolver.isRememberMe(getAuthentication());
+    }
+
+    @Override
+    public boolean isFullyAuthenticated() {
+        return isAuthenticated() && !isRememberMe();
+    }
+
+    @Override
+    public boolean hasPermission(Object target, Object permission) {
+        return permissionEvaluator.hasPermission(getAuthentication(), target, permission);
+    }
+
+    @Override
+    public boolean hasPermission(Object targetId, String targetType, Object permission) {
+        return permissionEvaluator.hasPermission(getAuthentication(), (Serializable) targetId, targetType, permission);
+    }
+
+    @Override
+    public void setFilterObject(Object filterObject) {
+        this.filterObject = filterObject;
+    }
+
+    @Override
+    public Object getFilterObject() {
+        return filterObject;
+    }
+
+    @Override
+    public void setReturnObject(Object returnObject) {
+        this.returnObject = returnObject;
+    }
+
+    @Override
+    public Object getReturnObject() {
+        return returnObject;
+    }
+
+    @Override
+    public Object getThis() {
+        return target;
+    }
+
+    private int roleMask() {
+        if (roleMask < 0) {
+            roleMask = IamPermissionEvaluator.roleMask(getAuthentication());
+        }
+        return roleMask;
+    }
+
+    /**
+     * IamRole이 아닌 role/authority 확인용 (처음 필요할 때 한 번만 생성)
+     */
+    private Set<String> authoritySet() {
+        if (authoritySet == null) {
+            Set<String> set = new HashSet<>();
+            Authentication current = getAuthentication();
+            Collection<? extends GrantedAuthority> authorities = current != null ? current.getAuthorities() : null;
+            if (authorities != null) {
+                for (GrantedAuthority authority : authorities) {
+                    set.add(authority.getAuthority());
+                }
+            }
+            authoritySet = set;
+        }
+        return authoritySet;
+    }
+
+    private static String withRolePrefix(String role) {
+        return role.startsWith(ROLE_PREFIX) ? role : ROLE_PREFIX + role;
+    }
+}
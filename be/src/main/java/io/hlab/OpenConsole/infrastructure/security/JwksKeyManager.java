@@ -0,0 +1,255 @@
+package io.hlab.OpenConsole.infrastructure.security;
+
+import com.nimbusds.jose.KeySourceException;
+import com.nimbusds.jose.jwk.JWK;
+import com.nimbusds.jose.jwk.JWKSelector;
+import com.nimbusds.jose.jwk.JWKSet;
+import com.nimbusds.jose.jwk.source.JWKSource;
+import com.nimbusds.jose.proc.SecurityContext;
+import com.nimbusds.jose.util.DefaultResourceRetriever;
+import com.nimbusds.jose.util.JSONObjectUtils;
+import com.nimbusds.jose.util.ResourceRetriever;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.InitializingBean;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.URL;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.text.ParseException;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * JWT 서명 검증 키(JWKS) 관리자
+ * {@link JwtDecoderConfig}의 JwtDecoder가 이 클래스에서 키를 조회합니다.
+ *
+ * <ul>
+ *   <li><b>기동 시 prefetch</b>: OIDC discovery({@code issuer-uri}/.well-known/openid-configuration)로 jwks_uri를 찾고
+ *       키를 미리 받아 첫 요청이 discovery/키 조회를 기다리지 않게 합니다.</li>
+ *   <li><b>백그라운드 갱신</b>: {@code zitadel.jwks.refresh-interval}마다 키를 다시 받아 교체합니다.
+ *       Zitadel은 새 키를 먼저 JWKS에 게시한 뒤 서명에 사용하므로, 갱신 주기가 짧으면 교체된 키로 서명된 토큰도 바로 검증됩니다.</li>
+ *   <li><b>알 수 없는 kid</b>: 키를 다시 받되 동시에 들어온 요청은 하나의 조회를 공유하고(single-flight),
+ *       {@code min-refetch-interval} 안에는 다시 조회하지 않습니다 (임의 kid로 IAM을 두드리는 요청 방지).</li>
+ *   <li><b>오프라인 기동</b>: {@code zitadel.jwks.cache-file}을 설정하면 받은 키를 파일에 저장하고,
+ *       기동 시 IAM에 연결할 수 없으면 이 파일의 키로 검증을 시작합니다. (공개 키만 포함)</li>
+ * </ul>
+ * 키 조회 실패는 기동을 막지 않으며, 마지막으로 받은 키를 계속 사용합니다.
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "zitadel.jwks.enabled", havingValue = "true", matchIfMissing = true)
+public class JwksKeyManager implements JWKSource<SecurityContext>, InitializingBean {
+
+    private final String issuerUri;
+    private final String configuredJwksUri;
+    private final Path cacheFile;
+    private final Duration minRefetchInterval;
+    private final Duration fetchTimeout;
+    private final ResourceRetriever retriever;
+    private final Clock clock;
+
+    private volatile JWKSet keys = new JWKSet();
+    private volatile URL jwksUrl;
+    private volatile Instant lastFetchAttempt = Instant.EPOCH;
+    private final AtomicReference<CompletableFuture<JWKSet>> inflight = new AtomicReference<>();
+
+    public JwksKeyManager(
+            @Value("${spring.security.oauth2.resourceserver.jwt.issuer-uri:}") String issuerUri,
+            @Value("${zitadel.jwks.uri:}") String jwksUri,
+            @Value("${zitadel.jwks.cache-file:}") String cacheFile,
+            @Value("${zitadel.jwks.min-refetch-interval:30s}") Duration minRefetchInterval,
+            @Value("${zitadel.jwks.fetch-timeout:3s}") Duration fetchTimeout) {
+        this(issuerUri, jwksUri, cacheFile, minRefetchInterval, fetchTimeout, Clock.systemUTC());
+    }
+
+    JwksKeyManager(String issuerUri, String jwksUri, String cacheFile,
+                   Duration minRefetchInterval, Duration fetchTimeout, Clock clock) {
+        this.issuerUri = issuerUri;
+        this.configuredJwksUri = jwksUri;
+        this.cacheFile = cacheFile == null || cacheFile.isBlank() ? null : Path.of(cacheFile);
+        this.minRefetchInterval = minRefetchInterval;
+        this.fetchTimeout = fetchTimeout;
+        int timeoutMillis = (int) fetchTimeout.toMillis();
+        this.retriever = new DefaultResourceRetriever(timeoutMillis, timeoutMillis, 512 * 1024);
+        this.clock = clock;
+    }
+
+    /**
+     * 기동 시 키 prefetch (실패하면 cache-file의 키 사용)
+     */
+    @Override
+    public void afterPropertiesSet() {
+        try {
+            refresh();
+            log.info("JWKS loaded: uri={}, keys={}", jwksUrl, keyIds());
+        } catch (IOException | ParseException | RuntimeException e) {
+            log.warn("JWKS prefetch failed: {}", e.getMessage());
+            loadCacheFile();
+        }
+    }
+
+    /**
+     * 주기 실행 (zitadel.jwks.enabled=true일 때만 빈이 생성됨)
+     */
+    @Scheduled(
+            initialDelayString = "${zitadel.jwks.refresh-interval:5m}",
+            fixedDelayString = "${zitadel.jwks.refresh-interval:5m}")
+    public void scheduledRefresh() {
+        try {
+            refresh();
+        } catch (IOException | ParseException | RuntimeException e) {
+            log.warn("JWKS refresh failed, keeping {} cached keys: {}", keys.getKeys().size(), e.getMessage());
+        }
+    }
+
+    /**
+     * 키를 다시 받아 교체하고 cache-file에 저장
+     */
+    public JWKSet refresh() throws IOException, ParseException {
+        lastFetchAttempt = clock.instant();
+        JWKSet fetched = JWKSet.parse(retriever.retrieveResource(resolveJwksUrl()).getContent());
+        if (fetched.getKeys().isEmpty()) {
+            throw new IOException("JWKS 응답에 키가 없습니다: " + jwksUrl);
+        }
+        keys = fetched;
+        writeCacheFile(fetched);
+        return fetched;
+    }
+
+    @Override
+    public List<JWK> get(JWKSelector selector, SecurityContext context) throws KeySourceException {
+        List<JWK> matches = selector.select(keys);
+        if (!matches.isEmpty()) {
+            return matches;
+        }
+        JWKSet refetched = refetchForUnknownKey();
+        return refetched != null ? selector.select(refetched) : matches;
+    }
+
+    /**
+     * 알 수 없는 kid 처리: 진행 중인 조회가 있으면 기다리고, 없으면 min-refetch-interval이 지났을 때만 새로 조회
+     *
+     * @return 다시 확인할 키 (조회에 실패했으면 null)
+     */
+    private JWKSet refetchForUnknownKey() throws KeySourceException {
+        CompletableFuture<JWKSet> future = inflight.get();
+        if (future == null) {
+            if (clock.instant().isBefore(lastFetchAttempt.plus(minRefetchInterval))) {
+                // 직전 조회가 방금 끝났을 수 있으므로 현재 키로 한 번 더 확인
+                return keys;
+            }
+            CompletableFuture<JWKSet> created = new CompletableFuture<>();
+            if (inflight.compareAndSet(null, created)) {
+                try {
+                    created.complete(refresh());
+                    log.info("JWKS refetched for unknown kid: keys={}", keyIds());
+                } catch (IOException | ParseException | RuntimeException e) {
+                    log.warn("JWKS refetch failed: {}", e.getMessage());
+                    created.complete(null);
+                } finally {
+                    inflight.set(null);
+                }
+                return created.join();
+            }
+            future = inflight.get();
+            if (future == null) {
+                return keys;
+            }
+        }
+        try {
+            return future.get(fetchTimeout.toMillis(), TimeUnit.MILLISECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new KeySourceException("JWKS 조회 대기 중 인터럽트", e);
+        } catch (ExecutionException | TimeoutException e) {
+            return null;
+        }
+    }
+
+    private URL resolveJwksUrl() throws IOException, ParseException {
+        URL url = jwksUrl;
+        if (url != null) {
+            return url;
+        }
+        if (configuredJwksUri != null && !configuredJwksUri.isBlank()) {
+            url = URI.create(configuredJwksUri).toURL();
+        } else if (issuerUri != null && !issuerUri.isBlank()) {
+            url = discoverJwksUrl();
+        } else {
+            throw new IOException("issuer-uri와 zitadel.jwks.uri가 모두 비어 있습니다.");
+        }
+        jwksUrl = url;
+        return url;
+    }
+
+    private URL discoverJwksUrl() throws IOException, ParseException {
+        String base = issuerUri.endsWith("/") ? issuerUri.substring(0, issuerUri.length() - 1) : issuerUri;
+        URL discovery = URI.create(base + "/.well-known/openid-configuration").toURL();
+        Map<String, Object> metadata = JSONObjectUtils.parse(retriever.retrieveResource(discovery).getContent());
+        String jwksUri = JSONObjectUtils.getString(metadata, "jwks_uri");
+        if (jwksUri == null) {
+            throw new IOException("OIDC discovery 응답에 jwks_uri가 없습니다: " + discovery);
+        }
+        return URI.create(jwksUri).toURL();
+    }
+
+    private void loadCacheFile() {
+        if (cacheFile == null || !Files.exists(cacheFile)) {
+            log.warn("No JWKS available; tokens will be rejected until keys can be fetched");
+            return;
+        }
+        try {
+            keys = JWKSet.parse(Files.readString(cacheFile, StandardCharsets.UTF_8));
+            log.info("JWKS seeded from cache file: path={}, keys={}", cacheFile, keyIds());
+        } catch (IOException | ParseException e) {
+            log.warn("JWKS cache file could not be read: path={}, error={}", cacheFile, e.getMessage());
+        }
+    }
+
+    /**
+     * 임시 파일에 쓴 뒤 교체하여 기동 중 읽는 쪽이 쓰다 만 파일을 보지 않게 함
+     */
+    private void writeCacheFile(JWKSet fetched) {
+        if (cacheFile == null) {
+            return;
+        }
+        try {
+            Path parent = cacheFile.toAbsolutePath().getParent();
+            if (parent != null) {
+                Files.createDirectories(parent);
+            }
+            Path temp = Files.createTempFile(parent, "jwks", ".tmp");
+            Files.writeString(temp, fetched.toString(true), StandardCharsets.UTF_8);
+            Files.move(temp, cacheFile, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (IOException e) {
+            log.warn("JWKS cache file could not be written: path={}, error={}", cacheFile, e.getMessage());
+        }
+    }
+
+    /**
+     * 현재 키 목록 (진단용)
+     */
+    public JWKSet getKeys() {
+        return keys;
+    }
+
+    private List<String> keyIds() {
+        return keys.getKeys().stream().map(JWK::getKeyID).toList();
+    }
+}
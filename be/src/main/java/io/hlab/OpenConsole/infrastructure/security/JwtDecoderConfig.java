@@ -0,0 +1,46 @@
+package io.hlab.OpenConsole.infrastructure.security;
+
+import com.nimbusds.jose.JWSAlgorithm;
+import com.nimbusds.jose.proc.JWSVerificationKeySelector;
+import com.nimbusds.jose.proc.SecurityContext;
+import com.nimbusds.jwt.proc.DefaultJWTProcessor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.security.oauth2.jwt.JwtDecoder;
+import org.springframework.security.oauth2.jwt.JwtValidators;
+import org.springframework.security.oauth2.jwt.NimbusJwtDecoder;
+
+/**
+ * Resource Server JwtDecoder 설정
+ * {@link JwksKeyManager}의 키로 서명을 검증하는 디코더를 등록하여, issuer-uri 기반 지연 discovery를 대체합니다.
+ * 이 빈이 있으면 Spring Boot의 기본 JwtDecoder 자동 구성은 생략됩니다.
+ *
+ * <p>검증 항목은 기본 구성과 같습니다: 서명(RSA 계열), exp/nbf(clock skew 60초), issuer.
+ */
+@Slf4j
+@Configuration
+public class JwtDecoderConfig {
+
+    @Value("${spring.security.oauth2.resourceserver.jwt.issuer-uri:}")
+    private String issuerUri;
+
+    @Bean
+    @ConditionalOnProperty(name = "zitadel.jwks.enabled", havingValue = "true", matchIfMissing = true)
+    public JwtDecoder jwtDecoder(JwksKeyManager jwksKeyManager) {
+        DefaultJWTProcessor<SecurityContext> processor = new DefaultJWTProcessor<>();
+        processor.setJWSKeySelector(new JWSVerificationKeySelector<>(JWSAlgorithm.Family.RSA, jwksKeyManager));
+        // claim 검증은 Spring Security validator가 담당
+        processor.setJWTClaimsSetVerifier((claims, context) -> {
+        });
+
+        NimbusJwtDecoder decoder = new NimbusJwtDecoder(processor);
+        decoder.setJwtValidator(issuerUri == null || issuerUri.isBlank()
+                ? JwtValidators.createDefault()
+                : JwtValidators.createDefaultWithIssuer(issuerUri));
+        log.debug("JwtDecoder 생성: issuer={}", issuerUri);
+        return decoder;
+    }
+}
@@ -11,13 +11,15 @@ import org.springframework.security.oauth2.jwt.Jwt;
 import org.springframework.security.oauth2.server.resource.authentication.JwtAuthenticationToken;
 import org.springframework.stereotype.Component;
 
-import java.util.ArrayList;
 import java.util.List;
-import java.util.Map;
 
 /**
  * JWT 유틸리티
- * SecurityContext에서 JWT를 읽어서 사용자 정보와 role을 추출
+ * SecurityContext의 인증 정보에서 사용자 정보와 role을 조회
+ *
+ * <p>사용자 정보는 인증 시 SecurityConfig의 jwtAuthenticationConverter가 한 번 해석하여
+ * {@link IamAuthenticationToken}에 담아 둡니다. 이 클래스의 조회 메서드는 그 값을 읽기만 하므로
+ * 한 요청에서 여러 번 호출해도 claims를 다시 해석하지 않습니다.
  */
 @Slf4j
 @Component
@@ -33,10 +35,7 @@ public class JwtUtils {
      */
     public Jwt getJwt() {
         Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
-        log.debug("Current authentication type: {}", authentication != null ? authentication.getClass().getName() : "null");
-        
         if (authentication instanceof JwtAuthenticationToken jwtAuth) {
-            log.debug("JWT found in SecurityContext");
             return jwtAuth.getToken();
         }
         
@@ -45,24 +44,27 @@ public class JwtUtils {
     }
 
     /**
-     * 현재 SecurityContext에서 사용자 정보 추출
+     * 현재 사용자 정보 (인증 시 해석한 값)
      * 
-     * @return IamUserInfo 또는 null
+     * @return IamUserInfo 또는 null (인증되지 않은 경우)
      */
     public IamUserInfo getCurrentUserInfo() {
-        Jwt jwt = getJwt();
-        if (jwt == null) {
-            return null;
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        if (authentication instanceof IamAuthenticationToken iamAuth) {
+            return iamAuth.getUserInfo();
         }
-
-        Map<String, Object> claims = jwt.getClaims();
-        return iamTokenDecoder.fromClaims(claims);
+        // SecurityConfig를 거치지 않고 만든 JWT 인증(테스트 등)은 claims에서 해석
+        if (authentication instanceof JwtAuthenticationToken jwtAuth) {
+            return iamTokenDecoder.fromClaims(jwtAuth.getToken().getClaims());
+        }
+        log.warn("JWT not found in SecurityContext. Authentication: {}", authentication);
+        return null;
     }
 
     /**
-     * 현재 사용자의 email 추출
+     * 현재 사용자의 email
      * 
-     * JWT에서 email 클레임을 추출합니다.
+     * email 클레임이 없으면 email 형태의 preferred_username을 사용합니다.
      * 
      * 참고: JWT에 email이 없는 경우 Zitadel 설정에서 email 클레임을 토큰에 포함하도록 설정해야 합니다.
      * - Zitadel Console > Project > Application > 해당 클라이언트 > Token Settings
@@ -71,143 +73,37 @@ public class JwtUtils {
      * @return email 또는 null (JWT에 email이 없는 경우)
      */
     public String getCurrentUserEmail() {
-        Jwt jwt = getJwt();
-        if (jwt == null) {
-            log.debug("JWT is null in getCurrentUserEmail");
+        IamUserInfo userInfo = getCurrentUserInfo();
+        if (userInfo == null) {
             return null;
         }
-        
-        // 1. JWT에서 직접 email 추출 시도
-        String email = jwt.getClaimAsString("email");
-        log.debug("Extracted email from JWT: {}", email);
-        
-        // 2. JWT에 email이 없으면 다른 클레임에서 찾기 시도 (방어적 프로그래밍)
-        if (email == null) {
-            log.warn("Email claim not found in JWT. Available claims: {}", jwt.getClaims().keySet());
-            
-            // Zitadel의 경우 email이 다른 클레임에 있을 수 있음
-            // 예: "preferred_username", "username" 등
-            email = jwt.getClaimAsString("preferred_username");
-            if (email != null && email.contains("@")) {
-                log.debug("Found email in 'preferred_username' claim: {}", email);
-                return email;
-            }
-            
+        if (userInfo.getEmail() == null) {
             // email이 없으면 null 반환 (Zitadel 설정 확인 필요)
             log.error("Email not found in JWT. Please configure Zitadel to include email claim in JWT token.");
         }
-        
-        return email;
+        return userInfo.getEmail();
     }
 
     /**
-     * 현재 사용자의 subject 추출 (IAM API 호출용)
+     * 현재 사용자의 subject (IAM API 호출용)
      * 
      * @return subject 또는 null
      */
     public String getCurrentUserSubject() {
-        Jwt jwt = getJwt();
-        if (jwt == null) {
-            return null;
-        }
-        return jwt.getSubject();
+        IamUserInfo userInfo = getCurrentUserInfo();
+        return userInfo != null ? userInfo.getSubject() : null;
     }
 
     /**
-     * 현재 사용자의 role 목록 추출
+     * 현재 사용자의 role 목록
      * 
-     * JWT에서 role을 추출합니다.
      * Zitadel Project role은 OAuth2 scope로 요청하면 JWT에 포함됩니다.
      * 
-     * @return role 목록
+     * @return role 목록 (불변)
      */
     public List<IamRole> getCurrentUserRoles() {
-        Jwt jwt = getJwt();
-        if (jwt == null) {
-            return List.of();
-        }
-
-        Map<String, Object> claims = jwt.getClaims();
-        return extractRoles(claims);
-    }
-
-    /**
-     * JWT claims에서 role 목록 추출
-     * 
-     * Zitadel의 role 클레임은 다음과 같은 형태로 나타날 수 있습니다:
-     * 1. 배열 형태: ["admin", "userA"]
-     * 2. 객체 형태: {"user": {"351864415584321539": "idp.avgmax.team"}}
-     * 
-     * @param claims JWT claims
-     * @return role 목록
-     */
-    @SuppressWarnings("unchecked")
-    private List<IamRole> extractRoles(Map<String, Object> claims) {
-        List<IamRole> roles = new ArrayList<>();
-
-        // 디버깅: 모든 claims 로깅 (실제 환경에서 role 클레임 위치 확인용)
-        log.debug("JWT Claims 전체: {}", claims);
-        
-        // 1. "roles" 클레임 확인 (배열 형태)
-        Object rolesClaim = claims.get("roles");
-        if (rolesClaim instanceof List) {
-            log.debug("Found 'roles' claim (List): {}", rolesClaim);
-            ((List<?>) rolesClaim).forEach(role -> {
-                if (role instanceof String) {
-                    log.debug("Processing role from 'roles' claim: {}", role);
-                    IamRole iamRole = IamRole.fromString((String) role);
-                    if (iamRole != null) {
-                        roles.add(iamRole);
-                        log.debug("Successfully converted role: {} -> {}", role, iamRole);
-                    } else {
-                        log.warn("Failed to convert role: {}", role);
-                    }
-                }
-            });
-        }
-
-        // 2. "urn:zitadel:iam:org:project:roles" 형태의 클레임 확인
-        // 객체 형태: {"user": {"351864415584321539": "idp.avgmax.team"}}
-        log.debug("Checking all claims for role-related keys...");
-        claims.forEach((key, value) -> {
-            if (key.contains("roles") && !key.equals("roles")) {
-                log.info("Found role claim with key '{}': {}", key, value);
-                
-                // 배열 형태 처리
-                if (value instanceof List) {
-                    ((List<?>) value).forEach(role -> {
-                        if (role instanceof String) {
-                            log.debug("Processing role from '{}' claim (List): {}", key, role);
-                            IamRole iamRole = IamRole.fromString((String) role);
-                            if (iamRole != null && !roles.contains(iamRole)) {
-                                roles.add(iamRole);
-                                log.debug("Successfully converted role: {} -> {}", role, iamRole);
-                            } else if (iamRole == null) {
-                                log.warn("Failed to convert role from '{}': {}", key, role);
-                            }
-                        }
-                    });
-                }
-                // 객체 형태 처리: {"user": {"351864415584321539": "idp.avgmax.team"}}
-                else if (value instanceof Map) {
-                    Map<String, Object> roleMap = (Map<String, Object>) value;
-                    roleMap.forEach((roleName, roleValue) -> {
-                        log.debug("Processing role from '{}' claim (Object): roleName={}, roleValue={}", 
-                                key, roleName, roleValue);
-                        IamRole iamRole = IamRole.fromString(roleName);
-                        if (iamRole != null && !roles.contains(iamRole)) {
-                            roles.add(iamRole);
-                            log.debug("Successfully converted role: {} -> {}", roleName, iamRole);
-                        } else if (iamRole == null) {
-                            log.warn("Failed to convert role from '{}': roleName={}", key, roleName);
-                        }
-                    });
-                }
-            }
-        });
-
-        log.info("Extracted roles from JWT: {}", roles);
-        return roles;
+        IamUserInfo userInfo = getCurrentUserInfo();
+        return userInfo != null ? userInfo.getRoles() : List.of();
     }
 
     /**
@@ -217,7 +113,8 @@ public class JwtUtils {
      * @return role을 가지고 있으면 true
      */
     public boolean hasRole(IamRole role) {
-        return getCurrentUserRoles().contains(role);
+        IamUserInfo userInfo = getCurrentUserInfo();
+        return userInfo != null && userInfo.hasRole(role);
     }
 
     /**
@@ -227,13 +124,7 @@ public class JwtUtils {
      * @return 하나라도 가지고 있으면 true
      */
     public boolean hasAnyRole(IamRole... roles) {
-        List<IamRole> userRoles = getCurrentUserRoles();
-        for (IamRole role : roles) {
-            if (userRoles.contains(role)) {
-                return true;
-            }
-        }
-        return false;
+        IamUserInfo userInfo = getCurrentUserInfo();
+        return userInfo != null && userInfo.hasAnyRole(roles);
     }
 }
-
@@ -1,10 +1,15 @@
 package io.hlab.OpenConsole.infrastructure.security;
 
 import io.hlab.OpenConsole.infrastructure.iam.IamRole;
+import io.hlab.OpenConsole.infrastructure.iam.IamTokenDecoder;
+import io.hlab.OpenConsole.infrastructure.iam.IamUserInfo;
+import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.context.ApplicationContext;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.http.HttpMethod;
+import org.springframework.security.access.expression.method.MethodSecurityExpressionHandler;
 import org.springframework.security.config.annotation.method.configuration.EnableMethodSecurity;
 import org.springframework.security.config.annotation.web.builders.HttpSecurity;
 import org.springframework.security.config.annotation.web.configuration.EnableWebSecurity;
@@ -13,13 +18,13 @@ import org.springframework.security.core.GrantedAuthority;
 import org.springframework.security.core.authority.SimpleGrantedAuthority;
 import org.springframework.security.oauth2.client.registration.ClientRegistrationRepository;
 import org.springframework.security.oauth2.jwt.Jwt;
-import org.springframework.security.oauth2.server.resource.authentication.JwtAuthenticationToken;
+import org.springframework.security.oauth2.jwt.JwtDecoder;
 import org.springframework.security.oauth2.server.resource.authentication.JwtGrantedAuthoritiesConverter;
 import org.springframework.security.web.SecurityFilterChain;
 
 import java.util.ArrayList;
 import java.util.Collection;
-import java.util.List;
+import java.util.EnumMap;
 import java.util.Map;
 
 import lombok.extern.slf4j.Slf4j;
@@ -36,8 +41,28 @@ public class SecurityConfig {
     @Autowired(required = false)
     private ApplicationContext applicationContext;
 
+    /**
+     * scope 권한 변환기 (상태가 없으므로 요청마다 만들지 않고 공유)
+     */
+    private static final JwtGrantedAuthoritiesConverter SCOPE_AUTHORITIES_CONVERTER = new JwtGrantedAuthoritiesConverter();
+
+    /**
+     * role별 GrantedAuthority (불변이므로 미리 생성)
+     */
+    private static final Map<IamRole, GrantedAuthority> ROLE_AUTHORITIES = new EnumMap<>(IamRole.class);
+
+    static {
+        for (IamRole role : IamRole.values()) {
+            ROLE_AUTHORITIES.put(role, new SimpleGrantedAuthority("ROLE_" + role.name()));
+        }
+    }
+
     @Bean
-    public SecurityFilterChain filterChain(HttpSecurity http) throws Exception {
+    public SecurityFilterChain filterChain(
+            HttpSecurity http,
+            IamTokenDecoder iamTokenDecoder,
+            VerifiedJwtCache verifiedJwtCache,
+            ObjectProvider<JwtDecoder> jwtDecoder) throws Exception {
         http
             // 세션을 사용하지 않고 JWT만 사용
             .sessionManagement(session -> session
@@ -50,6 +75,10 @@ public class SecurityConfig {
                 .requestMatchers("/swagger-ui/**", "/v3/api-docs/**", "/swagger-ui.html").permitAll()
                 // OAuth2 로그인 엔드포인트는 허용 (OAuth2 Client가 있을 때만 필요)
                 .requestMatchers("/login/**", "/oauth2/**").permitAll()
+                // IAM 변경 알림(webhook)은 JWT 대신 HMAC 서명으로 인증 (IamEventController)
+                .requestMatchers(HttpMethod.POST, "/iam/events").permitAll()
+                // 헬스 체크만 허용 (/actuator/prometheus는 IAM 오류/지연, 캐시, 풀 크기 등 내부 지표를 노출하므로 인증 필요)
+                .requestMatchers("/actuator/health/**").permitAll()
                 // 나머지 모든 요청은 인증 필요
                 .anyRequest().authenticated()
             );
@@ -58,21 +87,34 @@ public class SecurityConfig {
         configureOAuth2Login(http);
         
         // OAuth2 Resource Server: JWT 토큰 검증 (API 요청 시)
+        // JWT 검증은 application.yaml의 설정을 사용 (issuer-uri를 통해 JWKS 엔드포인트 자동 감지)
+        // 검증 결과와 사용자 정보는 토큰 만료 전까지 캐시 (VerifiedJwtCache, zitadel.cache.token.*)
+        JwtDecoder delegateDecoder = jwtDecoder.getIfAvailable();
         http.oauth2ResourceServer(oauth2 -> oauth2
-            .jwt(jwt -> jwt
-                .jwtAuthenticationConverter(jwtToken -> {
-                    // JWT에서 role을 추출하여 GrantedAuthority로 변환
-                    Collection<GrantedAuthority> authorities = extractAuthorities(jwtToken);
-                    return new JwtAuthenticationToken(jwtToken, authorities);
-                })
-                // JWT 검증은 application.yaml의 설정을 사용
-                // issuer-uri를 통해 JWKS 엔드포인트 자동 감지
-            )
+            .jwt(jwt -> {
+                if (delegateDecoder != null) {
+                    jwt.decoder(verifiedJwtCache.decoder(delegateDecoder));
+                }
+                jwt.jwtAuthenticationConverter(verifiedJwtCache.converter(jwtToken -> {
+                    // 사용자 정보(subject/email/role)는 여기서 한 번만 해석하여 인증 토큰에 담음 (JwtUtils는 읽기만 함)
+                    IamUserInfo userInfo = iamTokenDecoder.fromClaims(jwtToken.getClaims());
+                    return new VerifiedJwtCache.Conversion(userInfo, extractAuthorities(jwtToken, userInfo));
+                }));
+            })
         );
         
         return http.build();
     }
 
+    /**
+     * @PreAuthorize 표현식 핸들러 - IamRole 검사를 authority 문자열 비교 대신 role bitmask로 처리
+     * 메서드 보안 인프라 빈이므로 static으로 등록 (SecurityConfig 초기화를 앞당기지 않도록)
+     */
+    @Bean
+    static MethodSecurityExpressionHandler methodSecurityExpressionHandler() {
+        return new IamMethodSecurityExpressionHandler();
+    }
+
     /**
      * OAuth2 Login 설정 - ClientRegistrationRepository와 JITUserProvisioningHandler가 있을 때만 활성화
      */
@@ -95,99 +137,18 @@ public class SecurityConfig {
 
     /**
      * JWT에서 role을 추출하여 GrantedAuthority로 변환
-     * Spring Security의 @PreAuthorize에서 hasRole() 사용을 위해 필요
+     * hasRole()은 IamAuthenticationToken의 role bitmask로 판단하지만(IamMethodSecurityExpressionHandler),
+     * URL 권한 설정 등 authority를 직접 보는 곳과의 호환을 위해 ROLE_ authority도 그대로 둠
      */
-    private Collection<GrantedAuthority> extractAuthorities(Jwt jwt) {
+    private Collection<GrantedAuthority> extractAuthorities(Jwt jwt, IamUserInfo userInfo) {
         // 기본 scope 권한 추가
-        JwtGrantedAuthoritiesConverter defaultConverter = new JwtGrantedAuthoritiesConverter();
-        Collection<GrantedAuthority> authorities = new ArrayList<>(defaultConverter.convert(jwt));
-        
-        // JWT claims에서 role 추출
-        Map<String, Object> claims = jwt.getClaims();
-        List<IamRole> roles = extractRoles(claims);
-        
+        Collection<GrantedAuthority> authorities = new ArrayList<>(SCOPE_AUTHORITIES_CONVERTER.convert(jwt));
+
         // IamRole을 GrantedAuthority로 변환
         // Spring Security는 "ROLE_" prefix를 사용
-        roles.forEach(role -> {
-            authorities.add(new SimpleGrantedAuthority("ROLE_" + role.name()));
-        });
-        
-        return authorities;
-    }
-
-    /**
-     * JWT claims에서 role 목록 추출
-     * 
-     * Zitadel의 role 클레임은 다음과 같은 형태로 나타날 수 있습니다:
-     * 1. 배열 형태: ["admin", "userA"]
-     * 2. 객체 형태: {"user": {"351864415584321539": "idp.avgmax.team"}}
-     */
-    @SuppressWarnings("unchecked")
-    private List<IamRole> extractRoles(Map<String, Object> claims) {
-        List<IamRole> roles = new ArrayList<>();
-
-        // 디버깅: 모든 claims 로깅 (실제 환경에서 role 클레임 위치 확인용)
-        log.debug("JWT Claims 전체: {}", claims);
-        
-        // 1. "roles" 클레임 확인 (배열 형태)
-        Object rolesClaim = claims.get("roles");
-        if (rolesClaim instanceof List) {
-            log.debug("Found 'roles' claim (List): {}", rolesClaim);
-            ((List<?>) rolesClaim).forEach(role -> {
-                if (role instanceof String) {
-                    log.debug("Processing role from 'roles' claim: {}", role);
-                    IamRole iamRole = IamRole.fromString((String) role);
-                    if (iamRole != null) {
-                        roles.add(iamRole);
-                        log.debug("Successfully converted role: {} -> {}", role, iamRole);
-                    } else {
-                        log.warn("Failed to convert role: {}", role);
-                    }
-                }
-            });
+        for (IamRole role : userInfo.getRoles()) {
+            authorities.add(ROLE_AUTHORITIES.get(role));
         }
-
-        // 2. "urn:zitadel:iam:org:project:roles" 형태의 클레임 확인
-        // 객체 형태: {"user": {"351864415584321539": "idp.avgmax.team"}}
-        log.debug("Checking all claims for role-related keys...");
-        claims.forEach((key, value) -> {
-            if (key.contains("roles") && !key.equals("roles")) {
-                log.info("Found role claim with key '{}': {}", key, value);
-                
-                // 배열 형태 처리
-                if (value instanceof List) {
-                    ((List<?>) value).forEach(role -> {
-                        if (role instanceof String) {
-                            log.debug("Processing role from '{}' claim (List): {}", key, role);
-                            IamRole iamRole = IamRole.fromString((String) role);
-                            if (iamRole != null && !roles.contains(iamRole)) {
-                                roles.add(iamRole);
-                                log.debug("Successfully converted role: {} -> {}", role, iamRole);
-                            } else if (iamRole == null) {
-                                log.warn("Failed to convert role from '{}': {}", key, role);
-                            }
-                        }
-                    });
-                }
-                // 객체 형태 처리: {"user": {"351864415584321539": "idp.avgmax.team"}}
-                else if (value instanceof Map) {
-                    Map<String, Object> roleMap = (Map<String, Object>) value;
-                    roleMap.forEach((roleName, roleValue) -> {
-                        log.debug("Processing role from '{}' claim (Object): roleName={}, roleValue={}", 
-                                key, roleName, roleValue);
-                        IamRole iamRole = IamRole.fromString(roleName);
-                        if (iamRole != null && !roles.contains(iamRole)) {
-                            roles.add(iamRole);
-                            log.debug("Successfully converted role: {} -> {}", roleName, iamRole);
-                        } else if (iamRole == null) {
-                            log.warn("Failed to convert role from '{}': roleName={}", key, roleName);
-                        }
-                    });
-                }
-            }
-        });
-
-        log.info("Extracted roles from JWT: {}", roles);
-        return roles;
+        return authorities;
     }
 }
@@ -0,0 +1,203 @@
+package io.hlab.OpenConsole.infrastructure.security;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import io.hlab.OpenConsole.infrastructure.iam.IamUserInfo;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.convert.converter.Converter;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.oauth2.jwt.Jwt;
+import org.springframework.security.oauth2.jwt.JwtDecoder;
+import org.springframework.stereotype.Component;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * 검증된 JWT 캐시
+ * 같은 access token이 반복해서 들어오면 서명 검증/파싱과 사용자 정보 해석을 건너뜀
+ *
+ * <ul>
+ *   <li><b>키</b>: 토큰 문자열의 SHA-256. 조회 시 캐시된 토큰 원문과 상수 시간으로 다시 비교하므로
+ *       해시 충돌로 다른 토큰의 결과를 받는 일은 없습니다.</li>
+ *   <li><b>저장 조건</b>: 위임 디코더(서명/issuer/만료 검증)를 통과한 토큰만 저장합니다.
+ *       검증 실패나 {@code exp}가 없는 토큰은 저장하지 않아 잘못된 토큰으로 캐시를 오염시킬 수 없습니다.</li>
+ *   <li><b>만료</b>: 토큰의 {@code exp}와 {@code max-ttl} 중 이른 시각. 위임 디코더는 clock skew(기본 60초)만큼
+ *       {@code exp} 이후에도 허용하지만 캐시는 {@code exp}를 넘겨 반환하지 않으므로, 캐시 경로가 더 관대해지지 않습니다.
+ *       {@code max-ttl}은 서명 키 교체/폐기가 캐시된 토큰에 반영되기까지의 최대 시간입니다.</li>
+ *   <li><b>사용자 정보</b>: 인증 변환 결과(IamUserInfo, authorities)도 같은 항목에 저장합니다.
+ *       인증 토큰 객체는 요청마다 details가 설정되므로 공유하지 않고 매번 새로 만듭니다.</li>
+ * </ul>
+ *
+ * <p>{@code zitadel.cache.token.enabled=false}이면 위임 디코더/변환기를 그대로 사용합니다.
+ */
+@Slf4j
+@Component
+public class VerifiedJwtCache {
+
+    static final String CACHE_NAME = "jwt.verified";
+
+    private final boolean enabled;
+    private final Duration maxTtl;
+    private final Clock clock;
+    private final Cache<ByteBuffer, Entry> cache;
+
+    public VerifiedJwtCache(
+            @Value("${zitadel.cache.token.enabled:true}") boolean enabled,
+            @Value("${zitadel.cache.token.max-size:10000}") long maxSize,
+            @Value("${zitadel.cache.token.max-ttl:5m}") Duration maxTtl,
+            ObjectProvider<MeterRegistry> meterRegistry) {
+        this(enabled, maxSize, maxTtl, Clock.systemUTC());
+        meterRegistry.ifAvailable(registry -> CaffeineCacheMetrics.monitor(registry, cache, CACHE_NAME));
+    }
+
+    VerifiedJwtCache(boolean enabled, long maxSize, Duration maxTtl, Clock clock) {
+        this.enabled = enabled;
+        this.maxTtl = maxTtl;
+        this.clock = clock;
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfter(new TokenExpiry())
+                .ticker(() -> clock.millis() * 1_000_000L)
+                .recordStats()
+                .build();
+        log.debug("검증된 JWT 캐시 설정: enabled={}, maxSize={}, maxTtl={}", enabled, maxSize, maxTtl);
+    }
+
+    /**
+     * 캐시된 값 (검증된 JWT와 인증 변환 결과)
+     */
+    private static final class Entry {
+
+        private final Jwt jwt;
+        private final Instant expiresAt;
+        private volatile Resolved resolved;
+
+        private Entry(Jwt jwt, Instant expiresAt) {
+            this.jwt = jwt;
+            this.expiresAt = expiresAt;
+        }
+    }
+
+    private record Resolved(IamUserInfo userInfo, List<GrantedAuthority> authorities) {
+    }
+
+    /**
+     * 사용자 정보와 authorities를 함께 만드는 인증 변환 결과
+     */
+    public record Conversion(IamUserInfo userInfo, Collection<? extends GrantedAuthority> authorities) {
+    }
+
+    /**
+     * 캐시를 거치는 JwtDecoder
+     * 캐시에 없으면 위임 디코더로 검증하고, 성공한 결과만 저장합니다.
+     */
+    public JwtDecoder decoder(JwtDecoder delegate) {
+        if (!enabled) {
+            return delegate;
+        }
+        return token -> {
+            ByteBuffer key = key(token);
+            Entry entry = lookup(key, token);
+            if (entry != null) {
+                return entry.jwt;
+            }
+            Jwt jwt = delegate.decode(token);
+            Instant expiresAt = expiresAt(jwt);
+            if (expiresAt != null) {
+                cache.put(key, new Entry(jwt, expiresAt));
+            }
+            return jwt;
+        };
+    }
+
+    /**
+     * 캐시를 거치는 인증 변환기
+     * 같은 항목에 변환 결과가 있으면 재사용하고, 없으면 변환 후 저장합니다.
+     */
+    public Converter<Jwt, IamAuthenticationToken> converter(Converter<Jwt, Conversion> delegate) {
+        return jwt -> {
+            if (!enabled) {
+                return toToken(jwt, delegate.convert(jwt));
+            }
+            Entry entry = lookup(key(jwt.getTokenValue()), jwt.getTokenValue());
+            Resolved resolved = entry != null ? entry.resolved : null;
+            if (resolved != null) {
+                return new IamAuthenticationToken(jwt, resolved.authorities(), resolved.userInfo());
+            }
+            Conversion conversion = delegate.convert(jwt);
+            if (entry != null) {
+                entry.resolved = new Resolved(conversion.userInfo(), List.copyOf(conversion.authorities()));
+            }
+            return toToken(jwt, conversion);
+        };
+    }
+
+    private static IamAuthenticationToken toToken(Jwt jwt, Conversion conversion) {
+        return new IamAuthenticationToken(jwt, conversion.authorities(), conversion.userInfo());
+    }
+
+    /**
+     * 만료되지 않았고 원문이 일치하는 항목만 반환
+     */
+    private Entry lookup(ByteBuffer key, String token) {
+        Entry entry = cache.getIfPresent(key);
+        if (entry == null || !clock.instant().isBefore(entry.expiresAt)) {
+            return null;
+        }
+        boolean same = MessageDigest.isEqual(
+                entry.jwt.getTokenValue().getBytes(StandardCharsets.UTF_8),
+                token.getBytes(StandardCharsets.UTF_8));
+        return same ? entry : null;
+    }
+
+    /**
+     * 캐시 만료 시각: exp와 (지금 + max-ttl) 중 이른 시각, exp가 없으면 null (캐시하지 않음)
+     */
+    private Instant expiresAt(Jwt jwt) {
+        Instant exp = jwt.getExpiresAt();
+        if (exp == null) {
+            return null;
+        }
+        Instant limit = clock.instant().plus(maxTtl);
+        return exp.isBefore(limit) ? exp : limit;
+    }
+
+    private static ByteBuffer key(String token) {
+        try {
+            return ByteBuffer.wrap(MessageDigest.getInstance("SHA-256").digest(token.getBytes(StandardCharsets.UTF_8)));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256을 사용할 수 없습니다.", e);
+        }
+    }
+
+    private final class TokenExpiry implements Expiry<ByteBuffer, Entry> {
+
+        @Override
+        public long expireAfterCreate(ByteBuffer key, Entry entry, long currentTime) {
+            return Math.max(0, Duration.between(clock.instant(), entry.expiresAt).toNanos());
+        }
+
+        @Override
+        public long expireAfterUpdate(ByteBuffer key, Entry entry, long currentTime, long currentDuration) {
+            return expireAfterCreate(key, entry, currentTime);
+        }
+
+        @Override
+        public long expireAfterRead(ByteBuffer key, Entry entry, long currentTime, long currentDuration) {
+            return currentDuration;
+        }
+    }
+}
@@ -0,0 +1,139 @@
+package io.hlab.OpenConsole.api.iam;
+
+import io.hlab.OpenConsole.infrastructure.iam.IamAuthorizationChangedEvent;
+import io.hlab.OpenConsole.infrastructure.iam.IamClient;
+import io.hlab.OpenConsole.infrastructure.iam.IamUserChangedEvent;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.event.ApplicationEvents;
+import org.springframework.test.context.event.RecordApplicationEvents;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.ResultActions;
+
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.util.HexFormat;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * IAM 변경 알림(POST /iam/events) 통합 테스트
+ * Zitadel 대신 같은 방식으로 서명하는 stub 발신자로 요청을 보내 서명 검증, 중복 제거, 캐시 무효화 이벤트 발행을 검증
+ */
+@SpringBootTest(properties = {
+        "zitadel.webhook.enabled=true",
+        "zitadel.webhook.signing-key=" + IamEventIntegrationTest.SIGNING_KEY
+})
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+@RecordApplicationEvents
+@DisplayName("IAM 변경 알림 수신 테스트")
+class IamEventIntegrationTest {
+
+    static final String SIGNING_KEY = "test-signing-key";
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ApplicationEvents events;
+
+    @MockBean
+    private IamClient iamClient;
+
+    /**
+     * Zitadel Actions v2와 같은 형식으로 서명하여 전송하는 stub 발신자
+     */
+    private ResultActions send(String body, String key, long timestamp) throws Exception {
+        Mac mac = Mac.getInstance("HmacSHA256");
+        mac.init(new SecretKeySpec(key.getBytes(StandardCharsets.UTF_8), "HmacSHA256"));
+        String signature = HexFormat.of().formatHex(
+                mac.doFinal((timestamp + "." + body).getBytes(StandardCharsets.UTF_8)));
+        return mockMvc.perform(post("/iam/events")
+                .contentType(MediaType.APPLICATION_JSON)
+                .header("ZITADEL-Signature", "t=" + timestamp + ",v1=" + signature)
+                .content(body));
+    }
+
+    private ResultActions send(String body) throws Exception {
+        return send(body, SIGNING_KEY, Instant.now().getEpochSecond());
+    }
+
+    private static String grantEvent(String aggregateId, long sequence, String userId) {
+        return """
+                {"aggregateID":"%s","aggregateType":"usergrant","resourceOwner":"test-org-id","sequence":%d,
+                 "event_type":"user.grant.changed","created_at":"2026-01-01T00:00:00Z",
+                 "event_payload":{"userId":"%s","roleKeys":["admin"]}}
+                """.formatted(aggregateId, sequence, userId);
+    }
+
+    @Test
+    @DisplayName("role grant 변경 알림을 받으면 해당 사용자의 권한 변경 이벤트를 발행")
+    void receive_grantChanged_publishesAuthorizationEvent() throws Exception {
+        String userId = UUID.randomUUID().toString();
+
+        send(grantEvent("grant-" + userId, 1, userId))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data.result").value("PROCESSED"));
+
+        assertThat(events.stream(IamAuthorizationChangedEvent.class))
+                .containsExactly(new IamAuthorizationChangedEvent(userId));
+    }
+
+    @Test
+    @DisplayName("같은 이벤트가 다시 오면 DUPLICATE로 응답하고 다시 처리하지 않음")
+    void receive_duplicate_processedOnce() throws Exception {
+        String userId = UUID.randomUUID().toString();
+        String body = grantEvent("grant-" + userId, 7, userId);
+
+        send(body).andExpect(jsonPath("$.data.result").value("PROCESSED"));
+        send(body)
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data.result").value("DUPLICATE"));
+
+        assertThat(events.stream(IamAuthorizationChangedEvent.class)).hasSize(1);
+    }
+
+    @Test
+    @DisplayName("사용자 변경 알림을 받으면 사용자 변경 이벤트를 발행")
+    void receive_userChanged_publishesUserEvent() throws Exception {
+        String userId = UUID.randomUUID().toString();
+        String body = """
+                {"aggregateID":"%s","aggregateType":"user","sequence":3,
+                 "event_type":"user.human.email.changed","event_payload":{"email":"new@example.com"}}
+                """.formatted(userId);
+
+        send(body).andExpect(jsonPath("$.data.result").value("PROCESSED"));
+
+        assertThat(events.stream(IamUserChangedEvent.class))
+                .containsExactly(IamUserChangedEvent.ofSubject(userId));
+    }
+
+    @Test
+    @DisplayName("서명 키가 다르면 401")
+    void receive_wrongKey_unauthorized() throws Exception {
+        send(grantEvent("grant-x", 1, "user-x"), "other-key", Instant.now().getEpochSecond())
+                .andExpect(status().isUnauthorized());
+
+        assertThat(events.stream(IamAuthorizationChangedEvent.class)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("서명 시각이 허용 범위를 벗어나면 401 (재전송 공격)")
+    void receive_staleTimestamp_unauthorized() throws Exception {
+        send(grantEvent("grant-y", 1, "user-y"), SIGNING_KEY, Instant.now().minusSeconds(3600).getEpochSecond())
+                .andExpect(status().isUnauthorized());
+    }
+}
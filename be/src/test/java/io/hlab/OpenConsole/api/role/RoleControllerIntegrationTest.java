@@ -1,8 +1,12 @@
 package io.hlab.OpenConsole.api.role;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
+import io.hlab.OpenConsole.api.role.dto.BulkRoleAssignRequest;
 import io.hlab.OpenConsole.api.role.dto.RoleAssignRequest;
+import io.hlab.OpenConsole.application.role.BulkRoleAssignment;
+import io.hlab.OpenConsole.application.role.BulkRoleAssignmentResult;
 import io.hlab.OpenConsole.application.role.RoleService;
+import io.hlab.OpenConsole.domain.iam.IamOutboxMessage;
 import io.hlab.OpenConsole.infrastructure.iam.IamException;
 import io.hlab.OpenConsole.infrastructure.iam.IamRole;
 import org.junit.jupiter.api.BeforeEach;
@@ -16,9 +20,13 @@ import org.springframework.http.MediaType;
 import org.springframework.security.core.authority.SimpleGrantedAuthority;
 import org.springframework.security.oauth2.jwt.Jwt;
 import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.util.ReflectionTestUtils;
 import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import reactor.core.publisher.Mono;
 
 import java.time.Instant;
+import java.time.LocalDateTime;
 import java.util.List;
 
 import static org.mockito.ArgumentMatchers.any;
@@ -35,6 +43,8 @@ import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.
  * @SpringBootTest 사용 이유:
  * - 전체 애플리케이션 컨텍스트 로드로 Security 설정이 완전히 적용됨
  * - JWT 인증/인가 필터가 정상적으로 작동하여 통합 테스트에 적합
+ *
+ * IAM 호출이 필요한 API는 Mono를 반환하므로 asyncDispatch로 최종 응답을 검증합니다.
  */
 @SpringBootTest
 @AutoConfigureMockMvc  // Security 필터 자동 적용
@@ -81,20 +91,83 @@ class RoleControllerIntegrationTest {
         request.setEmail(TEST_EMAIL);
         request.setRoles(List.of(IamRole.USER_A));
 
-        doNothing().when(roleService).assignRoles(eq(TEST_EMAIL), any());
+        when(roleService.assignRolesAsync(eq(TEST_EMAIL), any())).thenReturn(Mono.empty());
 
         // When & Then
-        mockMvc.perform(post("/roles")
+        MvcResult result = mockMvc.perform(post("/roles")
                         .with(jwt().jwt(jwtWithAdminRole)
                                 .authorities(new SimpleGrantedAuthority("ROLE_ADMIN")))
                         .contentType(MediaType.APPLICATION_JSON)
                         .content(objectMapper.writeValueAsString(request)))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        mockMvc.perform(asyncDispatch(result))
                 .andExpect(status().isCreated())
                 .andExpect(jsonPath("$.code").value("SUCCESS"))
                 .andExpect(jsonPath("$.message").value("Role이 부여되었습니다."))
                 .andExpect(jsonPath("$.data").doesNotExist());
 
-        verify(roleService, times(1)).assignRoles(eq(TEST_EMAIL), any());
+        verify(roleService, times(1)).assignRolesAsync(eq(TEST_EMAIL), any());
+    }
+
+    @Test
+    @DisplayName("Prefer: respond-async 요청은 outbox에 기록하고 202와 진행 상황 링크로 응답")
+    void assignRole_respondAsync_accepted() throws Exception {
+        // Given
+        RoleAssignRequest request = new RoleAssignRequest();
+        request.setEmail(TEST_EMAIL);
+        request.setRoles(List.of(IamRole.USER_A));
+
+        IamOutboxMessage message = IamOutboxMessage.create("test-subject", IamOutboxMessage.Operation.ASSIGN_ROLES,
+                List.of("userA"), LocalDateTime.now());
+        ReflectionTestUtils.setField(message, "id", 42L);
+        when(roleService.assignRolesQueued(eq(TEST_EMAIL), any())).thenReturn(Mono.just(message));
+
+        // When & Then
+        MvcResult result = mockMvc.perform(post("/roles")
+                        .with(jwt().jwt(jwtWithAdminRole)
+                                .authorities(new SimpleGrantedAuthority("ROLE_ADMIN")))
+                        .header("Prefer", "respond-async")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(request)))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        mockMvc.perform(asyncDispatch(result))
+                .andExpect(status().isAccepted())
+                .andExpect(header().string("Location", "/roles/operations/42"))
+                .andExpect(jsonPath("$.data.status").value("PENDING"))
+                .andExpect(jsonPath("$.data.statusUrl").value("/roles/operations/42"));
+
+        verify(roleService, never()).assignRolesAsync(any(), any());
+    }
+
+    @Test
+    @DisplayName("Prefer 헤더에 다른 선호와 함께 respond-async가 있어도 202로 응답")
+    void removeRole_respondAsyncAmongPreferences_accepted() throws Exception {
+        // Given
+        IamOutboxMessage message = IamOutboxMessage.create("test-subject", IamOutboxMessage.Operation.REMOVE_ROLE,
+                List.of("userA"), LocalDateTime.now());
+        ReflectionTestUtils.setField(message, "id", 43L);
+        when(roleService.removeRoleQueued(eq(TEST_EMAIL), eq(IamRole.USER_A))).thenReturn(Mono.just(message));
+
+        // When & Then
+        MvcResult result = mockMvc.perform(delete("/roles")
+                        .with(jwt().jwt(jwtWithAdminRole)
+                                .authorities(new SimpleGrantedAuthority("ROLE_ADMIN")))
+                        .header("Prefer", "wait=5, respond-async")
+                        .param("email", TEST_EMAIL)
+                        .param("role", "USER_A"))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        mockMvc.perform(asyncDispatch(result))
+                .andExpect(status().isAccepted())
+                .andExpect(header().string("Location", "/roles/operations/43"))
+                .andExpect(header().string("Preference-Applied", "respond-async"));
+
+        verify(roleService, never()).removeRoleAsync(any(), any());
     }
 
     @Test
@@ -122,7 +195,7 @@ class RoleControllerIntegrationTest {
                         .content(objectMapper.writeValueAsString(request)))
                 .andExpect(status().isForbidden());
 
-        verify(roleService, never()).assignRoles(any(), any());
+        verify(roleService, never()).assignRolesAsync(any(), any());
     }
 
     @Test
@@ -139,7 +212,7 @@ class RoleControllerIntegrationTest {
                         .content(objectMapper.writeValueAsString(request)))
                 .andExpect(status().isUnauthorized());
 
-        verify(roleService, never()).assignRoles(any(), any());
+        verify(roleService, never()).assignRolesAsync(any(), any());
     }
 
     @Test
@@ -158,27 +231,31 @@ class RoleControllerIntegrationTest {
                         .content(objectMapper.writeValueAsString(request)))
                 .andExpect(status().isBadRequest());
 
-        verify(roleService, never()).assignRoles(any(), any());
+        verify(roleService, never()).assignRolesAsync(any(), any());
     }
 
     @Test
     @DisplayName("ADMIN 권한 사용자가 Role 제거 성공")
     void removeRole_withAdminRole_success() throws Exception {
         // Given
-        doNothing().when(roleService).removeRole(eq(TEST_EMAIL), eq(IamRole.USER_A));
+        when(roleService.removeRoleAsync(eq(TEST_EMAIL), eq(IamRole.USER_A))).thenReturn(Mono.empty());
 
         // When & Then
-        mockMvc.perform(delete("/roles")
+        MvcResult result = mockMvc.perform(delete("/roles")
                         .with(jwt().jwt(jwtWithAdminRole)
                                 .authorities(new SimpleGrantedAuthority("ROLE_ADMIN")))
                         .param("email", TEST_EMAIL)
                         .param("role", "USER_A"))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        mockMvc.perform(asyncDispatch(result))
                 .andExpect(status().isOk())  // ApiResponse를 반환하므로 200 OK
                 .andExpect(jsonPath("$.code").value("SUCCESS"))
                 .andExpect(jsonPath("$.message").value("Role이 제거되었습니다."))
                 .andExpect(jsonPath("$.data").doesNotExist());
 
-        verify(roleService, times(1)).removeRole(eq(TEST_EMAIL), eq(IamRole.USER_A));
+        verify(roleService, times(1)).removeRoleAsync(eq(TEST_EMAIL), eq(IamRole.USER_A));
     }
 
     @Test
@@ -186,20 +263,24 @@ class RoleControllerIntegrationTest {
     void getUserRoles_withAdminRole_success() throws Exception {
         // Given
         List<IamRole> expectedRoles = List.of(IamRole.USER_A, IamRole.USER_B);
-        when(roleService.getUserRoles(TEST_EMAIL)).thenReturn(expectedRoles);
+        when(roleService.getUserRolesAsync(TEST_EMAIL)).thenReturn(Mono.just(expectedRoles));
 
         // When & Then
-        mockMvc.perform(get("/roles")
+        MvcResult result = mockMvc.perform(get("/roles")
                         .with(jwt().jwt(jwtWithAdminRole)
                                 .authorities(new SimpleGrantedAuthority("ROLE_ADMIN")))
                         .param("email", TEST_EMAIL))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        mockMvc.perform(asyncDispatch(result))
                 .andExpect(status().isOk())
                 .andExpect(jsonPath("$.code").value("SUCCESS"))
                 .andExpect(jsonPath("$.data.email").value(TEST_EMAIL))
                 .andExpect(jsonPath("$.data.roles[0]").value("USER_A"))
                 .andExpect(jsonPath("$.data.roles[1]").value("USER_B"));
 
-        verify(roleService, times(1)).getUserRoles(TEST_EMAIL);
+        verify(roleService, times(1)).getUserRolesAsync(TEST_EMAIL);
     }
 
     @Test
@@ -210,20 +291,24 @@ class RoleControllerIntegrationTest {
         request.setEmail(TEST_EMAIL);
         request.setRoles(List.of(IamRole.USER_A));
 
-        doThrow(new IamException("IAM 처리 중 오류가 발생했습니다."))
-                .when(roleService).assignRoles(eq(TEST_EMAIL), any());
+        when(roleService.assignRolesAsync(eq(TEST_EMAIL), any()))
+                .thenReturn(Mono.error(new IamException("IAM 처리 중 오류가 발생했습니다.")));
 
         // When & Then
-        mockMvc.perform(post("/roles")
+        MvcResult result = mockMvc.perform(post("/roles")
                         .with(jwt().jwt(jwtWithAdminRole)
                                 .authorities(new SimpleGrantedAuthority("ROLE_ADMIN")))
                         .contentType(MediaType.APPLICATION_JSON)
                         .content(objectMapper.writeValueAsString(request)))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        mockMvc.perform(asyncDispatch(result))
                 .andExpect(status().isInternalServerError())
                 .andExpect(jsonPath("$.code").value("IAM_ERROR"))
                 .andExpect(jsonPath("$.message").value("IAM 처리 중 오류가 발생했습니다."));
 
-        verify(roleService, times(1)).assignRoles(eq(TEST_EMAIL), any());
+        verify(roleService, times(1)).assignRolesAsync(eq(TEST_EMAIL), any());
     }
 
     @Test
@@ -264,4 +349,42 @@ class RoleControllerIntegrationTest {
         verify(jwtUtils, times(1)).getCurrentUserEmail();
         verify(roleService, never()).getCurrentUserRoles();
     }
+
+    @Test
+    @DisplayName("ADMIN 권한 사용자가 Role 일괄 부여 - 일부 실패 포함 200 응답")
+    void assignRolesBulk_withAdminRole_partialFailure() throws Exception {
+        // Given
+        RoleAssignRequest item1 = new RoleAssignRequest();
+        item1.setEmail(TEST_EMAIL);
+        item1.setRoles(List.of(IamRole.USER_A));
+        RoleAssignRequest item2 = new RoleAssignRequest();
+        item2.setEmail("unknown@example.com");
+        item2.setRoles(List.of(IamRole.USER_B));
+        BulkRoleAssignRequest request = new BulkRoleAssignRequest();
+        request.setItems(List.of(item1, item2));
+
+        BulkRoleAssignment assignment1 = new BulkRoleAssignment(TEST_EMAIL, List.of(IamRole.USER_A));
+        BulkRoleAssignment assignment2 = new BulkRoleAssignment("unknown@example.com", List.of(IamRole.USER_B));
+        when(roleService.assignRolesBulk(List.of(assignment1, assignment2))).thenReturn(Mono.just(
+                BulkRoleAssignmentResult.of(List.of(
+                        BulkRoleAssignmentResult.Item.succeeded(0, assignment1),
+                        BulkRoleAssignmentResult.Item.failed(1, assignment2, "IAM_USER_NOT_FOUND", "사용자를 찾을 수 없습니다.")))));
+
+        // When & Then
+        MvcResult result = mockMvc.perform(post("/roles/bulk")
+                        .with(jwt().jwt(jwtWithAdminRole)
+                                .authorities(new SimpleGrantedAuthority("ROLE_ADMIN")))
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(request)))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        mockMvc.perform(asyncDispatch(result))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.code").value("SUCCESS"))
+                .andExpect(jsonPath("$.data.total").value(2))
+                .andExpect(jsonPath("$.data.succeeded").value(1))
+                .andExpect(jsonPath("$.data.failed").value(1))
+                .andExpect(jsonPath("$.data.results[1].errorCode").value("IAM_USER_NOT_FOUND"));
+    }
 }
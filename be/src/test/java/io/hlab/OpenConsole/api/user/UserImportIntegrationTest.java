@@ -0,0 +1,136 @@
+package io.hlab.OpenConsole.api.user;
+
+import io.hlab.OpenConsole.domain.user.UserRepository;
+import io.hlab.OpenConsole.infrastructure.iam.IamClient;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.security.oauth2.jwt.Jwt;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.jwt;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+/**
+ * 사용자 대량 가져오기(POST /users/import) 통합 테스트
+ *
+ * <p>가져오기는 청크마다 별도 트랜잭션으로 커밋되므로 @Transactional 롤백을 쓰지 않고,
+ * 테스트마다 고유한 email 도메인을 사용합니다.
+ */
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+@DisplayName("사용자 가져오기 통합 테스트")
+class UserImportIntegrationTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @MockBean
+    private IamClient iamClient;
+
+    private Jwt jwtWithAdminRole;
+    private String domain;
+
+    @BeforeEach
+    void setUp() {
+        jwtWithAdminRole = Jwt.withTokenValue("test-token")
+                .header("alg", "RS256")
+                .claim("sub", "test-user-id")
+                .claim("email", "admin@test.com")
+                .claim("roles", List.of("admin"))
+                .issuedAt(Instant.now())
+                .expiresAt(Instant.now().plusSeconds(3600))
+                .build();
+        domain = UUID.randomUUID().toString().substring(0, 8) + ".import.test";
+    }
+
+    @Test
+    @DisplayName("CSV 가져오기 - 유효한 행은 저장하고 잘못된 행/중복은 오류 보고서에 기록")
+    void importCsv() throws Exception {
+        String csv = String.join("\n",
+                "email,name",
+                "alice@" + domain + ",Alice",
+                "bob@" + domain + ",Bob",
+                "not-an-email,Nobody",
+                "ALICE@" + domain + ",Alice Again",
+                "carol@" + domain + ",");
+
+        mockMvc.perform(post("/users/import")
+                        .with(jwt().jwt(jwtWithAdminRole)
+                                .authorities(new SimpleGrantedAuthority("ROLE_ADMIN")))
+                        .contentType("text/csv")
+                        .content(csv))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.code").value("SUCCESS"))
+                .andExpect(jsonPath("$.data.status").value("COMPLETED"))
+                .andExpect(jsonPath("$.data.rowsRead").value(5))
+                .andExpect(jsonPath("$.data.inserted").value(3))
+                .andExpect(jsonPath("$.data.invalid").value(2))
+                .andExpect(jsonPath("$.data.errors.length()").value(2));
+
+        assertThat(userRepository.findByEmail("alice@" + domain)).isPresent();
+        // 이름이 비어 있으면 email의 local part 사용
+        assertThat(userRepository.findByEmail("carol@" + domain))
+                .hasValueSatisfying(user -> assertThat(user.getName()).isEqualTo("carol"));
+    }
+
+    @Test
+    @DisplayName("NDJSON 가져오기 - 이미 존재하는 사용자는 건너뛰고, 진행 상황을 importId로 조회")
+    void importNdjsonSkipsExisting() throws Exception {
+        String first = "{\"email\":\"dave@" + domain + "\",\"name\":\"Dave\"}\n";
+        mockMvc.perform(post("/users/import")
+                        .with(jwt().jwt(jwtWithAdminRole)
+                                .authorities(new SimpleGrantedAuthority("ROLE_ADMIN")))
+                        .contentType("application/x-ndjson")
+                        .content(first))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data.inserted").value(1));
+
+        String importId = "import-" + domain;
+        String second = first + "{\"email\":\"erin@" + domain + "\",\"name\":\"Erin\"}\n";
+        mockMvc.perform(post("/users/import")
+                        .with(jwt().jwt(jwtWithAdminRole)
+                                .authorities(new SimpleGrantedAuthority("ROLE_ADMIN")))
+                        .param("importId", importId)
+                        .contentType("application/x-ndjson")
+                        .content(second))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data.inserted").value(1))
+                .andExpect(jsonPath("$.data.skippedExisting").value(1))
+                .andExpect(jsonPath("$.data.errors[0].code").value("USER_ALREADY_EXISTS"));
+
+        mockMvc.perform(get("/users/import/{importId}", importId)
+                        .with(jwt().jwt(jwtWithAdminRole)
+                                .authorities(new SimpleGrantedAuthority("ROLE_ADMIN"))))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data.importId").value(importId))
+                .andExpect(jsonPath("$.data.status").value("COMPLETED"));
+    }
+
+    @Test
+    @DisplayName("ADMIN이 아니면 가져오기 불가")
+    void importRequiresAdmin() throws Exception {
+        mockMvc.perform(post("/users/import")
+                        .with(jwt().authorities(new SimpleGrantedAuthority("ROLE_USER_A")))
+                        .contentType("text/csv")
+                        .content("frank@" + domain + ",Frank"))
+                .andExpect(status().isForbidden());
+    }
+}
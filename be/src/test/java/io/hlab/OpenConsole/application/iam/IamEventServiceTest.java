@@ -0,0 +1,60 @@
+package io.hlab.OpenConsole.application.iam;
+
+import io.hlab.OpenConsole.application.user.UserDirectorySyncService;
+import io.hlab.OpenConsole.domain.iam.IamEventInboxRepository;
+import io.hlab.OpenConsole.infrastructure.iam.IamAuthorizationChangedEvent;
+import io.hlab.OpenConsole.infrastructure.iam.IamChangeEvent;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+
+import java.time.Duration;
+import java.time.Instant;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.when;
+
+/**
+ * IamEventService 단위 테스트
+ * inbox 기록 후 반영이 실패해도 예외를 전파하지 않는지(재전송이 DUPLICATE로 버려지지 않도록 200 응답) 검증
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("IamEventService 테스트")
+class IamEventServiceTest {
+
+    @Mock
+    private IamEventInboxRepository inboxRepository;
+
+    @Mock
+    private UserDirectorySyncService userDirectorySyncService;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    private IamEventService service;
+
+    @BeforeEach
+    void setUp() {
+        service = new IamEventService(inboxRepository, userDirectorySyncService, eventPublisher, Duration.ofDays(7));
+    }
+
+    @Test
+    @DisplayName("이벤트 리스너가 실패해도 PROCESSED로 응답")
+    void handle_listenerFailure_stillProcessed() {
+        when(inboxRepository.insertIfAbsent(anyString(), anyString(), anyString(), any())).thenReturn(true);
+        doThrow(new IllegalStateException("projection update failed"))
+                .when(eventPublisher).publishEvent(new IamAuthorizationChangedEvent("user-1"));
+
+        IamEventService.Result result = service.handle(new IamChangeEvent(
+                "grant-1:1", IamChangeEvent.Kind.AUTHORIZATION_CHANGED, "user.grant.changed", "user-1", Instant.now()));
+
+        assertThat(result).isEqualTo(IamEventService.Result.PROCESSED);
+    }
+}
@@ -0,0 +1,131 @@
+package io.hlab.OpenConsole.application.iam;
+
+import io.hlab.OpenConsole.domain.iam.IamOutboxMessage;
+import io.hlab.OpenConsole.domain.iam.IamOutboxRepository;
+import io.hlab.OpenConsole.infrastructure.iam.IamClient;
+import io.hlab.OpenConsole.infrastructure.iam.IamException;
+import io.hlab.OpenConsole.infrastructure.iam.IamRole;
+import io.hlab.OpenConsole.infrastructure.iam.IamUnavailableException;
+import io.hlab.OpenConsole.infrastructure.iam.ReactiveIamClient;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.InOrder;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.http.HttpHeaders;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.web.reactive.function.client.WebClientResponseException;
+import reactor.core.publisher.Mono;
+
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.when;
+
+/**
+ * IAM outbox 전달 워커 통합 테스트
+ * 같은 subject의 순서 보장, 일시적 실패 재시도, dead letter를 H2에서 검증
+ *
+ * <p>주기 실행은 끄고 {@link IamOutboxWorker#dispatch()}를 직접 호출합니다.
+ * 재시도 대기 없이 다음 dispatch에서 바로 재시도되도록 initial-backoff를 0으로 둡니다.
+ */
+@SpringBootTest(properties = {
+        "zitadel.outbox.enabled=false",
+        "zitadel.outbox.initial-backoff=0s",
+        "zitadel.outbox.max-attempts=3"
+})
+@ActiveProfiles("test")
+@DisplayName("IAM outbox 워커 테스트")
+class IamOutboxWorkerTest {
+
+    @Autowired
+    private IamOutboxService outboxService;
+
+    @Autowired
+    private IamOutboxWorker worker;
+
+    @Autowired
+    private IamOutboxRepository outboxRepository;
+
+    @MockBean
+    private ReactiveIamClient reactiveIamClient;
+
+    @MockBean
+    private IamClient iamClient;
+
+    private IamOutboxMessage.Status status(IamOutboxMessage message) {
+        return outboxRepository.findById(message.getId()).orElseThrow().getStatus();
+    }
+
+    @Test
+    @DisplayName("같은 subject는 앞 메시지가 전달될 때까지 다음 메시지를 전달하지 않고, 실패하면 재시도")
+    void dispatch_ordersPerSubjectAndRetries() {
+        String subject = "outbox-" + UUID.randomUUID();
+        when(reactiveIamClient.assignRoles(subject, List.of(IamRole.ADMIN)))
+                .thenReturn(Mono.error(new IamUnavailableException("Circuit breaker open")))
+                .thenReturn(Mono.empty());
+        when(reactiveIamClient.removeRole(subject, IamRole.USER_A)).thenReturn(Mono.empty());
+
+        IamOutboxMessage assign = outboxService.enqueueAssignRoles(subject, List.of(IamRole.ADMIN));
+        IamOutboxMessage remove = outboxService.enqueueRemoveRole(subject, IamRole.USER_A);
+
+        // 1회차: 부여 실패 → 재시도 대기, 제거는 아직 전달하지 않음
+        worker.dispatch();
+        assertThat(status(assign)).isEqualTo(IamOutboxMessage.Status.PENDING);
+        assertThat(status(remove)).isEqualTo(IamOutboxMessage.Status.PENDING);
+
+        // 2회차: 부여 성공, 3회차: 제거 성공
+        worker.dispatch();
+        assertThat(status(assign)).isEqualTo(IamOutboxMessage.Status.DELIVERED);
+        worker.dispatch();
+        assertThat(status(remove)).isEqualTo(IamOutboxMessage.Status.DELIVERED);
+
+        InOrder order = inOrder(reactiveIamClient);
+        order.verify(reactiveIamClient, times(2)).assignRoles(subject, List.of(IamRole.ADMIN));
+        order.verify(reactiveIamClient).removeRole(subject, IamRole.USER_A);
+    }
+
+    @Test
+    @DisplayName("재시도해도 성공할 수 없는 실패는 바로 dead letter로 남기고 다음 메시지로 진행")
+    void dispatch_permanentFailure_deadLetters() {
+        String subject = "outbox-" + UUID.randomUUID();
+        when(reactiveIamClient.removeRole(subject, IamRole.ADMIN)).thenReturn(Mono.error(new IamException("Grant 업데이트 실패",
+                WebClientResponseException.create(404, "Not Found", HttpHeaders.EMPTY, new byte[0], null))));
+        when(reactiveIamClient.assignRoles(subject, List.of(IamRole.USER_B))).thenReturn(Mono.empty());
+
+        IamOutboxMessage remove = outboxService.enqueueRemoveRole(subject, IamRole.ADMIN);
+        IamOutboxMessage assign = outboxService.enqueueAssignRoles(subject, List.of(IamRole.USER_B));
+
+        worker.dispatch();
+        worker.dispatch();
+
+        IamOutboxMessage dead = outboxRepository.findById(remove.getId()).orElseThrow();
+        assertThat(dead.getStatus()).isEqualTo(IamOutboxMessage.Status.DEAD);
+        assertThat(dead.getAttempts()).isEqualTo(1);
+        assertThat(dead.getLastError()).contains("Grant 업데이트 실패");
+        assertThat(status(assign)).isEqualTo(IamOutboxMessage.Status.DELIVERED);
+    }
+
+    @Test
+    @DisplayName("일시적인 실패가 max-attempts번 반복되면 dead letter")
+    void dispatch_maxAttempts_deadLetters() {
+        String subject = "outbox-" + UUID.randomUUID();
+        when(reactiveIamClient.assignRoles(subject, List.of(IamRole.USER_A)))
+                .thenReturn(Mono.error(new IamUnavailableException("응답 시간 초과")));
+
+        IamOutboxMessage assign = outboxService.enqueueAssignRoles(subject, List.of(IamRole.USER_A));
+
+        worker.dispatch();
+        worker.dispatch();
+        assertThat(status(assign)).isEqualTo(IamOutboxMessage.Status.PENDING);
+        worker.dispatch();
+
+        assertThat(outboxRepository.findById(assign.getId()).orElseThrow())
+                .extracting(IamOutboxMessage::getStatus, IamOutboxMessage::getAttempts)
+                .containsExactly(IamOutboxMessage.Status.DEAD, 3);
+    }
+}
@@ -3,6 +3,7 @@ package io.hlab.OpenConsole.application.role;
 import io.hlab.OpenConsole.infrastructure.iam.IamClient;
 import io.hlab.OpenConsole.infrastructure.iam.IamException;
 import io.hlab.OpenConsole.infrastructure.iam.IamRole;
+import io.hlab.OpenConsole.infrastructure.iam.ReactiveIamClient;
 import io.hlab.OpenConsole.infrastructure.security.JwtUtils;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
@@ -11,8 +12,11 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
 
 import java.util.List;
+import java.util.Map;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
@@ -31,6 +35,9 @@ class RoleServiceTest {
     @Mock
     private IamClient iamClient;
 
+    @Mock
+    private ReactiveIamClient reactiveIamClient;
+
     @Mock
     private JwtUtils jwtUtils;
 
@@ -42,8 +49,8 @@ class RoleServiceTest {
 
     @BeforeEach
     void setUp() {
-        // 기본 설정: Email → Subject 변환
-        when(iamClient.getUserSubjectByEmail(TEST_EMAIL)).thenReturn(TEST_SUBJECT);
+        // 기본 설정: Email → Subject 변환 (논블로킹 테스트에서는 사용하지 않으므로 lenient)
+        lenient().when(iamClient.getUserSubjectByEmail(TEST_EMAIL)).thenReturn(TEST_SUBJECT);
     }
 
     @Test
@@ -136,6 +143,83 @@ class RoleServiceTest {
         verify(iamClient, times(1)).assignRoles(any(), any());
     }
 
+    @Test
+    @DisplayName("논블로킹 Role 부여 성공")
+    void assignRolesAsync_success() {
+        // Given
+        List<IamRole> roles = List.of(IamRole.USER_A);
+        when(reactiveIamClient.getUserSubjectByEmail(TEST_EMAIL)).thenReturn(Mono.just(TEST_SUBJECT));
+        when(reactiveIamClient.assignRoles(TEST_SUBJECT, roles)).thenReturn(Mono.empty());
+
+        // When & Then
+        StepVerifier.create(roleService.assignRolesAsync(TEST_EMAIL, roles))
+                .verifyComplete();
+
+        verify(reactiveIamClient, times(1)).assignRoles(eq(TEST_SUBJECT), eq(roles));
+        verifyNoInteractions(iamClient);
+    }
+
+    @Test
+    @DisplayName("논블로킹 Role 조회 성공")
+    void getUserRolesAsync_success() {
+        // Given
+        List<IamRole> expectedRoles = List.of(IamRole.ADMIN, IamRole.USER_A);
+        when(reactiveIamClient.getUserSubjectByEmail(TEST_EMAIL)).thenReturn(Mono.just(TEST_SUBJECT));
+        when(reactiveIamClient.getUserRoles(TEST_SUBJECT)).thenReturn(Mono.just(expectedRoles));
+
+        // When & Then
+        StepVerifier.create(roleService.getUserRolesAsync(TEST_EMAIL))
+                .expectNext(expectedRoles)
+                .verifyComplete();
+    }
+
+    @Test
+    @DisplayName("논블로킹 Role 제거 - 사용자 존재하지 않으면 IamException 전파")
+    void removeRoleAsync_userNotFound_error() {
+        // Given
+        when(reactiveIamClient.getUserSubjectByEmail(TEST_EMAIL))
+                .thenReturn(Mono.error(new IamException("사용자를 찾을 수 없습니다: email=" + TEST_EMAIL)));
+
+        // When & Then
+        StepVerifier.create(roleService.removeRoleAsync(TEST_EMAIL, IamRole.USER_A))
+                .expectError(IamException.class)
+                .verify();
+
+        verify(reactiveIamClient, never()).removeRole(any(), any());
+    }
+
+    @Test
+    @DisplayName("Role 일괄 부여 - email 일괄 조회 후 항목별 성공/실패를 요청 순서대로 반환")
+    void assignRolesBulk_partialFailure() {
+        // Given
+        String otherEmail = "other@example.com";
+        String unknownEmail = "unknown@example.com";
+        List<BulkRoleAssignment> assignments = List.of(
+                new BulkRoleAssignment(TEST_EMAIL, List.of(IamRole.USER_A)),
+                new BulkRoleAssignment(unknownEmail, List.of(IamRole.USER_A)),
+                new BulkRoleAssignment(otherEmail, List.of(IamRole.USER_B)));
+
+        when(reactiveIamClient.getUserSubjectsByEmails(List.of(TEST_EMAIL, unknownEmail, otherEmail)))
+                .thenReturn(Mono.just(Map.of(TEST_EMAIL, TEST_SUBJECT, otherEmail, "other-subject")));
+        when(reactiveIamClient.assignRoles(TEST_SUBJECT, List.of(IamRole.USER_A))).thenReturn(Mono.empty());
+        when(reactiveIamClient.assignRoles("other-subject", List.of(IamRole.USER_B)))
+                .thenReturn(Mono.error(new IamException("Authorization 생성 실패")));
+
+        // When & Then
+        StepVerifier.create(roleService.assignRolesBulk(assignments))
+                .assertNext(result -> {
+                    assertThat(result.total()).isEqualTo(3);
+                    assertThat(result.succeeded()).isEqualTo(1);
+                    assertThat(result.items()).extracting(BulkRoleAssignmentResult.Item::email)
+                            .containsExactly(TEST_EMAIL, unknownEmail, otherEmail);
+                    assertThat(result.items()).extracting(BulkRoleAssignmentResult.Item::errorCode)
+                            .containsExactly(null, "IAM_USER_NOT_FOUND", "IAM_ROLE_ASSIGN_FAILED");
+                })
+                .verifyComplete();
+
+        verify(reactiveIamClient, never()).getUserSubjectByEmail(any());
+    }
+
     // Note: getCurrentUserRoles()는 SecurityContext에서 JWT를 읽는 구현이므로
     // 단위 테스트는 어렵고, 통합 테스트(RoleControllerIntegrationTest)에서 검증합니다.
     // 여기서는 단위 테스트를 제외하고 통합 테스트에서만 검증합니다.
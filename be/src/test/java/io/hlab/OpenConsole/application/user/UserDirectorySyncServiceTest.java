@@ -0,0 +1,226 @@
+package io.hlab.OpenConsole.application.user;
+
+import io.hlab.OpenConsole.domain.user.User;
+import io.hlab.OpenConsole.domain.user.UserRepository;
+import io.hlab.OpenConsole.infrastructure.iam.IamClient;
+import io.hlab.OpenConsole.infrastructure.iam.IamDirectoryScanIncompleteException;
+import io.hlab.OpenConsole.infrastructure.iam.IamDirectoryUser;
+import io.hlab.OpenConsole.infrastructure.iam.ReactiveIamClient;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.when;
+
+/**
+ * 사용자 디렉터리 동기화 통합 테스트
+ * 신규 저장, 기존(JIT) 사용자 연결, 변경 반영, 삭제 감지를 H2에서 검증
+ *
+ * <p>동기화는 청크마다 별도 트랜잭션으로 커밋되므로 @Transactional 롤백을 쓰지 않고,
+ * 테스트마다 고유한 email 도메인/subject를 사용합니다.
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+@DisplayName("사용자 디렉터리 동기화 테스트")
+class UserDirectorySyncServiceTest {
+
+    @Autowired
+    private UserDirectorySyncService syncService;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @MockBean
+    private ReactiveIamClient reactiveIamClient;
+
+    @MockBean
+    private IamClient iamClient;
+
+    @Test
+    @DisplayName("IAM 사용자를 저장하고, 변경/삭제를 다음 동기화에서 반영")
+    void sync_insertsUpdatesAndDeletes() {
+        String id = UUID.randomUUID().toString().substring(0, 8);
+        String domain = id + ".sync.test";
+        Instant old = Instant.now().minus(Duration.ofHours(1));
+        // JIT로 먼저 생성된 사용자 (subject 없음)
+        userRepository.save(User.create("carol@" + domain, "Carol"));
+
+        IamDirectoryUser alice = new IamDirectoryUser(id + "-alice", "alice", "alice@" + domain, "Alice", "USER_STATE_ACTIVE", old);
+        IamDirectoryUser bob = new IamDirectoryUser(id + "-bob", "bob", "bob@" + domain, "Bob", "USER_STATE_ACTIVE", old);
+        IamDirectoryUser carol = new IamDirectoryUser(id + "-carol", "carol", "carol@" + domain, "Carol", "USER_STATE_ACTIVE", old);
+        IamDirectoryUser machine = new IamDirectoryUser(id + "-bot", "bot", null, "Bot", "USER_STATE_ACTIVE", old);
+        when(reactiveIamClient.streamUsers()).thenReturn(Flux.just(alice, bob, carol, machine));
+
+        UserDirectorySyncResult first = syncService.sync();
+
+        assertThat(first.executed()).isTrue();
+        assertThat(first.seen()).isEqualTo(4);
+        assertThat(first.skipped()).isEqualTo(1);
+        assertThat(userRepository.findByEmail("alice@" + domain)).get()
+                .extracting(User::getSubject, User::getIamState)
+                .containsExactly(id + "-alice", "USER_STATE_ACTIVE");
+        assertThat(userRepository.findByEmail("carol@" + domain)).get()
+                .extracting(User::getSubject)
+                .isEqualTo(id + "-carol");
+
+        // bob 비활성화, carol 삭제
+        IamDirectoryUser inactiveBob = new IamDirectoryUser(id + "-bob", "bob", "bob@" + domain, "Bob", "USER_STATE_INACTIVE", Instant.now());
+        when(reactiveIamClient.streamUsers()).thenReturn(Flux.just(alice, inactiveBob));
+
+        UserDirectorySyncResult second = syncService.sync();
+
+        assertThat(second.executed()).isTrue();
+        assertThat(second.unchanged()).isEqualTo(1);
+        assertThat(second.upserted()).isEqualTo(1);
+        assertThat(second.deleted()).isGreaterThanOrEqualTo(1);
+        assertThat(userRepository.findByEmail("bob@" + domain)).get()
+                .extracting(User::getIamState)
+                .isEqualTo("USER_STATE_INACTIVE");
+        assertThat(userRepository.findByEmail("carol@" + domain)).get()
+                .extracting(User::getIamState)
+                .isEqualTo(User.IAM_STATE_DELETED);
+        assertThat(userRepository.findByEmail("alice@" + domain)).get()
+                .extracting(User::getIamState)
+                .isEqualTo("USER_STATE_ACTIVE");
+    }
+
+    @Test
+    @DisplayName("IAM에서 사용자를 하나도 읽지 못하면 삭제 감지를 하지 않음")
+    void sync_emptyDirectory_skipsSweep() {
+        String domain = UUID.randomUUID().toString().substring(0, 8) + ".sync.test";
+        when(reactiveIamClient.streamUsers()).thenReturn(Flux.just(
+                new IamDirectoryUser("keep-" + domain, "keep", "keep@" + domain, "Keep", "USER_STATE_ACTIVE", Instant.now())));
+        syncService.sync();
+
+        when(reactiveIamClient.streamUsers()).thenReturn(Flux.empty());
+        UserDirectorySyncResult result = syncService.sync();
+
+        assertThat(result.deleted()).isZero();
+        assertThat(userRepository.findByEmail("keep@" + domain)).get()
+                .extracting(User::getIamState)
+                .isEqualTo("USER_STATE_ACTIVE");
+    }
+
+    @Test
+    @DisplayName("순회가 불완전하면 받은 사용자는 반영하고 삭제 감지는 하지 않음")
+    void sync_incompleteScan_skipsSweep() {
+        String id = UUID.randomUUID().toString().substring(0, 8);
+        String domain = id + ".sync.test";
+        Instant old = Instant.now().minus(Duration.ofHours(1));
+        IamDirectoryUser alice = new IamDirectoryUser(id + "-alice", "alice", "alice@" + domain, "Alice", "USER_STATE_ACTIVE", old);
+        IamDirectoryUser bob = new IamDirectoryUser(id + "-bob", "bob", "bob@" + domain, "Bob", "USER_STATE_ACTIVE", old);
+        when(reactiveIamClient.streamUsers()).thenReturn(Flux.just(alice, bob));
+        syncService.sync();
+
+        // bob이 있던 구간을 건너뛴 순회
+        IamDirectoryUser carol = new IamDirectoryUser(id + "-carol", "carol", "carol@" + domain, "Carol", "USER_STATE_ACTIVE", Instant.now());
+        when(reactiveIamClient.streamUsers()).thenReturn(Flux.concat(
+                Flux.just(alice, carol),
+                Flux.error(new IamDirectoryScanIncompleteException("gap"))));
+        UserDirectorySyncResult result = syncService.sync();
+
+        assertThat(result.executed()).isTrue();
+        assertThat(result.seen()).isEqualTo(2);
+        assertThat(result.deleted()).isZero();
+        assertThat(userRepository.findByEmail("carol@" + domain)).get()
+                .extracting(User::getSubject)
+                .isEqualTo(id + "-carol");
+        assertThat(userRepository.findByEmail("bob@" + domain)).get()
+                .extracting(User::getIamState)
+                .isEqualTo("USER_STATE_ACTIVE");
+    }
+
+    @Test
+    @DisplayName("저장하지 않는 사용자(email 없음)도 IAM에 있으면 삭제 처리하지 않음")
+    void sync_skippedUser_notSwept() {
+        String id = UUID.randomUUID().toString().substring(0, 8);
+        String domain = id + ".sync.test";
+        Instant old = Instant.now().minus(Duration.ofHours(1));
+        IamDirectoryUser alice = new IamDirectoryUser(id + "-alice", "alice", "alice@" + domain, "Alice", "USER_STATE_ACTIVE", old);
+        IamDirectoryUser bob = new IamDirectoryUser(id + "-bob", "bob", "bob@" + domain, "Bob", "USER_STATE_ACTIVE", old);
+        when(reactiveIamClient.streamUsers()).thenReturn(Flux.just(alice, bob));
+        syncService.sync();
+
+        // IAM에서 bob의 email이 지워져 더 이상 저장할 수 없음
+        IamDirectoryUser bobWithoutEmail = new IamDirectoryUser(id + "-bob", "bob", null, "Bob", "USER_STATE_ACTIVE", Instant.now());
+        when(reactiveIamClient.streamUsers()).thenReturn(Flux.just(alice, bobWithoutEmail));
+        UserDirectorySyncResult result = syncService.sync();
+
+        assertThat(result.skipped()).isEqualTo(1);
+        assertThat(userRepository.findByEmail("bob@" + domain)).get()
+                .extracting(User::getIamState)
+                .isEqualTo("USER_STATE_ACTIVE");
+    }
+
+    @Test
+    @DisplayName("실행 중 다른 노드가 lease를 가져가면 삭제 감지 없이 중단")
+    void sync_leaseLost_abortsBeforeSweep() {
+        String id = UUID.randomUUID().toString().substring(0, 8);
+        String domain = id + ".sync.test";
+        Instant old = Instant.now().minus(Duration.ofHours(1));
+        IamDirectoryUser alice = new IamDirectoryUser(id + "-alice", "alice", "alice@" + domain, "Alice", "USER_STATE_ACTIVE", old);
+        IamDirectoryUser carol = new IamDirectoryUser(id + "-carol", "carol", "carol@" + domain, "Carol", "USER_STATE_ACTIVE", old);
+        when(reactiveIamClient.streamUsers()).thenReturn(Flux.just(alice, carol));
+        syncService.sync();
+
+        // 순회가 끝나기 전에 다른 실행이 lease를 가져감 (다음 테스트가 실행될 수 있도록 만료 시각은 과거로 둠)
+        when(reactiveIamClient.streamUsers()).thenReturn(Flux.just(alice).concatWith(Mono.fromRunnable(() ->
+                jdbcTemplate.update("UPDATE user_sync_state SET lease_run = -1, lease_until = ? WHERE name = ?",
+                        Timestamp.valueOf(LocalDateTime.now(ZoneOffset.UTC).minusMinutes(1)),
+                        UserDirectorySyncService.SYNC_NAME))));
+
+        assertThatThrownBy(() -> syncService.sync())
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessageContaining("lease lost");
+        assertThat(userRepository.findByEmail("carol@" + domain)).get()
+                .extracting(User::getIamState)
+                .isEqualTo("USER_STATE_ACTIVE");
+    }
+
+    @Test
+    @DisplayName("삭제 처리된 사용자가 IAM 변경 없이 다시 보이면 상태를 복구")
+    void sync_sweptThenSeenAgain_restoresUser() {
+        String id = UUID.randomUUID().toString().substring(0, 8);
+        String domain = id + ".sync.test";
+        Instant old = Instant.now().minus(Duration.ofHours(1));
+        IamDirectoryUser alice = new IamDirectoryUser(id + "-alice", "alice", "alice@" + domain, "Alice", "USER_STATE_ACTIVE", old);
+        IamDirectoryUser bob = new IamDirectoryUser(id + "-bob", "bob", "bob@" + domain, "Bob", "USER_STATE_ACTIVE", old);
+        when(reactiveIamClient.streamUsers()).thenReturn(Flux.just(alice, bob));
+        syncService.sync();
+
+        // 페이지 경계에서 bob을 읽지 못해 삭제 처리됨
+        when(reactiveIamClient.streamUsers()).thenReturn(Flux.just(alice));
+        syncService.sync();
+        assertThat(userRepository.findByEmail("bob@" + domain)).get()
+                .extracting(User::getIamState)
+                .isEqualTo(User.IAM_STATE_DELETED);
+
+        // bob은 IAM에서 변경되지 않았으므로 변경 시각이 high-water mark 이전
+        when(reactiveIamClient.streamUsers()).thenReturn(Flux.just(alice, bob));
+        UserDirectorySyncResult result = syncService.sync();
+
+        assertThat(result.unchanged()).isEqualTo(1);
+        assertThat(result.upserted()).isEqualTo(1);
+        assertThat(userRepository.findByEmail("bob@" + domain)).get()
+                .extracting(User::getIamState)
+                .isEqualTo("USER_STATE_ACTIVE");
+    }
+}
@@ -0,0 +1,113 @@
+package io.hlab.OpenConsole.application.user;
+
+import io.hlab.OpenConsole.application.iam.IamOutboxService;
+import io.hlab.OpenConsole.domain.user.User;
+import io.hlab.OpenConsole.domain.user.UserRepository;
+import io.hlab.OpenConsole.infrastructure.iam.IamClient;
+import io.hlab.OpenConsole.infrastructure.iam.IamRole;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.boot.test.mock.mockito.SpyBean;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+/**
+ * JIT 프로비저닝 통합 테스트
+ * 같은 사용자가 동시에 로그인해도 email unique 제약 오류 없이 사용자와 기본 role 부여 요청이 한 번만 기록되는지 검증
+ *
+ * <p>프로비저닝은 트랜잭션마다 커밋되므로 @Transactional 롤백을 쓰지 않고, 테스트마다 고유한 email을 사용합니다.
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+@DisplayName("JIT 프로비저닝 통합 테스트")
+class UserProvisioningIntegrationTest {
+
+    @Autowired
+    private UserService userService;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @SpyBean
+    private IamOutboxService outboxService;
+
+    @MockBean
+    private IamClient iamClient;
+
+    @Test
+    @DisplayName("동시 로그인 - 한 요청만 사용자를 생성하고 기본 role 부여 요청도 한 번만 기록")
+    void provisionUser_concurrentLogins_createdOnce() throws Exception {
+        String subject = "jit-" + UUID.randomUUID();
+        String email = subject + "@jit.test";
+        int logins = 8;
+        CountDownLatch start = new CountDownLatch(1);
+
+        ExecutorService executor = Executors.newFixedThreadPool(logins);
+        List<Boolean> created = new ArrayList<>();
+        try {
+            List<Future<Boolean>> results = new ArrayList<>();
+            for (int i = 0; i < logins; i++) {
+                Callable<Boolean> login = () -> {
+                    start.await();
+                    return userService.provisionUser(User.create(email, "JIT User"), subject, List.of(IamRole.USER_A));
+                };
+                results.add(executor.submit(login));
+            }
+            start.countDown();
+            for (Future<Boolean> result : results) {
+                created.add(result.get());
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+
+        assertThat(created).containsOnlyOnce(true);
+        assertThat(userRepository.findByEmail(email)).isPresent();
+        verify(outboxService, times(1)).enqueueAssignRoles(eq(subject), anyList());
+    }
+
+    @Test
+    @DisplayName("이미 있는 사용자 - 다시 로그인해도 아무것도 기록하지 않음")
+    void provisionUser_existingUser_noop() {
+        String subject = "jit-" + UUID.randomUUID();
+        String email = subject + "@jit.test";
+
+        assertThat(userService.provisionUser(User.create(email, "JIT User"), subject, List.of(IamRole.USER_A))).isTrue();
+        assertThat(userService.provisionUser(User.create(email, "Renamed"), subject, List.of(IamRole.USER_A))).isFalse();
+
+        assertThat(userRepository.findByEmail(email)).get().extracting(User::getName).isEqualTo("JIT User");
+        verify(outboxService, times(1)).enqueueAssignRoles(eq(subject), anyList());
+    }
+
+    @Test
+    @DisplayName("디렉터리 동기화가 먼저 만든 사용자 - 첫 로그인에만 기본 role 부여 요청을 기록")
+    void provisionUser_syncedUser_defaultRolesOnFirstLogin() {
+        String subject = "sync-" + UUID.randomUUID();
+        String email = subject + "@jit.test";
+        userRepository.upsertFromIam(
+                List.of(User.fromIam(subject, email, "Synced User", "USER_STATE_ACTIVE", LocalDateTime.now())), null);
+
+        assertThat(userService.provisionUser(User.create(email, "JIT User"), subject, List.of(IamRole.USER_A))).isTrue();
+        assertThat(userService.provisionUser(User.create(email, "JIT User"), subject, List.of(IamRole.USER_A))).isFalse();
+
+        verify(outboxService, times(1)).enqueueAssignRoles(eq(subject), anyList());
+    }
+}
@@ -0,0 +1,54 @@
+package io.hlab.OpenConsole.infrastructure.iam;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * JwtRoleExtractor 단위 테스트
+ * 설정된 클레임 경로만 조회하는지, 배열/객체 형태와 대소문자 무시 변환을 검증
+ */
+@DisplayName("JwtRoleExtractor 테스트")
+class JwtRoleExtractorTest {
+
+    private final JwtRoleExtractor extractor = new JwtRoleExtractor(List.of(
+            "roles",
+            "urn:zitadel:iam:org:project:roles",
+            "urn:zitadel:iam:org:project:123:roles",
+            "realm_access.roles"));
+
+    @Test
+    @DisplayName("배열 형태와 Zitadel 객체 형태의 role을 합쳐서 중복 없이 추출")
+    void extract_listAndObjectClaims() {
+        Map<String, Object> claims = Map.of(
+                "sub", "user-1",
+                "roles", List.of("ADMIN", "userA", "unknown"),
+                "urn:zitadel:iam:org:project:roles", Map.of(
+                        "user", Map.of("351864415584321539", "idp.avgmax.team"),
+                        "admin", Map.of("351864415584321539", "idp.avgmax.team")),
+                "urn:zitadel:iam:org:project:123:roles", Map.of("userB", Map.of()));
+
+        assertThat(extractor.extract(claims))
+                .containsExactlyInAnyOrder(IamRole.ADMIN, IamRole.USER, IamRole.USER_A, IamRole.USER_B);
+    }
+
+    @Test
+    @DisplayName("'.'으로 구분한 중첩 경로를 따라 조회")
+    void extract_nestedPath() {
+        Map<String, Object> claims = Map.of("realm_access", Map.of("roles", List.of("userC")));
+
+        assertThat(extractor.extract(claims)).containsExactly(IamRole.USER_C);
+    }
+
+    @Test
+    @DisplayName("설정하지 않은 클레임은 이름에 roles가 있어도 무시")
+    void extract_unconfiguredClaim_ignored() {
+        Map<String, Object> claims = Map.of("custom_roles", List.of("admin"));
+
+        assertThat(extractor.extract(claims)).isEmpty();
+    }
+}
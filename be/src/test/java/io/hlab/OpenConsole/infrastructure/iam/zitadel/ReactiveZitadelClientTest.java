@@ -0,0 +1,280 @@
+package io.hlab.OpenConsole.infrastructure.iam.zitadel;
+
+import io.hlab.OpenConsole.domain.iam.UserRoleProjection;
+import io.hlab.OpenConsole.domain.iam.UserRoleProjectionRepository;
+import io.hlab.OpenConsole.infrastructure.iam.IamException;
+import io.hlab.OpenConsole.infrastructure.iam.IamRole;
+import io.hlab.OpenConsole.infrastructure.iam.IamUnavailableException;
+import io.hlab.OpenConsole.infrastructure.iam.zitadel.client.ZitadelAuthExecutor;
+import io.hlab.OpenConsole.infrastructure.iam.zitadel.client.ZitadelUserExecutor;
+import io.hlab.OpenConsole.infrastructure.iam.zitadel.client.ZitadelUserProjections;
+import io.hlab.OpenConsole.infrastructure.iam.zitadel.dto.ZitadelAuthorizationDto;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.beans.factory.support.StaticListableBeanFactory;
+import org.springframework.http.HttpHeaders;
+import org.springframework.web.reactive.function.client.WebClientResponseException;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.*;
+
+/**
+ * ReactiveZitadelClient 테스트
+ * Executor를 Mock하여 grant 스냅샷 캐시/프로젝션 사용 시 ListAuthorizations 호출 횟수를 검증
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("ReactiveZitadelClient 테스트")
+class ReactiveZitadelClientTest {
+
+    @Mock
+    private ZitadelAuthExecutor authExecutor;
+
+    @Mock
+    private ZitadelUserExecutor userExecutor;
+
+    @Mock
+    private UserRoleProjectionRepository userRoleProjectionRepository;
+
+    private ZitadelGrantCache grantCache;
+    private ReactiveZitadelClient client;
+
+    private static final String TEST_SUBJECT = "test-subject-id";
+    private static final String TEST_GRANT_ID = "test-grant-id";
+
+    @BeforeEach
+    void setUp() {
+        StaticListableBeanFactory beanFactory = new StaticListableBeanFactory();
+        ZitadelSubjectCache subjectCache = new ZitadelSubjectCache(
+                Duration.ofMinutes(10), Duration.ofSeconds(30), 100, beanFactory.getBeanProvider(MeterRegistry.class));
+        grantCache = new ZitadelGrantCache(Duration.ofMinutes(1), 100, beanFactory.getBeanProvider(MeterRegistry.class));
+        ZitadelGrantProjection grantProjection = new ZitadelGrantProjection(
+                userRoleProjectionRepository, authExecutor, grantCache, true, Duration.ofMinutes(5), 100, 4);
+        client = new ReactiveZitadelClient(authExecutor, userExecutor, subjectCache, grantCache, grantProjection);
+    }
+
+    private static ZitadelAuthorizationDto.ListResponse listResponse(String grantId, List<String> roleKeys) {
+        return new ZitadelAuthorizationDto.ListResponse(null, List.of(
+                new ZitadelAuthorizationDto.ListResponse.Authorization(
+                        grantId, TEST_SUBJECT, null, null, roleKeys, null, null, null)));
+    }
+
+    private static IamException conflict() {
+        return new IamException("Authorization 생성 실패",
+                WebClientResponseException.create(409, "Conflict", HttpHeaders.EMPTY, new byte[0], null));
+    }
+
+    @Test
+    @DisplayName("Role 제거 시 ListAuthorizations는 1회만 호출")
+    void removeRole_listsOnce() {
+        // Given
+        when(authExecutor.listAuthorizations(TEST_SUBJECT))
+                .thenReturn(Mono.just(listResponse(TEST_GRANT_ID, List.of("admin", "userA"))));
+        when(authExecutor.updateAuthorization(TEST_GRANT_ID, List.of("userA")))
+                .thenReturn(Mono.just(new ZitadelAuthorizationDto.UpdateResponse(null)));
+
+        // When & Then
+        StepVerifier.create(client.removeRole(TEST_SUBJECT, IamRole.ADMIN))
+                .verifyComplete();
+        verify(authExecutor, times(1)).listAuthorizations(TEST_SUBJECT);
+    }
+
+    @Test
+    @DisplayName("grant가 있으면 현재 roleKeys와 병합하여 업데이트 (생성 시도 없음)")
+    void assignRoles_existingGrant_merges() {
+        // Given
+        when(authExecutor.listAuthorizations(TEST_SUBJECT))
+                .thenReturn(Mono.just(listResponse(TEST_GRANT_ID, List.of("userA"))));
+        when(authExecutor.updateAuthorization(TEST_GRANT_ID, List.of("userA", "userB")))
+                .thenReturn(Mono.just(new ZitadelAuthorizationDto.UpdateResponse(null)));
+
+        // When & Then
+        StepVerifier.create(client.assignRoles(TEST_SUBJECT, List.of(IamRole.USER_B)))
+                .verifyComplete();
+        verify(authExecutor, times(1)).listAuthorizations(TEST_SUBJECT);
+        verify(authExecutor, never()).createAuthorization(anyString(), anyList());
+    }
+
+    @Test
+    @DisplayName("조회 후 다른 요청이 grant를 먼저 만들어 409 Conflict면 다시 조회하여 병합")
+    void assignRoles_conflict_reloadsAndMerges() {
+        // Given
+        when(authExecutor.listAuthorizations(TEST_SUBJECT))
+                .thenReturn(Mono.empty(), Mono.just(listResponse(TEST_GRANT_ID, List.of("userA"))));
+        when(authExecutor.createAuthorization(TEST_SUBJECT, List.of("userB")))
+                .thenReturn(Mono.error(conflict()));
+        when(authExecutor.updateAuthorization(TEST_GRANT_ID, List.of("userA", "userB")))
+                .thenReturn(Mono.just(new ZitadelAuthorizationDto.UpdateResponse(null)));
+
+        // When & Then
+        StepVerifier.create(client.assignRoles(TEST_SUBJECT, List.of(IamRole.USER_B)))
+                .verifyComplete();
+        verify(authExecutor, times(2)).listAuthorizations(TEST_SUBJECT);
+    }
+
+    @Test
+    @DisplayName("변경은 캐시와 관계없이 현재 grant를 다시 읽고, 조회는 write-through된 스냅샷으로 응답")
+    void mutations_reloadGrant_readsUseSnapshot() {
+        // Given: 첫 조회로 스냅샷 적재, 그 사이 콘솔에서 userC가 추가됨
+        when(authExecutor.listAuthorizations(TEST_SUBJECT))
+                .thenReturn(
+                        Mono.just(listResponse(TEST_GRANT_ID, List.of("userA"))),
+                        Mono.just(listResponse(TEST_GRANT_ID, List.of("userA", "userC"))),
+                        Mono.just(listResponse(TEST_GRANT_ID, List.of("userA", "userC", "userB"))));
+        when(authExecutor.updateAuthorization(anyString(), anyList()))
+                .thenReturn(Mono.just(new ZitadelAuthorizationDto.UpdateResponse(null)));
+        StepVerifier.create(client.getUserRoles(TEST_SUBJECT))
+                .expectNext(List.of(IamRole.USER_A))
+                .verifyComplete();
+
+        // When: 부여 → 제거 → 조회
+        StepVerifier.create(client.assignRoles(TEST_SUBJECT, List.of(IamRole.USER_B)))
+                .verifyComplete();
+        StepVerifier.create(client.removeRole(TEST_SUBJECT, IamRole.USER_A))
+                .verifyComplete();
+
+        // Then: 외부에서 추가된 userC를 덮어쓰지 않고, 마지막 조회는 ListAuthorizations 없이 응답
+        StepVerifier.create(client.getUserRoles(TEST_SUBJECT))
+                .expectNext(List.of(IamRole.USER_C, IamRole.USER_B))
+                .verifyComplete();
+        verify(authExecutor, times(3)).listAuthorizations(TEST_SUBJECT);
+        verify(authExecutor, never()).createAuthorization(anyString(), anyList());
+        verify(authExecutor).updateAuthorization(TEST_GRANT_ID, List.of("userA", "userC", "userB"));
+        verify(authExecutor).updateAuthorization(TEST_GRANT_ID, List.of("userC", "userB"));
+    }
+
+    @Test
+    @DisplayName("변경 실패 시 스냅샷 무효화")
+    void mutationFailure_invalidatesSnapshot() {
+        // Given
+        when(authExecutor.listAuthorizations(TEST_SUBJECT))
+                .thenReturn(Mono.just(listResponse(TEST_GRANT_ID, List.of("userA"))));
+        when(authExecutor.updateAuthorization(anyString(), anyList()))
+                .thenReturn(Mono.error(new IamException("Authorization 업데이트 실패")));
+
+        // When & Then
+        StepVerifier.create(client.removeRole(TEST_SUBJECT, IamRole.USER_A))
+                .expectError(IamException.class)
+                .verify();
+        StepVerifier.create(client.getUserRoles(TEST_SUBJECT))
+                .expectNext(List.of(IamRole.USER_A))
+                .verifyComplete();
+        verify(authExecutor, times(2)).listAuthorizations(TEST_SUBJECT);
+    }
+
+    @Test
+    @DisplayName("fresh한 프로젝션이 있으면 ListAuthorizations 없이 role 조회")
+    void freshProjection_noListCall() {
+        // Given
+        UserRoleProjection row = projection(List.of("userA"), LocalDateTime.now(ZoneOffset.UTC));
+        when(userRoleProjectionRepository.findBySubject(TEST_SUBJECT)).thenReturn(Optional.of(row));
+
+        // When & Then
+        StepVerifier.create(client.getUserRoles(TEST_SUBJECT))
+                .expectNext(List.of(IamRole.USER_A))
+                .verifyComplete();
+        verify(authExecutor, never()).listAuthorizations(anyString());
+    }
+
+    @Test
+    @DisplayName("IAM 장애 시 오래된 프로젝션으로 응답하고, 프로젝션이 없으면 에러 전파")
+    void iamUnavailable_fallsBackToStaleProjection() {
+        // Given: 한 시간 전에 확인된 프로젝션
+        UserRoleProjection row = projection(List.of("admin"), LocalDateTime.now(ZoneOffset.UTC).minusHours(1));
+        when(userRoleProjectionRepository.findBySubject(TEST_SUBJECT)).thenReturn(Optional.of(row));
+        when(userRoleProjectionRepository.findBySubject("unknown-subject")).thenReturn(Optional.empty());
+        when(authExecutor.listAuthorizations(anyString()))
+                .thenReturn(Mono.error(new IamUnavailableException("Circuit breaker open")));
+
+        // When & Then
+        StepVerifier.create(client.getUserRoles(TEST_SUBJECT))
+                .expectNext(List.of(IamRole.ADMIN))
+                .verifyComplete();
+        StepVerifier.create(client.getUserRoles("unknown-subject"))
+                .expectError(IamUnavailableException.class)
+                .verify();
+    }
+
+    @Test
+    @DisplayName("조회/변경 결과를 프로젝션에 write-through")
+    void writeThrough_savesProjection() {
+        // Given
+        when(authExecutor.listAuthorizations(TEST_SUBJECT)).thenReturn(Mono.empty());
+        when(authExecutor.createAuthorization(TEST_SUBJECT, List.of("admin")))
+                .thenReturn(Mono.just(new ZitadelAuthorizationDto.CreateResponse(TEST_GRANT_ID, null)));
+        when(userRoleProjectionRepository.saveIfVersion(eq(TEST_SUBJECT), eq(TEST_GRANT_ID), eq(List.of("admin")), any(), isNull()))
+                .thenReturn(true);
+
+        // When & Then
+        StepVerifier.create(client.assignRole(TEST_SUBJECT, IamRole.ADMIN))
+                .verifyComplete();
+        verify(userRoleProjectionRepository, never()).markStale(anyString());
+    }
+
+    @Test
+    @DisplayName("IAM 조회 중 다른 쓰기로 version이 바뀌면 덮어쓰지 않고 stale로 표시")
+    void writeThrough_versionChanged_marksStale() {
+        // Given: 조회 전 version 3, 조회 결과를 저장하려는 시점에는 다른 쓰기가 있었음
+        UserRoleProjection row = projection(List.of("userA"), LocalDateTime.now(ZoneOffset.UTC).minusHours(1));
+        when(row.getVersion()).thenReturn(3L);
+        when(userRoleProjectionRepository.findBySubject(TEST_SUBJECT)).thenReturn(Optional.of(row));
+        when(authExecutor.listAuthorizations(TEST_SUBJECT))
+                .thenReturn(Mono.just(listResponse(TEST_GRANT_ID, List.of("userA"))));
+        when(userRoleProjectionRepository.saveIfVersion(eq(TEST_SUBJECT), eq(TEST_GRANT_ID), eq(List.of("userA")), any(), eq(3L)))
+                .thenReturn(false);
+
+        // When & Then
+        StepVerifier.create(client.getUserRoles(TEST_SUBJECT))
+                .expectNext(List.of(IamRole.USER_A))
+                .verifyComplete();
+        verify(userRoleProjectionRepository).markStale(TEST_SUBJECT);
+    }
+
+    private static UserRoleProjection projection(List<String> roleKeys, LocalDateTime syncedAt) {
+        UserRoleProjection row = mock(UserRoleProjection.class);
+        lenient().when(row.getGrantId()).thenReturn(TEST_GRANT_ID);
+        lenient().when(row.getRoleKeyList()).thenReturn(roleKeys);
+        lenient().when(row.getSyncedAt()).thenReturn(syncedAt);
+        return row;
+    }
+
+    @Test
+    @DisplayName("여러 email의 subject를 한 번의 검색으로 조회하고 없는 email은 결과에서 제외")
+    void getUserSubjectsByEmails_batchedLookup() {
+        // Given
+        when(userExecutor.findUsersByEmails(List.of("a@example.com", "B@example.com", "c@example.com")))
+                .thenReturn(Mono.just(List.of(user("subject-a", "a@example.com"), user("subject-b", "b@example.com"))));
+
+        // When & Then
+        StepVerifier.create(client.getUserSubjectsByEmails(List.of("a@example.com", "B@example.com", "c@example.com")))
+                .expectNext(Map.of("a@example.com", "subject-a", "B@example.com", "subject-b"))
+                .verifyComplete();
+
+        // 두 번째 조회는 캐시(음성 캐시 포함)로 응답
+        StepVerifier.create(client.getUserSubjectsByEmails(List.of("a@example.com", "c@example.com")))
+                .expectNext(Map.of("a@example.com", "subject-a"))
+                .verifyComplete();
+        verify(userExecutor, times(1)).findUsersByEmails(anyList());
+    }
+
+    private static ZitadelUserProjections.UserRef user(String subject, String email) {
+        return new ZitadelUserProjections.UserRef(subject, email);
+    }
+}
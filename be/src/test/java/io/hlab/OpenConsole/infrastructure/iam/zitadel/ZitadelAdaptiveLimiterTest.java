@@ -0,0 +1,174 @@
+package io.hlab.OpenConsole.infrastructure.iam.zitadel;
+
+import io.hlab.OpenConsole.infrastructure.iam.IamRequestPriority;
+import io.hlab.OpenConsole.infrastructure.iam.IamUnavailableException;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.support.StaticListableBeanFactory;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.HttpStatusCode;
+import org.springframework.web.reactive.function.client.ClientRequest;
+import org.springframework.web.reactive.function.client.ClientResponse;
+import org.springframework.web.reactive.function.client.ExchangeFunction;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.Sinks;
+import reactor.test.StepVerifier;
+
+import java.net.URI;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.TimeoutException;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * ZitadelAdaptiveLimiter 단위 테스트
+ * 429 응답/타임아웃 취소에 따른 한도 감소, 대기열 처리 순서(대화형 우선), 대기 시간 초과 거절을 검증
+ *
+ * <p>한도는 응답 본문 수신이 끝날 때 반환되므로 응답을 받은 요청은 본문을 해제합니다 ({@link #consume}).
+ */
+@DisplayName("ZitadelAdaptiveLimiter 테스트")
+class ZitadelAdaptiveLimiterTest {
+
+    private static final ClientRequest REQUEST = ClientRequest.create(HttpMethod.GET, URI.create("http://zitadel/v2/users/1")).build();
+
+    private static ZitadelAdaptiveLimiter limiter(int initialLimit, Duration maxWait) {
+        return limiter(initialLimit, maxWait, Duration.ofSeconds(2));
+    }
+
+    private static ZitadelAdaptiveLimiter limiter(int initialLimit, Duration maxWait, Duration latencyThreshold) {
+        return new ZitadelAdaptiveLimiter(
+                new StaticListableBeanFactory().getBeanProvider(MeterRegistry.class),
+                true,
+                initialLimit,
+                1,
+                100,
+                0.5,
+                latencyThreshold,
+                1.0,
+                maxWait,
+                10,
+                maxWait,
+                10);
+    }
+
+    private static ExchangeFunction respond(HttpStatus status) {
+        return request -> Mono.just(ClientResponse.create(status).build());
+    }
+
+    private static Mono<HttpStatusCode> consume(Mono<ClientResponse> response) {
+        return response.flatMap(r -> r.releaseBody().thenReturn(r.statusCode()));
+    }
+
+    @Test
+    @DisplayName("429 응답을 받으면 한도를 줄임")
+    void filter_tooManyRequests_decreasesLimit() {
+        ZitadelAdaptiveLimiter limiter = limiter(10, Duration.ofMillis(100));
+
+        StepVerifier.create(consume(limiter.filter(REQUEST, respond(HttpStatus.TOO_MANY_REQUESTS))))
+                .expectNextCount(1)
+                .verifyComplete();
+
+        assertThat(limiter.getLimit()).isEqualTo(5.0);
+        assertThat(limiter.getInFlight()).isZero();
+    }
+
+    @Test
+    @DisplayName("4xx(429 제외) 응답은 한도를 줄이지 않음")
+    void filter_notFound_keepsLimit() {
+        ZitadelAdaptiveLimiter limiter = limiter(10, Duration.ofMillis(100));
+
+        StepVerifier.create(consume(limiter.filter(REQUEST, respond(HttpStatus.NOT_FOUND))))
+                .expectNextCount(1)
+                .verifyComplete();
+
+        assertThat(limiter.getLimit()).isGreaterThanOrEqualTo(10.0);
+    }
+
+    @Test
+    @DisplayName("한도를 넘는 요청은 대기하다가 자리가 나면 대화형 요청부터 처리")
+    void filter_queued_interactiveFirst() {
+        ZitadelAdaptiveLimiter limiter = limiter(1, Duration.ofSeconds(5));
+        Sinks.One<ClientResponse> first = Sinks.one();
+        List<String> order = new CopyOnWriteArrayList<>();
+
+        consume(limiter.filter(REQUEST, request -> first.asMono())).subscribe();
+        consume(limiter.filter(REQUEST, respond(HttpStatus.OK)))
+                .doOnNext(status -> order.add("bulk"))
+                .contextWrite(IamRequestPriority.bulk())
+                .subscribe();
+        consume(limiter.filter(REQUEST, respond(HttpStatus.OK)))
+                .doOnNext(status -> order.add("interactive"))
+                .subscribe();
+
+        assertThat(limiter.getQueueSize(IamRequestPriority.BULK)).isEqualTo(1);
+        assertThat(limiter.getQueueSize(IamRequestPriority.INTERACTIVE)).isEqualTo(1);
+
+        first.tryEmitValue(ClientResponse.create(HttpStatus.OK).build());
+
+        assertThat(order).containsExactly("interactive", "bulk");
+        assertThat(limiter.getInFlight()).isZero();
+    }
+
+    @Test
+    @DisplayName("대기 시간을 넘기면 ZitadelLimiterRejectedException(IamUnavailableException)으로 거절")
+    void filter_waitTimeout_rejected() {
+        ZitadelAdaptiveLimiter limiter = limiter(1, Duration.ofMillis(50));
+        Sinks.One<ClientResponse> first = Sinks.one();
+        consume(limiter.filter(REQUEST, request -> first.asMono())).subscribe();
+
+        StepVerifier.create(limiter.filter(REQUEST, respond(HttpStatus.OK)))
+                .expectErrorSatisfies(e -> assertThat(e)
+                        .isInstanceOf(ZitadelLimiterRejectedException.class)
+                        .isInstanceOf(IamUnavailableException.class))
+                .verify(Duration.ofSeconds(1));
+
+        assertThat(limiter.getQueueSize(IamRequestPriority.INTERACTIVE)).isZero();
+        first.tryEmitValue(ClientResponse.create(HttpStatus.OK).build());
+        assertThat(limiter.getInFlight()).isZero();
+    }
+
+    @Test
+    @DisplayName("응답 본문을 받기 전까지는 한도를 반환하지 않음")
+    void filter_holdsPermitUntilBodyConsumed() {
+        ZitadelAdaptiveLimiter limiter = limiter(10, Duration.ofMillis(100));
+        List<ClientResponse> responses = new CopyOnWriteArrayList<>();
+
+        limiter.filter(REQUEST, respond(HttpStatus.OK)).subscribe(responses::add);
+        assertThat(limiter.getInFlight()).isEqualTo(1);
+
+        responses.get(0).releaseBody().block(Duration.ofSeconds(1));
+        assertThat(limiter.getInFlight()).isZero();
+    }
+
+    @Test
+    @DisplayName("latency-threshold가 지난 뒤 타임아웃으로 취소되면 한도를 줄임")
+    void filter_timeoutCancel_decreasesLimit() {
+        ZitadelAdaptiveLimiter limiter = limiter(10, Duration.ofMillis(100), Duration.ofMillis(20));
+
+        // TimeLimiter처럼 기한이 지나면 구독을 취소하고 TimeoutException으로 끝냄
+        StepVerifier.create(limiter.filter(REQUEST, request -> Mono.never())
+                        .timeout(Duration.ofMillis(50)))
+                .expectError(TimeoutException.class)
+                .verify(Duration.ofSeconds(1));
+
+        assertThat(limiter.getLimit()).isEqualTo(5.0);
+        assertThat(limiter.getInFlight()).isZero();
+    }
+
+    @Test
+    @DisplayName("latency-threshold 전에 취소되면 한도를 바꾸지 않음")
+    void filter_earlyCancel_keepsLimit() {
+        ZitadelAdaptiveLimiter limiter = limiter(10, Duration.ofMillis(100), Duration.ofSeconds(2));
+
+        StepVerifier.create(limiter.filter(REQUEST, request -> Mono.never()))
+                .thenCancel()
+                .verify(Duration.ofSeconds(1));
+
+        assertThat(limiter.getLimit()).isEqualTo(10.0);
+        assertThat(limiter.getInFlight()).isZero();
+    }
+}
@@ -0,0 +1,119 @@
+package io.hlab.OpenConsole.infrastructure.iam.zitadel;
+
+import io.hlab.OpenConsole.infrastructure.iam.IamException;
+import io.hlab.OpenConsole.infrastructure.iam.IamUnavailableException;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.support.StaticListableBeanFactory;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.web.reactive.function.client.ClientResponse;
+import org.springframework.web.reactive.function.client.WebClient;
+import org.springframework.web.reactive.function.client.WebClientResponseException;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.Sinks;
+import reactor.test.StepVerifier;
+
+import java.time.Duration;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * ZitadelMetrics 단위 테스트
+ * 작업별 timer 태그(operation/outcome/status), 진행 중 gauge, 응답 크기 기록을 검증
+ */
+@DisplayName("ZitadelMetrics 테스트")
+class ZitadelMetricsTest {
+
+    private static final String BODY = "{\"result\":[]}";
+
+    private MeterRegistry registry;
+    private ZitadelMetrics metrics;
+
+    @BeforeEach
+    void setUp() {
+        registry = new SimpleMeterRegistry();
+        StaticListableBeanFactory beanFactory = new StaticListableBeanFactory();
+        beanFactory.addBean("meterRegistry", registry);
+        metrics = new ZitadelMetrics(beanFactory.getBeanProvider(MeterRegistry.class), true, true,
+                List.of(Duration.ofMillis(100)));
+    }
+
+    private WebClient webClient(HttpStatus status) {
+        return WebClient.builder()
+                .exchangeFunction(request -> Mono.just(ClientResponse.create(status)
+                        .header(HttpHeaders.CONTENT_TYPE, MediaType.APPLICATION_JSON_VALUE)
+                        .body(BODY)
+                        .build()))
+                .filter(metrics)
+                .build();
+    }
+
+    private Timer timer(String outcome, String status) {
+        return registry.find("zitadel.client.requests")
+                .tags("operation", ZitadelOperation.LIST_USERS.getInstanceName(), "outcome", outcome, "status", status)
+                .timer();
+    }
+
+    @Test
+    @DisplayName("성공한 호출은 SUCCESS와 HTTP 상태, 응답 크기를 기록")
+    void record_success_recordsTimerAndResponseSize() {
+        Mono<String> call = webClient(HttpStatus.OK).get().uri("http://zitadel/v2/users").retrieve().bodyToMono(String.class);
+
+        StepVerifier.create(metrics.record(ZitadelOperation.LIST_USERS, call)).expectNext(BODY).verifyComplete();
+
+        assertThat(timer("SUCCESS", "200")).isNotNull();
+        assertThat(timer("SUCCESS", "200").count()).isEqualTo(1);
+        assertThat(registry.find("zitadel.client.response.size")
+                .tag("operation", ZitadelOperation.LIST_USERS.getInstanceName())
+                .summary().totalAmount()).isEqualTo(BODY.length());
+    }
+
+    @Test
+    @DisplayName("4xx로 실패한 호출은 CLIENT_ERROR와 응답 상태를 기록")
+    void record_clientError_recordsStatus() {
+        Mono<String> call = webClient(HttpStatus.NOT_FOUND).get().uri("http://zitadel/v2/users").retrieve()
+                .bodyToMono(String.class)
+                .onErrorMap(WebClientResponseException.class, e -> new IamException("조회 실패", e));
+
+        StepVerifier.create(metrics.record(ZitadelOperation.LIST_USERS, call))
+                .expectError(IamException.class)
+                .verify();
+
+        assertThat(timer("CLIENT_ERROR", "404").count()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("응답을 받지 못한 실패는 UNAVAILABLE, status=NONE")
+    void record_unavailable_recordsNoneStatus() {
+        Mono<String> call = Mono.error(new IamUnavailableException("Zitadel 응답 시간 초과"));
+
+        StepVerifier.create(metrics.record(ZitadelOperation.LIST_USERS, call))
+                .expectError(IamUnavailableException.class)
+                .verify();
+
+        assertThat(timer("UNAVAILABLE", "NONE").count()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("진행 중인 호출 수를 gauge로 노출")
+    void record_inFlight_exposesActiveGauge() {
+        Sinks.One<String> response = Sinks.one();
+        Mono<String> recorded = metrics.record(ZitadelOperation.LIST_USERS, response.asMono());
+        var active = registry.find("zitadel.client.requests.active")
+                .tag("operation", ZitadelOperation.LIST_USERS.getInstanceName())
+                .gauge();
+
+        recorded.subscribe();
+        assertThat(active.value()).isEqualTo(1);
+
+        response.tryEmitValue("done");
+        assertThat(active.value()).isZero();
+    }
+}
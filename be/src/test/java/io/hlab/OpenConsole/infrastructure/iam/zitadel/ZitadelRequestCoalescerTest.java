@@ -0,0 +1,112 @@
+package io.hlab.OpenConsole.infrastructure.iam.zitadel;
+
+import io.hlab.OpenConsole.infrastructure.iam.IamException;
+import io.hlab.OpenConsole.infrastructure.iam.IamRequestPriority;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.support.StaticListableBeanFactory;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.Sinks;
+import reactor.test.StepVerifier;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * ZitadelRequestCoalescer 단위 테스트
+ * 진행 중인 같은 키의 요청은 한 번만 호출되고 결과가 공유되는지 검증
+ */
+@DisplayName("ZitadelRequestCoalescer 테스트")
+class ZitadelRequestCoalescerTest {
+
+    private ZitadelRequestCoalescer coalescer;
+    private AtomicInteger calls;
+    private Sinks.One<String> response;
+
+    @BeforeEach
+    void setUp() {
+        coalescer = new ZitadelRequestCoalescer(new StaticListableBeanFactory().getBeanProvider(MeterRegistry.class));
+        calls = new AtomicInteger();
+        response = Sinks.one();
+    }
+
+    private Supplier<Mono<String>> call() {
+        return () -> {
+            calls.incrementAndGet();
+            return response.asMono();
+        };
+    }
+
+    @Test
+    @DisplayName("진행 중인 같은 키의 요청은 결과를 공유")
+    void execute_sameKey_coalesces() {
+        Mono<String> first = coalescer.execute("getUserByID", "user-1", call());
+        Mono<String> second = coalescer.execute("getUserByID", "user-1", call());
+
+        StepVerifier.create(Mono.zip(first, second))
+                .then(() -> response.tryEmitValue("result"))
+                .assertNext(results -> {
+                    assertThat(results.getT1()).isEqualTo("result");
+                    assertThat(results.getT2()).isEqualTo("result");
+                })
+                .verifyComplete();
+
+        assertThat(calls.get()).isEqualTo(1);
+        assertThat(coalescer.coalescingRatio("getUserByID")).isEqualTo(0.5);
+    }
+
+    @Test
+    @DisplayName("다른 키나 완료 이후의 요청은 새로 호출")
+    void execute_differentKeyOrCompleted_callsAgain() {
+        StepVerifier.create(Mono.zip(
+                        coalescer.execute("getUserByID", "user-1", call()),
+                        coalescer.execute("getUserByID", "user-2", call())))
+                .then(() -> response.tryEmitValue("result"))
+                .expectNextCount(1)
+                .verifyComplete();
+
+        StepVerifier.create(coalescer.execute("getUserByID", "user-1", call()))
+                .expectNext("result")
+                .verifyComplete();
+
+        assertThat(calls.get()).isEqualTo(3);
+    }
+
+    @Test
+    @DisplayName("우선순위가 다르면 진행 중인 요청에 합류하지 않음")
+    void execute_differentPriority_callsSeparately() {
+        Mono<String> bulk = coalescer.execute("getUserByID", "user-1", call())
+                .contextWrite(IamRequestPriority.bulk());
+        Mono<String> interactive = coalescer.execute("getUserByID", "user-1", call());
+
+        StepVerifier.create(Mono.zip(bulk, interactive))
+                .then(() -> response.tryEmitValue("result"))
+                .expectNextCount(1)
+                .verifyComplete();
+
+        assertThat(calls.get()).isEqualTo(2);
+        assertThat(coalescer.coalescingRatio("getUserByID")).isZero();
+    }
+
+    @Test
+    @DisplayName("에러도 대기 중인 모든 요청에 전달되며 캐시되지 않음")
+    void execute_error_sharedButNotCached() {
+        Mono<String> first = coalescer.execute("findUserByEmail", "test@example.com", call());
+        Mono<String> second = coalescer.execute("findUserByEmail", "test@example.com", call());
+
+        StepVerifier.create(Mono.zipDelayError(first.onErrorReturn("failed"), second.onErrorReturn("failed")))
+                .then(() -> response.tryEmitError(new IamException("사용자 목록 조회 실패")))
+                .assertNext(results -> {
+                    assertThat(results.getT1()).isEqualTo("failed");
+                    assertThat(results.getT2()).isEqualTo("failed");
+                })
+                .verifyComplete();
+
+        coalescer.execute("findUserByEmail", "test@example.com", call()).subscribe(value -> {}, error -> {});
+        assertThat(calls.get()).isEqualTo(2);
+    }
+}
@@ -0,0 +1,122 @@
+package io.hlab.OpenConsole.infrastructure.iam.zitadel;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.support.StaticListableBeanFactory;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+import java.time.Duration;
+import java.util.EnumSet;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * ZitadelRequestHedger 단위 테스트
+ * 지연된 조회만 헤징되고, 예산과 멱등성 제한을 지키는지 검증
+ */
+@DisplayName("ZitadelRequestHedger 테스트")
+class ZitadelRequestHedgerTest {
+
+    private static final Duration HEDGE_DELAY = Duration.ofMillis(50);
+
+    private AtomicInteger calls;
+
+    @BeforeEach
+    void setUp() {
+        calls = new AtomicInteger();
+    }
+
+    private static ZitadelRequestHedger hedger(double budgetRatio, ZitadelOperation... operations) {
+        return new ZitadelRequestHedger(
+                new StaticListableBeanFactory().getBeanProvider(MeterRegistry.class),
+                true,
+                EnumSet.of(operations[0], operations),
+                0.95,
+                HEDGE_DELAY,
+                Duration.ofMillis(10),
+                Duration.ofSeconds(1),
+                budgetRatio,
+                10,
+                100,
+                10);
+    }
+
+    /**
+     * 첫 요청은 느리게(slow 후 응답), 이후 요청은 즉시 응답
+     */
+    private Supplier<Mono<String>> slowThenFast(Duration slow) {
+        return () -> calls.incrementAndGet() == 1
+                ? Mono.delay(slow).thenReturn("primary")
+                : Mono.just("hedge");
+    }
+
+    @Test
+    @DisplayName("응답이 지연 기준을 넘으면 헤지 요청을 보내고 먼저 온 응답을 사용")
+    void hedge_slowPrimary_hedgeWins() {
+        ZitadelRequestHedger hedger = hedger(1.0, ZitadelOperation.GET_USER_BY_ID);
+
+        StepVerifier.create(hedger.hedge(ZitadelOperation.GET_USER_BY_ID, slowThenFast(Duration.ofSeconds(2))))
+                .expectNext("hedge")
+                .expectComplete()
+                .verify(Duration.ofSeconds(1));
+
+        assertThat(calls).hasValue(2);
+    }
+
+    @Test
+    @DisplayName("지연 기준 안에 응답하면 헤지 요청을 보내지 않음")
+    void hedge_fastPrimary_noHedge() {
+        ZitadelRequestHedger hedger = hedger(1.0, ZitadelOperation.GET_USER_BY_ID);
+
+        StepVerifier.create(hedger.hedge(ZitadelOperation.GET_USER_BY_ID, () -> {
+                    calls.incrementAndGet();
+                    return Mono.just("primary");
+                }))
+                .expectNext("primary")
+                .verifyComplete();
+
+        assertThat(calls).hasValue(1);
+    }
+
+    @Test
+    @DisplayName("예산이 없으면 헤징하지 않고 원 요청을 기다림")
+    void hedge_budgetExhausted_waitsForPrimary() {
+        ZitadelRequestHedger hedger = hedger(0.0, ZitadelOperation.GET_USER_BY_ID);
+
+        StepVerifier.create(hedger.hedge(ZitadelOperation.GET_USER_BY_ID, slowThenFast(Duration.ofMillis(200))))
+                .expectNext("primary")
+                .verifyComplete();
+
+        assertThat(calls).hasValue(1);
+    }
+
+    @Test
+    @DisplayName("멱등이 아닌 작업은 설정에 포함되어도 헤징하지 않음")
+    void hedge_mutation_neverHedged() {
+        ZitadelRequestHedger hedger = hedger(1.0, ZitadelOperation.GET_USER_BY_ID, ZitadelOperation.CREATE_AUTHORIZATION);
+
+        StepVerifier.create(hedger.hedge(ZitadelOperation.CREATE_AUTHORIZATION, slowThenFast(Duration.ofMillis(200))))
+                .expectNext("primary")
+                .verifyComplete();
+
+        assertThat(calls).hasValue(1);
+    }
+
+    @Test
+    @DisplayName("지연 기준은 최근 응답 시간의 백분위수를 따름")
+    void latencyWindow_percentile() {
+        ZitadelRequestHedger.LatencyWindow window = new ZitadelRequestHedger.LatencyWindow(100, 10, 0.9);
+        assertThat(window.percentileNanos()).isEqualTo(-1);
+
+        for (int i = 1; i <= 10; i++) {
+            window.record(i * 1_000_000L);
+        }
+
+        assertThat(window.percentileNanos()).isEqualTo(9_000_000L);
+    }
+}
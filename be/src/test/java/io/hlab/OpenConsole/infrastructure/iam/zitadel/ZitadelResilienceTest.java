@@ -0,0 +1,155 @@
+package io.hlab.OpenConsole.infrastructure.iam.zitadel;
+
+import io.github.resilience4j.bulkhead.BulkheadConfig;
+import io.github.resilience4j.bulkhead.BulkheadRegistry;
+import io.github.resilience4j.circuitbreaker.CallNotPermittedException;
+import io.github.resilience4j.circuitbreaker.CircuitBreaker;
+import io.github.resilience4j.circuitbreaker.CircuitBreakerConfig;
+import io.github.resilience4j.circuitbreaker.CircuitBreakerRegistry;
+import io.github.resilience4j.retry.RetryConfig;
+import io.github.resilience4j.retry.RetryRegistry;
+import io.github.resilience4j.timelimiter.TimeLimiterConfig;
+import io.github.resilience4j.timelimiter.TimeLimiterRegistry;
+import io.hlab.OpenConsole.infrastructure.iam.IamException;
+import io.hlab.OpenConsole.infrastructure.iam.IamUnavailableException;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.support.StaticListableBeanFactory;
+import org.springframework.http.HttpHeaders;
+import org.springframework.web.reactive.function.client.WebClientResponseException;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.Sinks;
+import reactor.test.StepVerifier;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * ZitadelResilience 단위 테스트
+ * 조회만 재시도되는지, 복원력 계층의 실패가 IamUnavailableException으로 변환되는지 검증
+ */
+@DisplayName("ZitadelResilience 테스트")
+class ZitadelResilienceTest {
+
+    private ZitadelResilience resilience;
+    private AtomicInteger attempts;
+
+    @BeforeEach
+    void setUp() {
+        ZitadelTransientFailurePredicate transientFailure = new ZitadelTransientFailurePredicate();
+        resilience = new ZitadelResilience(
+                CircuitBreakerRegistry.of(CircuitBreakerConfig.custom()
+                        .slidingWindowSize(4)
+                        .minimumNumberOfCalls(4)
+                        .failureRateThreshold(50)
+                        .recordException(transientFailure)
+                        .build()),
+                BulkheadRegistry.of(BulkheadConfig.custom()
+                        .maxConcurrentCalls(1)
+                        .maxWaitDuration(Duration.ZERO)
+                        .build()),
+                TimeLimiterRegistry.of(TimeLimiterConfig.custom()
+                        .timeoutDuration(Duration.ofMillis(200))
+                        .build()),
+                RetryRegistry.of(RetryConfig.custom()
+                        .maxAttempts(3)
+                        .waitDuration(Duration.ofMillis(10))
+                        .retryOnException(transientFailure)
+                        .build()),
+                new ZitadelMetrics(new StaticListableBeanFactory().getBeanProvider(MeterRegistry.class),
+                        false, false, List.of()));
+        attempts = new AtomicInteger();
+    }
+
+    private static IamException iamError(int status) {
+        WebClientResponseException cause = WebClientResponseException.create(
+                status, "error", HttpHeaders.EMPTY, new byte[0], null);
+        return new IamException("Zitadel 호출 실패", cause);
+    }
+
+    /**
+     * failures번 실패한 뒤 성공하는 호출
+     */
+    private Mono<String> failingCall(int failures, int status) {
+        return Mono.defer(() -> attempts.incrementAndGet() <= failures
+                ? Mono.error(iamError(status))
+                : Mono.just("ok"));
+    }
+
+    @Test
+    @DisplayName("조회 작업은 일시적인 실패를 재시도")
+    void decorate_read_retriesTransientFailure() {
+        StepVerifier.create(resilience.decorate(ZitadelOperation.GET_USER_BY_ID, failingCall(2, 503)))
+                .expectNext("ok")
+                .verifyComplete();
+
+        assertThat(attempts).hasValue(3);
+    }
+
+    @Test
+    @DisplayName("쓰기 작업은 재시도하지 않음")
+    void decorate_write_doesNotRetry() {
+        StepVerifier.create(resilience.decorate(ZitadelOperation.CREATE_USER, failingCall(1, 503)))
+                .expectError(IamException.class)
+                .verify();
+
+        assertThat(attempts).hasValue(1);
+    }
+
+    @Test
+    @DisplayName("4xx 응답은 재시도하지 않고 원래 예외를 그대로 전파")
+    void decorate_clientError_notRetried() {
+        StepVerifier.create(resilience.decorate(ZitadelOperation.GET_USER_BY_ID, failingCall(1, 404)))
+                .expectErrorSatisfies(e -> assertThat(e)
+                        .isInstanceOf(IamException.class)
+                        .isNotInstanceOf(IamUnavailableException.class))
+                .verify();
+
+        assertThat(attempts).hasValue(1);
+    }
+
+    @Test
+    @DisplayName("기한을 넘기면 IamUnavailableException")
+    void decorate_timeout_unavailable() {
+        StepVerifier.create(resilience.decorate(ZitadelOperation.CREATE_USER, Mono.never()))
+                .expectError(IamUnavailableException.class)
+                .verify(Duration.ofSeconds(5));
+    }
+
+    @Test
+    @DisplayName("실패율이 임계치를 넘으면 circuit이 열리고 호출 없이 즉시 실패")
+    void decorate_circuitOpen_failsFast() {
+        for (int i = 0; i < 4; i++) {
+            StepVerifier.create(resilience.decorate(ZitadelOperation.CREATE_USER, failingCall(Integer.MAX_VALUE, 500)))
+                    .expectError(IamException.class)
+                    .verify();
+        }
+        assertThat(resilience.circuitBreakerState()).isEqualTo(CircuitBreaker.State.OPEN);
+
+        StepVerifier.create(resilience.decorate(ZitadelOperation.CREATE_USER, failingCall(Integer.MAX_VALUE, 500)))
+                .expectErrorSatisfies(e -> assertThat(e)
+                        .isInstanceOf(IamUnavailableException.class)
+                        .hasCauseInstanceOf(CallNotPermittedException.class))
+                .verify();
+        assertThat(attempts).hasValue(4);
+    }
+
+    @Test
+    @DisplayName("동시 호출 한도를 넘으면 대기 없이 IamUnavailableException")
+    void decorate_bulkheadFull_unavailable() {
+        Sinks.One<String> inFlight = Sinks.one();
+
+        StepVerifier.create(resilience.decorate(ZitadelOperation.CREATE_USER, inFlight.asMono()))
+                .then(() -> StepVerifier.create(resilience.decorate(ZitadelOperation.CREATE_USER, Mono.just("second")))
+                        .expectError(IamUnavailableException.class)
+                        .verify())
+                .then(() -> inFlight.tryEmitValue("first"))
+                .expectNext("first")
+                .verifyComplete();
+    }
+}
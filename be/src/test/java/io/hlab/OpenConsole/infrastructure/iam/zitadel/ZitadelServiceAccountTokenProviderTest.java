@@ -0,0 +1,190 @@
+package io.hlab.OpenConsole.infrastructure.iam.zitadel;
+
+import io.hlab.OpenConsole.infrastructure.iam.IamUnavailableException;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.util.LinkedMultiValueMap;
+import org.springframework.web.reactive.function.client.ClientResponse;
+import org.springframework.web.reactive.function.client.WebClient;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.Sinks;
+import reactor.test.StepVerifier;
+import reactor.test.scheduler.VirtualTimeScheduler;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * ZitadelServiceAccountTokenProvider 단위 테스트
+ * stub token endpoint로 캐시, single-flight, 만료 전 백그라운드 갱신, 갱신 실패 시 기존 토큰 유지를 검증
+ */
+@DisplayName("ZitadelServiceAccountTokenProvider 테스트")
+class ZitadelServiceAccountTokenProviderTest {
+
+    private final MutableClock clock = new MutableClock(Instant.parse("2026-01-01T00:00:00Z"));
+    private final VirtualTimeScheduler scheduler = VirtualTimeScheduler.create();
+    private final AtomicInteger fetches = new AtomicInteger();
+    private final Deque<Mono<ClientResponse>> responses = new ArrayDeque<>();
+
+    private ZitadelServiceAccountTokenProvider provider;
+
+    @AfterEach
+    void tearDown() {
+        if (provider != null) {
+            provider.destroy();
+        }
+        scheduler.dispose();
+    }
+
+    /**
+     * 요청마다 responses에서 하나씩 꺼내 응답하는 stub token endpoint
+     */
+    private ZitadelServiceAccountTokenProvider provider() {
+        WebClient tokenClient = WebClient.builder()
+                .baseUrl("http://zitadel")
+                .exchangeFunction(request -> {
+                    fetches.incrementAndGet();
+                    return responses.poll();
+                })
+                .build();
+        provider = new ZitadelServiceAccountTokenProvider(tokenClient, "/oauth/v2/token", LinkedMultiValueMap::new,
+                Duration.ofSeconds(60), Duration.ofSeconds(5), Duration.ofSeconds(5), clock, scheduler);
+        return provider;
+    }
+
+    private static Mono<ClientResponse> token(String value, long expiresIn) {
+        return Mono.just(ClientResponse.create(HttpStatus.OK)
+                .header(HttpHeaders.CONTENT_TYPE, MediaType.APPLICATION_JSON_VALUE)
+                .body("""
+                        {"access_token":"%s","token_type":"Bearer","expires_in":%d}
+                        """.formatted(value, expiresIn))
+                .build());
+    }
+
+    private static Mono<ClientResponse> failure() {
+        return Mono.just(ClientResponse.create(HttpStatus.SERVICE_UNAVAILABLE).build());
+    }
+
+    private void advance(Duration duration) {
+        clock.advance(duration);
+        scheduler.advanceTimeBy(duration);
+    }
+
+    @Test
+    @DisplayName("토큰이 없을 때 동시에 요청해도 token endpoint는 한 번만 호출")
+    void getToken_concurrentColdStart_fetchesOnce() {
+        Sinks.One<ClientResponse> pending = Sinks.one();
+        responses.add(pending.asMono());
+        ZitadelServiceAccountTokenProvider provider = provider();
+
+        Mono<String> first = provider.getToken().cache();
+        Mono<String> second = provider.getToken().cache();
+        first.subscribe();
+        second.subscribe();
+        token("token-1", 3600).subscribe(pending::tryEmitValue);
+
+        StepVerifier.create(first).expectNext("token-1").verifyComplete();
+        StepVerifier.create(second).expectNext("token-1").verifyComplete();
+        assertThat(fetches).hasValue(1);
+    }
+
+    @Test
+    @DisplayName("유효한 토큰은 캐시에서 반환")
+    void getToken_cached_doesNotFetchAgain() {
+        responses.add(token("token-1", 3600));
+        ZitadelServiceAccountTokenProvider provider = provider();
+
+        StepVerifier.create(provider.getToken()).expectNext("token-1").verifyComplete();
+        advance(Duration.ofMinutes(30));
+        StepVerifier.create(provider.getToken()).expectNext("token-1").verifyComplete();
+
+        assertThat(fetches).hasValue(1);
+    }
+
+    @Test
+    @DisplayName("만료 refresh-before 전에 백그라운드에서 새 토큰 발급")
+    void scheduledRefresh_beforeExpiry_replacesToken() {
+        responses.add(token("token-1", 120));
+        responses.add(token("token-2", 120));
+        ZitadelServiceAccountTokenProvider provider = provider();
+
+        StepVerifier.create(provider.getToken()).expectNext("token-1").verifyComplete();
+
+        advance(Duration.ofSeconds(59));
+        assertThat(fetches).hasValue(1);
+
+        advance(Duration.ofSeconds(1));
+        assertThat(fetches).hasValue(2);
+        StepVerifier.create(provider.getToken()).expectNext("token-2").verifyComplete();
+    }
+
+    @Test
+    @DisplayName("갱신에 실패하면 기존 토큰을 계속 사용하고 retry-interval 후 다시 시도")
+    void scheduledRefresh_failure_keepsTokenAndRetries() {
+        responses.add(token("token-1", 120));
+        responses.add(failure());
+        responses.add(token("token-2", 120));
+        ZitadelServiceAccountTokenProvider provider = provider();
+
+        StepVerifier.create(provider.getToken()).expectNext("token-1").verifyComplete();
+
+        advance(Duration.ofSeconds(60));
+        assertThat(fetches).hasValue(2);
+        StepVerifier.create(provider.getToken()).expectNext("token-1").verifyComplete();
+
+        advance(Duration.ofSeconds(5));
+        assertThat(fetches).hasValue(3);
+        StepVerifier.create(provider.getToken()).expectNext("token-2").verifyComplete();
+    }
+
+    @Test
+    @DisplayName("토큰이 없을 때 발급에 실패하면 IamUnavailableException")
+    void getToken_coldStartFailure_throwsUnavailable() {
+        responses.add(failure());
+        ZitadelServiceAccountTokenProvider provider = provider();
+
+        StepVerifier.create(provider.getToken())
+                .expectError(IamUnavailableException.class)
+                .verify();
+    }
+
+    private static final class MutableClock extends Clock {
+
+        private Instant now;
+
+        MutableClock(Instant now) {
+            this.now = now;
+        }
+
+        void advance(Duration duration) {
+            now = now.plus(duration);
+        }
+
+        @Override
+        public ZoneId getZone() {
+            return ZoneOffset.UTC;
+        }
+
+        @Override
+        public Clock withZone(ZoneId zone) {
+            return this;
+        }
+
+        @Override
+        public Instant instant() {
+            return now;
+        }
+    }
+}
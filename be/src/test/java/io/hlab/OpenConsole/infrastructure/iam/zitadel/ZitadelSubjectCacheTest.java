@@ -0,0 +1,116 @@
+package io.hlab.OpenConsole.infrastructure.iam.zitadel;
+
+import io.hlab.OpenConsole.infrastructure.iam.IamException;
+import io.hlab.OpenConsole.infrastructure.iam.IamUserChangedEvent;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.support.StaticListableBeanFactory;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * ZitadelSubjectCache 단위 테스트
+ * 캐시 적중/음성 캐시/무효화 동작을 loader 호출 횟수로 검증
+ */
+@DisplayName("ZitadelSubjectCache 테스트")
+class ZitadelSubjectCacheTest {
+
+    private static final String TEST_EMAIL = "test@example.com";
+    private static final String TEST_SUBJECT = "test-subject-id";
+
+    private ZitadelSubjectCache subjectCache;
+    private AtomicInteger loaderCalls;
+
+    @BeforeEach
+    void setUp() {
+        subjectCache = new ZitadelSubjectCache(Duration.ofMinutes(10), Duration.ofSeconds(30), 100,
+                new StaticListableBeanFactory().getBeanProvider(MeterRegistry.class));
+        loaderCalls = new AtomicInteger();
+    }
+
+    private Function<String, Mono<String>> loader(Mono<String> result) {
+        return email -> Mono.defer(() -> {
+            loaderCalls.incrementAndGet();
+            return result;
+        });
+    }
+
+    @Test
+    @DisplayName("두 번째 조회부터는 캐시에서 응답 (email 대소문자 무시)")
+    void getOrLoad_cachesSubject() {
+        StepVerifier.create(subjectCache.getOrLoad(TEST_EMAIL, loader(Mono.just(TEST_SUBJECT))))
+                .expectNext(TEST_SUBJECT)
+                .verifyComplete();
+        StepVerifier.create(subjectCache.getOrLoad("Test@Example.com", loader(Mono.just("other"))))
+                .expectNext(TEST_SUBJECT)
+                .verifyComplete();
+
+        assertThat(loaderCalls.get()).isEqualTo(1);
+        assertThat(subjectCache.stats().hitCount()).isEqualTo(1);
+        assertThat(subjectCache.stats().missCount()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("존재하지 않는 email은 음성 캐시")
+    void getOrLoad_cachesNotFound() {
+        StepVerifier.create(subjectCache.getOrLoad(TEST_EMAIL, loader(Mono.empty())))
+                .verifyComplete();
+        StepVerifier.create(subjectCache.getOrLoad(TEST_EMAIL, loader(Mono.just(TEST_SUBJECT))))
+                .verifyComplete();
+
+        assertThat(loaderCalls.get()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("캐시만 조회하면 적중/음성 캐시/캐시 없음을 구분")
+    void lookup_distinguishesHitNotFoundAndMiss() {
+        subjectCache.put(TEST_EMAIL, TEST_SUBJECT);
+        subjectCache.putNotFound("missing@example.com");
+
+        assertThat(subjectCache.lookup("Test@Example.com"))
+                .isEqualTo(new ZitadelSubjectCache.Lookup(ZitadelSubjectCache.Lookup.Status.HIT, TEST_SUBJECT));
+        assertThat(subjectCache.lookup("missing@example.com").status())
+                .isEqualTo(ZitadelSubjectCache.Lookup.Status.NOT_FOUND);
+        assertThat(subjectCache.lookup("unknown@example.com").status())
+                .isEqualTo(ZitadelSubjectCache.Lookup.Status.MISS);
+    }
+
+    @Test
+    @DisplayName("조회 실패는 캐시하지 않음")
+    void getOrLoad_doesNotCacheError() {
+        StepVerifier.create(subjectCache.getOrLoad(TEST_EMAIL, loader(Mono.error(new IamException("조회 실패")))))
+                .expectError(IamException.class)
+                .verify();
+        StepVerifier.create(subjectCache.getOrLoad(TEST_EMAIL, loader(Mono.just(TEST_SUBJECT))))
+                .expectNext(TEST_SUBJECT)
+                .verifyComplete();
+
+        assertThat(loaderCalls.get()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("사용자 변경 이벤트로 email/subject 기준 무효화")
+    void onUserChanged_invalidates() {
+        subjectCache.put(TEST_EMAIL, TEST_SUBJECT);
+        subjectCache.onUserChanged(IamUserChangedEvent.ofSubject(TEST_SUBJECT));
+
+        StepVerifier.create(subjectCache.getOrLoad(TEST_EMAIL, loader(Mono.just("new-subject"))))
+                .expectNext("new-subject")
+                .verifyComplete();
+
+        subjectCache.onUserChanged(IamUserChangedEvent.ofEmail(TEST_EMAIL));
+
+        StepVerifier.create(subjectCache.getOrLoad(TEST_EMAIL, loader(Mono.just("newer-subject"))))
+                .expectNext("newer-subject")
+                .verifyComplete();
+        assertThat(loaderCalls.get()).isEqualTo(2);
+    }
+}
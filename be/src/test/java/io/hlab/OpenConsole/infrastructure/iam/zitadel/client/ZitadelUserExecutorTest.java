@@ -0,0 +1,165 @@
+package io.hlab.OpenConsole.infrastructure.iam.zitadel.client;
+
+import io.hlab.OpenConsole.infrastructure.iam.IamDirectoryScanIncompleteException;
+import io.hlab.OpenConsole.infrastructure.iam.zitadel.ZitadelRequestCoalescer;
+import io.hlab.OpenConsole.infrastructure.iam.zitadel.ZitadelRequestHedger;
+import io.hlab.OpenConsole.infrastructure.iam.zitadel.ZitadelResilience;
+import io.hlab.OpenConsole.infrastructure.iam.zitadel.dto.ZitadelUserDto;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.web.reactive.function.client.ClientResponse;
+import org.springframework.web.reactive.function.client.WebClient;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.spy;
+import static org.mockito.Mockito.when;
+
+/**
+ * ZitadelUserExecutor 페이지 조회 테스트
+ * ListUsers 페이지를 가짜 디렉터리로 대체하여 페이지 경계, 순회 중 삭제 처리를 검증
+ */
+@DisplayName("ZitadelUserExecutor 페이지 조회 테스트")
+class ZitadelUserExecutorTest {
+
+    private ZitadelUserExecutor executor;
+    private List<ZitadelUserDto.ListUsersResponse.User> directory;
+    private AtomicInteger pageCalls;
+    private Runnable afterFirstPage;
+
+    @BeforeEach
+    void setUp() {
+        executor = spy(new ZitadelUserExecutor(
+                mock(WebClient.class),
+                mock(ZitadelRequestCoalescer.class),
+                mock(ZitadelRequestHedger.class),
+                mock(ZitadelResilience.class)));
+        ReflectionTestUtils.setField(executor, "orgId", "test-org-id");
+
+        directory = new ArrayList<>(IntStream.range(0, 250).mapToObj(ZitadelUserExecutorTest::user).toList());
+        pageCalls = new AtomicInteger();
+        afterFirstPage = () -> { };
+
+        // 생성 순서로 정렬된 디렉터리에서 offset/limit 구간을 반환 (구독 시점에 조회)
+        doAnswer(invocation -> {
+            int offset = invocation.getArgument(0);
+            int limit = invocation.getArgument(1);
+            return Mono.fromCallable(() -> {
+                List<ZitadelUserDto.ListUsersResponse.User> page = List.copyOf(directory.subList(
+                        Math.min(offset, directory.size()), Math.min(offset + limit, directory.size())));
+                if (pageCalls.incrementAndGet() == 1) {
+                    afterFirstPage.run();
+                }
+                return new ZitadelUserDto.ListUsersResponse(null, null, page);
+            });
+        }).when(executor).listUsers(any(), any(), any(), any(), any());
+    }
+
+    private static ZitadelUserDto.ListUsersResponse.User user(int index) {
+        return new ZitadelUserDto.ListUsersResponse.User(
+                "user-" + index, null, "user" + index, "USER_STATE_ACTIVE", null, null, null);
+    }
+
+    @Test
+    @DisplayName("모든 페이지를 순서대로 한 번씩 반환")
+    void streamUsers_allPages() {
+        StepVerifier.create(executor.streamUsers(100).map(ZitadelUserDto.ListUsersResponse.User::id).collectList())
+                .assertNext(ids -> {
+                    assertThat(ids).hasSize(250).doesNotHaveDuplicates();
+                    assertThat(ids.get(0)).isEqualTo("user-0");
+                    assertThat(ids.get(249)).isEqualTo("user-249");
+                })
+                .verifyComplete();
+
+        assertThat(pageCalls).hasValue(3);
+    }
+
+    @Test
+    @DisplayName("순회 중 앞쪽 사용자가 삭제되어도 뒤쪽 사용자를 누락하지 않음")
+    void streamUsers_deletionDuringIteration_noSkip() {
+        afterFirstPage = () -> directory.subList(10, 13).clear();
+
+        StepVerifier.create(executor.streamUsers(100).map(ZitadelUserDto.ListUsersResponse.User::id).collectList())
+                .assertNext(ids -> {
+                    assertThat(ids).doesNotHaveDuplicates();
+                    assertThat(ids).contains("user-100", "user-101", "user-102", "user-249");
+                })
+                .verifyComplete();
+    }
+
+    @Test
+    @DisplayName("겹쳐 조회하는 수보다 많이 삭제되면 받은 사용자를 모두 내보낸 뒤 불완전한 순회로 알림")
+    void streamUsers_deletionBeyondOverlap_reportsIncomplete() {
+        afterFirstPage = () -> directory.subList(10, 30).clear();
+        List<String> ids = new ArrayList<>();
+
+        StepVerifier.create(executor.streamUsers(100).map(ZitadelUserDto.ListUsersResponse.User::id))
+                .recordWith(() -> ids)
+                .thenConsumeWhile(id -> true)
+                .verifyError(IamDirectoryScanIncompleteException.class);
+
+        assertThat(ids).doesNotHaveDuplicates().contains("user-110", "user-249");
+    }
+
+    @Test
+    @DisplayName("구독자가 소비하지 않으면 앞선 몇 페이지 이상 조회하지 않음")
+    void streamUsers_boundedPrefetch() {
+        StepVerifier.create(executor.streamUsers(10), 1)
+                .expectNextCount(1)
+                .thenCancel()
+                .verify();
+
+        assertThat(pageCalls.get()).isLessThanOrEqualTo(3);
+    }
+
+    @Test
+    @DisplayName("email 일괄 검색 결과가 요청한 수만큼 차면 다음 페이지까지 조회")
+    void findUsersByEmails_fullPage_fetchesNextPage() {
+        Deque<String> bodies = new ArrayDeque<>(List.of(
+                "{\"result\":[{\"userId\":\"a-1\",\"human\":{\"email\":{\"email\":\"a@example.com\"}}},"
+                        + "{\"userId\":\"a-2\",\"human\":{\"email\":{\"email\":\"a@example.com\"}}}]}",
+                "{\"result\":[{\"userId\":\"b-1\",\"human\":{\"email\":{\"email\":\"b@example.com\"}}}]}"));
+        AtomicInteger calls = new AtomicInteger();
+        WebClient webClient = WebClient.builder()
+                .exchangeFunction(request -> {
+                    calls.incrementAndGet();
+                    return Mono.just(ClientResponse.create(HttpStatus.OK)
+                            .header(HttpHeaders.CONTENT_TYPE, MediaType.APPLICATION_JSON_VALUE)
+                            .body(bodies.isEmpty() ? "{}" : bodies.poll())
+                            .build());
+                })
+                .build();
+        ZitadelRequestHedger hedger = mock(ZitadelRequestHedger.class);
+        when(hedger.hedge(any(), any())).thenAnswer(invocation -> ((Supplier<?>) invocation.getArgument(1)).get());
+        ZitadelResilience resilience = mock(ZitadelResilience.class);
+        when(resilience.decorate(any(), any())).thenAnswer(invocation -> invocation.getArgument(1));
+        ZitadelUserExecutor emailExecutor = new ZitadelUserExecutor(
+                webClient, mock(ZitadelRequestCoalescer.class), hedger, resilience);
+        ReflectionTestUtils.setField(emailExecutor, "orgId", "test-org-id");
+
+        StepVerifier.create(emailExecutor.findUsersByEmails(List.of("a@example.com", "b@example.com")))
+                .assertNext(users -> assertThat(users)
+                        .extracting(ZitadelUserProjections.UserRef::subject)
+                        .containsExactly("a-1", "a-2", "b-1"))
+                .verifyComplete();
+
+        assertThat(calls).hasValue(2);
+    }
+}
@@ -0,0 +1,79 @@
+package io.hlab.OpenConsole.infrastructure.iam.zitadel.client;
+
+import io.hlab.OpenConsole.infrastructure.iam.IamException;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * ListUsers projection 디코더 테스트
+ * 필요한 필드만 읽고 나머지 중첩 객체/배열은 건너뛰는지 검증
+ */
+@DisplayName("ZitadelUserProjections 테스트")
+class ZitadelUserProjectionsTest {
+
+    private static final String LIST_USERS_RESPONSE = """
+            {
+              "details": {"totalResult": "3", "timestamp": "2026-01-01T00:00:00Z"},
+              "result": [
+                {
+                  "userId": "subject-a", "username": "alice", "state": "USER_STATE_ACTIVE",
+                  "details": {"sequence": "12", "resourceOwner": "org"},
+                  "human": {
+                    "profile": {"givenName": "Alice", "familyName": "Kim", "displayName": "Alice Kim"},
+                    "email": {"email": "Alice@example.com", "isVerified": true},
+                    "phone": {"phone": "+821000000000"}
+                  },
+                  "loginNames": ["alice@example.com", "alice"]
+                },
+                {
+                  "userId": "machine-1", "username": "bot",
+                  "machine": {"name": "Bot", "accessTokenType": "ACCESS_TOKEN_TYPE_BEARER"}
+                },
+                {
+                  "id": "subject-c",
+                  "human": {"email": {"isVerified": false, "email": "c@example.com"}}
+                }
+              ]
+            }
+            """;
+
+    private static byte[] bytes(String json) {
+        return json.getBytes(StandardCharsets.UTF_8);
+    }
+
+    @Test
+    @DisplayName("모든 사용자의 subject와 email만 읽음")
+    void users_readsSubjectAndEmail() {
+        assertThat(ZitadelUserProjections.users(bytes(LIST_USERS_RESPONSE))).containsExactly(
+                new ZitadelUserProjections.UserRef("subject-a", "Alice@example.com"),
+                new ZitadelUserProjections.UserRef("machine-1", null),
+                new ZitadelUserProjections.UserRef("subject-c", "c@example.com"));
+    }
+
+    @Test
+    @DisplayName("첫 번째 사용자의 subject만 읽음")
+    void firstUser_readsFirstSubject() {
+        assertThat(ZitadelUserProjections.firstUser(bytes(LIST_USERS_RESPONSE)))
+                .isEqualTo(new ZitadelUserProjections.UserRef("subject-a", null));
+    }
+
+    @Test
+    @DisplayName("결과가 없으면 null / 빈 리스트")
+    void emptyResult() {
+        assertThat(ZitadelUserProjections.firstUser(bytes("{\"details\":{\"totalResult\":\"0\"}}"))).isNull();
+        assertThat(ZitadelUserProjections.firstUser(bytes("{\"result\":[]}"))).isNull();
+        assertThat(ZitadelUserProjections.users(bytes("{\"result\":[]}"))).isEmpty();
+    }
+
+    @Test
+    @DisplayName("잘못된 JSON은 IamException")
+    void malformed_throwsIamException() {
+        assertThatThrownBy(() -> ZitadelUserProjections.users(bytes("{\"result\":[{\"userId\":")))
+                .isInstanceOf(IamException.class);
+    }
+}
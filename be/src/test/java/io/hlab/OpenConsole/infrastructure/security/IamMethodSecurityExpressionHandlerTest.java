@@ -0,0 +1,115 @@
+package io.hlab.OpenConsole.infrastructure.security;
+
+import io.hlab.OpenConsole.infrastructure.iam.IamRole;
+import io.hlab.OpenConsole.infrastructure.iam.IamUserInfo;
+import org.aopalliance.intercept.MethodInvocation;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.expression.EvaluationContext;
+import org.springframework.security.access.expression.ExpressionUtils;
+import org.springframework.security.access.expression.method.DefaultMethodSecurityExpressionHandler;
+import org.springframework.security.access.expression.method.MethodSecurityExpressionHandler;
+import org.springframework.security.authentication.TestingAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.security.oauth2.jwt.Jwt;
+import org.springframework.security.util.SimpleMethodInvocation;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * IamMethodSecurityExpressionHandler 테스트
+ * 기존 @PreAuthorize 표현식이 기본 핸들러와 같은 결과를 내면서 IamRole 검사는 role bitmask로 처리하는지 검증
+ */
+@DisplayName("IamMethodSecurityExpressionHandler 테스트")
+class IamMethodSecurityExpressionHandlerTest {
+
+    private final MethodSecurityExpressionHandler handler = new IamMethodSecurityExpressionHandler();
+
+    private static final MethodInvocation INVOCATION = invocation();
+
+    private static MethodInvocation invocation() {
+        try {
+            return new SimpleMethodInvocation(new Object(), Object.class.getMethod("toString"));
+        } catch (NoSuchMethodException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private static boolean evaluate(MethodSecurityExpressionHandler handler, String expression, Authentication authentication) {
+        EvaluationContext context = handler.createEvaluationContext(() -> authentication, INVOCATION);
+        return ExpressionUtils.evaluateAsBoolean(handler.getExpressionParser().parseExpression(expression), context);
+    }
+
+    private static IamAuthenticationToken iamToken(List<IamRole> roles, boolean withRoleAuthorities) {
+        Jwt jwt = Jwt.withTokenValue("token")
+                .header("alg", "none")
+                .subject("subject-1")
+                .claim("scope", "openid")
+                .build();
+        List<SimpleGrantedAuthority> authorities = new ArrayList<>(List.of(new SimpleGrantedAuthority("SCOPE_openid")));
+        if (withRoleAuthorities) {
+            roles.forEach(role -> authorities.add(new SimpleGrantedAuthority("ROLE_" + role.name())));
+        }
+        return new IamAuthenticationToken(jwt, authorities, IamUserInfo.of("subject-1", null, null, roles));
+    }
+
+    @Test
+    @DisplayName("기존 annotation 표현식은 기본 핸들러와 같은 결과")
+    void expressions_matchDefaultHandler() {
+        DefaultMethodSecurityExpressionHandler defaultHandler = new DefaultMethodSecurityExpressionHandler();
+        List<Authentication> authentications = List.of(
+                iamToken(List.of(IamRole.ADMIN), true),
+                iamToken(List.of(IamRole.USER_A, IamRole.USER), true),
+                iamToken(List.of(), true),
+                new TestingAuthenticationToken("user", "password", "ROLE_USER_B", "ROLE_CUSTOM"));
+        List<String> expressions = List.of(
+                "hasRole('ADMIN')",
+                "hasRole('ROLE_ADMIN')",
+                "hasAnyRole('ADMIN', 'USER_A')",
+                "hasRole('USER_B')",
+                "hasRole('CUSTOM')",
+                "hasAuthority('ROLE_USER_A')",
+                "hasAuthority('ADMIN')",
+                "hasAuthority('SCOPE_openid')",
+                "hasAnyAuthority('SCOPE_profile', 'ROLE_USER')",
+                "isAuthenticated() and !isAnonymous()",
+                "permitAll() and !denyAll()");
+
+        for (Authentication authentication : authentications) {
+            for (String expression : expressions) {
+                assertThat(evaluate(handler, expression, authentication))
+                        .as("%s / %s", expression, authentication.getAuthorities())
+                        .isEqualTo(evaluate(defaultHandler, expression, authentication));
+            }
+        }
+    }
+
+    @Test
+    @DisplayName("IamAuthenticationToken은 authority가 아니라 role bitmask로 판단")
+    void iamToken_usesRoleMask() {
+        IamAuthenticationToken token = iamToken(List.of(IamRole.ADMIN, IamRole.USER_C), false);
+
+        assertThat(token.getRoleMask()).isEqualTo(IamRole.ADMIN.bit() | IamRole.USER_C.bit());
+        assertThat(evaluate(handler, "hasRole('ADMIN')", token)).isTrue();
+        assertThat(evaluate(handler, "hasAnyRole('USER_A', 'USER_C')", token)).isTrue();
+        assertThat(evaluate(handler, "hasRole('USER_A')", token)).isFalse();
+    }
+
+    @Test
+    @DisplayName("hasPermission은 role 이름 목록 중 하나라도 있으면 허용")
+    void hasPermission_checksRoleBits() {
+        IamAuthenticationToken token = iamToken(List.of(IamRole.USER_A), true);
+
+        assertThat(evaluate(handler, "hasPermission(null, 'userA')", token)).isTrue();
+        assertThat(evaluate(handler, "hasPermission(null, 'ADMIN, ROLE_USER_A')", token)).isTrue();
+        assertThat(evaluate(handler, "hasPermission(null, 'admin')", token)).isFalse();
+        assertThat(evaluate(handler, "hasPermission(null, 'unknown')", token)).isFalse();
+        assertThat(evaluate(handler, "hasPermission('id-1', 'Role', 'userA')", token)).isTrue();
+        assertThat(evaluate(handler, "hasPermission(null, 'userA')",
+                new TestingAuthenticationToken("user", "password", "ROLE_USER_A"))).isTrue();
+    }
+}
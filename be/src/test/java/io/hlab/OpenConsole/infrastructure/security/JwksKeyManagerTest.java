@@ -0,0 +1,215 @@
+package io.hlab.OpenConsole.infrastructure.security;
+
+import com.nimbusds.jose.JOSEException;
+import com.nimbusds.jose.JWSAlgorithm;
+import com.nimbusds.jose.JWSHeader;
+import com.nimbusds.jose.crypto.RSASSASigner;
+import com.nimbusds.jose.jwk.JWKSet;
+import com.nimbusds.jose.jwk.RSAKey;
+import com.nimbusds.jose.jwk.gen.RSAKeyGenerator;
+import com.nimbusds.jwt.JWTClaimsSet;
+import com.nimbusds.jwt.SignedJWT;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.security.oauth2.jwt.Jwt;
+import org.springframework.security.oauth2.jwt.JwtDecoder;
+import org.springframework.security.oauth2.jwt.JwtException;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * JwksKeyManager 테스트
+ * 로컬 stub JWKS 엔드포인트(OIDC discovery + keys)로 기동 시 prefetch, 키 교체 시 single-flight 재조회,
+ * 알 수 없는 kid 재조회 제한, IAM에 연결할 수 없을 때 cache-file로 기동하는지 검증
+ */
+@DisplayName("JwksKeyManager 테스트")
+class JwksKeyManagerTest {
+
+    @TempDir
+    Path tempDir;
+
+    private HttpServer server;
+    private String issuer;
+    private volatile JWKSet published;
+    private final AtomicInteger discoveryRequests = new AtomicInteger();
+    private final AtomicInteger keyRequests = new AtomicInteger();
+    private final MutableClock clock = new MutableClock(Instant.now());
+
+    private RSAKey key1;
+    private RSAKey key2;
+
+    @BeforeEach
+    void setUp() throws IOException, JOSEException {
+        key1 = new RSAKeyGenerator(2048).keyID("key-1").generate();
+        key2 = new RSAKeyGenerator(2048).keyID("key-2").generate();
+        published = new JWKSet(key1.toPublicJWK());
+
+        server = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+        issuer = "http://127.0.0.1:" + server.getAddress().getPort();
+        server.createContext("/.well-known/openid-configuration", exchange -> {
+            discoveryRequests.incrementAndGet();
+            respond(exchange, "{\"issuer\":\"" + issuer + "\",\"jwks_uri\":\"" + issuer + "/oauth/v2/keys\"}");
+        });
+        server.createContext("/oauth/v2/keys", exchange -> {
+            keyRequests.incrementAndGet();
+            respond(exchange, published.toString(true));
+        });
+        server.start();
+    }
+
+    @AfterEach
+    void tearDown() {
+        server.stop(0);
+    }
+
+    private static void respond(HttpExchange exchange, String body) throws IOException {
+        byte[] bytes = body.getBytes(StandardCharsets.UTF_8);
+        exchange.getResponseHeaders().add("Content-Type", "application/json");
+        exchange.sendResponseHeaders(200, bytes.length);
+        try (OutputStream out = exchange.getResponseBody()) {
+            out.write(bytes);
+        }
+    }
+
+    private JwksKeyManager manager(String issuerUri, Path cacheFile) {
+        JwksKeyManager manager = new JwksKeyManager(issuerUri, "", cacheFile != null ? cacheFile.toString() : "",
+                Duration.ofSeconds(30), Duration.ofSeconds(2), clock);
+        manager.afterPropertiesSet();
+        return manager;
+    }
+
+    private static JwtDecoder decoder(JwksKeyManager manager) {
+        return new JwtDecoderConfig().jwtDecoder(manager);
+    }
+
+    private static String token(RSAKey key) throws JOSEException {
+        Instant now = Instant.now();
+        SignedJWT jwt = new SignedJWT(
+                new JWSHeader.Builder(JWSAlgorithm.RS256).keyID(key.getKeyID()).build(),
+                new JWTClaimsSet.Builder()
+                        .subject("subject-1")
+                        .issueTime(Date.from(now))
+                        .expirationTime(Date.from(now.plusSeconds(600)))
+                        .build());
+        jwt.sign(new RSASSASigner(key));
+        return jwt.serialize();
+    }
+
+    @Test
+    @DisplayName("기동 시 discovery로 jwks_uri를 찾아 키를 미리 받고, 이후 검증은 키를 다시 받지 않음")
+    void startup_prefetchesKeys() throws JOSEException {
+        JwksKeyManager manager = manager(issuer, null);
+        assertThat(discoveryRequests).hasValue(1);
+        assertThat(keyRequests).hasValue(1);
+
+        Jwt jwt = decoder(manager).decode(token(key1));
+
+        assertThat(jwt.getSubject()).isEqualTo("subject-1");
+        assertThat(keyRequests).hasValue(1);
+    }
+
+    @Test
+    @DisplayName("교체된 kid로 동시에 요청이 들어와도 키는 한 번만 다시 받음")
+    void rotatedKey_concurrentRequests_refetchOnce() throws Exception {
+        JwksKeyManager manager = manager(issuer, null);
+        JwtDecoder decoder = decoder(manager);
+        published = new JWKSet(List.of(key1.toPublicJWK(), key2.toPublicJWK()));
+        clock.advance(Duration.ofMinutes(1));
+        String rotated = token(key2);
+
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+        try {
+            List<Callable<Jwt>> calls = new ArrayList<>();
+            for (int i = 0; i < 8; i++) {
+                calls.add(() -> decoder.decode(rotated));
+            }
+            for (Future<Jwt> result : executor.invokeAll(calls)) {
+                assertThat(result.get().getSubject()).isEqualTo("subject-1");
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+        assertThat(keyRequests).hasValue(2);
+    }
+
+    @Test
+    @DisplayName("알 수 없는 kid는 min-refetch-interval 안에서 다시 조회하지 않음")
+    void unknownKid_refetchRateLimited() throws JOSEException {
+        JwksKeyManager manager = manager(issuer, null);
+        JwtDecoder decoder = decoder(manager);
+        clock.advance(Duration.ofMinutes(1));
+        String unknown = token(key2);
+
+        assertThatThrownBy(() -> decoder.decode(unknown)).isInstanceOf(JwtException.class);
+        assertThatThrownBy(() -> decoder.decode(unknown)).isInstanceOf(JwtException.class);
+
+        assertThat(keyRequests).hasValue(2);
+    }
+
+    @Test
+    @DisplayName("IAM에 연결할 수 없으면 cache-file의 키로 기동하여 검증")
+    void offlineStartup_seedsFromCacheFile() throws JOSEException {
+        Path cacheFile = tempDir.resolve("jwks.json");
+        manager(issuer, cacheFile);
+        server.stop(0);
+
+        JwksKeyManager offline = manager(issuer, cacheFile);
+
+        assertThat(offline.getKeys().getKeyByKeyId("key-1")).isNotNull();
+        assertThat(offline.getKeys().getKeyByKeyId("key-1").isPrivate()).isFalse();
+        assertThat(decoder(offline).decode(token(key1)).getSubject()).isEqualTo("subject-1");
+    }
+
+    private static final class MutableClock extends Clock {
+
+        private volatile Instant now;
+
+        MutableClock(Instant now) {
+            this.now = now;
+        }
+
+        void advance(Duration duration) {
+            now = now.plus(duration);
+        }
+
+        @Override
+        public ZoneId getZone() {
+            return ZoneOffset.UTC;
+        }
+
+        @Override
+        public Clock withZone(ZoneId zone) {
+            return this;
+        }
+
+        @Override
+        public Instant instant() {
+            return now;
+        }
+    }
+}
@@ -0,0 +1,68 @@
+package io.hlab.OpenConsole.infrastructure.security;
+
+import io.hlab.OpenConsole.infrastructure.iam.IamRole;
+import io.hlab.OpenConsole.infrastructure.iam.IamTokenDecoder;
+import io.hlab.OpenConsole.infrastructure.iam.IamUserInfo;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.security.oauth2.jwt.Jwt;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.verifyNoInteractions;
+
+/**
+ * JwtUtils 단위 테스트
+ * 인증 시 해석해 둔 IamUserInfo를 읽기만 하고 claims를 다시 해석하지 않는지 검증
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("JwtUtils 테스트")
+class JwtUtilsTest {
+
+    @Mock
+    private IamTokenDecoder iamTokenDecoder;
+
+    @InjectMocks
+    private JwtUtils jwtUtils;
+
+    @AfterEach
+    void tearDown() {
+        SecurityContextHolder.clearContext();
+    }
+
+    @Test
+    @DisplayName("IamAuthenticationToken의 사용자 정보를 그대로 사용")
+    void accessors_readResolvedUserInfo() {
+        Jwt jwt = Jwt.withTokenValue("token")
+                .header("alg", "none")
+                .subject("subject-1")
+                .claim("roles", List.of("admin"))
+                .build();
+        IamUserInfo userInfo = IamUserInfo.of("subject-1", "user@example.com", "User", List.of(IamRole.ADMIN, IamRole.USER_A));
+        SecurityContextHolder.getContext().setAuthentication(new IamAuthenticationToken(jwt, List.of(), userInfo));
+
+        assertThat(jwtUtils.getCurrentUserInfo()).isSameAs(userInfo);
+        assertThat(jwtUtils.getCurrentUserEmail()).isEqualTo("user@example.com");
+        assertThat(jwtUtils.getCurrentUserSubject()).isEqualTo("subject-1");
+        assertThat(jwtUtils.getCurrentUserRoles()).containsExactly(IamRole.ADMIN, IamRole.USER_A);
+        assertThat(jwtUtils.hasRole(IamRole.USER_A)).isTrue();
+        assertThat(jwtUtils.hasAnyRole(IamRole.USER_B, IamRole.ADMIN)).isTrue();
+        assertThat(jwtUtils.hasRole(IamRole.USER_C)).isFalse();
+        verifyNoInteractions(iamTokenDecoder);
+    }
+
+    @Test
+    @DisplayName("인증되지 않았으면 빈 값")
+    void accessors_unauthenticated() {
+        assertThat(jwtUtils.getCurrentUserInfo()).isNull();
+        assertThat(jwtUtils.getCurrentUserRoles()).isEmpty();
+        assertThat(jwtUtils.hasAnyRole(IamRole.ADMIN)).isFalse();
+    }
+}
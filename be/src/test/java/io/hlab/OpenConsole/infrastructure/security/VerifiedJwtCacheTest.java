@@ -0,0 +1,154 @@
+package io.hlab.OpenConsole.infrastructure.security;
+
+import io.hlab.OpenConsole.infrastructure.iam.IamRole;
+import io.hlab.OpenConsole.infrastructure.iam.IamUserInfo;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.security.oauth2.jwt.BadJwtException;
+import org.springframework.security.oauth2.jwt.Jwt;
+import org.springframework.security.oauth2.jwt.JwtDecoder;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * VerifiedJwtCache 단위 테스트
+ * 검증 결과 재사용, exp/max-ttl 만료, 검증 실패 토큰 미저장, 인증 변환 결과 재사용을 검증
+ */
+@DisplayName("VerifiedJwtCache 테스트")
+class VerifiedJwtCacheTest {
+
+    private final MutableClock clock = new MutableClock(Instant.parse("2026-01-01T00:00:00Z"));
+    private final AtomicInteger decodes = new AtomicInteger();
+    private final AtomicInteger conversions = new AtomicInteger();
+
+    private VerifiedJwtCache cache;
+    private JwtDecoder decoder;
+
+    /**
+     * "bad"로 시작하는 토큰은 거절하고, 나머지는 exp = 지금 + 토큰 끝의 초 값으로 검증 성공
+     */
+    private final JwtDecoder delegate = token -> {
+        decodes.incrementAndGet();
+        if (token.startsWith("bad")) {
+            throw new BadJwtException("invalid signature");
+        }
+        long ttlSeconds = Long.parseLong(token.substring(token.lastIndexOf('-') + 1));
+        return Jwt.withTokenValue(token)
+                .header("alg", "RS256")
+                .subject("subject-1")
+                .issuedAt(clock.instant())
+                .expiresAt(clock.instant().plusSeconds(ttlSeconds))
+                .build();
+    };
+
+    @BeforeEach
+    void setUp() {
+        cache = new VerifiedJwtCache(true, 100, Duration.ofMinutes(5), clock);
+        decoder = cache.decoder(delegate);
+    }
+
+    @Test
+    @DisplayName("같은 토큰은 한 번만 검증")
+    void decode_sameToken_verifiedOnce() {
+        Jwt first = decoder.decode("token-a-600");
+        Jwt second = decoder.decode("token-a-600");
+
+        assertThat(second).isSameAs(first);
+        assertThat(decodes).hasValue(1);
+    }
+
+    @Test
+    @DisplayName("exp가 지나면 다시 검증")
+    void decode_afterExp_verifiesAgain() {
+        decoder.decode("token-b-60");
+        clock.advance(Duration.ofSeconds(60));
+        decoder.decode("token-b-60");
+
+        assertThat(decodes).hasValue(2);
+    }
+
+    @Test
+    @DisplayName("exp가 멀어도 max-ttl이 지나면 다시 검증")
+    void decode_afterMaxTtl_verifiesAgain() {
+        decoder.decode("token-c-3600");
+        clock.advance(Duration.ofMinutes(5));
+        decoder.decode("token-c-3600");
+
+        assertThat(decodes).hasValue(2);
+    }
+
+    @Test
+    @DisplayName("검증에 실패한 토큰은 저장하지 않음")
+    void decode_invalidToken_notCached() {
+        assertThatThrownBy(() -> decoder.decode("bad-token-600")).isInstanceOf(BadJwtException.class);
+        assertThatThrownBy(() -> decoder.decode("bad-token-600")).isInstanceOf(BadJwtException.class);
+
+        assertThat(decodes).hasValue(2);
+    }
+
+    @Test
+    @DisplayName("인증 변환 결과를 재사용하되 인증 토큰은 요청마다 새로 생성")
+    void converter_reusesResolvedUserInfo() {
+        var converter = cache.converter(jwt -> {
+            conversions.incrementAndGet();
+            return new VerifiedJwtCache.Conversion(
+                    IamUserInfo.of(jwt.getSubject(), null, null, List.of(IamRole.ADMIN)),
+                    List.of(new SimpleGrantedAuthority("ROLE_ADMIN")));
+        });
+
+        IamAuthenticationToken first = converter.convert(decoder.decode("token-d-600"));
+        IamAuthenticationToken second = converter.convert(decoder.decode("token-d-600"));
+
+        assertThat(conversions).hasValue(1);
+        assertThat(second).isNotSameAs(first);
+        assertThat(second.getUserInfo()).isSameAs(first.getUserInfo());
+        assertThat(second.getAuthorities()).extracting("authority").containsExactly("ROLE_ADMIN");
+    }
+
+    @Test
+    @DisplayName("비활성화하면 위임 디코더를 그대로 사용")
+    void disabled_returnsDelegate() {
+        VerifiedJwtCache disabled = new VerifiedJwtCache(false, 100, Duration.ofMinutes(5), clock);
+
+        assertThat(disabled.decoder(delegate)).isSameAs(delegate);
+    }
+
+    private static final class MutableClock extends Clock {
+
+        private Instant now;
+
+        MutableClock(Instant now) {
+            this.now = now;
+        }
+
+        void advance(Duration duration) {
+            now = now.plus(duration);
+        }
+
+        @Override
+        public ZoneId getZone() {
+            return ZoneOffset.UTC;
+        }
+
+        @Override
+        public Clock withZone(ZoneId zone) {
+            return this;
+        }
+
+        @Override
+        public Instant instant() {
+            return now;
+        }
+    }
+}